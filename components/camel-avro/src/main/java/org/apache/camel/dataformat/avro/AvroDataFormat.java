@@ -19,6 +19,8 @@ package org.apache.camel.dataformat.avro;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
@@ -55,6 +57,9 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
     private Object schema;
     private transient Schema actualSchema;
     private String instanceClassName;
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private final Map<Schema, DatumWriter<Object>> writers = new ConcurrentHashMap<>();
+    private volatile DatumReader<GenericRecord> reader;
 
     public AvroDataFormat() {
     }
@@ -95,7 +100,9 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        schemas.clear();
+        writers.clear();
+        reader = null;
     }
 
     // the getter/setter for Schema is Object type in the API
@@ -136,29 +143,50 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream outputStream) throws Exception {
         // the schema should be from the graph class name
-        Schema useSchema = actualSchema != null ? actualSchema : loadSchema(graph.getClass().getName());
+        Schema useSchema = actualSchema != null ? actualSchema : getSchema(graph.getClass().getName());
 
-        DatumWriter<Object> datum = new SpecificDatumWriter<>(useSchema);
+        // the datum writers are thread safe, and are reused as they cache how to write the records of their schema
+        DatumWriter<Object> datum = writers.computeIfAbsent(useSchema, s -> new SpecificDatumWriter<>(s));
         Encoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
         datum.write(graph, encoder);
         encoder.flush();
     }
 
+    private Schema getSchema(String className) throws CamelException, ClassNotFoundException {
+        // loading the schema creates an instance of the class, so it is only done once per class
+        Schema answer = schemas.get(className);
+        if (answer == null) {
+            answer = loadSchema(className);
+            schemas.put(className, answer);
+        }
+        return answer;
+    }
+
     @Override
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
         ObjectHelper.notNull(actualSchema, "schema", this);
 
-        ClassLoader classLoader = null;
-        Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+        Decoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
+        // a new record is read for each message, as the record is the body of the message
+        return getReader().read(null, decoder);
+    }
+
+    private DatumReader<GenericRecord> getReader() {
+        // the datum reader is thread safe, and is reused as it caches the resolution of the schema
+        DatumReader<GenericRecord> answer = reader;
+        if (answer == null) {
+            ClassLoader classLoader = null;
+            Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
 
-        if (clazz != null) {
-            classLoader = clazz.getClassLoader();
+            if (clazz != null) {
+                classLoader = clazz.getClassLoader();
+            }
+            SpecificData specificData = new SpecificDataNoCache(classLoader);
+            answer = new SpecificDatumReader<>(null, null, specificData);
+            answer.setSchema(actualSchema);
+            reader = answer;
         }
-        SpecificData specificData = new SpecificDataNoCache(classLoader);
-        DatumReader<GenericRecord> reader = new SpecificDatumReader<>(null, null, specificData);
-        reader.setSchema(actualSchema);
-        Decoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        return reader.read(null, decoder);
+        return answer;
     }
 
 }
@@ -24,6 +24,7 @@ import org.apache.camel.test.junit5.CamelTestSupport;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class AvroMarshalAndUnmarshalTest extends CamelTestSupport {
@@ -59,6 +60,23 @@ public class AvroMarshalAndUnmarshalTest extends CamelTestSupport {
         }
     }
 
+    @Test
+    public void testMarshalAndUnmarshalSeveralMessages() throws Exception {
+        // the schema, writer and reader are reused across the messages, but not the records
+        Value first = Value.newBuilder().setValue("first body").build();
+        Value second = Value.newBuilder().setValue("second body").build();
+
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedBodiesReceived(first, second);
+
+        template.sendBody("direct:unmarshalA", template.requestBody("direct:marshal", first));
+        template.sendBody("direct:unmarshalA", template.requestBody("direct:marshal", second));
+
+        mock.assertIsSatisfied();
+        assertNotSame(mock.getReceivedExchanges().get(0).getIn().getBody(),
+                mock.getReceivedExchanges().get(1).getIn().getBody());
+    }
+
     private void marshalAndUnmarshal(String inURI, String outURI) throws Exception {
         Value input = Value.newBuilder().setValue("test body").build();
 
@@ -28,7 +28,7 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Base64InputStream;
-import org.apache.commons.codec.binary.Base64OutputStream;
+import org.apache.commons.codec.binary.BaseNCodecOutputStream;
 
 @Dataformat("base64")
 public class Base64DataFormat extends ServiceSupport implements DataFormat, DataFormatName {
@@ -36,6 +36,7 @@ public class Base64DataFormat extends ServiceSupport implements DataFormat, Data
     private int lineLength = Base64.MIME_CHUNK_SIZE;
     private byte[] lineSeparator = { '\r', '\n' };
     private boolean urlSafe;
+    private volatile Base64 codec;
 
     @Override
     public String getDataFormatName() {
@@ -44,17 +45,10 @@ public class Base64DataFormat extends ServiceSupport implements DataFormat, Data
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        if (urlSafe) {
-            marshalUrlSafe(exchange, graph, stream);
-        } else {
-            marshalStreaming(exchange, graph, stream);
-        }
-    }
-
-    private void marshalStreaming(Exchange exchange, Object graph, OutputStream stream) throws Exception {
         InputStream decoded = ExchangeHelper.convertToMandatoryType(exchange, InputStream.class, graph);
 
-        Base64OutputStream base64Output = new Base64OutputStream(stream, true, lineLength, lineSeparator);
+        // the url safe alphabet is encoded as a stream as well, rather than through an array of the whole body
+        BaseNCodecOutputStream base64Output = new BaseNCodecOutputStream(stream, getCodec(), true);
         try {
             IOHelper.copy(decoded, base64Output);
         } finally {
@@ -62,14 +56,14 @@ public class Base64DataFormat extends ServiceSupport implements DataFormat, Data
         }
     }
 
-    private void marshalUrlSafe(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        byte[] decoded = ExchangeHelper.convertToMandatoryType(exchange, byte[].class, graph);
-
-        Base64 codec = new Base64(lineLength, lineSeparator, true);
-        byte[] encoded = codec.encode(decoded);
-
-        stream.write(encoded);
-        stream.flush();
+    private Base64 getCodec() {
+        // the codec keeps no state of its own, so it is shared by the streams of all exchanges
+        Base64 answer = codec;
+        if (answer == null) {
+            answer = new Base64(lineLength, lineSeparator, urlSafe);
+            codec = answer;
+        }
+        return answer;
     }
 
     @Override
@@ -83,6 +77,7 @@ public class Base64DataFormat extends ServiceSupport implements DataFormat, Data
 
     public void setLineLength(int lineLength) {
         this.lineLength = lineLength;
+        this.codec = null;
     }
 
     public byte[] getLineSeparator() {
@@ -91,6 +86,7 @@ public class Base64DataFormat extends ServiceSupport implements DataFormat, Data
 
     public void setLineSeparator(byte[] lineSeparator) {
         this.lineSeparator = lineSeparator;
+        this.codec = null;
     }
 
     public boolean isUrlSafe() {
@@ -99,6 +95,7 @@ public class Base64DataFormat extends ServiceSupport implements DataFormat, Data
 
     public void setUrlSafe(boolean urlSafe) {
         this.urlSafe = urlSafe;
+        this.codec = null;
     }
 
     @Override
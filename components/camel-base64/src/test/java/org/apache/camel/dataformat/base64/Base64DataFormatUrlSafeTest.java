@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.base64;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class Base64DataFormatUrlSafeTest extends Base64DataFormatTestBase {
+
+    public Base64DataFormatUrlSafeTest() {
+        format = new Base64DataFormat();
+        format.setUrlSafe(true);
+    }
+
+    @Test
+    void testEncode() throws Exception {
+        runEncoderTest(DECODED, new Base64(Base64.MIME_CHUNK_SIZE, new byte[] { '\r', '\n' }, true).encode(DECODED));
+    }
+
+    @Test
+    void testDecode() throws Exception {
+        runDecoderTest(new Base64(Base64.MIME_CHUNK_SIZE, new byte[] { '\r', '\n' }, true).encode(DECODED), DECODED);
+    }
+
+    @Test
+    void testEncodeLargeStream() throws Exception {
+        byte[] raw = new byte[1024 * 1024 + 1];
+        new Random(1).nextBytes(raw);
+
+        byte[] encoded = template.requestBody("direct:startEncode", new ByteArrayInputStream(raw), byte[].class);
+
+        assertArrayEquals(new Base64(Base64.MIME_CHUNK_SIZE, new byte[] { '\r', '\n' }, true).encode(raw), encoded);
+    }
+}
@@ -26,6 +26,8 @@ public class BeanComponentConfigurer extends PropertyConfigurerSupport implement
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "scope": target.setScope(property(camelContext, org.apache.camel.BeanScope.class, value)); return true;
+        case "usemethodhandle":
+        case "useMethodHandle": target.setUseMethodHandle(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -38,6 +40,8 @@ public class BeanComponentConfigurer extends PropertyConfigurerSupport implement
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
         case "scope": return org.apache.camel.BeanScope.class;
+        case "usemethodhandle":
+        case "useMethodHandle": return boolean.class;
         default: return null;
         }
     }
@@ -51,6 +55,8 @@ public class BeanComponentConfigurer extends PropertyConfigurerSupport implement
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "scope": return target.getScope();
+        case "usemethodhandle":
+        case "useMethodHandle": return target.isUseMethodHandle();
         default: return null;
         }
     }
@@ -50,6 +50,12 @@ public class BeanComponent extends DefaultComponent {
                                                         + " to the bean registry such as Spring or CDI (if in use), which depends on their configuration can act as either singleton or prototype scope."
                                                         + " so when using prototype then this depends on the delegated registry.")
     private BeanScope scope = BeanScope.Singleton;
+    @Metadata(label = "advanced",
+              description = "Whether to invoke the bean methods using method handles instead of Java reflection."
+                            + " The method handle is created once per introspected method and cached together with the bean information,"
+                            + " which reduces the overhead of invoking the bean. If a method handle cannot be created for a given method,"
+                            + " then reflection is used as fallback.")
+    private boolean useMethodHandle;
 
     public BeanComponent() {
     }
@@ -93,4 +99,12 @@ public class BeanComponent extends DefaultComponent {
     public void setScope(BeanScope scope) {
         this.scope = scope;
     }
+
+    public boolean isUseMethodHandle() {
+        return useMethodHandle;
+    }
+
+    public void setUseMethodHandle(boolean useMethodHandle) {
+        this.useMethodHandle = useMethodHandle;
+    }
 }
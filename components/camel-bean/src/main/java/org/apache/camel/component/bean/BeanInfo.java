@@ -430,8 +430,8 @@ public class BeanInfo {
                     // okay we have not yet set the body parameter and we have found
                     // the candidate now to use as body parameter
                     if (Exchange.class.isAssignableFrom(parameterType)) {
-                        // use exchange
-                        expression = ExpressionBuilder.exchangeExpression();
+                        // use exchange (shared with the default mapping so the binding can be precomputed)
+                        expression = DefaultParameterMappingStrategy.INSTANCE.getDefaultParameterTypeExpression(Exchange.class);
                     } else {
                         // assume it's the body and it must be mandatory convertible to the parameter type
                         // but we allow null bodies in case the message really contains a null body
@@ -448,8 +448,12 @@ public class BeanInfo {
         }
 
         // now let's add the method to the repository
-        return new MethodInfo(
+        MethodInfo answer = new MethodInfo(
                 camelContext, clazz, method, parameters, bodyParameters, hasCustomAnnotation, hasHandlerAnnotation);
+        if (component.isUseMethodHandle()) {
+            answer.initMethodHandle();
+        }
+        return answer;
     }
 
     @SuppressWarnings("unchecked")
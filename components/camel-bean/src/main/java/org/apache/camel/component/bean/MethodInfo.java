@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -70,6 +73,19 @@ import static org.apache.camel.util.ObjectHelper.asString;
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
 
+    private static final MethodType GENERIC_INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Expression EXCHANGE_EXPRESSION
+            = DefaultParameterMappingStrategy.INSTANCE.getDefaultParameterTypeExpression(Exchange.class);
+    private static final Expression IN_MESSAGE_EXPRESSION
+            = DefaultParameterMappingStrategy.INSTANCE.getDefaultParameterTypeExpression(Message.class);
+
+    // how a parameter is bound, precomputed when the parameters expression is created
+    private static final byte BINDING_NONE = 0;
+    private static final byte BINDING_EXPRESSION = 1;
+    private static final byte BINDING_EXCHANGE = 2;
+    private static final byte BINDING_IN_MESSAGE = 3;
+    private static final byte BINDING_BODY = 4;
+
     private CamelContext camelContext;
     private Class<?> type;
     private Method method;
@@ -82,6 +98,8 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private MethodHandle methodHandle;
+    private Class<?>[] methodHandleParameterTypes;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -242,6 +260,55 @@ public class MethodInfo {
         return method.toString();
     }
 
+    /**
+     * Creates a {@link MethodHandle} based invoker for this method which is used instead of reflection when invoking
+     * the bean. The handle is adapted to the generic (pojo, arguments) shape once, so each invocation avoids the
+     * reflective access checks of {@link Method#invoke(Object, Object...)}.
+     * <p/>
+     * If the method cannot be unreflected (for example due to module access restrictions) then reflection is used as
+     * fallback.
+     */
+    public void initMethodHandle() {
+        if (methodHandle != null) {
+            return;
+        }
+        try {
+            MethodHandle mh;
+            if (Modifier.isPublic(method.getDeclaringClass().getModifiers())
+                    && Modifier.isPublic(method.getModifiers())) {
+                mh = MethodHandles.publicLookup().unreflect(method);
+            } else {
+                // access checks are suppressed when the method has been made accessible
+                method.setAccessible(true);
+                mh = MethodHandles.lookup().unreflect(method);
+            }
+            if (isStaticMethod()) {
+                // static methods have no receiver, so drop the pojo to keep the same shape as instance methods
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            int count = method.getParameterCount();
+            methodHandleParameterTypes = new Class<?>[count];
+            for (int i = 0; i < count; i++) {
+                methodHandleParameterTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(
+                        method.getParameterTypes()[i]);
+            }
+            methodHandle = mh.asSpreader(Object[].class, count).asType(GENERIC_INVOKER_TYPE);
+            LOG.trace("Created MethodHandle invoker for method: {}", method);
+        } catch (Exception e) {
+            LOG.debug("Cannot create MethodHandle invoker for method: {} due to: {}. Will use reflection instead.", method,
+                    e.getMessage(), e);
+            methodHandle = null;
+            methodHandleParameterTypes = null;
+        }
+    }
+
+    /**
+     * Whether this method is invoked using a {@link MethodHandle} instead of reflection.
+     */
+    public boolean isMethodHandleInvocation() {
+        return methodHandle != null;
+    }
+
     /**
      * For fine grained error handling for outputs of this EIP. The base error handler is used as base and then cloned
      * for each output processor.
@@ -489,6 +556,14 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (methodHandle != null && mth == method && isMethodHandleApplicable(pojo, arguments)) {
+            try {
+                return methodHandle.invokeExact(pojo, arguments);
+            } catch (Throwable e) {
+                // the arguments have been validated, so any exception is thrown by the method itself
+                throw new InvocationTargetException(e);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -502,6 +577,32 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Whether the arguments can be passed to the method handle as-is. Otherwise reflection is used, which performs
+     * widening conversions and reports invalid arguments in the same way as before.
+     */
+    private boolean isMethodHandleApplicable(Object pojo, Object[] arguments) {
+        final Class<?>[] types = methodHandleParameterTypes;
+        int len = arguments != null ? arguments.length : 0;
+        if (len != types.length) {
+            return false;
+        }
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            Object arg = arguments[i];
+            if (arg == null) {
+                if (method.getParameterTypes()[i].isPrimitive()) {
+                    return false;
+                }
+            } else if (!types[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -545,9 +646,31 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        private final byte[] bindings;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.bindings = new byte[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                bindings[i] = computeBinding(parameters.get(i), expressions[i]);
+            }
+        }
+
+        /**
+         * Precompute how the parameter is bound, so the common exchange, message and body parameters can be bound
+         * directly without evaluating an expression for each invocation.
+         */
+        private byte computeBinding(ParameterInfo info, Expression expression) {
+            if (expression == null) {
+                return BINDING_NONE;
+            } else if (expression == EXCHANGE_EXPRESSION) {
+                return BINDING_EXCHANGE;
+            } else if (expression == IN_MESSAGE_EXPRESSION) {
+                return BINDING_IN_MESSAGE;
+            } else if (bodyParameters.contains(info) && !Exchange.class.isAssignableFrom(info.getType())) {
+                return BINDING_BODY;
+            }
+            return BINDING_EXPRESSION;
         }
 
         @Override
@@ -620,7 +743,10 @@ public class MethodInfo {
                 // use bean parameter binding, if still no value
                 Expression expression = expressions[i];
                 if (value == null && expression != null) {
-                    value = evaluateParameterBinding(exchange, expression, i, parameterType);
+                    value = evaluateDirectBinding(exchange, i, parameterType);
+                    if (value == null) {
+                        value = evaluateParameterBinding(exchange, expression, i, parameterType);
+                    }
                 }
                 // remember the value to use
                 if (value != Void.TYPE) {
@@ -733,6 +859,30 @@ public class MethodInfo {
             return answer;
         }
 
+        /**
+         * Evaluate using the precomputed binding for exchange, message and body parameters, which does not need to
+         * evaluate the expression or use type conversion when the value is already of the expected type.
+         *
+         * @return the value, or <tt>null</tt> if the parameter must be bound by evaluating its expression
+         */
+        private Object evaluateDirectBinding(Exchange exchange, int index, Class<?> parameterType) {
+            Object answer;
+            switch (bindings[index]) {
+                case BINDING_EXCHANGE:
+                    answer = exchange;
+                    break;
+                case BINDING_IN_MESSAGE:
+                    answer = exchange.getIn();
+                    break;
+                case BINDING_BODY:
+                    answer = exchange.getIn().getBody();
+                    break;
+                default:
+                    return null;
+            }
+            return parameterType.isInstance(answer) ? answer : null;
+        }
+
         /**
          * Evaluate using classic parameter binding using the pre compute expression
          */
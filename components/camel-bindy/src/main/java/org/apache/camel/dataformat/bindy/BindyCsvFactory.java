@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
@@ -57,6 +59,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
     private Map<Integer, DataField> dataFields = new LinkedHashMap<>();
     private Map<Integer, Field> annotatedFields = new LinkedHashMap<>();
     private Map<String, Integer> sections = new HashMap<>();
+    private ConcurrentMap<Integer, DataFieldBinding> bindings = new ConcurrentHashMap<>();
 
     private int numberOptionalFields;
     private int numberMandatoryFields;
@@ -165,8 +168,28 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
     }
 
+    @Override
+    public void setLocale(String locale) {
+        super.setLocale(locale);
+        // the formatting options depend on the locale
+        bindings.clear();
+    }
+
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, tokens, model, line, null);
+    }
+
+    /**
+     * Binds the tokens of a record to the model, reusing the formats of the given cache, which must only be used by the
+     * calling thread.
+     *
+     * @param formats the cache of formats by position, or {@code null} to create the formats for this record
+     */
+    public void bind(
+            CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line,
+            Map<Integer, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -180,11 +203,13 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             if (isSkipField()) {
                 if (dataFields.keySet().contains(pos)) {
                     counterMandatoryFields
-                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField,
+                                formats);
                 }
             } else {
                 counterMandatoryFields
-                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField,
+                                formats);
             }
 
             ++pos;
@@ -205,7 +230,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     private int setDataFieldValue(
             CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data,
-            DataField dataField)
+            DataField dataField, Map<Integer, Format<?>> formats)
             throws Exception {
         org.apache.camel.util.ObjectHelper.notNull(dataField,
                 "No position " + pos + " defined for the field: " + data + ", line: " + line);
@@ -227,19 +252,16 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         // Get Field to be setted
-        Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
+        DataFieldBinding binding
+                = bindings.computeIfAbsent(pos, p -> new DataFieldBinding(annotatedFields.get(p), dataField, getLocale()));
+        Field field = binding.getField();
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
         }
 
-        // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        // Get format object to format the field
+        Format<?> format = binding.getFormat(formatFactory, formats, pos);
 
         // field object to be set
         Object modelField = model.get(field.getDeclaringClass().getName());
@@ -299,7 +321,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             }
         }
 
-        field.set(modelField, value);
+        binding.set(modelField, value);
         return counterMandatoryFields;
     }
 
@@ -18,6 +18,7 @@ package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -27,6 +28,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
@@ -53,6 +56,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
     private Map<Integer, DataField> dataFields = new TreeMap<>();
     private Map<Integer, Field> annotatedFields = new TreeMap<>();
+    private ConcurrentMap<Integer, DataFieldBinding> bindings = new ConcurrentHashMap<>();
 
     private int numberOptionalFields;
     private int numberMandatoryFields;
@@ -161,7 +165,27 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
         // noop
     }
 
+    @Override
+    public void setLocale(String locale) {
+        super.setLocale(locale);
+        // the formatting options depend on the locale
+        bindings.clear();
+    }
+
     public void bind(CamelContext camelContext, String recordStr, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, recordStr, model, line, null);
+    }
+
+    /**
+     * Binds the record to the model, reusing the formats of the given cache, which must only be used by the calling
+     * thread.
+     *
+     * @param formats the cache of formats by position, or {@code null} to create the formats for this record
+     */
+    public void bind(
+            CamelContext camelContext, String recordStr, Map<String, Object> model, int line,
+            Map<Integer, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -254,19 +278,15 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             // Get Field to be set
-            field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
+            DataFieldBinding binding = getBinding(dataField);
+            field = binding.getField();
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
             }
 
-            // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            // Get format object to format the field
+            Format<?> format = binding.getFormat(formatFactory, formats, dataField.pos());
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
@@ -292,32 +312,10 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             if (value != null && !dataField.method().isEmpty()) {
-                Class<?> clazz;
-                if (dataField.method().contains(".")) {
-                    clazz = camelContext.getClassResolver()
-                            .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-                } else {
-                    clazz = field.getType();
-                }
-
-                String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                        dataField.method().length());
-
-                Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-                if (m != null) {
-                    // this method must be static and return type
-                    // must be the same as the datafield and
-                    // must receive only the datafield value
-                    // as the method argument
-                    value = ObjectHelper.invokeMethod(m, null, value);
-                } else {
-                    // fallback to method without parameter, that is on the value itself
-                    m = ReflectionHelper.findMethod(clazz, methodName);
-                    value = ObjectHelper.invokeMethod(m, value);
-                }
+                value = invokeMethod(camelContext, dataField, field, value);
             }
 
-            field.set(modelField, value);
+            binding.set(modelField, value);
 
             ++pos;
 
@@ -342,6 +340,168 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
     }
 
+    private DataFieldBinding getBinding(DataField dataField) {
+        return bindings.computeIfAbsent(dataField.pos(),
+                pos -> new DataFieldBinding(annotatedFields.get(pos), dataField, getLocale()));
+    }
+
+    private Object invokeMethod(CamelContext camelContext, DataField dataField, Field field, Object value)
+            throws Exception {
+        Class<?> clazz;
+        if (dataField.method().contains(".")) {
+            clazz = camelContext.getClassResolver()
+                    .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
+        } else {
+            clazz = field.getType();
+        }
+
+        String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
+                dataField.method().length());
+
+        Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
+        if (m != null) {
+            // this method must be static and return type
+            // must be the same as the datafield and
+            // must receive only the datafield value
+            // as the method argument
+            return ObjectHelper.invokeMethod(m, null, value);
+        } else {
+            // fallback to method without parameter, that is on the value itself
+            m = ReflectionHelper.findMethod(clazz, methodName);
+            return ObjectHelper.invokeMethod(m, value);
+        }
+    }
+
+    /**
+     * Whether the records can be bound from their bytes, which requires every field to have a fixed length and the
+     * characters to be counted as code points.
+     */
+    public boolean supportsByteRecords() {
+        if (countGrapheme) {
+            return false;
+        }
+        for (DataField dataField : dataFields.values()) {
+            if (dataField.length() < 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Binds the record from its bytes, without decoding the whole record. The integral numbers are decoded from the
+     * digits and the other fields are decoded as strings, which are parsed by the format of the field.
+     *
+     * @param record  the bytes of the record, from position 0 to the limit
+     * @param decoder the decoder of the charset of the record
+     * @param formats the cache of formats by position, or {@code null} to create the formats for this record
+     * @see           #supportsByteRecords()
+     */
+    public void bind(
+            CamelContext camelContext, ByteBuffer record, ByteFieldDecoder decoder, Map<String, Object> model, int line,
+            Map<Integer, Format<?>> formats)
+            throws Exception {
+
+        int pos = 1;
+        int counterMandatoryFields = 0;
+        int offset = 1;
+        int recordLength = record.limit();
+
+        for (DataField dataField : dataFields.values()) {
+            int length = dataField.length();
+
+            // skip ahead if the expected position is greater than the offset
+            if (dataField.pos() > offset) {
+                offset = dataField.pos();
+            }
+
+            int start = Math.min(offset - 1, recordLength);
+            int end = Math.min(offset - 1 + length, recordLength);
+            offset += length;
+
+            if (dataField.trim()) {
+                char myPaddingChar = dataField.paddingChar() == 0 ? paddingChar : dataField.paddingChar();
+                if (!"L".equals(dataField.align())) {
+                    while (start < end && decoder.toChar(record.get(start)) == myPaddingChar) {
+                        start++;
+                    }
+                }
+                if (!"R".equals(dataField.align())) {
+                    while (end > start && decoder.toChar(record.get(end - 1)) == myPaddingChar) {
+                        end--;
+                    }
+                }
+            }
+
+            // Check mandatory field
+            if (dataField.required()) {
+                ++counterMandatoryFields;
+                if (start == end) {
+                    throw new IllegalArgumentException(
+                            "The mandatory field defined at the position " + pos
+                                                       + " is empty for the line: " + line);
+                }
+            }
+
+            DataFieldBinding binding = getBinding(dataField);
+            Field field = binding.getField();
+            Object modelField = model.get(field.getDeclaringClass().getName());
+
+            Object value = null;
+            if (start < end) {
+                Long number = decoder.decodeLong(record, start, end);
+                if (number != null) {
+                    value = binding.toIntegral(formatFactory, number);
+                }
+                if (value == null) {
+                    value = parse(binding, formats, dataField, decoder.decode(record, start, end), offset, line);
+                }
+            } else if (!dataField.defaultValue().isEmpty()) {
+                value = parse(binding, formats, dataField, dataField.defaultValue(), offset, line);
+            } else {
+                value = getDefaultValueForPrimitive(field.getType());
+            }
+
+            if (value != null && !dataField.method().isEmpty()) {
+                value = invokeMethod(camelContext, dataField, field, value);
+            }
+
+            binding.set(modelField, value);
+
+            ++pos;
+        }
+
+        // check for unmapped non-whitespace data at the end of the line
+        if (offset <= recordLength && !decoder.decode(record, offset - 1, recordLength).trim().isEmpty()
+                && !isIgnoreTrailingChars()) {
+            throw new IllegalArgumentException(
+                    "Unexpected / unmapped characters found at the end of the fixed-length record at line : " + line);
+        }
+
+        if (pos < totalFields) {
+            throw new IllegalArgumentException("Some fields are missing (optional or mandatory), line: " + line);
+        }
+
+        if (counterMandatoryFields < numberMandatoryFields) {
+            throw new IllegalArgumentException("Some mandatory fields are missing, line: " + line);
+        }
+    }
+
+    private Object parse(
+            DataFieldBinding binding, Map<Integer, Format<?>> formats, DataField dataField, String token, int offset,
+            int line)
+            throws Exception {
+        Format<?> format = binding.getFormat(formatFactory, formats, dataField.pos());
+        try {
+            return format.parse(token);
+        } catch (FormatException ie) {
+            throw new IllegalArgumentException(ie.getMessage() + ", position: " + offset + ", line: " + line, ie);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(
+                    "Parsing error detected for field defined at the position/offset: " + offset + ", line: " + line, e);
+        }
+    }
+
     private String trim(String token, DataField dataField, char paddingChar) {
         char myPaddingChar = dataField.paddingChar();
         if (dataField.paddingChar() == 0) {
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Decodes the fields of fixed length records from their bytes, for the charsets encoding every character with a single
+ * byte such as ISO-8859-1 or the EBCDIC code pages. The integral numbers are decoded from the digits, and the other
+ * fields are decoded as strings without decoding the whole record.
+ */
+public final class ByteFieldDecoder {
+
+    private final Charset charset;
+    private final char[] chars = new char[256];
+    private final int[] digits = new int[256];
+    private final int plus;
+    private final int minus;
+
+    public ByteFieldDecoder(Charset charset) {
+        this.charset = charset;
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        new String(bytes, charset).getChars(0, 256, chars, 0);
+        Arrays.fill(digits, -1);
+        int plusByte = -1;
+        int minusByte = -1;
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= '0' && chars[i] <= '9') {
+                digits[i] = chars[i] - '0';
+            } else if (chars[i] == '+') {
+                plusByte = i;
+            } else if (chars[i] == '-') {
+                minusByte = i;
+            }
+        }
+        this.plus = plusByte;
+        this.minus = minusByte;
+    }
+
+    /**
+     * Whether the charset encodes every character with a single byte, so the positions of the fields are the same in
+     * characters and in bytes.
+     */
+    public static boolean supports(Charset charset) {
+        return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f
+                && charset.newDecoder().maxCharsPerByte() == 1.0f;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Gets the character of the given byte.
+     */
+    public char toChar(byte b) {
+        return chars[b & 0xFF];
+    }
+
+    /**
+     * Decodes the bytes from start (inclusive) to end (exclusive) of the record as a string.
+     */
+    public String decode(ByteBuffer record, int start, int end) {
+        if (start >= end) {
+            return "";
+        }
+        if (record.hasArray()) {
+            return new String(record.array(), record.arrayOffset() + start, end - start, charset);
+        }
+        char[] answer = new char[end - start];
+        for (int i = start; i < end; i++) {
+            answer[i - start] = chars[record.get(i) & 0xFF];
+        }
+        return new String(answer);
+    }
+
+    /**
+     * Decodes the bytes from start (inclusive) to end (exclusive) of the record as an integral number, made of an
+     * optional sign followed by digits.
+     *
+     * @return the number, or {@code null} if the bytes are not such a number or if it does not fit in a long
+     */
+    public Long decodeLong(ByteBuffer record, int start, int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end) {
+            int first = record.get(index) & 0xFF;
+            if (first == minus || first == plus) {
+                negative = first == minus;
+                index++;
+            }
+        }
+        if (index == end) {
+            return null;
+        }
+        // the number is accumulated negatively, so the minimum long can be decoded
+        long answer = 0;
+        for (; index < end; index++) {
+            int digit = digits[record.get(index) & 0xFF];
+            if (digit < 0 || answer < (Long.MIN_VALUE + digit) / 10) {
+                return null;
+            }
+            answer = answer * 10 - digit;
+        }
+        if (negative) {
+            return answer;
+        }
+        return answer == Long.MIN_VALUE ? null : -answer;
+    }
+}
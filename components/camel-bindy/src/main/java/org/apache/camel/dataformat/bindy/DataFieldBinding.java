@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.format.factories.ByteFormatFactory;
+import org.apache.camel.dataformat.bindy.format.factories.FormatFactoryInterface;
+import org.apache.camel.dataformat.bindy.format.factories.IntegerFormatFactory;
+import org.apache.camel.dataformat.bindy.format.factories.LongFormatFactory;
+import org.apache.camel.dataformat.bindy.format.factories.ShortFormatFactory;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
+
+/**
+ * The binding of a {@link DataField} to its field, which is resolved once per model rather than once per record: the
+ * field is made accessible, its setter is unreflected into a {@link MethodHandle} and its formatting options are
+ * computed.
+ */
+final class DataFieldBinding {
+
+    private final Field field;
+    private final MethodHandle setter;
+    private final FormattingOptions formattingOptions;
+    private volatile Class<?> integralType;
+
+    DataFieldBinding(Field field, DataField dataField, String locale) {
+        this.field = field;
+        this.field.setAccessible(true);
+        this.setter = unreflectSetter(field);
+        this.formattingOptions = ConverterUtils.convert(dataField, field.getType(),
+                field.getAnnotation(BindyConverter.class), locale);
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            // the field is set by reflection instead
+            return null;
+        }
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets the format of the field. The formats are not thread safe, so they are only reused from the given cache,
+     * which belongs to the calling thread. The formats of a {@link BindyConverter} are always created.
+     *
+     * @param formatFactory the factory creating the formats
+     * @param formats       the cache of formats by position, or {@code null} to create the format
+     * @param pos           the position of the field
+     */
+    Format<?> getFormat(FormatFactory formatFactory, Map<Integer, Format<?>> formats, int pos) throws Exception {
+        if (formats == null || formattingOptions.getBindyConverter() != null) {
+            return formatFactory.getFormat(formattingOptions);
+        }
+        Format<?> format = formats.get(pos);
+        if (format == null) {
+            format = formatFactory.getFormat(formattingOptions);
+            formats.put(pos, format);
+        }
+        return format;
+    }
+
+    /**
+     * Converts an integral number decoded from the bytes of a record to the value of the field. The number is only
+     * converted when the field uses the default format of its integral type, which parses the same numbers.
+     *
+     * @return the value, or {@code null} if the data must be parsed by the format of the field
+     */
+    Object toIntegral(FormatFactory formatFactory, long number) {
+        Class<?> type = integralType;
+        if (type == null) {
+            type = resolveIntegralType(formatFactory);
+            integralType = type;
+        }
+        if (type == Long.class) {
+            return number;
+        } else if (type == Integer.class && number == (int) number) {
+            return (int) number;
+        } else if (type == Short.class && number == (short) number) {
+            return (short) number;
+        } else if (type == Byte.class && number == (byte) number) {
+            return (byte) number;
+        }
+        return null;
+    }
+
+    private Class<?> resolveIntegralType(FormatFactory formatFactory) {
+        if (formattingOptions.getBindyConverter() != null) {
+            return void.class;
+        }
+        FormatFactoryInterface factory = formatFactory.getFactoryRegistry().findForFormattingOptions(formattingOptions);
+        if (factory.getClass() == LongFormatFactory.class) {
+            return Long.class;
+        } else if (factory.getClass() == IntegerFormatFactory.class) {
+            return Integer.class;
+        } else if (factory.getClass() == ShortFormatFactory.class) {
+            return Short.class;
+        } else if (factory.getClass() == ByteFormatFactory.class) {
+            return Byte.class;
+        }
+        return void.class;
+    }
+
+    /**
+     * Sets the value of the field on the given model object.
+     */
+    void set(Object target, Object value) throws Exception {
+        if (setter == null || value == null && field.getType().isPrimitive()) {
+            // let reflection report the error for a null primitive
+            field.set(target, value);
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(
+                    "Can not set " + field.getType().getName() + " field " + field.getName() + " to "
+                                               + value.getClass().getName(),
+                    e);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
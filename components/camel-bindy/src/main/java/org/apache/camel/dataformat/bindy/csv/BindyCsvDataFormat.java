@@ -21,15 +21,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -38,6 +43,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -54,6 +60,13 @@ import org.slf4j.LoggerFactory;
 @Dataformat("bindyCsv")
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final Pattern TRAILING_WHITESPACES = Pattern.compile("[ \\n\\x0B\\f\\r]+$");
+
+    private boolean parallelProcessing;
+    private int parallelChunkSize = 1000;
+    private int parallelMaxChunks = Runtime.getRuntime().availableProcessors() * 2;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
 
     public BindyCsvDataFormat() {
     }
@@ -62,11 +75,78 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         super(type);
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether the lines are bound to the models by chunks in parallel. The models are still returned in the order of
+     * the lines.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * The number of lines in each chunk bound in parallel. The default value is 1000.
+     */
+    public void setParallelChunkSize(int parallelChunkSize) {
+        this.parallelChunkSize = parallelChunkSize;
+    }
+
+    public int getParallelMaxChunks() {
+        return parallelMaxChunks;
+    }
+
+    /**
+     * The maximum number of chunks read ahead of the models added to the result. The default value is twice the number
+     * of processors.
+     */
+    public void setParallelMaxChunks(int parallelMaxChunks) {
+        this.parallelMaxChunks = parallelMaxChunks;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service binding the chunks in parallel. If not set then a thread pool is created from the default
+     * thread pool profile of the Camel context when the data format is started, and shut down when it is stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public String getDataFormatName() {
         return "bindyCsv";
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (parallelProcessing && executorService == null) {
+            org.apache.camel.util.ObjectHelper.notNull(getCamelContext(), "camelContext");
+            executorService = getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "BindyCsvUnmarshal");
+            shutdownExecutorService = true;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+        super.doStop();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void marshal(Exchange exchange, Object body, OutputStream outputStream) throws Exception {
@@ -164,6 +244,8 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
             org.apache.camel.util.ObjectHelper.notNull(separator,
                     "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
             Boolean removeQuotes = factory.getRemoveQuotes();
+            // the separator is compiled once rather than for each line
+            Pattern pattern = Pattern.compile(separator);
             AtomicInteger count = new AtomicInteger();
 
             // Use a Stream to stream a file across.
@@ -179,8 +261,15 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // Consume the lines in the file via a consumer method, passing in state as necessary.
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
-                    lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                    if (parallelProcessing) {
+                        consumeChunks(lines.skip(linesToSkip).iterator(), factory, models, pattern, removeQuotes, quote);
+                    } else {
+                        Map<Integer, Format<?>> formats = new HashMap<>();
+                        lines.skip(linesToSkip)
+                                .forEachOrdered(line -> models.add(
+                                        consumeLine(factory, line, pattern, removeQuotes, quote, count.incrementAndGet(),
+                                                formats)));
+                    }
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -201,76 +290,121 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     }
 
-    private Consumer<String> consumeFile(
-            BindyCsvFactory factory, List<Map<String, Object>> models,
-            String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
-        return line -> {
-            try {
-                // Trim the line coming in to remove any trailing whitespace
-                String trimmedLine;
-
-                // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                if (separator.equals("\t")) {
-                    // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                    trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
-                } else {
-                    trimmedLine = line.trim();
+    /**
+     * Binds the chunks of lines concurrently, while the models are added in the order of the lines. Only a few chunks
+     * are read ahead, so a large file is not held in memory as lines.
+     */
+    private void consumeChunks(
+            Iterator<String> lines, BindyCsvFactory factory, List<Map<String, Object>> models,
+            Pattern pattern, Boolean removeQuotes, String quote) {
+        Executor executor = executorService;
+        if (executor == null) {
+            throw new IllegalStateException("The Bindy CSV data format must be started to unmarshal in parallel");
+        }
+        int maxChunks = Math.max(1, parallelMaxChunks);
+        Deque<CompletableFuture<List<Map<String, Object>>>> pending = new ArrayDeque<>();
+        int lineNumber = 0;
+        try {
+            while (lines.hasNext()) {
+                List<String> chunk = new ArrayList<>();
+                while (chunk.size() < Math.max(1, parallelChunkSize) && lines.hasNext()) {
+                    chunk.add(lines.next());
                 }
+                int firstLine = lineNumber + 1;
+                lineNumber += chunk.size();
+                pending.add(CompletableFuture.supplyAsync(
+                        () -> consumeChunk(factory, chunk, firstLine, pattern, removeQuotes, quote), executor));
+                if (pending.size() >= maxChunks) {
+                    models.addAll(pending.poll().join());
+                }
+            }
+            while (!pending.isEmpty()) {
+                models.addAll(pending.poll().join());
+            }
+        } catch (CompletionException e) {
+            pending.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
 
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
+    private List<Map<String, Object>> consumeChunk(
+            BindyCsvFactory factory, List<String> chunk, int firstLine,
+            Pattern pattern, Boolean removeQuotes, String quote) {
+        // the formats are not thread safe, so each chunk has its own
+        Map<Integer, Format<?>> formats = new HashMap<>();
+        List<Map<String, Object>> answer = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            answer.add(consumeLine(factory, chunk.get(i), pattern, removeQuotes, quote, firstLine + i, formats));
+        }
+        return answer;
+    }
 
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
+    private Map<String, Object> consumeLine(
+            BindyCsvFactory factory, String line, Pattern pattern, Boolean removeQuotes, String quote, int count,
+            Map<Integer, Format<?>> formats) {
+        try {
+            // Trim the line coming in to remove any trailing whitespace
+            String trimmedLine;
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+            // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+            if (pattern.pattern().equals("\t")) {
+                // trim only trailing whitespaces (remove new lines etc but keep tab character)
+                trimmedLine = TRAILING_WHITESPACES.matcher(line).replaceAll("");
+            } else {
+                trimmedLine = line.trim();
+            }
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
+            Map<String, Object> model;
 
-                String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+            // Create POJO where CSV data will be stored
+            model = factory.factory();
 
-                List<String> result = Arrays.asList(tokens);
+            // Split the CSV record according to the separator defined in
+            // annotated class @CSVRecord
+            Matcher matcher = pattern.matcher(trimmedLine);
+            List<String> separators = new ArrayList<>();
 
-                // must unquote tokens before use
-                if (Boolean.TRUE.equals(removeQuotes)) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+            // Retrieve separators for each match
+            while (matcher.find()) {
+                separators.add(matcher.group());
+            }
+            // Add terminal separator
+            if (!separators.isEmpty()) {
+                separators.add(separators.get(separators.size() - 1));
+            }
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+            String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+
+            List<String> result = Arrays.asList(tokens);
+
+            // must unquote tokens before use
+            if (Boolean.TRUE.equals(removeQuotes)) {
+                result = unquoteTokens(result, separators, quote);
+            }
 
-                    // Bind data from CSV record with model classes
+            if (result.isEmpty()) {
+                throw new IllegalArgumentException("No records have been defined in the CSV");
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Size of the record splitted : {}", result.size());
+                }
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+                // Bind data from CSV record with model classes
 
-                    // Link objects together
-                    factory.link(model);
+                factory.bind(getCamelContext(), result, model, count, formats);
 
-                    // Add objects graph to the list
-                    models.add(model);
+                // Link objects together
+                factory.link(model);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
+                LOG.debug("Graph of objects created: {}", model);
+                return model;
             }
-        };
+        } catch (Exception e) {
+            throw new WrappedException(e);
+        }
     }
 
     /**
@@ -16,27 +16,40 @@
  */
 package org.apache.camel.dataformat.bindy.fixed;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.ByteFieldDecoder;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,9 +64,12 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     public static final String CAMEL_BINDY_FIXED_LENGTH_FOOTER = "CamelBindyFixedLengthFooter";
 
     private static final Logger LOG = LoggerFactory.getLogger(BindyFixedLengthDataFormat.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private BindyFixedLengthFactory headerFactory;
     private BindyFixedLengthFactory footerFactory;
+    private boolean byteParsing;
+    private boolean lazyLoad;
 
     public BindyFixedLengthDataFormat() {
     }
@@ -62,6 +78,31 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         super(type);
     }
 
+    public boolean isByteParsing() {
+        return byteParsing;
+    }
+
+    /**
+     * Whether the records are parsed from their bytes, without decoding each record as a string. The integral numbers
+     * are decoded from the digits, and a file is mapped in memory. This requires a charset encoding each character with
+     * a single byte and fields with a fixed length, otherwise the records are parsed as strings.
+     */
+    public void setByteParsing(boolean byteParsing) {
+        this.byteParsing = byteParsing;
+    }
+
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling returns an iterator, which unmarshals the records as they are iterated, such as with
+     * the streaming mode of the splitter.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     @Override
     public String getDataFormatName() {
         return "bindyFixed";
@@ -185,113 +226,167 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         BindyFixedLengthFactory factory = (BindyFixedLengthFactory) getFactory();
         org.apache.camel.util.ObjectHelper.notNull(factory, "not instantiated");
 
+        RecordSource<?> source = createRecordSource(exchange, inputStream, factory);
+        if (lazyLoad) {
+            try {
+                FixedLengthIterator<?> answer = new FixedLengthIterator<>(exchange, factory, source);
+                // add to UoW, so we can close the iterator, so it can release any resources
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        IOHelper.close(answer, "iterator", LOG);
+                    }
+                });
+                return answer;
+            } catch (Exception e) {
+                IOHelper.close(source, "source", LOG);
+                throw e;
+            }
+        }
+
+        try {
+            return unmarshal(exchange, factory, source);
+        } finally {
+            IOHelper.close(source, "source", LOG);
+        }
+    }
+
+    private <R> Object unmarshal(Exchange exchange, BindyFixedLengthFactory factory, RecordSource<R> source)
+            throws Exception {
         // List of Pojos
         List<Map<String, Object>> models = new ArrayList<>();
 
         // Pojos of the model
         Map<String, Object> model;
 
-        InputStreamReader in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
+        // Parse the header if it exists
+        unmarshalHeader(exchange, factory, source);
+
+        R thisLine = source.next();
 
-        // Scanner is used to read big file
-        Scanner scanner = new Scanner(in);
-        boolean isEolSet = false;
-        if (!"".equals(factory.getEndOfLine())) {
-            scanner.useDelimiter(factory.getEndOfLine());
-            isEolSet = true;
+        R nextLine = null;
+        if (thisLine != null) {
+            nextLine = source.next();
         }
 
-        AtomicInteger count = new AtomicInteger();
+        // Parse the main file content
+        while (thisLine != null && nextLine != null) {
 
-        try {
+            model = source.createModel(factory, thisLine);
 
-            // Parse the header if it exists
-            if (headerExists(factory, scanner, isEolSet)) {
+            // Add objects graph to the list
+            models.add(model);
 
-                // Read the line (should not trim as its fixed length)
-                String line = getNextNonEmptyLine(scanner, count, isEolSet);
-
-                if (!factory.skipHeader()) {
-                    Map<String, Object> headerObjMap = createModel(headerFactory, line, count.intValue());
-                    exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_HEADER, headerObjMap);
-                }
-            }
-
-            String thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
+            thisLine = nextLine;
+            nextLine = source.next();
+        }
 
-            String nextLine = null;
-            if (thisLine != null) {
-                nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
+        // this line should be the last non-empty line from the file
+        // optionally parse the line as a footer
+        if (thisLine != null) {
+            model = unmarshalLastLine(exchange, factory, source, thisLine);
+            if (model != null) {
+                models.add(model);
             }
+        }
 
-            // Parse the main file content
-            while (thisLine != null && nextLine != null) {
-
-                model = createModel(factory, thisLine, count.intValue());
-
-                // Add objects graph to the list
-                models.add(model);
+        // BigIntegerFormatFactory if models list is empty or not
+        // If this is the case (correspond to an empty stream, ...)
+        if (models.isEmpty() && !isAllowEmptyStream()) {
+            throw new java.lang.IllegalArgumentException("No records have been defined in the file");
+        } else {
+            return extractUnmarshalResult(models);
+        }
+    }
 
-                thisLine = nextLine;
-                nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
-            }
+    private <R> void unmarshalHeader(Exchange exchange, BindyFixedLengthFactory factory, RecordSource<R> source)
+            throws Exception {
+        if (factory.hasHeader() && source.hasMore()) {
 
-            // this line should be the last non-empty line from the file
-            // optionally parse the line as a footer
-            if (thisLine != null) {
-                if (factory.hasFooter()) {
-                    if (!factory.skipFooter()) {
-                        Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue());
-                        exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
-                    }
-                } else {
-                    model = createModel(factory, thisLine, count.intValue());
-                    models.add(model);
-                }
-            }
+            // Read the line (should not trim as its fixed length)
+            R line = source.next();
 
-            // BigIntegerFormatFactory if models list is empty or not
-            // If this is the case (correspond to an empty stream, ...)
-            if (models.isEmpty() && !isAllowEmptyStream()) {
-                throw new java.lang.IllegalArgumentException("No records have been defined in the file");
-            } else {
-                return extractUnmarshalResult(models);
+            if (!factory.skipHeader()) {
+                Map<String, Object> headerObjMap = source.createModel(headerFactory, line);
+                exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_HEADER, headerObjMap);
             }
-
-        } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
         }
-
     }
 
-    private boolean headerExists(BindyFixedLengthFactory factory, Scanner scanner, boolean isEolSet) {
-        return hasMore(isEolSet, scanner) && factory.hasHeader();
+    private <R> Map<String, Object> unmarshalLastLine(
+            Exchange exchange, BindyFixedLengthFactory factory, RecordSource<R> source, R line)
+            throws Exception {
+        if (factory.hasFooter()) {
+            if (!factory.skipFooter()) {
+                Map<String, Object> footerObjMap = source.createModel(footerFactory, line);
+                exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
+            }
+            return null;
+        }
+        return source.createModel(factory, line);
     }
 
-    private boolean hasMore(boolean isEolSet, Scanner scanner) {
-        return isEolSet && scanner.hasNext() || !isEolSet && scanner.hasNextLine();
+    private RecordSource<?> createRecordSource(Exchange exchange, InputStream inputStream, BindyFixedLengthFactory factory)
+            throws IOException {
+        String charsetName = ExchangeHelper.getCharsetName(exchange);
+        if (byteParsing) {
+            Charset charset = Charset.forName(charsetName);
+            if (supportsByteRecords(factory, charset)) {
+                ByteFieldDecoder decoder = new ByteFieldDecoder(charset);
+                ByteBuffer mapped = mapFile(exchange);
+                if (mapped != null) {
+                    IOHelper.close(inputStream, "in", LOG);
+                    return new ByteRecordSource(mapped, null, decoder, factory.getEndOfLine());
+                }
+                return new ByteRecordSource(ByteBuffer.allocate(BUFFER_SIZE).flip(), inputStream, decoder,
+                        factory.getEndOfLine());
+            }
+            LOG.debug("Parsing the records as strings, as the model or the charset {} does not allow parsing bytes",
+                    charsetName);
+        }
+        return new ScannerRecordSource(new InputStreamReader(inputStream, charsetName), factory.getEndOfLine());
     }
 
-    private String getNextNonEmptyLine(Scanner scanner, AtomicInteger count, boolean isEolSet) {
-        String line = "";
-        while (org.apache.camel.util.ObjectHelper.isEmpty(line) && hasMore(isEolSet, scanner)) {
-            count.incrementAndGet();
-            if (!isEolSet) {
-                line = scanner.nextLine();
-            } else {
-                line = scanner.next();
+    private boolean supportsByteRecords(BindyFixedLengthFactory factory, Charset charset) {
+        String endOfLine = factory.getEndOfLine();
+        // the end of line is a regular expression, which is only supported when it is a literal string
+        for (char ch : endOfLine.toCharArray()) {
+            if ("\\[](){}.*+?^$|".indexOf(ch) >= 0) {
+                return false;
             }
         }
+        return ByteFieldDecoder.supports(charset)
+                && factory.supportsByteRecords()
+                && (headerFactory == null || headerFactory.supportsByteRecords())
+                && (footerFactory == null || footerFactory.supportsByteRecords());
+    }
 
-        if (org.apache.camel.util.ObjectHelper.isEmpty(line)) {
+    /**
+     * Maps the file of the message body in memory, so the records are parsed without copying.
+     * <p/>
+     * The mapping is only released when the buffer is garbage collected, and until then the file cannot be moved or
+     * deleted on some platforms, such as Windows. So the files consumed by the file components, which are moved or
+     * deleted when the exchange completes, are read as a stream rather than mapped.
+     *
+     * @return the mapped file, or {@code null} if the body is not a {@link File}
+     */
+    private static ByteBuffer mapFile(Exchange exchange) throws IOException {
+        Object body = exchange.getMessage().getBody();
+        if (!(body instanceof File) || ((File) body).length() > Integer.MAX_VALUE) {
             return null;
-        } else {
-            return line;
+        }
+        try (FileChannel channel = FileChannel.open(((File) body).toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
         }
     }
 
     protected Map<String, Object> createModel(BindyFixedLengthFactory factory, String line, int count) throws Exception {
+        return createModel(factory, line, count, null);
+    }
+
+    private Map<String, Object> createModel(
+            BindyFixedLengthFactory factory, String line, int count, Map<Integer, Format<?>> formats)
+            throws Exception {
         String myLine = line;
 
         // Check if the record length corresponds to the parameter
@@ -303,20 +398,40 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             if (isTrimmingNeededAndEnabled(factory, myLine)) {
                 myLine = myLine.substring(0, factory.recordLength());
             }
-            if (myLine.length() < factory.recordLength()
-                    && !factory.isIgnoreMissingChars() || myLine.length() > factory.recordLength()) {
-                throw new java.lang.IllegalArgumentException(
-                        "Size of the record: " + myLine.length()
-                                                             + " is not equal to the value provided in the model: "
-                                                             + factory.recordLength());
+            checkRecordLength(factory, myLine.length());
+        }
+
+        // Create POJO where Fixed data will be stored
+        Map<String, Object> model = factory.factory();
+
+        // Bind data from Fixed record with model classes
+        factory.bind(getCamelContext(), myLine, model, count, formats);
+
+        // Link objects together
+        factory.link(model);
+
+        LOG.debug("Graph of objects created: {}", model);
+        return model;
+    }
+
+    private Map<String, Object> createModel(
+            BindyFixedLengthFactory factory, ByteBuffer record, ByteFieldDecoder decoder, int count,
+            Map<Integer, Format<?>> formats)
+            throws Exception {
+        // Check if the record length corresponds to the parameter
+        // provided in the @FixedLengthRecord
+        if (factory.recordLength() > 0) {
+            if (factory.isIgnoreTrailingChars() && record.limit() > factory.recordLength()) {
+                record.limit(factory.recordLength());
             }
+            checkRecordLength(factory, record.limit());
         }
 
         // Create POJO where Fixed data will be stored
         Map<String, Object> model = factory.factory();
 
         // Bind data from Fixed record with model classes
-        factory.bind(getCamelContext(), myLine, model, count);
+        factory.bind(getCamelContext(), record, decoder, model, count, formats);
 
         // Link objects together
         factory.link(model);
@@ -325,6 +440,16 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         return model;
     }
 
+    private void checkRecordLength(BindyFixedLengthFactory factory, int length) {
+        if (length < factory.recordLength()
+                && !factory.isIgnoreMissingChars() || length > factory.recordLength()) {
+            throw new java.lang.IllegalArgumentException(
+                    "Size of the record: " + length
+                                                         + " is not equal to the value provided in the model: "
+                                                         + factory.recordLength());
+        }
+    }
+
     private boolean isTrimmingNeededAndEnabled(BindyFixedLengthFactory factory, String myLine) {
         return factory.isIgnoreTrailingChars() && myLine.length() > factory.recordLength();
     }
@@ -338,6 +463,321 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         return myLine.length() < factory.recordLength() && factory.isIgnoreMissingChars();
     }
 
+    /**
+     * Reads the non-empty records of the message, counting the lines read.
+     *
+     * @param <R> the type of the records
+     */
+    private abstract class RecordSource<R> implements Closeable {
+        // the formats are reused for the records of the message, which are bound by a single thread
+        private final Map<BindyFixedLengthFactory, Map<Integer, Format<?>>> formats = new HashMap<>();
+        int count;
+
+        Map<Integer, Format<?>> formats(BindyFixedLengthFactory factory) {
+            return formats.computeIfAbsent(factory, f -> new HashMap<>());
+        }
+
+        /**
+         * Whether there are more lines, which may be empty.
+         */
+        abstract boolean hasMore() throws IOException;
+
+        /**
+         * Reads the next non-empty record, which may be overwritten by the record read after the next one.
+         *
+         * @return the next record, or {@code null} at the end of the message
+         */
+        abstract R next() throws IOException;
+
+        abstract Map<String, Object> createModel(BindyFixedLengthFactory factory, R record) throws Exception;
+    }
+
+    /**
+     * Reads the records as strings with a {@link Scanner}.
+     */
+    private final class ScannerRecordSource extends RecordSource<String> {
+        private final Reader in;
+        private final Scanner scanner;
+        private final boolean isEolSet;
+
+        private ScannerRecordSource(Reader in, String endOfLine) {
+            this.in = in;
+            // Scanner is used to read big file
+            this.scanner = new Scanner(in);
+            this.isEolSet = !"".equals(endOfLine);
+            if (isEolSet) {
+                scanner.useDelimiter(endOfLine);
+            }
+        }
+
+        @Override
+        boolean hasMore() {
+            return isEolSet && scanner.hasNext() || !isEolSet && scanner.hasNextLine();
+        }
+
+        @Override
+        String next() {
+            String line = "";
+            while (org.apache.camel.util.ObjectHelper.isEmpty(line) && hasMore()) {
+                count++;
+                if (!isEolSet) {
+                    line = scanner.nextLine();
+                } else {
+                    line = scanner.next();
+                }
+            }
+
+            if (org.apache.camel.util.ObjectHelper.isEmpty(line)) {
+                return null;
+            } else {
+                return line;
+            }
+        }
+
+        @Override
+        Map<String, Object> createModel(BindyFixedLengthFactory factory, String record) throws Exception {
+            return BindyFixedLengthDataFormat.this.createModel(factory, record, count, formats(factory));
+        }
+
+        @Override
+        public void close() {
+            scanner.close();
+            IOHelper.close(in, "in", LOG);
+        }
+    }
+
+    /**
+     * Reads the records as bytes, either from a mapped file without copying or from a stream. The records read from
+     * a stream are copied into two buffers used in turn, as the unmarshalling reads one record ahead.
+     */
+    private final class ByteRecordSource extends RecordSource<ByteBuffer> {
+        private final ByteFieldDecoder decoder;
+        private final InputStream in;
+        private final byte[] endOfLine;
+        private final int lookahead;
+        private final ByteBuffer[] records = new ByteBuffer[2];
+        private ByteBuffer data;
+        private int nextRecord;
+        private boolean eof;
+
+        private ByteRecordSource(ByteBuffer data, InputStream in, ByteFieldDecoder decoder, String endOfLine) {
+            this.data = data;
+            this.in = in;
+            this.decoder = decoder;
+            this.endOfLine = endOfLine.getBytes(decoder.getCharset());
+            this.lookahead = Math.max(this.endOfLine.length, 2);
+            this.eof = in == null;
+        }
+
+        @Override
+        boolean hasMore() throws IOException {
+            return data.hasRemaining() || fill();
+        }
+
+        @Override
+        ByteBuffer next() throws IOException {
+            while (hasMore()) {
+                count++;
+                ByteBuffer record = nextLine();
+                if (!isBlank(record)) {
+                    // the blank lines are read in the same buffer, so the record read before is kept
+                    nextRecord = 1 - nextRecord;
+                    return record;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Map<String, Object> createModel(BindyFixedLengthFactory factory, ByteBuffer record) throws Exception {
+            return BindyFixedLengthDataFormat.this.createModel(factory, record, decoder, count, formats(factory));
+        }
+
+        @Override
+        public void close() {
+            IOHelper.close(in, "in", LOG);
+        }
+
+        private boolean isBlank(ByteBuffer record) {
+            for (int i = 0; i < record.limit(); i++) {
+                if (decoder.toChar(record.get(i)) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Reads the bytes up to the next end of line, which is removed.
+         */
+        private ByteBuffer nextLine() throws IOException {
+            int offset = 0;
+            while (true) {
+                int index = data.position() + offset;
+                // keep enough bytes ahead to find the end of line, the position of the data may change when filled
+                if (index + lookahead > data.limit() && fill()) {
+                    continue;
+                }
+                if (index >= data.limit()) {
+                    // the last line has no end of line
+                    ByteBuffer record = record(data.position(), data.limit());
+                    data.position(data.limit());
+                    return record;
+                }
+                int separator = separatorLength(index);
+                if (separator > 0) {
+                    ByteBuffer record = record(data.position(), index);
+                    data.position(index + separator);
+                    return record;
+                }
+                offset++;
+            }
+        }
+
+        /**
+         * Gets the length of the end of line starting at the given index, or 0 if there is none. The lines end with LF,
+         * CR, CRLF or NEL unless an end of line is set.
+         */
+        private int separatorLength(int index) {
+            if (endOfLine.length > 0) {
+                for (int i = 0; i < endOfLine.length; i++) {
+                    if (index + i >= data.limit() || data.get(index + i) != endOfLine[i]) {
+                        return 0;
+                    }
+                }
+                return endOfLine.length;
+            }
+            char ch = decoder.toChar(data.get(index));
+            if (ch == '\r') {
+                return index + 1 < data.limit() && decoder.toChar(data.get(index + 1)) == '\n' ? 2 : 1;
+            }
+            return ch == '\n' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029' ? 1 : 0;
+        }
+
+        private ByteBuffer record(int start, int end) {
+            if (in == null) {
+                // a slice of the mapped file
+                return data.duplicate().position(start).limit(end).slice();
+            }
+            // the records are copied, as the buffer is compacted when it is filled
+            ByteBuffer record = records[nextRecord];
+            if (record == null || record.capacity() < end - start) {
+                record = ByteBuffer.allocate(Math.max(end - start, 256));
+                records[nextRecord] = record;
+            }
+            record.clear();
+            record.put(data.duplicate().position(start).limit(end));
+            record.flip();
+            return record;
+        }
+
+        /**
+         * Reads more bytes from the stream, keeping the bytes not read yet.
+         *
+         * @return whether more bytes were read
+         */
+        private boolean fill() throws IOException {
+            if (eof) {
+                return false;
+            }
+            if (data.position() == 0 && data.limit() == data.capacity()) {
+                // a record larger than the buffer
+                ByteBuffer larger = ByteBuffer.allocate(data.capacity() * 2);
+                larger.put(data);
+                data = larger.flip();
+            }
+            data.compact();
+            int read = in.read(data.array(), data.position(), data.remaining());
+            if (read < 0) {
+                eof = true;
+            } else {
+                data.position(data.position() + read);
+            }
+            data.flip();
+            return read > 0;
+        }
+    }
+
+    /**
+     * Unmarshals the records as they are iterated, so a large message can be split without holding all the models.
+     *
+     * @param <R> the type of the records
+     */
+    private final class FixedLengthIterator<R> implements Iterator<Object>, Closeable {
+        private final Exchange exchange;
+        private final BindyFixedLengthFactory factory;
+        private final RecordSource<R> source;
+        private R thisLine;
+        private R nextLine;
+        private Object next;
+
+        private FixedLengthIterator(Exchange exchange, BindyFixedLengthFactory factory, RecordSource<R> source)
+                throws Exception {
+            this.exchange = exchange;
+            this.factory = factory;
+            this.source = source;
+            unmarshalHeader(exchange, factory, source);
+            thisLine = source.next();
+            if (thisLine != null) {
+                nextLine = source.next();
+            }
+            next = readNext();
+            if (next == null && !isAllowEmptyStream()) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the file");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            try {
+                next = readNext();
+            } catch (Exception e) {
+                IOHelper.close(this, "iterator", LOG);
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            return answer;
+        }
+
+        private Object readNext() throws Exception {
+            while (thisLine != null) {
+                Map<String, Object> model;
+                if (nextLine != null) {
+                    model = source.createModel(factory, thisLine);
+                    thisLine = nextLine;
+                    nextLine = source.next();
+                } else {
+                    // the last line, which may be the footer
+                    model = unmarshalLastLine(exchange, factory, source, thisLine);
+                    thisLine = null;
+                }
+                Object answer = model;
+                if (model != null && getClassType() != null) {
+                    // we expect to find this type in the models, and grab only that type
+                    answer = model.get(getClassType().getName());
+                }
+                if (answer != null) {
+                    return answer;
+                }
+            }
+            IOHelper.close(this, "iterator", LOG);
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+
     @Override
     protected BindyAbstractFactory createModelFactory(FormatFactory formatFactory) throws Exception {
 
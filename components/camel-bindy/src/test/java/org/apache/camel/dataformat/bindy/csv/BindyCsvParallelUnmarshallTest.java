@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclassmath.Math;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BindyCsvParallelUnmarshallTest extends CamelTestSupport {
+
+    private static final int RECORD_COUNT = 1000;
+
+    private final BindyCsvDataFormat bindy = new BindyCsvDataFormat(Math.class);
+
+    @Test
+    public void testModelsAreInOrderOfLines() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            csv.append(i).append(',').append(i).append(".25\n");
+        }
+        template.sendBody("direct:start", csv.toString());
+
+        mock.assertIsSatisfied();
+
+        List<?> models = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(RECORD_COUNT, models.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Math math = (Math) models.get(i);
+            assertEquals(i, math.getIntAmount());
+            assertEquals(new BigDecimal(i + ".25"), math.getBigDecimal());
+        }
+    }
+
+    @Test
+    public void testErrorReportsLineOfRecord() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            csv.append(i == 500 ? "abc" : String.valueOf(i)).append(",1.00\n");
+        }
+
+        Exception e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("direct:start", csv.toString()));
+        assertEquals("Parsing error detected for field defined at the position: 1, line: 501", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testThreadPoolShutdownWhenStopped() throws Exception {
+        ExecutorService executorService = bindy.getExecutorService();
+        assertNotNull(executorService);
+
+        context.stop();
+
+        assertTrue(executorService.isShutdown());
+        assertNull(bindy.getExecutorService());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                // small chunks, so the lines are bound by several tasks
+                bindy.setParallelProcessing(true);
+                bindy.setParallelChunkSize(7);
+                bindy.setParallelMaxChunks(4);
+
+                from("direct:start").unmarshal(bindy).to("mock:result");
+            }
+        };
+    }
+}
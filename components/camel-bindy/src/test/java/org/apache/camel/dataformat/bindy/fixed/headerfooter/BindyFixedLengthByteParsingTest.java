@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed.headerfooter;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.fixed.BindyFixedLengthDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests the unmarshalling of the records from their bytes, from a stream or from a mapped file, eagerly or lazily.
+ */
+public class BindyFixedLengthByteParsingTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000003\r\n";
+
+    private static String createRecord(int orderNr) {
+        return String.format("%02dA9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n", orderNr);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnmarshallBytes() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:unmarshall",
+                TEST_HEADER + createRecord(1) + "\r\n" + createRecord(2) + createRecord(3) + TEST_FOOTER);
+
+        mock.assertIsSatisfied();
+
+        Exchange exchange = mock.getReceivedExchanges().get(0);
+        List<Order> orders = exchange.getIn().getBody(List.class);
+        assertEquals(3, orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            assertEquals(i + 1, order.getOrderNr());
+            assertEquals("A9", order.getClientNr());
+            // the field is not trimmed
+            assertEquals("  Pauline", order.getFirstName());
+            assertEquals(new BigDecimal("2500.45"), order.getAmount());
+            assertEquals("USD", order.getCurrency());
+            assertNotNull(order.getOrderDate());
+        }
+
+        Map<String, Object> footer
+                = exchange.getIn().getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_FOOTER, Map.class);
+        assertEquals(3, ((OrderFooter) footer.get(OrderFooter.class.getName())).getNumberOfRecordsInTheFile());
+        assertNotNull(exchange.getIn().getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_HEADER));
+    }
+
+    @Test
+    public void testUnmarshallEbcdicBytes() throws Exception {
+        assumeTrue(Charset.isSupported("IBM037"));
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        String records = TEST_HEADER + createRecord(42) + createRecord(43) + createRecord(44) + TEST_FOOTER;
+        template.sendBodyAndProperty("direct:unmarshall", records.getBytes("IBM037"), Exchange.CHARSET_NAME, "IBM037");
+
+        mock.assertIsSatisfied();
+
+        List<?> orders = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(3, orders.size());
+        assertEquals(42, ((Order) orders.get(0)).getOrderNr());
+        assertEquals("ISIN", ((Order) orders.get(0)).getInstrumentCode());
+        assertEquals(44, ((Order) orders.get(2)).getOrderNr());
+    }
+
+    @Test
+    public void testUnmarshallFileLazily() throws Exception {
+        StringBuilder records = new StringBuilder(TEST_HEADER);
+        for (int i = 0; i < 1000; i++) {
+            records.append(createRecord(i % 100));
+        }
+        records.append(TEST_FOOTER);
+        File file = new File("target/data/bytes/orders.txt");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), records.toString().getBytes());
+
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(1000);
+
+        template.sendBody("direct:lazy", file);
+
+        mock.assertIsSatisfied();
+        for (int i = 0; i < 1000; i++) {
+            Order order = mock.getReceivedExchanges().get(i).getIn().getBody(Order.class);
+            assertEquals(i % 100, order.getOrderNr());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                BindyFixedLengthDataFormat bytes = new BindyFixedLengthDataFormat(Order.class);
+                bytes.setByteParsing(true);
+                bytes.setUnwrapSingleInstance(false);
+
+                BindyFixedLengthDataFormat lazy = new BindyFixedLengthDataFormat(Order.class);
+                lazy.setByteParsing(true);
+                lazy.setLazyLoad(true);
+
+                from("direct:unmarshall")
+                        .unmarshal(bytes)
+                        .to("mock:result");
+
+                from("direct:lazy")
+                        .unmarshal(lazy)
+                        .split(body()).streaming()
+                        .to("mock:order");
+            }
+        };
+    }
+}
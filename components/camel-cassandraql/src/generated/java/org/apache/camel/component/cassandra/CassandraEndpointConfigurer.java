@@ -21,6 +21,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         CassandraEndpoint target = (CassandraEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncexecution":
+        case "asyncExecution": target.setAsyncExecution(property(camelContext, boolean.class, value)); return true;
         case "backofferrorthreshold":
         case "backoffErrorThreshold": target.setBackoffErrorThreshold(property(camelContext, int.class, value)); return true;
         case "backoffidlethreshold":
@@ -52,6 +54,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "password": target.setPassword(property(camelContext, java.lang.String.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
+        case "preparedstatementcachesize":
+        case "preparedStatementCacheSize": target.setPreparedStatementCacheSize(property(camelContext, int.class, value)); return true;
         case "preparestatements":
         case "prepareStatements": target.setPrepareStatements(property(camelContext, boolean.class, value)); return true;
         case "repeatcount":
@@ -72,6 +76,10 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "startScheduler": target.setStartScheduler(property(camelContext, boolean.class, value)); return true;
         case "timeunit":
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
+        case "unloggedbatchlingertime":
+        case "unloggedBatchLingerTime": target.setUnloggedBatchLingerTime(property(camelContext, long.class, value)); return true;
+        case "unloggedbatchsize":
+        case "unloggedBatchSize": target.setUnloggedBatchSize(property(camelContext, int.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
         case "username": target.setUsername(property(camelContext, java.lang.String.class, value)); return true;
@@ -82,6 +90,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncexecution":
+        case "asyncExecution": return boolean.class;
         case "backofferrorthreshold":
         case "backoffErrorThreshold": return int.class;
         case "backoffidlethreshold":
@@ -113,6 +123,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "password": return java.lang.String.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
+        case "preparedstatementcachesize":
+        case "preparedStatementCacheSize": return int.class;
         case "preparestatements":
         case "prepareStatements": return boolean.class;
         case "repeatcount":
@@ -133,6 +145,10 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "startScheduler": return boolean.class;
         case "timeunit":
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
+        case "unloggedbatchlingertime":
+        case "unloggedBatchLingerTime": return long.class;
+        case "unloggedbatchsize":
+        case "unloggedBatchSize": return int.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
         case "username": return java.lang.String.class;
@@ -144,6 +160,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         CassandraEndpoint target = (CassandraEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncexecution":
+        case "asyncExecution": return target.isAsyncExecution();
         case "backofferrorthreshold":
         case "backoffErrorThreshold": return target.getBackoffErrorThreshold();
         case "backoffidlethreshold":
@@ -175,6 +193,8 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "password": return target.getPassword();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
+        case "preparedstatementcachesize":
+        case "preparedStatementCacheSize": return target.getPreparedStatementCacheSize();
         case "preparestatements":
         case "prepareStatements": return target.isPrepareStatements();
         case "repeatcount":
@@ -195,6 +215,10 @@ public class CassandraEndpointConfigurer extends PropertyConfigurerSupport imple
         case "startScheduler": return target.isStartScheduler();
         case "timeunit":
         case "timeUnit": return target.getTimeUnit();
+        case "unloggedbatchlingertime":
+        case "unloggedBatchLingerTime": return target.getUnloggedBatchLingerTime();
+        case "unloggedbatchsize":
+        case "unloggedBatchSize": return target.getUnloggedBatchSize();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
         case "username": return target.getUsername();
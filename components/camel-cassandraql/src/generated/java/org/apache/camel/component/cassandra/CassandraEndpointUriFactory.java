@@ -21,7 +21,8 @@ public class CassandraEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(35);
+        Set<String> props = new HashSet<>(39);
+        props.add("asyncExecution");
         props.add("backoffErrorThreshold");
         props.add("backoffIdleThreshold");
         props.add("backoffMultiplier");
@@ -45,6 +46,7 @@ public class CassandraEndpointUriFactory extends org.apache.camel.support.compon
         props.add("pollStrategy");
         props.add("port");
         props.add("prepareStatements");
+        props.add("preparedStatementCacheSize");
         props.add("repeatCount");
         props.add("resultSetConversionStrategy");
         props.add("runLoggingLevel");
@@ -55,6 +57,8 @@ public class CassandraEndpointUriFactory extends org.apache.camel.support.compon
         props.add("session");
         props.add("startScheduler");
         props.add("timeUnit");
+        props.add("unloggedBatchLingerTime");
+        props.add("unloggedBatchSize");
         props.add("useFixedDelay");
         props.add("username");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
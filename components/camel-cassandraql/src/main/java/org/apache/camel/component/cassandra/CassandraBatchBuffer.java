@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import org.apache.camel.support.BatchBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers the bound write statements of the exchanges sent to the producer, and executes the statements which write to
+ * the same partition together as one unlogged batch (or as one counter batch for the updates of a counter table, as
+ * counter updates cannot be part of an unlogged batch).
+ * <p/>
+ * The statements are executed when either the maximum number of statements is reached, from the thread that added the
+ * last statement, or when the linger time has elapsed, from a background thread. An unlogged batch of a single
+ * partition is applied by its replicas in one round trip, whereas a batch spanning several partitions would only move
+ * the work to the coordinator, so the statements are grouped by their partition: the keyspace, table and routing key.
+ */
+class CassandraBatchBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CassandraBatchBuffer.class);
+
+    private final Function<Statement<?>, CompletionStage<ResultSet>> executor;
+    private final Predicate<BoundStatement> counterUpdate;
+    private final BatchBuffer<Entry> buffer;
+
+    /**
+     * @param maxStatements the maximum number of statements of a batch
+     * @param lingerTime    the time in millis to wait for more statements
+     * @param scheduler     the scheduler for executing the statements when the linger time has elapsed
+     * @param executor      executes a statement
+     * @param counterUpdate whether a statement updates a counter table, such as
+     *                      {@link #isCounterUpdate(Metadata, BoundStatement)}
+     */
+    CassandraBatchBuffer(int maxStatements, long lingerTime, ScheduledExecutorService scheduler,
+                         Function<Statement<?>, CompletionStage<ResultSet>> executor,
+                         Predicate<BoundStatement> counterUpdate) {
+        this.executor = executor;
+        this.counterUpdate = counterUpdate;
+        this.buffer = new BatchBuffer<>(maxStatements, lingerTime, scheduler, this::execute);
+    }
+
+    /**
+     * Whether the statement can be part of an unlogged batch, which requires a write statement with a known partition
+     */
+    static boolean isBatchable(Statement<?> statement) {
+        return statement instanceof BoundStatement
+                && statement.getRoutingKey() != null
+                && ((BoundStatement) statement).getPreparedStatement().getResultSetDefinitions().size() == 0;
+    }
+
+    /**
+     * Whether the statement updates a counter table, which is the case when a counter is bound to the statement, or
+     * when the table it writes to has counter columns (such as for <tt>SET hits = hits + 1</tt>)
+     */
+    static boolean isCounterUpdate(Metadata metadata, BoundStatement statement) {
+        ColumnDefinitions variables = statement.getPreparedStatement().getVariableDefinitions();
+        for (int i = 0; i < variables.size(); i++) {
+            if (DataTypes.COUNTER.equals(variables.get(i).getType())) {
+                return true;
+            }
+        }
+        if (variables.size() == 0 || metadata == null) {
+            return false;
+        }
+        ColumnDefinition variable = variables.get(0);
+        return metadata.getKeyspace(variable.getKeyspace())
+                .flatMap(keyspace -> keyspace.getTable(variable.getTable()))
+                .map(table -> table.getColumns().values().stream()
+                        .anyMatch(column -> DataTypes.COUNTER.equals(column.getType())))
+                .orElse(false);
+    }
+
+    /**
+     * Adds a statement to the next batch.
+     *
+     * @param statement the bound write statement
+     * @param onDone    invoked with either the result of the batch the statement was executed in, or its failure
+     */
+    void add(BoundStatement statement, BiConsumer<ResultSet, Throwable> onDone) {
+        buffer.add(new Entry(statement, onDone));
+    }
+
+    /**
+     * Executes the statements which are buffered, such as when the producer is stopping.
+     *
+     * @return a future which is complete when the statements have been executed
+     */
+    CompletableFuture<?> flush() {
+        return buffer.flush();
+    }
+
+    private CompletableFuture<?> execute(List<Entry> batch) {
+        Map<List<Object>, List<Entry>> partitions = new LinkedHashMap<>();
+        for (Entry entry : batch) {
+            List<Object> key = partitionKey(entry.statement);
+            partitions.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+        LOG.debug("Executing {} statements as {} batches", batch.size(), partitions.size());
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[partitions.size()];
+        int i = 0;
+        for (List<Entry> entries : partitions.values()) {
+            futures[i++] = executePartition(entries);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * The partition written by the statement, as the same routing key in different tables is a different partition
+     */
+    private static List<Object> partitionKey(BoundStatement statement) {
+        PreparedStatement prepared = statement.getPreparedStatement();
+        ColumnDefinitions variables = prepared.getVariableDefinitions();
+        if (variables.size() > 0) {
+            ColumnDefinition variable = variables.get(0);
+            return Arrays.asList(variable.getKeyspace(), variable.getTable(), statement.getRoutingKey());
+        }
+        // without bound variables the routing key was set explicitly, so only group the executions of the same query
+        return Arrays.asList(statement.getRoutingKeyspace(), prepared.getQuery(), statement.getRoutingKey());
+    }
+
+    private CompletableFuture<?> executePartition(List<Entry> entries) {
+        Statement<?> statement;
+        if (entries.size() == 1) {
+            statement = entries.get(0).statement;
+        } else {
+            List<BatchableStatement<?>> statements = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                statements.add(entry.statement);
+            }
+            // the statements of a partition write to the same table, so they are all counter updates or none is
+            DefaultBatchType type = counterUpdate.test(entries.get(0).statement)
+                    ? DefaultBatchType.COUNTER : DefaultBatchType.UNLOGGED;
+            statement = BatchStatement.newInstance(type, statements)
+                    .setConsistencyLevel(entries.get(0).statement.getConsistencyLevel());
+        }
+
+        CompletionStage<ResultSet> future;
+        try {
+            future = executor.apply(statement);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.toCompletableFuture().whenComplete((resultSet, e) -> {
+            for (Entry entry : entries) {
+                entry.onDone.accept(resultSet, e);
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        private final BoundStatement statement;
+        private final BiConsumer<ResultSet, Throwable> onDone;
+
+        private Entry(BoundStatement statement, BiConsumer<ResultSet, Throwable> onDone) {
+            this.statement = statement;
+            this.onDone = onDone;
+        }
+    }
+}
@@ -86,6 +86,14 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     private ResultSetConversionStrategy resultSetConversionStrategy = ResultSetConversionStrategies.all();
     @UriParam
     private String extraTypeCodecs;
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private int preparedStatementCacheSize = 100;
+    @UriParam(label = "producer")
+    private boolean asyncExecution;
+    @UriParam(label = "producer,advanced")
+    private int unloggedBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private long unloggedBatchLingerTime = 100;
 
     public CassandraEndpoint(String endpointUri, Component component) {
         super(endpointUri, component);
@@ -391,4 +399,54 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     public void setExtraTypeCodecs(String extraTypeCodecs) {
         this.extraTypeCodecs = extraTypeCodecs;
     }
+
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    /**
+     * The maximum number of statements, from the CQL of the CamelCqlQuery header, which are kept prepared by the
+     * producer so they are not prepared again for every message. Setting the size to 0 disables the cache.
+     */
+    public void setPreparedStatementCacheSize(int preparedStatementCacheSize) {
+        this.preparedStatementCacheSize = preparedStatementCacheSize;
+    }
+
+    public boolean isAsyncExecution() {
+        return asyncExecution;
+    }
+
+    /**
+     * Whether the producer executes the statements asynchronously, so the thread routing the exchange is not blocked
+     * while waiting for the result, and continues routing the exchange when the result is received.
+     */
+    public void setAsyncExecution(boolean asyncExecution) {
+        this.asyncExecution = asyncExecution;
+    }
+
+    public int getUnloggedBatchSize() {
+        return unloggedBatchSize;
+    }
+
+    /**
+     * Combines the prepared write statements of the exchanges sent concurrently to the producer into unlogged batches
+     * of up to this number of statements, where the statements writing to the same partition are executed in one round
+     * trip. The statements are executed when the batch is full, or when the unlogged batch linger time has elapsed.
+     * Enables the asynchronous execution of the statements. Is disabled by default.
+     */
+    public void setUnloggedBatchSize(int unloggedBatchSize) {
+        this.unloggedBatchSize = unloggedBatchSize;
+    }
+
+    public long getUnloggedBatchLingerTime() {
+        return unloggedBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more statements before executing a batch which is not full, when the
+     * unlogged batch size is set.
+     */
+    public void setUnloggedBatchLingerTime(long unloggedBatchLingerTime) {
+        this.unloggedBatchLingerTime = unloggedBatchLingerTime;
+    }
 }
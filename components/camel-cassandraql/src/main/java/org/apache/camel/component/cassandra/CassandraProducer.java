@@ -17,14 +17,24 @@
 package org.apache.camel.component.cassandra;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.LRUCacheFactory;
 
 import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
 
@@ -39,9 +49,13 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
  * <dd>
  * <dl>
  */
-public class CassandraProducer extends DefaultProducer {
+public class CassandraProducer extends DefaultAsyncProducer {
 
     private PreparedStatement preparedStatement;
+    private Map<String, PreparedStatement> preparedStatements;
+    private ExecutorService executorService;
+    private ScheduledExecutorService scheduler;
+    private CassandraBatchBuffer batchBuffer;
 
     public CassandraProducer(CassandraEndpoint endpoint) {
         super(endpoint);
@@ -53,11 +67,43 @@ public class CassandraProducer extends DefaultProducer {
         if (isPrepareStatements() && getEndpoint().getCql() != null) {
             this.preparedStatement = getEndpoint().prepareStatement();
         }
+        if (isPrepareStatements() && getEndpoint().getPreparedStatementCacheSize() > 0) {
+            this.preparedStatements = LRUCacheFactory.newLRUCache(getEndpoint().getPreparedStatementCacheSize());
+        }
+        if (isAsync() && executorService == null) {
+            // the exchanges are continued from a thread of camel rather than from an I/O thread of the driver,
+            // which must not block such as when the next processor executes a statement synchronously
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newDefaultThreadPool(this, "CassandraProducer");
+        }
+        if (getEndpoint().getUnloggedBatchSize() > 1 && batchBuffer == null) {
+            scheduler = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "CassandraUnloggedBatch");
+            CqlSession session = getEndpoint().getSessionHolder().getSession();
+            batchBuffer = new CassandraBatchBuffer(
+                    getEndpoint().getUnloggedBatchSize(), getEndpoint().getUnloggedBatchLingerTime(), scheduler,
+                    statement -> session.executeAsync(statement).thenCompose(this::fetch),
+                    statement -> CassandraBatchBuffer.isCounterUpdate(session.getMetadata(), statement));
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (batchBuffer != null) {
+            // execute the statements that are waiting so they are not left behind
+            batchBuffer.flush().handle((r, e) -> null).join();
+            batchBuffer = null;
+        }
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
         this.preparedStatement = null;
+        this.preparedStatements = null;
         super.doStop();
     }
 
@@ -70,6 +116,10 @@ public class CassandraProducer extends DefaultProducer {
         return getEndpoint().isPrepareStatements();
     }
 
+    private boolean isAsync() {
+        return getEndpoint().isAsyncExecution() || getEndpoint().getUnloggedBatchSize() > 1;
+    }
+
     private Object[] getCqlParams(Message message) {
         Object cqlParamsObj = message.getBody();
         Object[] cqlParams;
@@ -87,9 +137,9 @@ public class CassandraProducer extends DefaultProducer {
     }
 
     /**
-     * Execute CQL query using incoming message body has statement parameters.
+     * Create the statement of the CQL query using incoming message body has statement parameters.
      */
-    private ResultSet execute(Message message) {
+    private Statement<?> createStatement(Message message) {
         Object messageCql = message.getHeader(CassandraConstants.CQL_QUERY);
         // Convert Empty string to null
         if (messageCql instanceof String && ((String) messageCql).isEmpty()) {
@@ -97,28 +147,24 @@ public class CassandraProducer extends DefaultProducer {
         }
         Object[] cqlParams = getCqlParams(message);
 
-        ResultSet resultSet;
-        CqlSession session = getEndpoint().getSessionHolder().getSession();
         if (isPrepareStatements()) {
-            resultSet = executePreparedStatement(session, messageCql, cqlParams);
+            return createPreparedStatement(messageCql, cqlParams);
         } else {
-            resultSet = executeStatement(session, messageCql, cqlParams);
+            return createStatement(messageCql, cqlParams);
         }
-        return resultSet;
     }
 
     /**
-     * Execute CQL as PreparedStatement
+     * Create CQL as bound PreparedStatement
      */
-    private ResultSet executePreparedStatement(CqlSession session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
+    private BoundStatement createPreparedStatement(Object messageCql, Object[] cqlParams) {
         PreparedStatement lPreparedStatement;
         if (messageCql == null) {
             // URI CQL
             lPreparedStatement = this.preparedStatement;
         } else if (messageCql instanceof String) {
             // Message CQL
-            lPreparedStatement = getEndpoint().prepareStatement((String) messageCql);
+            lPreparedStatement = prepareStatement((String) messageCql);
         } else if (messageCql instanceof SimpleStatement) {
             // Message Statement
             lPreparedStatement = getEndpoint().getSession().prepare((SimpleStatement) messageCql);
@@ -126,20 +172,32 @@ public class CassandraProducer extends DefaultProducer {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
         if (isEmpty(cqlParams)) {
-            resultSet = session.execute(lPreparedStatement.bind());
+            return lPreparedStatement.bind();
         } else {
-            resultSet = session.execute(lPreparedStatement.bind(cqlParams));
+            return lPreparedStatement.bind(cqlParams);
+        }
+    }
+
+    /**
+     * Prepare the CQL of a message, unless it has been prepared before and is still in the cache
+     */
+    private PreparedStatement prepareStatement(String cql) {
+        if (preparedStatements == null) {
+            return getEndpoint().prepareStatement(cql);
+        }
+        PreparedStatement answer = preparedStatements.get(cql);
+        if (answer == null) {
+            answer = getEndpoint().prepareStatement(cql);
+            preparedStatements.put(cql, answer);
         }
-        return resultSet;
+        return answer;
     }
 
     /**
-     * Execute CQL as is
+     * Create CQL as is
      */
-    private ResultSet executeStatement(CqlSession session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet = null;
-        String cql = null;
-        SimpleStatement statement = null;
+    private SimpleStatement createStatement(Object messageCql, Object[] cqlParams) {
+        String cql;
         if (messageCql == null) {
             // URI CQL
             cql = getEndpoint().getCql();
@@ -148,28 +206,67 @@ public class CassandraProducer extends DefaultProducer {
             cql = (String) messageCql;
         } else if (messageCql instanceof SimpleStatement) {
             // Message Statement
-            statement = (SimpleStatement) messageCql;
+            return (SimpleStatement) messageCql;
         } else {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
-        if (statement != null) {
-            resultSet = session.execute(statement);
-        } else if (isEmpty(cqlParams)) {
-            resultSet = session.execute(cql);
+        if (isEmpty(cqlParams)) {
+            return SimpleStatement.newInstance(cql);
         } else {
-            resultSet = session.execute(
-                    SimpleStatement.builder(cql).addPositionalValues(cqlParams).build());
+            return SimpleStatement.builder(cql).addPositionalValues(cqlParams).build();
         }
-        return resultSet;
     }
 
     @Override
-    public void process(Exchange exchange) throws Exception {
-        // copy the header of in message to the out message
-        exchange.getMessage().copyFrom(exchange.getIn());
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final Statement<?> statement;
+        try {
+            // copy the header of in message to the out message
+            exchange.getMessage().copyFrom(exchange.getIn());
+
+            statement = createStatement(exchange.getIn());
+            if (!isAsync()) {
+                ResultSet resultSet = getEndpoint().getSessionHolder().getSession().execute(statement);
+                getEndpoint().fillMessage(resultSet, exchange.getMessage());
+                callback.done(true);
+                return true;
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (batchBuffer != null && CassandraBatchBuffer.isBatchable(statement)) {
+            batchBuffer.add((BoundStatement) statement,
+                    (resultSet, e) -> executorService.execute(() -> done(exchange, callback, resultSet, e)));
+        } else {
+            getEndpoint().getSessionHolder().getSession().executeAsync(statement)
+                    .thenCompose(this::fetch)
+                    .whenCompleteAsync((resultSet, e) -> done(exchange, callback, resultSet, e), executorService);
+        }
+        return false;
+    }
 
-        ResultSet resultSet = execute(exchange.getIn());
-        getEndpoint().fillMessage(resultSet, exchange.getMessage());
+    private CompletionStage<ResultSet> fetch(AsyncResultSet resultSet) {
+        // only fetch the pages needed by the conversion strategy
+        ResultSetConversionStrategy strategy = getEndpoint().getResultSetConversionStrategy();
+        return FetchedResultSet.fetch(resultSet, strategy != null ? strategy.getMaxRows() : -1);
+    }
+
+    private void done(Exchange exchange, AsyncCallback callback, ResultSet resultSet, Throwable cause) {
+        try {
+            if (cause != null) {
+                exchange.setException(cause instanceof CompletionException && cause.getCause() != null
+                        ? cause.getCause() : cause);
+            } else {
+                getEndpoint().fillMessage(resultSet, exchange.getMessage());
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+        } finally {
+            callback.done(false);
+        }
     }
 
 }
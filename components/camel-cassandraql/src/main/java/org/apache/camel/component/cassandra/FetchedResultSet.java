@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * A {@link ResultSet} holding the fetched pages of an {@link AsyncResultSet}, so the result of an asynchronous
+ * execution can be converted by a {@link ResultSetConversionStrategy} without blocking for the next pages.
+ * <p/>
+ * Only the pages needed for the rows read by the strategy are fetched, and iterating the result set does not fetch more
+ * pages.
+ */
+final class FetchedResultSet implements ResultSet {
+
+    private final ColumnDefinitions columnDefinitions;
+    private final boolean wasApplied;
+    private boolean fullyFetched;
+    private final List<Row> rows = new ArrayList<>();
+    private final List<ExecutionInfo> executionInfos = new ArrayList<>();
+
+    private FetchedResultSet(AsyncResultSet first) {
+        this.columnDefinitions = first.getColumnDefinitions();
+        this.wasApplied = first.wasApplied();
+    }
+
+    /**
+     * Fetches the next pages of the result asynchronously, until the given number of rows has been fetched.
+     *
+     * @param first   the first page of the result
+     * @param maxRows the number of rows needed, or <tt>-1</tt> to fetch all the pages
+     */
+    static CompletionStage<ResultSet> fetch(AsyncResultSet first, int maxRows) {
+        return fetch(first, maxRows, new FetchedResultSet(first));
+    }
+
+    private static CompletionStage<ResultSet> fetch(AsyncResultSet page, int maxRows, FetchedResultSet answer) {
+        page.currentPage().forEach(answer.rows::add);
+        answer.executionInfos.add(page.getExecutionInfo());
+        answer.fullyFetched = !page.hasMorePages();
+        if (!answer.fullyFetched && (maxRows < 0 || answer.rows.size() < maxRows)) {
+            return page.fetchNextPage().thenCompose(next -> fetch(next, maxRows, answer));
+        }
+        return CompletableFuture.completedFuture(answer);
+    }
+
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+        return columnDefinitions;
+    }
+
+    @Override
+    public List<ExecutionInfo> getExecutionInfos() {
+        return executionInfos;
+    }
+
+    @Override
+    public boolean isFullyFetched() {
+        return fullyFetched;
+    }
+
+    @Override
+    public int getAvailableWithoutFetching() {
+        return rows.size();
+    }
+
+    @Override
+    public boolean wasApplied() {
+        return wasApplied;
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        // the rows can be iterated more than once, as the result of a batch is shared by the exchanges of the batch
+        return rows.iterator();
+    }
+}
@@ -36,8 +36,16 @@ public final class ResultSetConversionStrategies {
         return resultSet.all();
     };
 
-    private static final ResultSetConversionStrategy ONE = (ResultSet resultSet) -> {
-        return resultSet.one();
+    private static final ResultSetConversionStrategy ONE = new ResultSetConversionStrategy() {
+        @Override
+        public Object getBody(ResultSet resultSet) {
+            return resultSet.one();
+        }
+
+        @Override
+        public int getMaxRows() {
+            return 1;
+        }
     };
 
     private ResultSetConversionStrategies() {
@@ -75,6 +83,11 @@ public final class ResultSetConversionStrategies {
             }
             return rows;
         }
+
+        @Override
+        public int getMaxRows() {
+            return rowMax;
+        }
     }
 
     /**
@@ -23,4 +23,12 @@ import com.datastax.oss.driver.api.core.cql.ResultSet;
  */
 public interface ResultSetConversionStrategy {
     Object getBody(ResultSet resultSet);
+
+    /**
+     * The maximum number of rows read from the result set by {@link #getBody(ResultSet)}, or <tt>-1</tt> if all the
+     * rows can be read. When executing asynchronously, only the pages needed for this number of rows are fetched.
+     */
+    default int getMaxRows() {
+        return -1;
+    }
 }
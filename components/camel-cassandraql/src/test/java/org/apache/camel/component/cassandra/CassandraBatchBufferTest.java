@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link CassandraBatchBuffer}
+ */
+public class CassandraBatchBufferTest {
+
+    private final List<Statement<?>> executed = new CopyOnWriteArrayList<>();
+    private final Map<BoundStatement, Throwable> failures = new ConcurrentHashMap<>();
+    private final Map<BoundStatement, ResultSet> results = new ConcurrentHashMap<>();
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testGroupByPartition() throws Exception {
+        CassandraBatchBuffer buffer = buffer(s -> false);
+        BoundStatement first = statement("readings", "sensor1", DataTypes.TEXT);
+        BoundStatement second = statement("readings", "sensor2", DataTypes.TEXT);
+        BoundStatement third = statement("readings", "sensor1", DataTypes.TEXT);
+        add(buffer, first);
+        add(buffer, second);
+        add(buffer, third);
+        buffer.flush().get(5, TimeUnit.SECONDS);
+
+        // the statements of the same partition are executed as one unlogged batch
+        assertEquals(2, executed.size());
+        BatchStatement batch = (BatchStatement) executed.get(0);
+        assertEquals(DefaultBatchType.UNLOGGED, batch.getBatchType());
+        assertEquals(2, batch.size());
+        assertSame(second, executed.get(1));
+
+        assertEquals(3, results.size());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void testSplitByTable() throws Exception {
+        CassandraBatchBuffer buffer = buffer(s -> false);
+        BoundStatement first = statement("readings", "sensor1", DataTypes.TEXT);
+        BoundStatement second = statement("alerts", "sensor1", DataTypes.TEXT);
+        add(buffer, first);
+        add(buffer, second);
+        buffer.flush().get(5, TimeUnit.SECONDS);
+
+        // the same partition key in another table is another partition
+        assertEquals(2, executed.size());
+        assertSame(first, executed.get(0));
+        assertSame(second, executed.get(1));
+    }
+
+    @Test
+    public void testCounterBatch() throws Exception {
+        CassandraBatchBuffer buffer = buffer(s -> true);
+        add(buffer, statement("hits", "page1", DataTypes.COUNTER));
+        add(buffer, statement("hits", "page1", DataTypes.COUNTER));
+        buffer.flush().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, executed.size());
+        assertEquals(DefaultBatchType.COUNTER, ((BatchStatement) executed.get(0)).getBatchType());
+    }
+
+    @Test
+    public void testExecuteWhenFull() {
+        CassandraBatchBuffer buffer = new CassandraBatchBuffer(2, 60000, scheduler, this::execute, s -> false);
+        add(buffer, statement("readings", "sensor1", DataTypes.TEXT));
+        assertTrue(executed.isEmpty());
+
+        add(buffer, statement("readings", "sensor1", DataTypes.TEXT));
+        assertEquals(1, executed.size());
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void testFailureFanOut() throws Exception {
+        IllegalStateException cause = new IllegalStateException("Forced");
+        CassandraBatchBuffer buffer = new CassandraBatchBuffer(10, 60000, scheduler, statement -> {
+            executed.add(statement);
+            return statement instanceof BatchStatement
+                    ? CompletableFuture.failedFuture(cause) : CompletableFuture.completedFuture(resultSet);
+        }, s -> false);
+        BoundStatement first = statement("readings", "sensor1", DataTypes.TEXT);
+        BoundStatement second = statement("readings", "sensor1", DataTypes.TEXT);
+        BoundStatement other = statement("readings", "sensor2", DataTypes.TEXT);
+        add(buffer, first);
+        add(buffer, second);
+        add(buffer, other);
+        buffer.flush().handle((r, e) -> null).get(5, TimeUnit.SECONDS);
+
+        // every statement of the failed batch gets the failure, the statements of other partitions are done
+        assertSame(cause, failures.get(first));
+        assertSame(cause, failures.get(second));
+        assertNull(failures.get(other));
+        assertSame(resultSet, results.get(other));
+    }
+
+    @Test
+    public void testIsCounterUpdateByVariable() {
+        assertTrue(CassandraBatchBuffer.isCounterUpdate(null, statement("hits", "page1", DataTypes.COUNTER)));
+        assertFalse(CassandraBatchBuffer.isCounterUpdate(null, statement("readings", "sensor1", DataTypes.TEXT)));
+    }
+
+    @Test
+    public void testIsCounterUpdateByTable() {
+        // such as UPDATE hits SET count = count + 1 WHERE page = ?
+        assertTrue(CassandraBatchBuffer.isCounterUpdate(metadata("hits", DataTypes.COUNTER),
+                statement("hits", "page1", DataTypes.TEXT)));
+        assertFalse(CassandraBatchBuffer.isCounterUpdate(metadata("readings", DataTypes.DOUBLE),
+                statement("readings", "sensor1", DataTypes.TEXT)));
+    }
+
+    private CassandraBatchBuffer buffer(Predicate<BoundStatement> counterUpdate) {
+        return new CassandraBatchBuffer(10, 60000, scheduler, this::execute, counterUpdate);
+    }
+
+    private CompletionStage<ResultSet> execute(Statement<?> statement) {
+        executed.add(statement);
+        return CompletableFuture.completedFuture(resultSet);
+    }
+
+    private void add(CassandraBatchBuffer buffer, BoundStatement statement) {
+        buffer.add(statement, (rs, e) -> {
+            if (e != null) {
+                failures.put(statement, e);
+            } else {
+                results.put(statement, rs);
+            }
+        });
+    }
+
+    private static BoundStatement statement(String table, String partitionKey, DataType type) {
+        ColumnDefinition variable = mock(ColumnDefinition.class);
+        when(variable.getKeyspace()).thenReturn(CqlIdentifier.fromCql("ks"));
+        when(variable.getTable()).thenReturn(CqlIdentifier.fromCql(table));
+        when(variable.getType()).thenReturn(type);
+        ColumnDefinitions variables = mock(ColumnDefinitions.class);
+        when(variables.size()).thenReturn(1);
+        when(variables.get(0)).thenReturn(variable);
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        when(prepared.getVariableDefinitions()).thenReturn(variables);
+        BoundStatement statement = mock(BoundStatement.class);
+        when(statement.getPreparedStatement()).thenReturn(prepared);
+        when(statement.getRoutingKey()).thenReturn(ByteBuffer.wrap(partitionKey.getBytes(StandardCharsets.UTF_8)));
+        return statement;
+    }
+
+    private static Metadata metadata(String table, DataType columnType) {
+        ColumnMetadata column = mock(ColumnMetadata.class);
+        when(column.getType()).thenReturn(columnType);
+        TableMetadata tableMetadata = mock(TableMetadata.class);
+        when(tableMetadata.getColumns()).thenReturn(Map.of(CqlIdentifier.fromCql("value"), column));
+        KeyspaceMetadata keyspace = mock(KeyspaceMetadata.class);
+        when(keyspace.getTable(CqlIdentifier.fromCql(table))).thenReturn(Optional.of(tableMetadata));
+        Metadata metadata = mock(Metadata.class);
+        when(metadata.getKeyspace(CqlIdentifier.fromCql("ks"))).thenReturn(Optional.of(keyspace));
+        return metadata;
+    }
+}
@@ -47,6 +47,7 @@ public class ResultSetConversionStrategiesTest {
         Object body = strategy.getBody(resultSet);
         assertTrue(body instanceof List);
         assertSame(rows, body);
+        assertEquals(-1, strategy.getMaxRows());
     }
 
     @Test
@@ -59,6 +60,7 @@ public class ResultSetConversionStrategiesTest {
         Object body = strategy.getBody(resultSet);
         assertTrue(body instanceof Row);
         assertSame(row, body);
+        assertEquals(1, strategy.getMaxRows());
     }
 
     @Test
@@ -71,5 +73,6 @@ public class ResultSetConversionStrategiesTest {
         Object body = strategy.getBody(resultSet);
         assertTrue(body instanceof List);
         assertEquals(10, ((List<?>) body).size());
+        assertEquals(10, strategy.getMaxRows());
     }
 }
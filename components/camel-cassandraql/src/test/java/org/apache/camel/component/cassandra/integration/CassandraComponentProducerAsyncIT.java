@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra.integration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.apache.camel.Produce;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.cassandra.CassandraConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class CassandraComponentProducerAsyncIT extends BaseCassandra {
+
+    static final String CQL = "insert into camel_user(login, first_name, last_name) values (?, ?, ?)";
+    static final String NO_PARAMETER_CQL = "select login, first_name, last_name from camel_user";
+
+    @Produce("direct:inputAsync")
+    ProducerTemplate asyncProducerTemplate;
+
+    @Produce("direct:inputUnloggedBatch")
+    ProducerTemplate unloggedBatchProducerTemplate;
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:inputAsync")
+                        .toF("cql://%s/%s?asyncExecution=true", getUrl(), KEYSPACE_NAME);
+                from("direct:inputUnloggedBatch")
+                        .toF("cql://%s/%s?cql=%s&unloggedBatchSize=5&unloggedBatchLingerTime=500", getUrl(), KEYSPACE_NAME,
+                                CQL);
+            }
+        };
+    }
+
+    @Test
+    public void testRequestAsync() {
+        Object response = asyncProducerTemplate.requestBodyAndHeader(null, CassandraConstants.CQL_QUERY, NO_PARAMETER_CQL);
+
+        assertNotNull(response);
+        assertFalse(assertIsInstanceOf(List.class, response).isEmpty());
+    }
+
+    @Test
+    public void testRequestUnloggedBatch() {
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(unloggedBatchProducerTemplate
+                    .asyncRequestBody("direct:inputUnloggedBatch", Arrays.asList("batch" + i, "First " + i, "Last " + i)));
+        }
+        replies.forEach(CompletableFuture::join);
+
+        for (int i = 0; i < 10; i++) {
+            ResultSet resultSet = getSession()
+                    .execute("select login, first_name, last_name from camel_user where login = ?", "batch" + i);
+            Row row = resultSet.one();
+            assertNotNull(row);
+            assertEquals("First " + i, row.getString("first_name"));
+            assertEquals("Last " + i, row.getString("last_name"));
+        }
+    }
+}
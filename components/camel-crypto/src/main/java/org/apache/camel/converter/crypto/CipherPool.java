@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.crypto;
+
+import java.security.Key;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.camel.support.LRUCacheFactory;
+
+import static javax.crypto.Cipher.ENCRYPT_MODE;
+
+/**
+ * A pool of initialized {@link Cipher} and {@link Mac} instances per algorithm, provider and key, so the provider
+ * lookup and the key setup are not repeated for every exchange.
+ * <p/>
+ * A cipher is reset to its initialized state once an operation is finished, so a pooled cipher is used as is when it
+ * was initialized with the same initialization vector, and initialized again otherwise. Ciphers of authenticated modes
+ * such as GCM refuse to encrypt twice with the same key and initialization vector, so they are not pooled for
+ * encryption. The keys supplied in headers are pooled as well, so the number of keys is bounded.
+ */
+final class CipherPool {
+
+    private static final int MAX_KEYS = 100;
+
+    private final int size = Runtime.getRuntime().availableProcessors() * 2;
+    private final Map<PoolKey, BlockingQueue<Cipher>> ciphers
+            = Collections.synchronizedMap(LRUCacheFactory.newLRUCache(MAX_KEYS));
+    private final Map<PoolKey, BlockingQueue<Mac>> macs = Collections.synchronizedMap(LRUCacheFactory.newLRUCache(MAX_KEYS));
+
+    Cipher acquireCipher(String algorithm, String provider, int mode, Key key, AlgorithmParameterSpec spec)
+            throws Exception {
+        BlockingQueue<Cipher> queue = ciphers.get(new PoolKey(algorithm, provider, mode, key));
+        Cipher cipher = queue != null ? queue.poll() : null;
+        if (cipher != null && isInitializedWith(cipher, spec)) {
+            return cipher;
+        }
+        if (cipher == null) {
+            cipher = provider == null ? Cipher.getInstance(algorithm) : Cipher.getInstance(algorithm, provider);
+        }
+        if (spec != null) {
+            cipher.init(mode, key, spec);
+        } else {
+            cipher.init(mode, key);
+        }
+        return cipher;
+    }
+
+    /**
+     * Returns a cipher to the pool, once the operation has been finished successfully.
+     */
+    void releaseCipher(String algorithm, String provider, int mode, Key key, Cipher cipher) {
+        if (mode == ENCRYPT_MODE && isAuthenticated(algorithm)) {
+            return;
+        }
+        ciphers.computeIfAbsent(new PoolKey(algorithm, provider, mode, key), k -> new ArrayBlockingQueue<>(size))
+                .offer(cipher);
+    }
+
+    Mac acquireMac(String algorithm, String provider, Key key) throws Exception {
+        BlockingQueue<Mac> queue = macs.get(new PoolKey(algorithm, provider, 0, key));
+        Mac mac = queue != null ? queue.poll() : null;
+        if (mac == null) {
+            mac = provider == null ? Mac.getInstance(algorithm) : Mac.getInstance(algorithm, provider);
+            mac.init(new SecretKeySpec(key.getEncoded(), algorithm));
+        }
+        return mac;
+    }
+
+    void releaseMac(String algorithm, String provider, Key key, Mac mac) {
+        mac.reset();
+        macs.computeIfAbsent(new PoolKey(algorithm, provider, 0, key), k -> new ArrayBlockingQueue<>(size))
+                .offer(mac);
+    }
+
+    void clear() {
+        ciphers.clear();
+        macs.clear();
+    }
+
+    private static boolean isInitializedWith(Cipher cipher, AlgorithmParameterSpec spec) {
+        byte[] iv = cipher.getIV();
+        if (spec == null) {
+            // a cipher initialized without parameters may have generated a random initialization vector
+            return iv == null;
+        }
+        return spec instanceof IvParameterSpec && Arrays.equals(iv, ((IvParameterSpec) spec).getIV());
+    }
+
+    private static boolean isAuthenticated(String algorithm) {
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        return name.contains("/GCM/") || name.startsWith("CHACHA20");
+    }
+
+    private static final class PoolKey {
+        private final String algorithm;
+        private final String provider;
+        private final int mode;
+        private final Key key;
+
+        PoolKey(String algorithm, String provider, int mode, Key key) {
+            this.algorithm = algorithm;
+            this.provider = provider;
+            this.mode = mode;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PoolKey)) {
+                return false;
+            }
+            PoolKey that = (PoolKey) o;
+            return mode == that.mode && Objects.equals(algorithm, that.algorithm)
+                    && Objects.equals(provider, that.provider) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(algorithm, provider, mode, key);
+        }
+    }
+}
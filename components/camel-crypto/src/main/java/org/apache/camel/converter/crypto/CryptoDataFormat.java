@@ -23,10 +23,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.security.Key;
 import java.security.spec.AlgorithmParameterSpec;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
 
 import javax.crypto.Cipher;
 import javax.crypto.CipherInputStream;
 import javax.crypto.CipherOutputStream;
+import javax.crypto.Mac;
 import javax.crypto.spec.IvParameterSpec;
 
 import org.apache.camel.Exchange;
@@ -64,6 +69,9 @@ import static javax.crypto.Cipher.ENCRYPT_MODE;
  * <ul>
  * <li>http://en.wikipedia.org/wiki/HMAC</li>
  * </ul>
+ * <p/>
+ * The payload is encrypted and decrypted as a stream, and the initialized {@link Cipher} and {@link Mac} instances are
+ * pooled per algorithm and key, so they are reused across exchanges.
  */
 @Dataformat("crypto")
 public class CryptoDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
@@ -81,6 +89,8 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
     private String macAlgorithm = "HmacSHA1";
     private boolean shouldAppendHMAC = true;
     private AlgorithmParameterSpec parameterSpec;
+    private boolean shouldCompress;
+    private final CipherPool pool = new CipherPool();
 
     public CryptoDataFormat() {
     }
@@ -101,24 +111,14 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
     }
 
     private Cipher initializeCipher(int mode, Key key, byte[] iv) throws Exception {
-        Cipher cipher = cryptoProvider == null ? Cipher.getInstance(algorithm) : Cipher.getInstance(algorithm, cryptoProvider);
-
         if (key == null) {
             throw new IllegalStateException(
                     "A valid encryption key is required. Either configure the CryptoDataFormat "
                                             + "with a key or provide one in a header using the header name 'CamelCryptoKey'");
         }
 
-        if (mode == ENCRYPT_MODE || mode == DECRYPT_MODE) {
-            if (iv != null) {
-                cipher.init(mode, key, new IvParameterSpec(iv));
-            } else if (parameterSpec != null) {
-                cipher.init(mode, key, parameterSpec);
-            } else {
-                cipher.init(mode, key);
-            }
-        }
-        return cipher;
+        AlgorithmParameterSpec spec = iv != null ? new IvParameterSpec(iv) : parameterSpec;
+        return pool.acquireCipher(algorithm, cryptoProvider, mode, key, spec);
     }
 
     @Override
@@ -132,20 +132,36 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
             inlineInitVector(outputStream, iv);
             byte[] buffer = new byte[bufferSize];
             int read;
+            Cipher cipher = initializeCipher(ENCRYPT_MODE, key, iv);
             CipherOutputStream cipherStream = null;
+            Deflater deflater = null;
             try {
-                cipherStream = new CipherOutputStream(outputStream, initializeCipher(ENCRYPT_MODE, key, iv));
+                cipherStream = new CipherOutputStream(outputStream, cipher);
+                // the mac is calculated on the data given to the cipher, which is compressed first when enabled
+                OutputStream plaintextOutput = hmac.encryptStream(cipherStream);
+                if (shouldCompress) {
+                    deflater = new Deflater();
+                    plaintextOutput = new DeflaterOutputStream(plaintextOutput, deflater, bufferSize);
+                }
                 while ((read = plaintextStream.read(buffer)) > 0) {
-                    cipherStream.write(buffer, 0, read);
-                    cipherStream.flush();
-                    hmac.encryptUpdate(buffer, read);
+                    plaintextOutput.write(buffer, 0, read);
+                }
+                if (shouldCompress) {
+                    ((DeflaterOutputStream) plaintextOutput).finish();
                 }
                 // only write if there is data to write (IBM JDK throws exception if no data)
                 byte[] mac = hmac.getCalculatedMac();
                 if (mac != null && mac.length > 0) {
                     cipherStream.write(mac);
                 }
+                // finishes the encryption, so the cipher and the mac can be reused
+                cipherStream.close();
+                releaseCipher(ENCRYPT_MODE, key, cipher);
+                releaseMessageAuthenticationCode(key, hmac);
             } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
                 IOHelper.close(cipherStream, "cipher", LOG);
                 IOHelper.close(plaintextStream, "plaintext", LOG);
             }
@@ -157,21 +173,38 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
         if (encryptedStream != null) {
             byte[] iv = getInlinedInitializationVector(exchange, encryptedStream);
             Key key = getKey(exchange);
+            Cipher cipher = initializeCipher(DECRYPT_MODE, key, iv);
             CipherInputStream cipherStream = null;
             OutputStreamBuilder osb = null;
+            Inflater inflater = null;
             try {
-                cipherStream = new CipherInputStream(encryptedStream, initializeCipher(DECRYPT_MODE, key, iv));
+                cipherStream = new CipherInputStream(encryptedStream, cipher);
+                // the plaintext is written to a stream cache, which spools to disk according to the stream caching strategy
                 osb = OutputStreamBuilder.withExchange(exchange);
+                OutputStream plaintextOutput = osb;
+                if (shouldCompress) {
+                    inflater = new Inflater();
+                    plaintextOutput = new InflaterOutputStream(osb, inflater, bufferSize);
+                }
                 HMACAccumulator hmac = getMessageAuthenticationCode(key);
                 byte[] buffer = new byte[bufferSize];
-                hmac.attachStream(osb);
+                hmac.attachStream(plaintextOutput);
                 int read;
                 while ((read = cipherStream.read(buffer)) >= 0) {
                     hmac.decryptUpdate(buffer, read);
                 }
+                // the end of the stream has been reached, so the decryption is finished and the cipher can be reused
+                releaseCipher(DECRYPT_MODE, key, cipher);
                 hmac.validate();
+                releaseMessageAuthenticationCode(key, hmac);
+                if (shouldCompress) {
+                    ((InflaterOutputStream) plaintextOutput).finish();
+                }
                 return osb.build();
             } finally {
+                if (inflater != null) {
+                    inflater.end();
+                }
                 IOHelper.close(cipherStream, "cipher", LOG);
                 IOHelper.close(osb, "plaintext", LOG);
             }
@@ -186,7 +219,7 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        pool.clear();
     }
 
     private void inlineInitVector(OutputStream outputStream, byte[] iv) throws IOException {
@@ -224,11 +257,11 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
 
     private HMACAccumulator getMessageAuthenticationCode(Key key) throws Exception {
         // return an actual Hmac Calculator or a 'Null' noop version.
-        return shouldAppendHMAC ? new HMACAccumulator(key, macAlgorithm, cryptoProvider, bufferSize) : new HMACAccumulator() {
+        return shouldAppendHMAC ? new HMACAccumulator(acquireMac(key), bufferSize) : new HMACAccumulator() {
             byte[] empty = new byte[0];
 
             @Override
-            public void encryptUpdate(byte[] buffer, int read) {
+            public void encryptUpdate(byte[] buffer, int offset, int read) {
             }
 
             @Override
@@ -247,6 +280,21 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
         };
     }
 
+    private Mac acquireMac(Key key) throws Exception {
+        return pool.acquireMac(macAlgorithm, cryptoProvider, key);
+    }
+
+    private void releaseCipher(int mode, Key key, Cipher cipher) {
+        pool.releaseCipher(algorithm, cryptoProvider, mode, key, cipher);
+    }
+
+    private void releaseMessageAuthenticationCode(Key key, HMACAccumulator hmac) {
+        Mac mac = hmac.getMac();
+        if (mac != null) {
+            pool.releaseMac(macAlgorithm, cryptoProvider, key, mac);
+        }
+    }
+
     private byte[] getInitializationVector(Exchange exchange) {
         byte[] iv = exchange.getIn().getHeader(INIT_VECTOR, byte[].class);
         if (iv == null) {
@@ -319,6 +367,19 @@ public class CryptoDataFormat extends ServiceSupport implements DataFormat, Data
         this.shouldAppendHMAC = shouldAppendHMAC;
     }
 
+    /**
+     * Whether the payload should be compressed with deflate before it is encrypted, and decompressed after it is
+     * decrypted. Encrypted data cannot be compressed, so the compression is done in the same pass as the encryption.
+     * Both ends must use the same setting.
+     */
+    public void setShouldCompress(boolean shouldCompress) {
+        this.shouldCompress = shouldCompress;
+    }
+
+    public boolean isShouldCompress() {
+        return shouldCompress;
+    }
+
     /**
      * Set the key that should be used to encrypt or decrypt incoming encrypted exchanges.
      */
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.converter.crypto;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.security.Key;
@@ -57,11 +58,44 @@ public class HMACAccumulator {
         unprocessed = new CircularBuffer(buffersize + maclength);
     }
 
+    HMACAccumulator(Mac hmac, int buffersize) {
+        this.hmac = hmac;
+        maclength = hmac.getMacLength();
+        unprocessed = new CircularBuffer(buffersize + maclength);
+    }
+
     /**
      * Update buffer with MAC. Typically used in the encryption phase where no hmac is appended to the buffer.
      */
     public void encryptUpdate(byte[] buffer, int read) {
-        hmac.update(buffer, 0, read);
+        encryptUpdate(buffer, 0, read);
+    }
+
+    /**
+     * Update buffer with MAC from the given offset. Typically used in the encryption phase where no hmac is appended to
+     * the buffer.
+     */
+    public void encryptUpdate(byte[] buffer, int offset, int read) {
+        hmac.update(buffer, offset, read);
+    }
+
+    /**
+     * Returns a stream which writes to the given stream and updates the MAC with the data written, as in the encryption
+     * phase.
+     */
+    public OutputStream encryptStream(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                encryptUpdate(b, off, len);
+            }
+        };
     }
 
     /**
@@ -108,6 +142,10 @@ public class HMACAccumulator {
         }
     }
 
+    Mac getMac() {
+        return hmac;
+    }
+
     public int getMaclength() {
         return maclength;
     }
@@ -129,13 +167,10 @@ public class HMACAccumulator {
 
         public void write(byte[] data, int pos, int len) {
             if (available >= len) {
-                if (write + len > buffer.length) {
-                    int overlap = write + len % buffer.length;
-                    System.arraycopy(data, 0, buffer, write, len - overlap);
-                    System.arraycopy(data, len - overlap, buffer, 0, overlap);
-                } else {
-                    System.arraycopy(data, pos, buffer, write, len);
-                }
+                // the data wraps around the end of the buffer
+                int first = Math.min(len, buffer.length - write);
+                System.arraycopy(data, pos, buffer, write, first);
+                System.arraycopy(data, pos + first, buffer, 0, len - first);
                 write = (write + len) % buffer.length;
                 available -= len;
             }
@@ -144,14 +179,10 @@ public class HMACAccumulator {
         public int read(byte[] dest, int position, int len) {
             if (dest.length - position >= len) {
                 if (buffer.length - available >= len) {
-                    int overlap = (read + len) % buffer.length;
-                    if (read > write) {
-                        int x = buffer.length - read;
-                        System.arraycopy(buffer, read, dest, position, buffer.length - read);
-                        System.arraycopy(buffer, 0, dest, position + x, overlap);
-                    } else {
-                        System.arraycopy(buffer, read, dest, position, len);
-                    }
+                    // the data wraps around the end of the buffer
+                    int first = Math.min(len, buffer.length - read);
+                    System.arraycopy(buffer, read, dest, position, first);
+                    System.arraycopy(buffer, 0, dest, position + first, len - first);
                     read = (read + len) % buffer.length;
                     available += len;
                     return len;
@@ -75,6 +75,28 @@ public class CryptoDataFormatTest extends CamelTestSupport {
         doRoundTripEncryptionTests("direct:hmac-sha-256-algorithm");
     }
 
+    @Test
+    void testSymmetricWithCompression() throws Exception {
+        doRoundTripEncryptionTests("direct:compress");
+    }
+
+    @Test
+    void testCompressionOfLargePayload() throws Exception {
+        MockEndpoint encrypted = setupExpectations(context, 5, "mock:encrypted");
+        MockEndpoint unencrypted = setupExpectations(context, 5, "mock:unencrypted");
+
+        String payload = "Hi Alice, Be careful Eve is listening, signed Bob. ".repeat(10000);
+        for (int i = 0; i < 5; i++) {
+            // the pooled cipher and mac are reused for the next messages
+            template.sendBody("direct:compress", payload);
+        }
+
+        assertMocksSatisfied(encrypted, unencrypted, payload);
+        for (Exchange e : encrypted.getReceivedExchanges()) {
+            assertTrue(e.getIn().getMandatoryBody(byte[].class).length < payload.length() / 10);
+        }
+    }
+
     @Test
     void testKeySuppliedAsHeader() throws Exception {
         KeyGenerator generator = KeyGenerator.getInstance("DES");
@@ -376,6 +398,23 @@ public class CryptoDataFormatTest extends CamelTestSupport {
                         .unmarshal(cryptoFormat)
                         .to("mock:unencrypted");
             }
+        }, new RouteBuilder() {
+            public void configure() throws Exception {
+                // START SNIPPET: compress
+                KeyGenerator generator = KeyGenerator.getInstance("DES");
+                byte[] initializationVector = new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07 };
+
+                CryptoDataFormat cryptoFormat = new CryptoDataFormat("DES/CBC/PKCS5Padding", generator.generateKey());
+                cryptoFormat.setInitializationVector(initializationVector);
+                cryptoFormat.setShouldCompress(true);
+
+                from("direct:compress")
+                        .marshal(cryptoFormat)
+                        .to("mock:encrypted")
+                        .unmarshal(cryptoFormat)
+                        .to("mock:unencrypted");
+                // END SNIPPET: compress
+            }
         } };
     }
 
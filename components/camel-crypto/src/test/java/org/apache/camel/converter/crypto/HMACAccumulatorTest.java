@@ -16,9 +16,11 @@
  */
 package org.apache.camel.converter.crypto;
 
+import java.io.ByteArrayOutputStream;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.util.Random;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.Mac;
@@ -161,6 +163,43 @@ public class HMACAccumulatorTest {
         assertEquals(0, buffer.read(data, 0, data.length));
     }
 
+    @Test
+    void testBufferWrapsAround() {
+        CircularBuffer buffer = new CircularBuffer(7);
+        byte[] data = new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04 };
+        byte[] read = new byte[5];
+        for (int x = 0; x < 10; x++) {
+            buffer.write(data, 0, data.length);
+            assertEquals(data.length, buffer.read(read, 0, read.length));
+            assertEquals(HexUtils.byteArrayToHexString(data), HexUtils.byteArrayToHexString(read));
+        }
+    }
+
+    @Test
+    void testDecryptionOfLargePayload() throws Exception {
+        int buffersize = 4096;
+        byte[] large = new byte[buffersize * 10 + 123];
+        new Random(1).nextBytes(large);
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(key);
+        byte[] data = new byte[large.length + 20];
+        System.arraycopy(large, 0, data, 0, large.length);
+        System.arraycopy(mac.doFinal(large), 0, data, large.length, 20);
+
+        HMACAccumulator builder = new HMACAccumulator(key, "HmacSHA1", null, buffersize);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.attachStream(out);
+        byte[] buffer = new byte[buffersize];
+        // reads of varying sizes, as from a cipher stream
+        for (int pos = 0, read = 1; pos < data.length; pos += read, read = (read * 7 + 13) % buffersize + 1) {
+            read = Math.min(read, data.length - pos);
+            System.arraycopy(data, pos, buffer, 0, read);
+            builder.decryptUpdate(buffer, read);
+        }
+        builder.validate();
+        assertEquals(HexUtils.byteArrayToHexString(large), HexUtils.byteArrayToHexString(out.toByteArray()));
+    }
+
     private byte[] initializeBuffer(int buffersize) {
         byte[] buffer = new byte[buffersize];
         System.arraycopy(payload, 0, buffer, 0, payload.length);
@@ -19,12 +19,16 @@ package org.apache.camel.dataformat.csv;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.QuoteMode;
 
@@ -36,7 +40,8 @@ import org.apache.commons.csv.QuoteMode;
  * Autogeneration can be disabled. In this case, only the fields defined in csvConfig are written on the output.
  */
 @Dataformat("csv")
-public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+    private CamelContext camelContext;
     // CSV format options
     private CSVFormat format = CSVFormat.DEFAULT;
     private boolean commentMarkerDisabled;
@@ -66,6 +71,11 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
     private boolean lazyLoad;
     private boolean useMaps;
     private boolean useOrderedMaps;
+    private boolean parallelProcessing;
+    private int parallelChunkSize = 1000;
+    private int parallelMaxChunks = Runtime.getRuntime().availableProcessors() * 2;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
     private CsvRecordConverter<?> recordConverter;
 
     private CsvMarshallerFactory marshallerFactory = CsvMarshallerFactory.DEFAULT;
@@ -102,9 +112,33 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         unmarshaller = CsvUnmarshaller.create(getActiveFormat(), this);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (parallelProcessing && executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "CsvUnmarshal");
+            shutdownExecutorService = true;
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
     }
 
     CSVFormat getActiveFormat() {
@@ -698,6 +732,91 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Indicates whether or not the unmarshalling should parse chunks of records concurrently.
+     *
+     * @return {@code true} for parallel processing, {@code false} otherwise
+     */
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Sets whether or not the unmarshalling should parse chunks of records concurrently. The records are still returned
+     * in their order, as one big list or lazily when {@link #setLazyLoad(boolean)} is enabled. The CSV is parsed
+     * sequentially when a comment marker or a multi-character delimiter is used.
+     *
+     * @param  parallelProcessing {@code true} for parallel processing, {@code false} otherwise
+     * @return                    Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+        return this;
+    }
+
+    /**
+     * Gets the number of records in each chunk parsed concurrently.
+     *
+     * @return Number of records in each chunk
+     */
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * Sets the number of records in each chunk parsed concurrently. The default value is 1000.
+     *
+     * @param  parallelChunkSize Number of records in each chunk
+     * @return                   Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelChunkSize(int parallelChunkSize) {
+        this.parallelChunkSize = parallelChunkSize;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of chunks read ahead of the records returned.
+     *
+     * @return Maximum number of chunks read ahead
+     */
+    public int getParallelMaxChunks() {
+        return parallelMaxChunks;
+    }
+
+    /**
+     * Sets the maximum number of chunks read ahead of the records returned, which bounds the memory used when
+     * unmarshalling lazily. The default value is twice the number of processors.
+     *
+     * @param  parallelMaxChunks Maximum number of chunks read ahead
+     * @return                   Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setParallelMaxChunks(int parallelMaxChunks) {
+        this.parallelMaxChunks = parallelMaxChunks;
+        return this;
+    }
+
+    /**
+     * Gets the executor service used to parse the chunks. If not set then a thread pool is created from the default
+     * thread pool profile of the Camel context when the data format is started.
+     *
+     * @return Executor service used to parse the chunks
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service used to parse the chunks. If not set then a thread pool is created from the default
+     * thread pool profile of the Camel context when the data format is started, and shut down when it is stopped.
+     *
+     * @param  executorService Executor service used to parse the chunks
+     * @return                 Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     /**
      * Indicates whether or not the unmarshalling should produce maps instead of lists.
      *
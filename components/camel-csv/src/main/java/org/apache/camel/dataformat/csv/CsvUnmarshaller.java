@@ -21,9 +21,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.support.ExchangeHelper;
@@ -60,6 +70,9 @@ abstract class CsvUnmarshaller {
             format = format.withHeader();
         }
 
+        if (dataFormat.isParallelProcessing() && isChunkable(format)) {
+            return new ParallelCsvUnmarshaller(format, dataFormat);
+        }
         if (dataFormat.isLazyLoad()) {
             return new StreamCsvUnmarshaller(format, dataFormat);
         }
@@ -76,6 +89,14 @@ abstract class CsvUnmarshaller {
      */
     public abstract Object unmarshal(Exchange exchange, InputStream inputStream) throws IOException;
 
+    /**
+     * Indicates whether the records can be found without parsing the CSV. The comment lines may contain unbalanced
+     * quotes and the records are split on a single char delimiter, so both are parsed sequentially.
+     */
+    private static boolean isChunkable(CSVFormat format) {
+        return format.getCommentMarker() == null && format.getDelimiterString().length() == 1;
+    }
+
     private static CsvRecordConverter<?> extractConverter(CsvDataFormat dataFormat) {
         if (dataFormat.getRecordConverter() != null) {
             return dataFormat.getRecordConverter();
@@ -186,5 +207,297 @@ abstract class CsvUnmarshaller {
             }
         }
     }
+
+    /**
+     * This class splits the CSV into chunks of records and parses the chunks concurrently. The records are returned in
+     * the order of the CSV, either lazily or as one big list.
+     */
+    private static final class ParallelCsvUnmarshaller extends CsvUnmarshaller {
+
+        private ParallelCsvUnmarshaller(CSVFormat format, CsvDataFormat dataFormat) {
+            super(format, dataFormat);
+        }
+
+        @Override
+        public Object unmarshal(Exchange exchange, InputStream inputStream) throws IOException {
+            Reader reader = null;
+            try {
+                reader = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
+                CsvChunkReader chunks = new CsvChunkReader(reader, format, dataFormat.getParallelChunkSize());
+                CSVFormat chunkFormat = format;
+                if (format.getHeader() != null) {
+                    // the header is read before the chunks are parsed, so each chunk only holds records
+                    List<String> headerNames = readHeader(chunks);
+                    if (dataFormat.isCaptureHeaderRecord()) {
+                        exchange.getMessage().setHeader(CsvConstants.HEADER_RECORD, headerNames);
+                    }
+                    chunkFormat = format.withHeader(headerNames.toArray(new String[0])).withSkipHeaderRecord(false);
+                }
+                Executor executor = dataFormat.getExecutorService();
+                if (executor == null) {
+                    throw new IllegalStateException("The CSV data format must be started to unmarshal in parallel");
+                }
+                ParallelCsvIterator<?> answer = new ParallelCsvIterator<>(
+                        reader, chunks, chunkFormat, converter, executor, dataFormat.getParallelMaxChunks());
+                if (dataFormat.isLazyLoad()) {
+                    // add to UoW, so we can close the iterator, so it can release any resources
+                    exchange.getExchangeExtension().addOnCompletion(new CsvUnmarshalOnCompletion(answer));
+                    return answer;
+                }
+                try {
+                    List<Object> list = new ArrayList<>();
+                    answer.forEachRemaining(list::add);
+                    return list;
+                } finally {
+                    answer.close();
+                }
+            } catch (Exception e) {
+                IOHelper.close(reader);
+                throw e;
+            }
+        }
+
+        private List<String> readHeader(CsvChunkReader chunks) throws IOException {
+            if (format.getHeader().length > 0) {
+                if (format.getSkipHeaderRecord()) {
+                    chunks.nextRecord();
+                }
+                return Arrays.asList(format.getHeader());
+            }
+            String record = chunks.nextRecord();
+            if (record == null) {
+                return Collections.emptyList();
+            }
+            try (CSVParser parser = new CSVParser(new StringReader(record), format)) {
+                return parser.getHeaderNames();
+            }
+        }
+    }
+
+    /**
+     * This class reads the CSV by chunks of whole records. It tracks the quoted values like the parser does, so a line
+     * break within a quoted value does not end the record. The records may end with CR, LF or CRLF.
+     */
+    private static final class CsvChunkReader {
+        private static final int FIELD_START = 0;
+        private static final int UNQUOTED = 1;
+        private static final int QUOTED = 2;
+        private static final int QUOTE_IN_QUOTED = 3;
+
+        private final Reader reader;
+        private final int delimiter;
+        private final int quote;
+        private final int escape;
+        private final boolean ignoreSurroundingSpaces;
+        private final boolean ignoreEmptyLines;
+        private final int chunkSize;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+
+        private CsvChunkReader(Reader reader, CSVFormat format, int chunkSize) {
+            this.reader = reader;
+            this.delimiter = format.getDelimiterString().charAt(0);
+            this.quote = format.getQuoteCharacter() != null ? format.getQuoteCharacter() : -1;
+            this.escape = format.getEscapeCharacter() != null ? format.getEscapeCharacter() : -1;
+            this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+            this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+            this.chunkSize = Math.max(1, chunkSize);
+        }
+
+        /**
+         * Reads the next record, skipping the empty lines when they are ignored.
+         *
+         * @return the next record or {@code null} at the end of the CSV
+         */
+        String nextRecord() throws IOException {
+            StringBuilder answer = new StringBuilder();
+            while (readRecord(answer)) {
+                if (!ignoreEmptyLines || !answer.toString().trim().isEmpty()) {
+                    return answer.toString();
+                }
+                answer.setLength(0);
+            }
+            return null;
+        }
+
+        /**
+         * Reads the next chunk of records.
+         *
+         * @return the next chunk or {@code null} at the end of the CSV
+         */
+        String nextChunk() throws IOException {
+            StringBuilder answer = new StringBuilder();
+            int count = 0;
+            while (count < chunkSize && readRecord(answer)) {
+                count++;
+            }
+            return count > 0 ? answer.toString() : null;
+        }
+
+        private boolean readRecord(StringBuilder answer) throws IOException {
+            int start = answer.length();
+            int state = FIELD_START;
+            boolean escaped = false;
+            boolean carriageReturn = false;
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return answer.length() > start;
+                    }
+                }
+                int index = position;
+                while (index < limit) {
+                    char ch = buffer[index++];
+                    if (carriageReturn) {
+                        // the record ends with the carriage return, or with the line feed following it
+                        int end = ch == '\n' ? index : index - 1;
+                        answer.append(buffer, position, end - position);
+                        position = end;
+                        return true;
+                    }
+                    if (escaped) {
+                        escaped = false;
+                        continue;
+                    }
+                    if (state == QUOTE_IN_QUOTED) {
+                        // two quotes within a quoted value are a quote, otherwise the quoted value has ended
+                        state = ch == quote ? QUOTED : UNQUOTED;
+                        if (state == QUOTED) {
+                            continue;
+                        }
+                    }
+                    if (state == QUOTED) {
+                        if (ch == escape) {
+                            escaped = true;
+                        } else if (ch == quote) {
+                            state = QUOTE_IN_QUOTED;
+                        }
+                    } else if (ch == '\n') {
+                        answer.append(buffer, position, index - position);
+                        position = index;
+                        return true;
+                    } else if (ch == '\r') {
+                        carriageReturn = true;
+                    } else if (ch == delimiter) {
+                        state = FIELD_START;
+                    } else if (ch == escape) {
+                        escaped = true;
+                        state = UNQUOTED;
+                    } else if (state == FIELD_START) {
+                        if (ch == quote) {
+                            state = QUOTED;
+                        } else if (!ignoreSurroundingSpaces || !Character.isWhitespace(ch)) {
+                            state = UNQUOTED;
+                        }
+                    }
+                }
+                answer.append(buffer, position, index - position);
+                position = index;
+            }
+        }
+    }
+
+    /**
+     * This class returns the records of the chunks in order, while the next chunks are parsed.
+     *
+     * @param <T> Converted type
+     */
+    private static final class ParallelCsvIterator<T> implements Iterator<T>, Closeable {
+        private final Reader reader;
+        private final CsvChunkReader chunks;
+        private final CSVFormat format;
+        private final CsvRecordConverter<T> converter;
+        private final Executor executor;
+        private final int maxChunks;
+        private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+        private Iterator<T> current = Collections.emptyIterator();
+        private boolean done;
+
+        private ParallelCsvIterator(Reader reader, CsvChunkReader chunks, CSVFormat format,
+                                    CsvRecordConverter<T> converter, Executor executor, int maxChunks) {
+            this.reader = reader;
+            this.chunks = chunks;
+            this.format = format;
+            this.converter = converter;
+            this.executor = executor;
+            this.maxChunks = Math.max(1, maxChunks);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                submitChunks();
+                CompletableFuture<List<T>> next = pending.poll();
+                if (next == null) {
+                    IOHelper.close(reader);
+                    return false;
+                }
+                current = join(next).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            done = true;
+            pending.forEach(future -> future.cancel(false));
+            pending.clear();
+            reader.close();
+        }
+
+        private void submitChunks() {
+            // the chunks are only read ahead up to the limit, so the memory used does not depend on the CSV size
+            while (!done && pending.size() < maxChunks) {
+                String chunk;
+                try {
+                    chunk = chunks.nextChunk();
+                } catch (IOException e) {
+                    IOHelper.close(this);
+                    throw new UncheckedIOException(e);
+                }
+                if (chunk == null) {
+                    done = true;
+                } else {
+                    pending.add(CompletableFuture.supplyAsync(() -> parse(chunk), executor));
+                }
+            }
+        }
+
+        private List<T> parse(String chunk) {
+            try (CSVParser parser = new CSVParser(new StringReader(chunk), format)) {
+                List<T> answer = new ArrayList<>();
+                for (CSVRecord record : parser) {
+                    answer.add(converter.convertRecord(record));
+                }
+                return answer;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<T> join(CompletableFuture<List<T>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                IOHelper.close(this);
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
     //endregion
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests the unmarshalling of chunks of records in parallel
+ */
+public class CsvUnmarshalParallelTest extends CamelTestSupport {
+    private static final int RECORD_COUNT = 1000;
+
+    @EndpointInject("mock:output")
+    MockEndpoint output;
+
+    @EndpointInject("mock:line")
+    MockEndpoint line;
+
+    private final CsvDataFormat csv = new CsvDataFormat().setParallelProcessing(true).setParallelChunkSize(7);
+
+    private static String createCsv(String header) {
+        StringBuilder csv = new StringBuilder(header);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            // the quoted values with line breaks and quotes must not be split between two chunks
+            csv.append(i).append(",\"value\r\n").append(i).append("\",\"say \"\"").append(i).append("\"\"\"\n");
+        }
+        return csv.toString();
+    }
+
+    @Test
+    void shouldKeepRecordsInOrder() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:default", createCsv(""));
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(RECORD_COUNT, body.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertEquals(Arrays.asList(String.valueOf(i), "value\r\n" + i, "say \"" + i + "\""), body.get(i));
+        }
+    }
+
+    @Test
+    void shouldUseHeaderOfFirstRecord() throws Exception {
+        output.expectedMessageCount(1);
+        output.expectedHeaderReceived(CsvConstants.HEADER_RECORD, Arrays.asList("id", "value", "text"));
+
+        template.sendBody("direct:maps", createCsv("id,value,text\n"));
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(RECORD_COUNT, body.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Map<?, ?> map = assertIsInstanceOf(Map.class, body.get(i));
+            assertEquals(String.valueOf(i), map.get("id"));
+            assertEquals("value\r\n" + i, map.get("value"));
+        }
+    }
+
+    @Test
+    void shouldLazyLoadRecordsInOrder() throws Exception {
+        line.expectedMessageCount(RECORD_COUNT);
+
+        template.sendBody("direct:lazy", createCsv(""));
+        line.assertIsSatisfied();
+
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            List<?> body = assertIsInstanceOf(List.class, line.getExchanges().get(i).getIn().getBody());
+            assertEquals(String.valueOf(i), body.get(0));
+        }
+    }
+
+    @Test
+    void shouldShutdownThreadPoolWhenStopped() throws Exception {
+        ExecutorService executorService = csv.getExecutorService();
+        assertNotNull(executorService);
+
+        context.stop();
+
+        assertTrue(executorService.isShutdown());
+        assertNull(csv.getExecutorService());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                // small chunks, so the records are parsed by several tasks
+                from("direct:default")
+                        .unmarshal(csv)
+                        .to("mock:output");
+
+                from("direct:maps")
+                        .unmarshal(new CsvDataFormat().setParallelProcessing(true).setParallelChunkSize(7)
+                                .setUseMaps(true).setCaptureHeaderRecord(true))
+                        .to("mock:output");
+
+                from("direct:lazy")
+                        .unmarshal(new CsvDataFormat().setParallelProcessing(true).setParallelChunkSize(7)
+                                .setParallelMaxChunks(2).setLazyLoad(true))
+                        .split(body())
+                        .to("mock:line");
+            }
+        };
+    }
+}
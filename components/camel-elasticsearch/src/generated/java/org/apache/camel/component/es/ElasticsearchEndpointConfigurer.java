@@ -21,6 +21,12 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         ElasticsearchEndpoint target = (ElasticsearchEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "autobulklingertime":
+        case "autoBulkLingerTime": target.getConfiguration().setAutoBulkLingerTime(property(camelContext, long.class, value)); return true;
+        case "autobulkmaxbytes":
+        case "autoBulkMaxBytes": target.getConfiguration().setAutoBulkMaxBytes(property(camelContext, long.class, value)); return true;
+        case "autobulksize":
+        case "autoBulkSize": target.getConfiguration().setAutoBulkSize(property(camelContext, int.class, value)); return true;
         case "certificatepath":
         case "certificatePath": target.getConfiguration().setCertificatePath(property(camelContext, java.lang.String.class, value)); return true;
         case "connectiontimeout":
@@ -62,6 +68,12 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "autobulklingertime":
+        case "autoBulkLingerTime": return long.class;
+        case "autobulkmaxbytes":
+        case "autoBulkMaxBytes": return long.class;
+        case "autobulksize":
+        case "autoBulkSize": return int.class;
         case "certificatepath":
         case "certificatePath": return java.lang.String.class;
         case "connectiontimeout":
@@ -104,6 +116,12 @@ public class ElasticsearchEndpointConfigurer extends PropertyConfigurerSupport i
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         ElasticsearchEndpoint target = (ElasticsearchEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "autobulklingertime":
+        case "autoBulkLingerTime": return target.getConfiguration().getAutoBulkLingerTime();
+        case "autobulkmaxbytes":
+        case "autoBulkMaxBytes": return target.getConfiguration().getAutoBulkMaxBytes();
+        case "autobulksize":
+        case "autoBulkSize": return target.getConfiguration().getAutoBulkSize();
         case "certificatepath":
         case "certificatePath": return target.getConfiguration().getCertificatePath();
         case "connectiontimeout":
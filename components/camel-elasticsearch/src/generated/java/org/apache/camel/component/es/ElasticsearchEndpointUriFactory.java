@@ -21,7 +21,10 @@ public class ElasticsearchEndpointUriFactory extends org.apache.camel.support.co
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(20);
+        Set<String> props = new HashSet<>(23);
+        props.add("autoBulkLingerTime");
+        props.add("autoBulkMaxBytes");
+        props.add("autoBulkSize");
         props.add("certificatePath");
         props.add("clusterName");
         props.add("connectionTimeout");
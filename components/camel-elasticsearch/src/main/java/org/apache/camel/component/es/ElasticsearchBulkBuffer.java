@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.es;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import org.apache.camel.support.BatchBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers the bulk operations of the exchanges sent to the producer, and sends them together as one bulk request.
+ * <p/>
+ * The operations are sent when either the maximum number of operations or bytes is reached, from the thread that added
+ * the last operation, or when the linger time has elapsed, from a background thread. The items of the bulk response are
+ * then handed back to the operation they belong to, in the order the operations were added.
+ */
+class ElasticsearchBulkBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkBuffer.class);
+
+    private final Function<BulkRequest, CompletableFuture<BulkResponse>> sender;
+    private final BatchBuffer<Entry> buffer;
+
+    ElasticsearchBulkBuffer(int maxOperations, long maxBytes, long lingerTime, ScheduledExecutorService scheduler,
+                            Function<BulkRequest, CompletableFuture<BulkResponse>> sender) {
+        this.sender = sender;
+        this.buffer = new BatchBuffer<>(maxOperations, maxBytes, lingerTime, scheduler, this::send);
+    }
+
+    /**
+     * Adds an operation to the next bulk request.
+     *
+     * @param operation the operation
+     * @param size      the estimated size of the operation in bytes
+     * @param onDone    invoked with either the item of the bulk response for the operation, or the failure of the whole
+     *                  bulk request
+     */
+    void add(BulkOperation operation, long size, BiConsumer<BulkResponseItem, Throwable> onDone) {
+        buffer.add(new Entry(operation, onDone), size);
+    }
+
+    /**
+     * Sends the operations that are buffered, such as when the producer is stopping.
+     *
+     * @return a future which is complete when the operations have been sent
+     */
+    CompletableFuture<?> flush() {
+        return buffer.flush();
+    }
+
+    private CompletableFuture<?> send(List<Entry> batch) {
+        LOG.debug("Sending bulk request with {} operations", batch.size());
+        List<BulkOperation> operations = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            operations.add(entry.operation);
+        }
+
+        CompletableFuture<BulkResponse> future;
+        try {
+            future = sender.apply(new BulkRequest.Builder().operations(operations).build());
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((response, e) -> {
+            if (e != null) {
+                for (Entry entry : batch) {
+                    entry.onDone.accept(null, e);
+                }
+                return;
+            }
+            // the items of the response are in the same order as the operations of the request
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < batch.size(); i++) {
+                Entry entry = batch.get(i);
+                if (i < items.size()) {
+                    entry.onDone.accept(items.get(i), null);
+                } else {
+                    entry.onDone.accept(null,
+                            new IllegalStateException("No item in the bulk response for operation at index " + i));
+                }
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        private final BulkOperation operation;
+        private final BiConsumer<BulkResponseItem, Throwable> onDone;
+
+        private Entry(BulkOperation operation, BiConsumer<BulkResponseItem, Throwable> onDone) {
+            this.operation = operation;
+            this.onDone = onDone;
+        }
+    }
+}
@@ -72,6 +72,12 @@ public class ElasticsearchConfiguration {
     private int sniffAfterFailureDelay = ElasticsearchConstants.DEFAULT_AFTER_FAILURE_DELAY;
     @UriParam(label = "advanced", defaultValue = "ObjectNode")
     private Class<?> documentClass = ObjectNode.class;
+    @UriParam(label = "advanced")
+    private int autoBulkSize;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_AUTO_BULK_MAX_BYTES)
+    private long autoBulkMaxBytes = ElasticsearchConstants.DEFAULT_AUTO_BULK_MAX_BYTES;
+    @UriParam(label = "advanced", defaultValue = "" + ElasticsearchConstants.DEFAULT_AUTO_BULK_LINGER_TIME)
+    private long autoBulkLingerTime = ElasticsearchConstants.DEFAULT_AUTO_BULK_LINGER_TIME;
 
     /**
      * Starting index of the response.
@@ -314,4 +320,42 @@ public class ElasticsearchConfiguration {
     public void setDocumentClass(Class<?> documentClass) {
         this.documentClass = documentClass;
     }
+
+    /**
+     * The maximum number of Index, Update and Delete operations to combine into one bulk request. When set to a value
+     * greater than 1, the operations of the exchanges sent to the endpoint are buffered and sent together as a bulk
+     * request, and each exchange is completed with the result of its own operation. The operations are sent when
+     * either this number of operations, or the auto bulk max bytes, is reached, or when the auto bulk linger time has
+     * elapsed.
+     */
+    public int getAutoBulkSize() {
+        return autoBulkSize;
+    }
+
+    public void setAutoBulkSize(int autoBulkSize) {
+        this.autoBulkSize = autoBulkSize;
+    }
+
+    /**
+     * The maximum size in bytes of the documents to combine into one bulk request, when auto bulk is enabled.
+     */
+    public long getAutoBulkMaxBytes() {
+        return autoBulkMaxBytes;
+    }
+
+    public void setAutoBulkMaxBytes(long autoBulkMaxBytes) {
+        this.autoBulkMaxBytes = autoBulkMaxBytes;
+    }
+
+    /**
+     * The time in ms to wait for more operations before sending the operations that are buffered, when auto bulk is
+     * enabled.
+     */
+    public long getAutoBulkLingerTime() {
+        return autoBulkLingerTime;
+    }
+
+    public void setAutoBulkLingerTime(long autoBulkLingerTime) {
+        this.autoBulkLingerTime = autoBulkLingerTime;
+    }
 }
@@ -52,4 +52,6 @@ public interface ElasticsearchConstants {
     int DEFAULT_SNIFFER_INTERVAL = 60000 * 5; // Meaning how often it should search for elasticsearch nodes
     int DEFAULT_AFTER_FAILURE_DELAY = 60000; // Meaning when should the sniff execution scheduled after a failure
     int DEFAULT_SCROLL_KEEP_ALIVE_MS = 60000; // Meaning how many milliseconds elasticsearch will keep the search context
+    long DEFAULT_AUTO_BULK_MAX_BYTES = 5 * 1024 * 1024; // Meaning how many bytes of documents are sent in one bulk request
+    long DEFAULT_AUTO_BULK_LINGER_TIME = 100; // Meaning how many milliseconds to wait for more operations to send in bulk
 }
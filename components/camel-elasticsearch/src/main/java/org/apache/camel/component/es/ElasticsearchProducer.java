@@ -16,11 +16,18 @@
  */
 package org.apache.camel.component.es;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
@@ -41,18 +48,27 @@ import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.UpdateRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
+import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
+import co.elastic.clients.elasticsearch.core.bulk.UpdateOperation;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexResponse;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
+import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.endpoints.BooleanResponse;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import co.elastic.clients.util.ObjectBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ResourceHelper;
@@ -83,6 +99,9 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
     private final Object mutex = new Object();
     private volatile RestClient client;
     private Sniffer sniffer;
+    private ObjectMapper bulkMapper;
+    private ScheduledExecutorService bulkScheduler;
+    private ElasticsearchBulkBuffer bulkBuffer;
 
     public ElasticsearchProducer(ElasticsearchEndpoint endpoint, ElasticsearchConfiguration configuration) {
         super(endpoint);
@@ -190,11 +209,19 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
 
             switch (operation) {
                 case Index: {
-                    processIndexAsync(ctx);
+                    if (isAutoBulk(operation, message)) {
+                        processAutoBulk(ctx, operation);
+                    } else {
+                        processIndexAsync(ctx);
+                    }
                     break;
                 }
                 case Update: {
-                    processUpdateAsync(ctx, documentClass);
+                    if (isAutoBulk(operation, message)) {
+                        processAutoBulk(ctx, operation);
+                    } else {
+                        processUpdateAsync(ctx, documentClass);
+                    }
                     break;
                 }
                 case GetById: {
@@ -206,7 +233,11 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
                     break;
                 }
                 case Delete: {
-                    processDeleteAsync(ctx);
+                    if (isAutoBulk(operation, message)) {
+                        processAutoBulk(ctx, operation);
+                    } else {
+                        processDeleteAsync(ctx);
+                    }
                     break;
                 }
                 case DeleteIndex: {
@@ -401,6 +432,102 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
                 ctx);
     }
 
+    /**
+     * Whether the operation of the exchange can be buffered and sent as part of a bulk request, which is the case for
+     * documents (or ids for delete) that are not already given as a request builder.
+     */
+    private boolean isAutoBulk(ElasticsearchOperation operation, Message message) {
+        if (bulkBuffer == null) {
+            return false;
+        }
+        Object body = message.getBody();
+        if (operation == ElasticsearchOperation.Delete) {
+            return body instanceof String;
+        }
+        return body != null && !(body instanceof ObjectBuilder);
+    }
+
+    /**
+     * Adds the operation of the exchange to the next bulk request, and completes the exchange with the item of the bulk
+     * response for the operation.
+     */
+    private void processAutoBulk(ActionContext ctx, ElasticsearchOperation operation)
+            throws IOException, InvalidPayloadException {
+        Message message = ctx.getMessage();
+        String indexName = message.getHeader(ElasticsearchConstants.PARAM_INDEX_NAME, String.class);
+        String indexId = message.getHeader(ElasticsearchConstants.PARAM_INDEX_ID, String.class);
+
+        BulkOperation bulkOperation;
+        long size;
+        if (operation == ElasticsearchOperation.Delete) {
+            String id = message.getBody(String.class);
+            bulkOperation = new BulkOperation.Builder()
+                    .delete(new DeleteOperation.Builder().index(indexName).id(id).build())
+                    .build();
+            size = id.length();
+        } else {
+            Object body = message.getBody();
+            byte[] document = toDocument(message);
+            if (operation == ElasticsearchOperation.Index) {
+                JsonData data = JsonData.from(new ByteArrayInputStream(document));
+                bulkOperation = new BulkOperation.Builder()
+                        .index(new IndexOperation.Builder<Object>().index(indexName).id(indexId).document(data).build())
+                        .build();
+            } else {
+                UpdateAction.Builder<Object, Object> action = new UpdateAction.Builder<>();
+                if (body instanceof Map || isJson(body)) {
+                    // the same as a single update, where the json is the update request such as {"doc": {...}}
+                    action.withJson(new ByteArrayInputStream(document));
+                } else {
+                    action.doc(JsonData.from(new ByteArrayInputStream(document)));
+                }
+                bulkOperation = new BulkOperation.Builder()
+                        .update(new UpdateOperation.Builder<Object, Object>().index(indexName).id(indexId)
+                                .action(action.build())
+                                .build())
+                        .build();
+            }
+            size = document.length;
+        }
+
+        final Exchange exchange = ctx.getExchange();
+        bulkBuffer.add(bulkOperation, size, (BulkResponseItem item, Throwable e) -> {
+            try {
+                if (e != null) {
+                    exchange.setException(new CamelExchangeException(
+                            "An error occurred while executing the action", exchange, e));
+                } else if (item.error() != null) {
+                    exchange.setException(new CamelExchangeException(
+                            "An error occurred while executing the action: " + item.error().reason(), exchange));
+                } else {
+                    exchange.getIn().setBody(item.id());
+                }
+                cleanup(ctx);
+            } finally {
+                ctx.getCallback().done(false);
+            }
+        });
+    }
+
+    private static boolean isJson(Object body) {
+        return body instanceof byte[] || body instanceof String || body instanceof InputStream || body instanceof Reader;
+    }
+
+    /**
+     * The document of the message as JSON, so its size is known when it is added to a bulk request.
+     */
+    private byte[] toDocument(Message message) throws IOException, InvalidPayloadException {
+        Object body = message.getBody();
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        } else if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        } else if (body instanceof InputStream || body instanceof Reader) {
+            return message.getMandatoryBody(byte[].class);
+        }
+        return bulkMapper.writeValueAsBytes(body);
+    }
+
     /**
      * Add actions to perform once the given future is complete.
      *
@@ -468,6 +595,22 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
         if (!configuration.isDisconnect()) {
             startClient();
         }
+        if (configuration.getAutoBulkSize() > 1) {
+            if (configuration.isDisconnect()) {
+                throw new IllegalArgumentException("The option autoBulkSize cannot be used together with disconnect");
+            }
+            if (client != null && bulkBuffer == null) {
+                bulkMapper = new ObjectMapper();
+                bulkMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+                ElasticsearchAsyncClient bulkClient
+                        = new ElasticsearchAsyncClient(new RestClientTransport(client, new JacksonJsonpMapper(bulkMapper)));
+                bulkScheduler = getEndpoint().getCamelContext().getExecutorServiceManager()
+                        .newSingleThreadScheduledExecutor(this, "ElasticsearchAutoBulk");
+                bulkBuffer = new ElasticsearchBulkBuffer(
+                        configuration.getAutoBulkSize(), configuration.getAutoBulkMaxBytes(),
+                        configuration.getAutoBulkLingerTime(), bulkScheduler, bulkClient::bulk);
+            }
+        }
     }
 
     private void startClient() {
@@ -515,6 +658,19 @@ class ElasticsearchProducer extends DefaultAsyncProducer {
 
     @Override
     protected void doStop() throws Exception {
+        if (bulkBuffer != null) {
+            // send the operations that are buffered so the exchanges are not left behind
+            try {
+                bulkBuffer.flush().get(configuration.getSocketTimeout(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                LOG.warn("Could not send the buffered bulk operations", e);
+            }
+            bulkBuffer = null;
+        }
+        if (bulkScheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(bulkScheduler);
+            bulkScheduler = null;
+        }
         if (client != null) {
             LOG.info("Disconnecting from ElasticSearch cluster: {}", configuration.getClusterName());
             client.close();
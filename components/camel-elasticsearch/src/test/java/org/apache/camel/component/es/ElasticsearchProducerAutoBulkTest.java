@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.es;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the auto bulk mode of the producer against a local HTTP server standing in for the bulk API of Elasticsearch.
+ */
+class ElasticsearchProducerAutoBulkTest extends CamelTestSupport {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicInteger bulkRequests = new AtomicInteger();
+    private final List<String> updates = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @Test
+    void testAutoBulk() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(index("id" + i, "{\"message\": \"Hello " + i + "\"}"));
+        }
+
+        for (int i = 0; i < replies.size(); i++) {
+            Exchange out = replies.get(i).get();
+            assertNull(out.getException());
+            assertEquals("id" + i, out.getMessage().getBody(String.class));
+        }
+        assertEquals(2, bulkRequests.get());
+    }
+
+    @Test
+    void testAutoBulkLingerTime() throws Exception {
+        // the bulk request is not full so it is sent when the linger time has elapsed
+        Exchange out = index("id1", "{\"message\": \"Hello\"}").get();
+
+        assertNull(out.getException());
+        assertEquals("id1", out.getMessage().getBody(String.class));
+        assertEquals(1, bulkRequests.get());
+    }
+
+    @Test
+    void testAutoBulkItemFailure() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String message = i == 2 ? "fail" : "Hello " + i;
+            replies.add(index("id" + i, "{\"message\": \"" + message + "\"}"));
+        }
+
+        for (int i = 0; i < replies.size(); i++) {
+            Exchange out = replies.get(i).get();
+            if (i == 2) {
+                assertNotNull(out.getException());
+            } else {
+                assertNull(out.getException());
+                assertEquals("id" + i, out.getMessage().getBody(String.class));
+            }
+        }
+        assertEquals(1, bulkRequests.get());
+    }
+
+    @Test
+    void testAutoBulkUpdate() throws Exception {
+        // the body is the update request, as for a single update
+        Exchange out = template.asyncSend("direct:update", exchange -> {
+            exchange.getIn().setHeader(ElasticsearchConstants.PARAM_INDEX_ID, "id1");
+            exchange.getIn().setBody(Map.of("doc", Map.of("message", "Hello")));
+        }).get();
+
+        assertNull(out.getException());
+        assertEquals("id1", out.getMessage().getBody(String.class));
+        assertEquals(1, bulkRequests.get());
+        assertEquals(1, updates.size());
+        assertEquals(mapper.readTree("{\"doc\": {\"message\": \"Hello\"}}"), mapper.readTree(updates.get(0)));
+    }
+
+    private Future<Exchange> index(String id, String document) {
+        return template.asyncSend("direct:index", exchange -> {
+            exchange.getIn().setHeader(ElasticsearchConstants.PARAM_INDEX_ID, id);
+            exchange.getIn().setBody(document);
+        });
+    }
+
+    /**
+     * Answers a bulk request with an item per operation, where a document with the message fail is rejected.
+     */
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        bulkRequests.incrementAndGet();
+
+        ObjectNode response = mapper.createObjectNode();
+        ArrayNode items = response.putArray("items");
+        boolean errors = false;
+        try (BufferedReader reader
+                = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode action = mapper.readTree(line);
+                String type = action.fieldNames().next();
+                JsonNode meta = action.get(type);
+                String document = "delete".equals(type) ? "" : reader.readLine();
+                if ("update".equals(type)) {
+                    updates.add(document);
+                }
+
+                ObjectNode item = items.addObject().putObject(type);
+                item.put("_index", meta.path("_index").asText("twitter"));
+                item.put("_id", meta.path("_id").asText());
+                if (document.contains("fail")) {
+                    errors = true;
+                    item.put("status", 400);
+                    item.putObject("error").put("type", "mapper_parsing_exception").put("reason", "failed to parse");
+                } else {
+                    item.put("status", 201);
+                    item.put("result", "created");
+                    item.put("_version", 1);
+                }
+            }
+        }
+        response.put("took", 1);
+        response.put("errors", errors);
+
+        byte[] body = mapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/_bulk", this::handleBulk);
+        server.start();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:index")
+                        .to("elasticsearch://local?hostAddresses=localhost:" + server.getAddress().getPort()
+                            + "&operation=Index&indexName=twitter&autoBulkSize=5&autoBulkLingerTime=500");
+                from("direct:update")
+                        .to("elasticsearch://local?hostAddresses=localhost:" + server.getAddress().getPort()
+                            + "&operation=Update&indexName=twitter&autoBulkSize=5&autoBulkLingerTime=500");
+            }
+        };
+    }
+}
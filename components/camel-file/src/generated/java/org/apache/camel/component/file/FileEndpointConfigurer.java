@@ -51,8 +51,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "copyAndDeleteOnRenameFail": target.setCopyAndDeleteOnRenameFail(property(camelContext, boolean.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
         case "delete": target.setDelete(property(camelContext, boolean.class, value)); return true;
+        case "directorylistingcache":
+        case "directoryListingCache": target.setDirectoryListingCache(property(camelContext, boolean.class, value)); return true;
         case "directorymustexist":
         case "directoryMustExist": target.setDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
+        case "directoryscanthreads":
+        case "directoryScanThreads": target.setDirectoryScanThreads(property(camelContext, int.class, value)); return true;
         case "donefilename":
         case "doneFileName": target.setDoneFileName(property(camelContext, java.lang.String.class, value)); return true;
         case "eagerdeletetargetfile":
@@ -227,8 +231,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "copyAndDeleteOnRenameFail": return boolean.class;
         case "delay": return long.class;
         case "delete": return boolean.class;
+        case "directorylistingcache":
+        case "directoryListingCache": return boolean.class;
         case "directorymustexist":
         case "directoryMustExist": return boolean.class;
+        case "directoryscanthreads":
+        case "directoryScanThreads": return int.class;
         case "donefilename":
         case "doneFileName": return java.lang.String.class;
         case "eagerdeletetargetfile":
@@ -404,8 +412,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "copyAndDeleteOnRenameFail": return target.isCopyAndDeleteOnRenameFail();
         case "delay": return target.getDelay();
         case "delete": return target.isDelete();
+        case "directorylistingcache":
+        case "directoryListingCache": return target.isDirectoryListingCache();
         case "directorymustexist":
         case "directoryMustExist": return target.isDirectoryMustExist();
+        case "directoryscanthreads":
+        case "directoryScanThreads": return target.getDirectoryScanThreads();
         case "donefilename":
         case "doneFileName": return target.getDoneFileName();
         case "eagerdeletetargetfile":
@@ -21,7 +21,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(96);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -39,8 +39,10 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("copyAndDeleteOnRenameFail");
         props.add("delay");
         props.add("delete");
+        props.add("directoryListingCache");
         props.add("directoryMustExist");
         props.add("directoryName");
+        props.add("directoryScanThreads");
         props.add("doneFileName");
         props.add("eagerDeleteTargetFile");
         props.add("eagerMaxMessagesPerPoll");
@@ -27,10 +27,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
 import org.apache.camel.resume.ResumeAdapter;
@@ -51,6 +56,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private ExecutorService scanExecutorService;
+    private Map<String, DirectoryListing> listingCache;
+    private Map<String, DirectoryListing> nextListingCache;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -73,87 +81,151 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     }
 
     private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+        return pollDirectory(directory, listDirectory(directory), fileList, depth);
+    }
+
+    private boolean pollDirectory(
+            File directory, DirectoryListing listing, List<GenericFile<File>> fileList, int depth) {
         depth++;
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        final File[] files = listFiles(directory);
-        if (files == null || files.length == 0) {
+        final File[] files = listing.files;
+        if (files.length == 0) {
             return true;
         }
 
-        if (getEndpoint().isPreSort()) {
-            Arrays.sort(files, Comparator.comparing(File::getAbsoluteFile));
+        // list the sub directories concurrently while the files in this directory are evaluated
+        Future<DirectoryListing>[] subDirectories = null;
+        if (scanExecutorService != null && depth < endpoint.getMaxDepth()) {
+            subDirectories = scanSubDirectories(listing);
         }
 
-        for (File file : files) {
-            // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
-                return false;
-            }
+        // a cached listing only holds the entries whose names can be matched, the other files are skipped up front
+        final int[] candidates = listing.candidates;
+        final int size = candidates != null ? candidates.length : files.length;
 
-            // trace log as Windows/Unix can have different views what the file is
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
-            }
+        try {
+            for (int i = 0; i < size; i++) {
+                int index = candidates != null ? candidates[i] : i;
+                File file = files[index];
+                boolean isDirectory = listing.directories[index];
+
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
 
-            // creates a generic file
-            GenericFile<File> gf
-                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
-
-            if (resumeStrategy != null) {
-                ResumeAdapter adapter = resumeStrategy.getAdapter();
-                LOG.trace("Checking the resume adapter: {}", adapter);
-                if (adapter instanceof FileOffsetResumeAdapter) {
-                    LOG.trace("The resume adapter is for offsets: {}", adapter);
-                    ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
-                    adapter.resume();
+                // trace log as Windows/Unix can have different views what the file is
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file,
+                            file.isAbsolute(), isDirectory, file.isFile(), file.isHidden());
                 }
 
-                if (adapter instanceof DirectoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (((DirectoryEntriesResumeAdapter) adapter).resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
+                // creates a generic file
+                GenericFile<File> gf = asGenericFile(endpointPath, file, isDirectory, getEndpoint().getCharset(),
+                        getEndpoint().isProbeContentType());
+
+                if (resumeStrategy != null) {
+                    ResumeAdapter adapter = resumeStrategy.getAdapter();
+                    LOG.trace("Checking the resume adapter: {}", adapter);
+                    if (adapter instanceof FileOffsetResumeAdapter) {
+                        LOG.trace("The resume adapter is for offsets: {}", adapter);
+                        ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
+                        adapter.resume();
                     }
-                }
-            }
 
-            if (file.isDirectory()) {
-                if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
-                    boolean canPollMore = pollDirectory(file, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
+                    if (adapter instanceof DirectoryEntriesResumeAdapter) {
+                        LOG.trace("Running the resume process for file {}", file);
+                        if (((DirectoryEntriesResumeAdapter) adapter).resume(file)) {
+                            LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                            continue;
+                        }
                     }
                 }
-            } else {
-                // Windows can report false to a file on a share so regard it
-                // always as a file (if it is not a directory)
-                if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
-                    LOG.trace("Adding valid file: {}", file);
-                    // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
+
+                if (isDirectory) {
+                    if (subDirectories != null) {
+                        // the sub directory is only scanned if it was valid
+                        if (subDirectories[index] != null) {
+                            boolean canPollMore = pollDirectory(file, awaitListing(subDirectories[index]), fileList, depth);
+                            if (!canPollMore) {
+                                return false;
+                            }
+                        }
+                    } else if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
+                        boolean canPollMore = pollDirectory(file, fileList, depth);
+                        if (!canPollMore) {
+                            return false;
+                        }
+                    }
+                } else {
+                    // Windows can report false to a file on a share so regard it
+                    // always as a file (if it is not a directory)
+                    if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
+                        LOG.trace("Adding valid file: {}", file);
+                        // matched file so add
+                        if (extendedAttributes != null) {
+                            Path path = file.toPath();
+                            Map<String, Object> allAttributes = new HashMap<>();
+                            for (String attribute : extendedAttributes) {
+                                readAttributes(file, path, allAttributes, attribute);
+                            }
+
+                            gf.setExtendedAttributes(allAttributes);
                         }
 
-                        gf.setExtendedAttributes(allAttributes);
+                        fileList.add(gf);
                     }
 
-                    fileList.add(gf);
                 }
-
+            }
+        } finally {
+            if (subDirectories != null) {
+                // cancel the listings not needed anymore if we stopped early
+                for (Future<DirectoryListing> future : subDirectories) {
+                    if (future != null) {
+                        future.cancel(false);
+                    }
+                }
             }
         }
 
         return true;
     }
 
+    @SuppressWarnings("unchecked")
+    private Future<DirectoryListing>[] scanSubDirectories(DirectoryListing listing) {
+        final File[] files = listing.files;
+        final int[] candidates = listing.candidates;
+        final int size = candidates != null ? candidates.length : files.length;
+        Future<DirectoryListing>[] answer = new Future[files.length];
+        for (int i = 0; i < size; i++) {
+            int index = candidates != null ? candidates[i] : i;
+            if (listing.directories[index]) {
+                final File file = files[index];
+                GenericFile<File> gf = asGenericFile(endpointPath, file, true, getEndpoint().getCharset(),
+                        getEndpoint().isProbeContentType());
+                if (isValidFile(gf, true, files)) {
+                    answer[index] = scanExecutorService.submit(() -> listDirectory(file));
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static DirectoryListing awaitListing(Future<DirectoryListing> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+        }
+    }
+
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
@@ -167,7 +239,65 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
-        return pollDirectory(directory, fileList, depth);
+        if (listingCache == null) {
+            return pollDirectory(directory, fileList, depth);
+        }
+
+        // only keep the listings of the directories that are still polled
+        nextListingCache = new ConcurrentHashMap<>();
+        try {
+            return pollDirectory(directory, fileList, depth);
+        } finally {
+            listingCache = nextListingCache;
+        }
+    }
+
+    private DirectoryListing listDirectory(File directory) {
+        String key = null;
+        long lastModified = 0;
+        if (listingCache != null) {
+            // the last modified timestamp must be read before listing, so any change made while listing is detected
+            // on the next poll
+            key = directory.getPath();
+            lastModified = directory.lastModified();
+            DirectoryListing cached = listingCache.get(key);
+            if (cached != null && cached.isUpToDate(lastModified)) {
+                LOG.trace("Using cached listing of unchanged directory: {}", directory);
+                nextListingCache.put(key, cached);
+                return cached;
+            }
+        }
+
+        File[] files = listFiles(directory);
+        if (files == null) {
+            files = new File[0];
+        } else if (getEndpoint().isPreSort()) {
+            Arrays.sort(files, Comparator.comparing(File::getAbsoluteFile));
+        }
+        boolean[] directories = new boolean[files.length];
+        for (int index = 0; index < files.length; index++) {
+            directories[index] = files[index].isDirectory();
+        }
+
+        // remember which entries can be matched by their name, so polls reusing the listing skip the others
+        int[] candidates = null;
+        if (key != null) {
+            candidates = new int[files.length];
+            int size = 0;
+            for (int index = 0; index < files.length; index++) {
+                if (isMatchedFileName(files[index].getName(), directories[index])) {
+                    candidates[size++] = index;
+                }
+            }
+            candidates = Arrays.copyOf(candidates, size);
+        }
+
+        DirectoryListing answer
+                = new DirectoryListing(files, directories, candidates, lastModified, System.currentTimeMillis());
+        if (key != null) {
+            nextListingCache.put(key, answer);
+        }
+        return answer;
     }
 
     private File[] listFiles(File directory) {
@@ -239,6 +369,20 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, file.isDirectory(), charset, probeContentType);
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file, which is already known to be a directory or not.
+     *
+     * @param  endpointPath     the starting directory the endpoint was configured with
+     * @param  file             the source file
+     * @param  directory        whether the file is a directory
+     * @param  probeContentType whether to probe the content type of the file or not
+     * @return                  wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(
+            String endpointPath, File file, boolean directory, String charset, boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -247,7 +391,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setDirectory(file.isDirectory());
+        answer.setDirectory(directory);
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -324,9 +468,28 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             resumeStrategy.loadCache();
         }
 
+        if (getEndpoint().isDirectoryListingCache()) {
+            listingCache = new ConcurrentHashMap<>();
+        }
+        if (getEndpoint().isRecursive() && getEndpoint().getDirectoryScanThreads() > 1 && scanExecutorService == null) {
+            scanExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "FileDirectoryScan", getEndpoint().getDirectoryScanThreads());
+        }
+
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (scanExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scanExecutorService);
+            scanExecutorService = null;
+        }
+        listingCache = null;
+    }
+
     @Override
     public ResumeStrategy getResumeStrategy() {
         return resumeStrategy;
@@ -341,4 +504,36 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     public String adapterFactoryService() {
         return "file-adapter-factory";
     }
+
+    /**
+     * The entries of a directory, and whether each entry is a directory, as listed at a point in time.
+     */
+    private static final class DirectoryListing {
+
+        // the timestamps of some file systems have a granularity of one second or more
+        private static final long TIMESTAMP_GRANULARITY = 1000;
+
+        private final File[] files;
+        private final boolean[] directories;
+        // the indexes of the entries whose names can be matched, or null to check all entries
+        private final int[] candidates;
+        private final long lastModified;
+        private final long listedAt;
+
+        private DirectoryListing(File[] files, boolean[] directories, int[] candidates, long lastModified,
+                                 long listedAt) {
+            this.files = files;
+            this.directories = directories;
+            this.candidates = candidates;
+            this.lastModified = lastModified;
+            this.listedAt = listedAt;
+        }
+
+        boolean isUpToDate(long currentLastModified) {
+            // a change made within the timestamp granularity of the listing does not change the timestamp, so only
+            // trust listings that were made after that
+            return lastModified > 0 && currentLastModified == lastModified
+                    && listedAt - lastModified > TIMESTAMP_GRANULARITY;
+        }
+    }
 }
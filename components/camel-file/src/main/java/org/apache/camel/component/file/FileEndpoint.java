@@ -75,6 +75,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private int directoryScanThreads;
+    @UriParam(label = "consumer,advanced")
+    private boolean directoryListingCache;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -360,6 +364,35 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public int getDirectoryScanThreads() {
+        return directoryScanThreads;
+    }
+
+    /**
+     * The number of threads used to list the sub directories concurrently when recursive is enabled. While the files of
+     * a directory are evaluated, its sub directories are listed in the background, which speeds up polling large
+     * directory trees on file systems with a high latency per file operation, such as network shares. The files are
+     * still evaluated one by one and in the same order. Is disabled when the value is 1 or less.
+     */
+    public void setDirectoryScanThreads(int directoryScanThreads) {
+        this.directoryScanThreads = directoryScanThreads;
+    }
+
+    public boolean isDirectoryListingCache() {
+        return directoryListingCache;
+    }
+
+    /**
+     * Whether to cache the listing of each polled directory, and reuse it on the next poll if the last modified
+     * timestamp of the directory has not changed. This avoids listing directories again where no files were added,
+     * removed or renamed since the previous poll. The entries of a cached directory that cannot be matched by their
+     * name (such as with the include and exclude options) are skipped, and the other files are still evaluated on each
+     * poll. Only enable this if the file system updates the last modified timestamp of directories reliably.
+     */
+    public void setDirectoryListingCache(boolean directoryListingCache) {
+        this.directoryListingCache = directoryListingCache;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
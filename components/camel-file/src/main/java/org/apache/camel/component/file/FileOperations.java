@@ -17,7 +17,6 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -29,7 +28,6 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -287,13 +285,11 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null) {
+                // if no charset, then we can try using file directly (optimized)
                 Object body = exchange.getIn().getBody();
                 if (body instanceof WrappedFile<?> wrapped) {
                     body = wrapped.getFile();
@@ -320,8 +316,9 @@ public class FileOperations implements GenericFileOperations<File> {
                 // a full file to file copy, as the local work copy is to be
                 // deleted afterwards anyway
                 // local work path
+                // (cannot be used when content should be appended to the target file)
                 String local = exchange.getIn().getHeader(FileConstants.FILE_LOCAL_WORK_PATH, String.class);
-                if (local != null) {
+                if (local != null && !append) {
                     File f = new File(local);
                     if (f.exists()) {
                         boolean renamed = writeFileByLocalWorkPath(f, file);
@@ -438,19 +435,41 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
         // in case we are using file locks as read-locks then we need to use
-        // file channels for copying to support this
+        // the file channel of the lock for copying to support this
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
-        if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
-                LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            if (channel != null) {
+                LOG.trace("writeFileByFile using FileChannel of read lock: {} -> {}", source, target);
+                transferFile(channel, out);
+            } else {
+                try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                    LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
+                    transferFile(in, out);
+                }
             }
-        } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+            if (append && endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        }
+    }
+
+    private static void transferFile(FileChannel in, FileChannel out) throws IOException {
+        // transferTo lets the operating system copy the data (such as with sendfile) without
+        // copying it through the heap, but it may transfer fewer bytes than requested
+        // (such as files larger than 2gb) so we must loop until all bytes are transferred
+        long size = in.size();
+        long position = 0;
+        while (position < size) {
+            long transferred = in.transferTo(position, size - position, out);
+            if (transferred <= 0) {
+                // the source file has been truncated meanwhile
+                break;
+            }
+            position += transferred;
         }
     }
 
@@ -528,13 +547,12 @@ public class FileOperations implements GenericFileOperations<File> {
      * Creates and prepares the output file channel. Will position itself in correct position if the file is writable
      * eg. it should append or override any existing content.
      */
-    private SeekableByteChannel prepareOutputFileChannel(File target) throws IOException {
+    private FileChannel prepareOutputFileChannel(File target) throws IOException {
         if (endpoint.getFileExist() == GenericFileExist.Append) {
-            SeekableByteChannel out
-                    = Files.newByteChannel(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             return out.position(out.size());
         }
-        return Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+        return FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.CREATE);
     }
 }
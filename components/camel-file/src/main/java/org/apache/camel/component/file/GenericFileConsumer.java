@@ -372,6 +372,20 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      *                  started to be processed, for some reason (not found, or aborted etc)
      */
     protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, operations, endpoint.isSynchronous());
+    }
+
+    /**
+     * Processes the exchange using the given operations to retrieve and commit the file
+     *
+     * @param  exchange       the exchange
+     * @param  fileOperations the operations to use for this file
+     * @param  synchronous    whether to process the exchange synchronously
+     * @return                <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                        started to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchange(
+            final Exchange exchange, final GenericFileOperations<T> fileOperations, boolean synchronous) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         LOG.trace("Processing file: {}", file);
 
@@ -384,7 +398,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         Exception beginCause = null;
         boolean begin = false;
         try {
-            begin = processStrategy.begin(operations, endpoint, exchange, file);
+            begin = processStrategy.begin(fileOperations, endpoint, exchange, file);
         } catch (Exception e) {
             beginCause = e;
         }
@@ -396,7 +410,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             LOG.debug("{} cannot begin processing file: {}", endpoint, file);
             try {
                 // abort
-                processStrategy.abort(operations, endpoint, exchange, file);
+                processStrategy.abort(fileOperations, endpoint, exchange, file);
             } catch (Exception e) {
                 abortCause = e;
             } finally {
@@ -437,7 +451,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 boolean retrieved;
                 Exception cause = null;
                 try {
-                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                    retrieved = fileOperations.retrieveFile(name, exchange, target.getFileLength());
                 } catch (Exception e) {
                     retrieved = false;
                     cause = e;
@@ -475,11 +489,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // strategies
             // (for instance to move the file after we have processed it)
             exchange.getExchangeExtension().addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+                    new GenericFileOnCompletion<>(endpoint, fileOperations, processStrategy, target, absoluteFileName));
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
+            if (synchronous) {
                 // process synchronously
                 getProcessor().process(exchange);
             } else {
@@ -748,6 +762,51 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    /**
+     * Checks the endpoint options that only depend on the name of the file, such as the include and exclude patterns.
+     * <p/>
+     * This is a cheaper pre-check of {@link #isMatched(GenericFile, boolean, Object[])}: a file rejected here is never
+     * matched, but a file accepted here must still be validated.
+     *
+     * @param  name        the file name only
+     * @param  isDirectory whether the file is a directory or a file
+     * @return             <tt>false</tt> if the file can never be matched, <tt>true</tt> otherwise
+     */
+    protected boolean isMatchedFileName(String name, boolean isDirectory) {
+        if (name.startsWith(".") || name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX)) {
+            return false;
+        }
+        if (isDirectory) {
+            return true;
+        }
+
+        if (excludePattern != null && excludePattern.matcher(name).matches()) {
+            return false;
+        }
+        String lowerName = name.toLowerCase();
+        if (excludeExt != null) {
+            for (String exclude : excludeExt) {
+                if (lowerName.endsWith("." + exclude)) {
+                    return false;
+                }
+            }
+        }
+        if (includePattern != null && !includePattern.matcher(name).matches()) {
+            return false;
+        }
+        if (includeExt != null) {
+            boolean any = false;
+            for (String include : includeExt) {
+                any |= lowerName.endsWith("." + include);
+            }
+            if (!any) {
+                return false;
+            }
+        }
+
+        return endpoint.getDoneFileName() == null || !endpoint.isDoneFile(name);
+    }
+
     /**
      * Strategy to perform file matching based on endpoint configuration in terms of done file name.
      *
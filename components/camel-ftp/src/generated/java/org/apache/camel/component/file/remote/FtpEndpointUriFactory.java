@@ -21,7 +21,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(113);
+        Set<String> props = new HashSet<>(114);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -37,6 +37,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("bufferSize");
         props.add("charset");
         props.add("chmod");
+        props.add("concurrentSessions");
         props.add("connectTimeout");
         props.add("delay");
         props.add("delete");
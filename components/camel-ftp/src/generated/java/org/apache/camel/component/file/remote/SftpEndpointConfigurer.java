@@ -50,6 +50,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmodDirectory": target.getConfiguration().setChmodDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "ciphers": target.getConfiguration().setCiphers(property(camelContext, java.lang.String.class, value)); return true;
         case "compression": target.getConfiguration().setCompression(property(camelContext, int.class, value)); return true;
+        case "concurrentsessions":
+        case "concurrentSessions": target.getConfiguration().setConcurrentSessions(property(camelContext, int.class, value)); return true;
         case "connecttimeout":
         case "connectTimeout": target.getConfiguration().setConnectTimeout(property(camelContext, int.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
@@ -280,6 +282,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmodDirectory": return java.lang.String.class;
         case "ciphers": return java.lang.String.class;
         case "compression": return int.class;
+        case "concurrentsessions":
+        case "concurrentSessions": return int.class;
         case "connecttimeout":
         case "connectTimeout": return int.class;
         case "delay": return long.class;
@@ -511,6 +515,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmodDirectory": return target.getConfiguration().getChmodDirectory();
         case "ciphers": return target.getConfiguration().getCiphers();
         case "compression": return target.getConfiguration().getCompression();
+        case "concurrentsessions":
+        case "concurrentSessions": return target.getConfiguration().getConcurrentSessions();
         case "connecttimeout":
         case "connectTimeout": return target.getConfiguration().getConnectTimeout();
         case "delay": return target.getDelay();
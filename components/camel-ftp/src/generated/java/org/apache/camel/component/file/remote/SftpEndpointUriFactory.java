@@ -21,7 +21,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(128);
+        Set<String> props = new HashSet<>(129);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -39,6 +39,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("chmodDirectory");
         props.add("ciphers");
         props.add("compression");
+        props.add("concurrentSessions");
         props.add("connectTimeout");
         props.add("delay");
         props.add("delete");
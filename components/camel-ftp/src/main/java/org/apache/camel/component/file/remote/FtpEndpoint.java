@@ -107,6 +107,9 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
 
     @Override
     protected RemoteFileConsumer<FTPFile> buildConsumer(Processor processor) {
+        if (ftpClient != null && getConfiguration().getConcurrentSessions() > 1) {
+            throw new IllegalArgumentException("The option concurrentSessions cannot be used with a custom ftpClient");
+        }
         try {
             return new FtpConsumer(
                     this, processor, createRemoteFileOperations(),
@@ -33,6 +33,7 @@ import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileEndpoint;
 import org.apache.camel.component.file.GenericFileExist;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.task.BlockingTask;
 import org.apache.camel.support.task.Tasks;
@@ -450,6 +451,10 @@ public class FtpOperations implements RemoteFileOperations<FTPFile> {
         }
     }
 
+    private static boolean isSpoolEnabled(Exchange exchange) {
+        return exchange.getContext().isStreamCaching() && exchange.getContext().getStreamCachingStrategy().isSpoolEnabled();
+    }
+
     @SuppressWarnings("unchecked")
     private boolean retrieveFileToStreamInBody(String name, Exchange exchange) throws GenericFileOperationFailedException {
         if (endpoint.getConfiguration().isStepwise() && endpoint.getConfiguration().isStreamDownload()) {
@@ -486,6 +491,12 @@ public class FtpOperations implements RemoteFileOperations<FTPFile> {
                 target.setBody(is);
                 exchange.getIn().setHeader(FtpConstants.REMOTE_FILE_INPUT_STREAM, is);
                 result = true;
+            } else if (isSpoolEnabled(exchange)) {
+                // download into the stream cache which spools large files to disk
+                CachedOutputStream cos = new CachedOutputStream(exchange);
+                result = client.retrieveFile(remoteName, cos);
+                target.setBody(cos.newStreamCache());
+                IOHelper.close(cos);
             } else {
                 // read the entire file into memory in the byte array
                 ByteArrayOutputStream bos = new ByteArrayOutputStream();
@@ -108,6 +108,12 @@ public abstract class RemoteFileConfiguration extends GenericFileConfiguration {
                                                          + "By default when a directory or file does not exists or insufficient permission, then an exception "
                                                          + "is thrown. Setting this option to <tt>true</tt> allows to ignore that instead.")
     private boolean ignoreFileNotFoundOrPermissionError;
+    @UriParam(label = "consumer,advanced", defaultValue = "1", description = "The number of sessions (connections to the "
+                                                                             + "server) the consumer uses to retrieve and process the files of a poll concurrently. "
+                                                                             + "The files are listed using the first session, and then distributed over all the sessions, "
+                                                                             + "where each session retrieves and routes one file at a time. The files are then always "
+                                                                             + "processed synchronously.")
+    private int concurrentSessions = 1;
     @UriParam(label = "producer,advanced", defaultValue = "true", description = "Whether to send a noop command "
                                                                                 + "as a pre-write check before uploading files to the FTP server. <p/> This is enabled by default as "
                                                                                 + "a validation of the connection is still valid, which allows to silently re-connect to be able to "
@@ -371,6 +377,19 @@ public abstract class RemoteFileConfiguration extends GenericFileConfiguration {
         this.streamDownload = streamDownload;
     }
 
+    public int getConcurrentSessions() {
+        return concurrentSessions;
+    }
+
+    /**
+     * The number of sessions (connections to the server) the consumer uses to retrieve and process the files of a poll
+     * concurrently. The files are listed using the first session, and then distributed over all the sessions, where
+     * each session retrieves and routes one file at a time. The files are then always processed synchronously.
+     */
+    public void setConcurrentSessions(int concurrentSessions) {
+        this.concurrentSessions = concurrentSessions;
+    }
+
     public boolean isUseList() {
         return useList;
     }
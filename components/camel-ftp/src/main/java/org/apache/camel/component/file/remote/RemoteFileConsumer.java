@@ -16,7 +16,17 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -25,8 +35,10 @@ import org.apache.camel.Processor;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.component.file.GenericFileOperations;
 import org.apache.camel.component.file.GenericFileProcessStrategy;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +53,10 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
 
+    private ExecutorService sessionExecutorService;
+    // created by the polling thread, but also disconnected by the thread stopping the consumer
+    private final List<RemoteFileOperations<T>> additionalSessions = new CopyOnWriteArrayList<>();
+
     protected RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                                  GenericFileProcessStrategy processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -116,7 +132,8 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     }
 
     @Override
-    protected boolean processExchange(Exchange exchange) {
+    protected boolean processExchange(
+            Exchange exchange, GenericFileOperations<T> fileOperations, boolean synchronous) {
         // defer disconnect til the UoW is complete - but only the last exchange
         // from the batch should do that
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
@@ -147,7 +164,169 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
             });
         }
 
-        return super.processExchange(exchange);
+        return super.processExchange(exchange, fileOperations, synchronous);
+    }
+
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        if (sessionExecutorService == null || customProcessor != null) {
+            return super.processBatch(exchanges);
+        }
+
+        int total = exchanges.size();
+        // limit if needed
+        if (maxMessagesPerPoll > 0 && total > maxMessagesPerPoll) {
+            LOG.debug("Limiting to maximum messages to poll {} as there were {} messages in this poll.", maxMessagesPerPoll,
+                    total);
+            total = maxMessagesPerPoll;
+        }
+
+        // the files are taken from a shared queue by each session, so the batch properties must be set upfront
+        final Queue<Exchange> pending = new ConcurrentLinkedQueue<>();
+        for (int index = 0; index < total; index++) {
+            Exchange exchange = (Exchange) exchanges.poll();
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+            pending.add(exchange);
+        }
+        final SessionBatch batch = new SessionBatch(pending, total);
+        pendingExchanges = total;
+
+        // open all the sessions before processing any file, so no session is left running if one cannot be opened
+        List<RemoteFileOperations<T>> sessions = new ArrayList<>();
+        // the session used for listing the files is used as well
+        sessions.add(getOperations());
+        try {
+            int count = Math.min(getEndpoint().getConfiguration().getConcurrentSessions(), total);
+            for (int i = 1; i < count; i++) {
+                sessions.add(getAdditionalSession(i - 1));
+            }
+        } catch (GenericFileOperationFailedException e) {
+            // continue with the sessions that could be opened
+            handleException("Error creating session", e);
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(sessions.size());
+        int answer = 0;
+        try {
+            for (int i = 0; i < sessions.size(); i++) {
+                final RemoteFileOperations<T> session = sessions.get(i);
+                final boolean connected = i == 0;
+                futures.add(sessionExecutorService.submit(() -> processSession(session, connected, batch)));
+            }
+
+            for (Future<Integer> future : futures) {
+                try {
+                    answer += future.get();
+                } catch (ExecutionException e) {
+                    // the other sessions take over the files of a session that failed to connect
+                    handleException("Error processing files using session", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // stop the sessions from taking more files and wait for the files in process
+            batch.stopped = true;
+            for (Future<Integer> future : futures) {
+                awaitSession(future);
+            }
+
+            // drain any in progress files as we are done with this batch
+            Deque<Exchange> remaining = new ArrayDeque<>(pending);
+            pending.clear();
+            removeExcessiveInProgressFiles(remaining, 0);
+            removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
+            pendingExchanges = 0;
+
+            if (getEndpoint().isDisconnect()) {
+                LOG.trace("processBatch disconnect from: {}", getEndpoint());
+                disconnect();
+            }
+        }
+
+        return answer;
+    }
+
+    private int processSession(RemoteFileOperations<T> session, boolean connected, SessionBatch batch) {
+        if (!connected && !batch.pending.isEmpty()) {
+            connectSessionIfNecessary(session);
+        }
+
+        int started = 0;
+        Exchange exchange;
+        while (!batch.stopped && isBatchAllowed() && (exchange = batch.pending.poll()) != null) {
+            synchronized (batch) {
+                pendingExchanges = --batch.remaining;
+            }
+            boolean last = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, false, Boolean.class);
+            try {
+                if (last) {
+                    // the last file of the batch is only routed when the other files are done, so it completes last
+                    try {
+                        batch.others.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        // release the file as it will not be processed
+                        removeExcessiveInProgressFiles(new ArrayDeque<>(List.of(exchange)), 0);
+                        break;
+                    }
+                }
+                // the file must be processed synchronously, as the session is used for committing the file when done
+                if (processExchange(exchange, session, true)) {
+                    started++;
+                }
+            } finally {
+                if (!last) {
+                    batch.others.countDown();
+                }
+            }
+        }
+        return started;
+    }
+
+    private static void awaitSession(Future<Integer> future) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            // cancel the session, as we are not allowed to wait for it anymore
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // already handled by the batch
+            LOG.trace("Session completed with error: {}", e.getMessage(), e);
+        }
+    }
+
+    private RemoteFileOperations<T> getAdditionalSession(int index) throws GenericFileOperationFailedException {
+        while (additionalSessions.size() <= index) {
+            try {
+                additionalSessions.add(getEndpoint().createRemoteFileOperations());
+            } catch (Exception e) {
+                throw new GenericFileOperationFailedException("Cannot create session to: " + remoteServer(), e);
+            }
+        }
+        return additionalSessions.get(index);
+    }
+
+    private void connectSessionIfNecessary(RemoteFileOperations<T> session) {
+        boolean isConnected = false;
+        try {
+            isConnected = session.isConnected() && session.sendNoop();
+        } catch (Exception ex) {
+            // here we just ignore the exception and try to reconnect
+            LOG.debug("Exception checking connection status: {}", ex.getMessage());
+        }
+        if (!isConnected) {
+            LOG.debug("Not connected/logged in, connecting additional session to: {}", remoteServer());
+            if (!session.connect((RemoteFileConfiguration) endpoint.getConfiguration(), null)) {
+                throw new GenericFileOperationFailedException("Cannot connect/login to: " + remoteServer());
+            }
+        }
     }
 
     @Override
@@ -167,10 +346,27 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return !dir.equals("/") && !dir.equals("\\");
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        int sessions = getEndpoint().getConfiguration().getConcurrentSessions();
+        if (sessions > 1 && sessionExecutorService == null) {
+            sessionExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "RemoteFileConsumerSession", sessions);
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
         disconnect();
+
+        if (sessionExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(sessionExecutorService);
+            sessionExecutorService = null;
+        }
+        additionalSessions.clear();
     }
 
     protected void disconnect() {
@@ -178,12 +374,19 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         loggedIn = false;
 
         // disconnect
+        disconnect(getOperations());
+        for (RemoteFileOperations<T> session : additionalSessions) {
+            disconnect(session);
+        }
+    }
+
+    private void disconnect(RemoteFileOperations<T> session) {
         try {
-            if (getOperations().isConnected()) {
+            if (session.isConnected()) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Disconnecting from: {}", remoteServer());
                 }
-                getOperations().disconnect();
+                session.disconnect();
             }
         } catch (Exception e) {
             if (LOG.isDebugEnabled()) {
@@ -287,4 +490,23 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
      *                      been hit
      */
     protected abstract boolean doPollDirectory(String absolutePath, String dirName, List<GenericFile<T>> fileList, int depth);
+
+    /**
+     * The files of a batch shared by the concurrent sessions.
+     */
+    private static final class SessionBatch {
+
+        private final Queue<Exchange> pending;
+        // guarded by this batch
+        private int remaining;
+        // counted down when each file but the last one is done
+        private final CountDownLatch others;
+        private volatile boolean stopped;
+
+        private SessionBatch(Queue<Exchange> pending, int total) {
+            this.pending = pending;
+            this.remaining = total;
+            this.others = new CountDownLatch(Math.max(total - 1, 0));
+        }
+    }
 }
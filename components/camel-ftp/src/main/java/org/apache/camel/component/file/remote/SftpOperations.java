@@ -53,6 +53,7 @@ import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileEndpoint;
 import org.apache.camel.component.file.GenericFileExist;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.support.task.BlockingTask;
 import org.apache.camel.support.task.Tasks;
@@ -783,6 +784,10 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
         }
     }
 
+    private static boolean isSpoolEnabled(Exchange exchange) {
+        return exchange.getContext().isStreamCaching() && exchange.getContext().getStreamCachingStrategy().isSpoolEnabled();
+    }
+
     @SuppressWarnings("unchecked")
     private boolean retrieveFileToStreamInBody(String name, Exchange exchange) throws GenericFileOperationFailedException {
         String currentDir = null;
@@ -814,6 +819,12 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
             if (endpoint.getConfiguration().isStreamDownload()) {
                 target.setBody(is);
                 exchange.getIn().setHeader(FtpConstants.REMOTE_FILE_INPUT_STREAM, is);
+            } else if (isSpoolEnabled(exchange)) {
+                // download into the stream cache which spools large files to disk
+                CachedOutputStream cos = new CachedOutputStream(exchange);
+                IOHelper.copyAndCloseInput(is, cos);
+                target.setBody(cos.newStreamCache());
+                IOHelper.close(cos);
             } else {
                 // read the entire file into memory in the byte array
                 ByteArrayOutputStream bos = new ByteArrayOutputStream();
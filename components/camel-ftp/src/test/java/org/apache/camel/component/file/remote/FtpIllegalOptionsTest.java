@@ -18,6 +18,7 @@ package org.apache.camel.component.file.remote;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.commons.net.ftp.FTPClient;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -37,4 +38,12 @@ public class FtpIllegalOptionsTest extends CamelTestSupport {
         assertThrows(IllegalArgumentException.class, () -> ftpEndpoint.createConsumer(exchange -> {
         }));
     }
+
+    @Test
+    public void testIllegalConcurrentSessionsWithFtpClient() {
+        context.getRegistry().bind("myClient", new FTPClient());
+        Endpoint ftpEndpoint = context.getEndpoint("ftp://target?ftpClient=#myClient&concurrentSessions=2");
+        assertThrows(IllegalArgumentException.class, () -> ftpEndpoint.createConsumer(exchange -> {
+        }));
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.integration;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FromFtpConcurrentSessionsIT extends FtpServerTestSupport {
+
+    private static final int FILES = 10;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    private String getFtpUrl(String directory) {
+        return "ftp://admin@localhost:{{ftp.server.port}}/" + directory + "/?password=admin&concurrentSessions=3";
+    }
+
+    @Test
+    public void testConcurrentSessions() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            template.sendBodyAndHeader("file:{{ftp.root.dir}}/concurrent", "Hello " + i, Exchange.FILE_NAME,
+                    "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(FILES);
+        mock.expectedPropertyReceived(Exchange.BATCH_SIZE, FILES);
+        // the last file of the batch is routed when all the other files are done
+        mock.message(FILES - 1).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        context.getRouteController().startRoute("foo");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the files were routed over several sessions at the same time, but not more than configured
+        assertTrue(maxActive.get() > 1, "Files should be processed concurrently, but was: " + maxActive.get());
+        assertTrue(maxActive.get() <= 3, "Files should be processed by at most 3 sessions, but was: " + maxActive.get());
+
+        // all the files should be deleted from the ftp server when done
+        File dir = service.ftpFile("concurrent").toFile();
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(0, dir.list().length, "Files should be deleted"));
+    }
+
+    @Test
+    public void testConcurrentSessionsIdempotentReadLock() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            template.sendBodyAndHeader("file:{{ftp.root.dir}}/idempotent", "Hello " + i, Exchange.FILE_NAME,
+                    "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:idempotent");
+        mock.expectedMessageCount(FILES);
+
+        context.getRouteController().startRoute("bar");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the files are left on the server, but each file is only consumed once by the sessions
+        mock.reset();
+        mock.expectedMessageCount(0);
+        mock.setAssertPeriod(1000);
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(FILES, service.ftpFile("idempotent").toFile().list().length, "Files should be kept");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(getFtpUrl("concurrent") + "&delete=true").routeId("foo").noAutoStartup()
+                        .process(exchange -> {
+                            int current = active.incrementAndGet();
+                            maxActive.accumulateAndGet(current, Math::max);
+                            Thread.sleep(200);
+                            active.decrementAndGet();
+                        })
+                        .to("mock:result");
+
+                from(getFtpUrl("idempotent") + "&noop=true&idempotent=true&readLock=changed&readLockCheckInterval=100"
+                     + "&delay=100").routeId("bar").noAutoStartup()
+                        .to("mock:idempotent");
+            }
+        };
+    }
+}
@@ -115,6 +115,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": target.setSslContextParameters(property(camelContext, org.apache.camel.support.jsse.SSLContextParameters.class, value)); return true;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": target.setThrowExceptionOnFailure(property(camelContext, boolean.class, value)); return true;
+        case "useasyncclient":
+        case "useAsyncClient": target.setUseAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "usesystemproperties":
         case "useSystemProperties": target.setUseSystemProperties(property(camelContext, boolean.class, value)); return true;
         case "useragent":
@@ -222,6 +224,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return org.apache.camel.support.jsse.SSLContextParameters.class;
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return boolean.class;
+        case "useasyncclient":
+        case "useAsyncClient": return boolean.class;
         case "usesystemproperties":
         case "useSystemProperties": return boolean.class;
         case "useragent":
@@ -330,6 +334,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sslContextParameters": return target.getSslContextParameters();
         case "throwexceptiononfailure":
         case "throwExceptionOnFailure": return target.isThrowExceptionOnFailure();
+        case "useasyncclient":
+        case "useAsyncClient": return target.isUseAsyncClient();
         case "usesystemproperties":
         case "useSystemProperties": return target.isUseSystemProperties();
         case "useragent":
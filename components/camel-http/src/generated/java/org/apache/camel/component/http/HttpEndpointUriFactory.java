@@ -22,7 +22,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(51);
+        Set<String> props = new HashSet<>(52);
         props.add("authDomain");
         props.add("authHost");
         props.add("authMethod");
@@ -71,6 +71,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("skipResponseHeaders");
         props.add("sslContextParameters");
         props.add("throwExceptionOnFailure");
+        props.add("useAsyncClient");
         props.add("useSystemProperties");
         props.add("userAgent");
         props.add("x509HostnameVerifier");
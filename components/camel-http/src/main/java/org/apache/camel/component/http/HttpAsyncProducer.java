@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.IOHelper;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.entity.DecompressingEntity;
+import org.apache.hc.client5.http.entity.DeflateInputStreamFactory;
+import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.apache.hc.client5.http.entity.InputStreamFactory;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.apache.hc.core5.http.protocol.BasicHttpContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP producer which uses the non-blocking HttpClient 5 async client, so the calling thread is not blocked while
+ * waiting for the response.
+ * <p/>
+ * The request is prepared the same way as by {@link HttpProducer}, and the response body is streamed into the stream
+ * cache (which spools to disk for large payloads) as it arrives. The exchange is then populated and continued from a
+ * worker thread, so the routing does not block the I/O reactor thread. As with the blocking client, gzip and deflate
+ * encoded responses are decompressed unless content compression is disabled on the component.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    // request bodies with a known length up to this size are sent from memory instead of being streamed
+    private static final int BUFFER_THRESHOLD = 64 * 1024;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final HttpContext httpContext;
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private ExecutorService executorService;
+    private boolean contentCompression;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+        this.httpContext = endpoint.getHttpContext();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // the client is closed when the endpoint is stopped, so get it again when restarted
+        httpAsyncClient = getEndpoint().getHttpAsyncClient();
+        HttpComponent component = getEndpoint().getComponent();
+        contentCompression = component == null || !component.isContentCompressionDisabled();
+        if (executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newDefaultThreadPool(this, "HttpAsyncProducer");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        httpAsyncClient = null;
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpUriRequest httpRequest;
+        final AsyncRequestProducer requestProducer;
+        try {
+            httpRequest = prepareRequest(exchange);
+            if (contentCompression && !httpRequest.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+                // same as the blocking client which asks for a compressed response
+                httpRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, x-gzip, deflate");
+            }
+            requestProducer = new BasicRequestProducer(httpRequest, createEntityProducer(httpRequest));
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        HttpContext localContext = HttpClientContext.create();
+        if (httpContext != null) {
+            localContext = new BasicHttpContext(httpContext);
+        }
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        CachedResponseEntityConsumer entityConsumer = new CachedResponseEntityConsumer(exchange);
+
+        LOG.debug("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getRequestUri());
+        httpAsyncClient.execute(requestProducer, new BasicResponseConsumer<>(entityConsumer), localContext,
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(Message<HttpResponse, InputStream> result) {
+                        done(exchange, callback, () -> {
+                            InputStream body = result.getBody();
+                            try {
+                                handleResponse(exchange, httpRequest,
+                                        toClassicResponse(result, entityConsumer.getLength()), strategy);
+                            } catch (Exception e) {
+                                exchange.setException(e);
+                            } finally {
+                                // the body is no longer needed if it was not set as the message body
+                                if (body != null && exchange.getMessage().getBody() != body) {
+                                    IOHelper.close(body);
+                                }
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void failed(Exception ex) {
+                        done(exchange, callback, () -> exchange.setException(ex));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        done(exchange, callback,
+                                () -> exchange.setException(new CamelExchangeException("Http request cancelled", exchange)));
+                    }
+                });
+        return false;
+    }
+
+    /**
+     * Completes the exchange from a worker thread, as the async client calls back from its I/O reactor thread, which
+     * must not be used for populating the exchange and continue routing.
+     */
+    private void done(Exchange exchange, AsyncCallback callback, Runnable task) {
+        Runnable done = () -> {
+            try {
+                task.run();
+            } finally {
+                callback.done(false);
+            }
+        };
+        try {
+            executorService.execute(done);
+        } catch (RejectedExecutionException e) {
+            // the producer is being stopped
+            LOG.debug("Cannot hand off the response of exchange {} to a worker thread, completing it on the I/O thread",
+                    exchange.getExchangeId());
+            done.run();
+        }
+    }
+
+    /**
+     * Creates the producer of the request body to send with the async client.
+     * <p/>
+     * Small request entities (created by {@link #createRequestEntity(Exchange)}) with a known length are sent from
+     * memory. Other entities are streamed, and sent chunked, by writing them from a worker thread, as the async client
+     * sends the body from the I/O reactor thread where blocking reads from the message body are not allowed.
+     */
+    protected AsyncEntityProducer createEntityProducer(HttpUriRequest httpRequest) throws IOException {
+        HttpEntity entity = httpRequest.getEntity();
+        if (entity == null) {
+            return null;
+        }
+        if (entity.getContentEncoding() != null && !httpRequest.containsHeader(HttpConstants.CONTENT_ENCODING)) {
+            httpRequest.addHeader(HttpConstants.CONTENT_ENCODING, entity.getContentEncoding());
+        }
+        ContentType contentType = entity.getContentType() != null ? ContentType.parse(entity.getContentType()) : null;
+        long length = entity.getContentLength();
+        if (!entity.isStreaming() && length >= 0 && length <= BUFFER_THRESHOLD) {
+            return AsyncEntityProducers.create(EntityUtils.toByteArray(entity), contentType);
+        }
+        return new AbstractClassicEntityProducer(BUFFER_SIZE, contentType, executorService) {
+            @Override
+            protected void produceData(ContentType contentType, OutputStream outputStream) throws IOException {
+                entity.writeTo(outputStream);
+            }
+        };
+    }
+
+    private ClassicHttpResponse toClassicResponse(Message<HttpResponse, InputStream> result, long length) {
+        HttpResponse head = result.getHead();
+        BasicClassicHttpResponse answer = new BasicClassicHttpResponse(head.getCode(), head.getReasonPhrase());
+        answer.setVersion(head.getVersion());
+        answer.setHeaders(head.getHeaders());
+
+        InputStream body = result.getBody();
+        if (body != null) {
+            // the content length is only known for the body as is, so do not set it if the body is encoded (eg gzip)
+            if (head.containsHeader(HttpConstants.CONTENT_ENCODING)) {
+                length = -1;
+            }
+            Header header = head.getFirstHeader("content-type");
+            ContentType contentType = header != null ? ContentType.parse(header.getValue()) : null;
+            HttpEntity entity = new InputStreamEntity(body, length, contentType);
+
+            InputStreamFactory decoder = contentCompression ? getDecoder(head) : null;
+            if (decoder != null) {
+                // decompress the body and remove the headers which are no longer valid, as the blocking client does
+                entity = new DecompressingEntity(entity, decoder);
+                answer.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+                answer.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+                answer.removeHeaders(HttpHeaders.CONTENT_MD5);
+            }
+            answer.setEntity(entity);
+        }
+        return answer;
+    }
+
+    private static InputStreamFactory getDecoder(HttpResponse response) {
+        Header header = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        if (header == null) {
+            return null;
+        }
+        String encoding = header.getValue().trim().toLowerCase(Locale.ROOT);
+        if ("gzip".equals(encoding) || "x-gzip".equals(encoding)) {
+            return GZIPInputStreamFactory.getInstance();
+        } else if ("deflate".equals(encoding)) {
+            return DeflateInputStreamFactory.getInstance();
+        }
+        return null;
+    }
+
+    /**
+     * Consumes the response body as it is received by the I/O reactor and writes it to a {@link CachedOutputStream}.
+     */
+    private static final class CachedResponseEntityConsumer extends AbstractBinAsyncEntityConsumer<InputStream> {
+
+        private final Exchange exchange;
+        private final int bufferSize;
+        private CachedOutputStream cos;
+        private long length;
+
+        CachedResponseEntityConsumer(Exchange exchange) {
+            this.exchange = exchange;
+            // receive the body in chunks of the size of the stream cache buffer, so the server is flow controlled
+            int size = exchange.getContext().getStreamCachingStrategy().getBufferSize();
+            this.bufferSize = size > 0 ? size : BUFFER_SIZE;
+        }
+
+        long getLength() {
+            return length;
+        }
+
+        @Override
+        protected void streamStart(ContentType contentType) {
+            // any temporary file is deleted when the exchange is done
+            cos = new CachedOutputStream(exchange);
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            return bufferSize;
+        }
+
+        @Override
+        protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+            int len = src.remaining();
+            if (len == 0) {
+                return;
+            }
+            if (src.hasArray()) {
+                cos.write(src.array(), src.arrayOffset() + src.position(), len);
+                src.position(src.limit());
+            } else {
+                byte[] buf = new byte[len];
+                src.get(buf);
+                cos.write(buf);
+            }
+            length += len;
+        }
+
+        @Override
+        protected InputStream generateContent() throws IOException {
+            // use the stream cache as-is, which avoids copying the response once more when populating the exchange
+            InputStream answer = (InputStream) cos.newStreamCache();
+            cos = null;
+            return answer;
+        }
+
+        @Override
+        public void releaseResources() {
+            if (cos != null) {
+                // the response was not completed
+                IOHelper.close(cos);
+                cos = null;
+            }
+        }
+    }
+}
@@ -17,11 +17,14 @@
 package org.apache.camel.component.http;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Category;
 import org.apache.camel.Consumer;
@@ -40,16 +43,26 @@ import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,6 +104,15 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @UriParam(label = "advanced", defaultValue = "false",
               description = "To use System Properties as fallback for configuration")
     private boolean useSystemProperties;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should use the non-blocking HttpClient 5 async client."
+                            + " When enabled the calling thread is not blocked while waiting for the response, and the exchange"
+                            + " is continued from the I/O reactor thread once the response has been received."
+                            + " The response body is streamed into the stream cache as it arrives, and the connection pool"
+                            + " and TLS settings of the component are reused. Notice that a custom httpClient, httpClientConfigurer"
+                            + " or clientConnectionManager only applies to the blocking client.")
+    private boolean useAsyncClient;
+    private CloseableHttpAsyncClient httpAsyncClient;
 
     // timeout
     @Metadata(label = "timeout", defaultValue = "3 minutes",
@@ -193,6 +215,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -241,19 +266,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
-                    && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug(
-                        "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
-                        host, port, scheme);
-                HttpHost proxy = new HttpHost(scheme, host, port);
+            HttpHost proxy = getGlobalProxy();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -292,6 +306,126 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return (HttpComponent) super.getComponent();
     }
 
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() throws GeneralSecurityException, IOException {
+        if (httpAsyncClient == null) {
+            httpAsyncClient = createHttpAsyncClient();
+            httpAsyncClient.start();
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance used by the producer when useAsyncClient
+     * is enabled. The client uses its own connection pool which is sized and configured (timeouts, time to live, TLS)
+     * the same way as the connection manager of the blocking client.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws GeneralSecurityException, IOException {
+        HttpComponent component = getComponent();
+
+        SSLContextParameters sslParameters = sslContextParameters;
+        if (sslParameters == null) {
+            sslParameters = component.getSslContextParameters();
+        }
+        if (sslParameters == null && HttpHelper.isSecureConnection(getEndpointUri())) {
+            // only secure (https) should use global SSL
+            sslParameters = component.retrieveGlobalSslContextParameters();
+        }
+        SSLContext sslContext;
+        if (sslParameters != null) {
+            sslContext = sslParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        ClientTlsStrategyBuilder tlsStrategyBuilder = ClientTlsStrategyBuilder.create().setSslContext(sslContext);
+        HostnameVerifier hostnameVerifier
+                = x509HostnameVerifier != null ? x509HostnameVerifier : component.getX509HostnameVerifier();
+        if (hostnameVerifier != null) {
+            tlsStrategyBuilder.setHostnameVerifier(hostnameVerifier);
+        }
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(soTimeout)
+                .setTimeToLive(TimeValue.ofMilliseconds(component.getConnectionTimeToLive()))
+                .build();
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(tlsStrategyBuilder.build())
+                .setMaxConnTotal(maxTotalConnections > 0 ? maxTotalConnections : component.getMaxTotalConnections())
+                .setMaxConnPerRoute(connectionsPerRoute > 0 ? connectionsPerRoute : component.getConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .setResponseTimeout(responseTimeout)
+                .build();
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig);
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            builder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            builder.setDefaultCookieStore(cookieStore);
+        }
+        if (!useSystemProperties) {
+            HttpHost proxy = getGlobalProxy();
+            if (proxy != null) {
+                builder.setProxy(proxy);
+            }
+        } else {
+            builder.useSystemProperties();
+        }
+        if (userAgent != null) {
+            builder.setUserAgent(userAgent);
+        }
+        if (component.isRedirectHandlingDisabled() || !(isFollowRedirects() || component.isFollowRedirects())) {
+            builder.disableRedirectHandling();
+        } else {
+            builder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+        }
+        if (component.isAutomaticRetriesDisabled()) {
+            builder.disableAutomaticRetries();
+        }
+        if (component.isCookieManagementDisabled()) {
+            builder.disableCookieManagement();
+        }
+        if (component.isAuthCachingDisabled()) {
+            builder.disableAuthCaching();
+        }
+        if (component.isConnectionStateDisabled()) {
+            builder.disableConnectionState();
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", builder);
+        return builder.build();
+    }
+
+    /**
+     * Gets the http proxy configured using the http.proxyHost, http.proxyPort and http.proxyScheme global options on
+     * the CamelContext, or <tt>null</tt> if no proxy has been configured.
+     */
+    private HttpHost getGlobalProxy() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug(
+                    "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
+                    host, port, scheme);
+            return new HttpHost(scheme, host, port);
+        }
+        return null;
+    }
+
     @Override
     protected void doStop() throws Exception {
         if (getComponent() != null && getComponent().getClientConnectionManager() != clientConnectionManager) {
@@ -301,6 +435,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable closeable) {
             IOHelper.close(closeable);
         }
+        synchronized (this) {
+            if (httpAsyncClient != null) {
+                httpAsyncClient.close(CloseMode.GRACEFUL);
+                httpAsyncClient = null;
+            }
+        }
     }
 
     // Properties
@@ -447,6 +587,17 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.httpConnectionOptions = httpConnectionOptions;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking HttpClient 5 async client.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
     public boolean isUseSystemProperties() {
         return useSystemProperties;
     }
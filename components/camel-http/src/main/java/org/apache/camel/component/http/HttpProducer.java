@@ -39,6 +39,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.http.helper.HttpMethodHelper;
@@ -141,6 +142,71 @@ public class HttpProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpUriRequest httpRequest = prepareRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+
+        // lets store the result in the output message.
+        try {
+            executeMethod(
+                    httpHost, httpRequest,
+                    httpResponse -> {
+                        try {
+                            handleResponse(exchange, httpRequest, httpResponse, strategy);
+                        } catch (IOException | HttpException | RuntimeCamelException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new RuntimeCamelException(e);
+                        } finally {
+                            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+                                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                                    @Override
+                                    public void onDone(Exchange exchange1) {
+                                        try {
+                                            EntityUtils.consume(httpResponse.getEntity());
+                                        } catch (Exception e) {
+                                            // ignore
+                                        } finally {
+                                            try {
+                                                EntityUtils.consume(httpRequest.getEntity());
+                                            } catch (Exception e) {
+                                                // ignore
+                                            }
+                                        }
+                                    }
+                                });
+                            } else if (httpResponse != null) {
+                                // close the stream now
+                                try {
+                                    EntityUtils.consume(httpResponse.getEntity());
+                                } catch (Exception e) {
+                                    // ignore
+                                } finally {
+                                    try {
+                                        EntityUtils.consume(httpRequest.getEntity());
+                                    } catch (Exception e) {
+                                        // ignore
+                                    }
+                                }
+                            }
+                        }
+                        return null;
+                    });
+        } catch (RuntimeCamelException e) {
+            if (e.getCause() instanceof Exception ex) {
+                // Rethrow the embedded exception to simulate the same behavior as with version 4
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the HTTP request to send for the given exchange, with the message headers, cookies and host headers
+     * mapped onto the request.
+     */
+    protected HttpUriRequest prepareRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -160,7 +226,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpUriRequest httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(HttpConstants.HTTP_PROTOCOL_VERSION, String.class);
@@ -170,9 +235,8 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.setVersion(new HttpVersion(version[0], version[1]));
         }
 
-        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
-
         if (!getEndpoint().isSkipRequestHeaders()) {
+            HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
             // propagate headers as HTTP headers
             if (strategy != null) {
                 final TypeConverter tc = exchange.getContext().getTypeConverter();
@@ -264,87 +328,41 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HeaderElements.CLOSE);
         }
 
-        // lets store the result in the output message.
-        try {
-            executeMethod(
-                    httpHost, httpRequest,
-                    httpResponse -> {
-                        try {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
-                            }
-                            int responseCode = httpResponse.getCode();
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Http responseCode: {}", responseCode);
-                            }
+        return httpRequest;
+    }
 
-                            if (!throwException) {
-                                // if we do not use failed exception then populate response for all response codes
-                                HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                            } else {
-                                boolean ok;
-                                if (minOkRange > 0) {
-                                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                                } else {
-                                    ok = HttpHelper.isStatusCodeOk(responseCode,
-                                            HttpProducer.this.getEndpoint().getOkStatusCodeRange());
-                                }
-                                if (ok) {
-                                    // only populate response for OK response
-                                    HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy,
-                                            responseCode);
-                                } else {
-                                    // operation failed so populate exception to throw
-                                    throw HttpProducer.this.populateHttpOperationFailedException(exchange, httpRequest,
-                                            httpResponse, responseCode);
-                                }
-                            }
-                        } catch (IOException | HttpException | RuntimeCamelException e) {
-                            throw e;
-                        } catch (Exception e) {
-                            throw new RuntimeCamelException(e);
-                        } finally {
-                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
-                                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
-                                    @Override
-                                    public void onDone(Exchange exchange1) {
-                                        try {
-                                            EntityUtils.consume(httpResponse.getEntity());
-                                        } catch (Exception e) {
-                                            // ignore
-                                        } finally {
-                                            try {
-                                                EntityUtils.consume(httpRequest.getEntity());
-                                            } catch (Exception e) {
-                                                // ignore
-                                            }
-                                        }
-                                    }
-                                });
-                            } else if (httpResponse != null) {
-                                // close the stream now
-                                try {
-                                    EntityUtils.consume(httpResponse.getEntity());
-                                } catch (Exception e) {
-                                    // ignore
-                                } finally {
-                                    try {
-                                        EntityUtils.consume(httpRequest.getEntity());
-                                    } catch (Exception e) {
-                                        // ignore
-                                    }
-                                }
-                            }
-                        }
-                        return null;
-                    });
-        } catch (RuntimeCamelException e) {
-            if (e.getCause() instanceof Exception ex) {
-                // Rethrow the embedded exception to simulate the same behavior as with version 4
-                throw ex;
+    /**
+     * Handles the HTTP response by populating the exchange, or throwing a {@link HttpOperationFailedException} if the
+     * response code is not accepted.
+     */
+    protected void handleResponse(
+            Exchange exchange, HttpUriRequest httpRequest, ClassicHttpResponse httpResponse, HeaderFilterStrategy strategy)
+            throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+        }
+        int responseCode = httpResponse.getCode();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Http responseCode: {}", responseCode);
+        }
+
+        if (!throwException) {
+            // if we do not use failed exception then populate response for all response codes
+            populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+        } else {
+            boolean ok;
+            if (minOkRange > 0) {
+                ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+            } else {
+                ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+            }
+            if (ok) {
+                // only populate response for OK response
+                populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+            } else {
+                // operation failed so populate exception to throw
+                throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
             }
-            throw e;
         }
     }
 
@@ -580,6 +598,10 @@ public class HttpProducer extends DefaultProducer {
     }
 
     private InputStream doExtractResponseBodyAsStream(InputStream is, Exchange exchange) throws IOException {
+        if (is instanceof StreamCache) {
+            // the response has already been cached (such as by the async producer) so no need to copy it again
+            return is;
+        }
         // As httpclient is using a AutoCloseInputStream, it will be closed when the connection is closed
         // we need to cache the stream for it.
         CachedOutputStream cos = null;
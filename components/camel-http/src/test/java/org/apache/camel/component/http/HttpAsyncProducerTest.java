@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private static final String LARGE_CONTENT = "camel rocks!".repeat(100000);
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .register("/post", new BasicValidationHandler(POST.name(), null, "Hello World", getExpectedContent()))
+                .register("/large", (request, response, context) -> {
+                    response.setCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity(LARGE_CONTENT));
+                })
+                .register("/echo", (request, response, context) -> {
+                    response.setCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity(EntityUtils.toString(request.getEntity())));
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://localhost:" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void httpGet() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/get?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpPost() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/post?useAsyncClient=true",
+                exchange1 -> exchange1.getIn().setBody("Hello World"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpGetLargeResponse() throws Exception {
+        // use a low threshold so the response is spooled to disk
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+
+        Exchange exchange = template.request(baseUrl + "/large?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertNotNull(exchange);
+        assertEquals(HttpStatus.SC_OK, exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertEquals(LARGE_CONTENT, exchange.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void httpPostLargeStreamBody() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/echo?useAsyncClient=true",
+                exchange1 -> exchange1.getIn().setBody(
+                        new ByteArrayInputStream(LARGE_CONTENT.getBytes(StandardCharsets.UTF_8))));
+
+        assertNotNull(exchange);
+        assertEquals(HttpStatus.SC_OK, exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertEquals(LARGE_CONTENT, exchange.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void httpGetAfterRestart() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?useAsyncClient=true", HttpEndpoint.class);
+        Producer producer = endpoint.createProducer();
+        producer.start();
+
+        Exchange exchange = endpoint.createExchange();
+        producer.process(exchange);
+        assertExchange(exchange);
+
+        // stopping the endpoint closes the async client, so the producer must use the new client when restarted
+        producer.stop();
+        endpoint.stop();
+        endpoint.start();
+        producer.start();
+
+        exchange = endpoint.createExchange();
+        producer.process(exchange);
+        assertExchange(exchange);
+
+        producer.stop();
+    }
+
+    @Test
+    public void httpGetCompletesOnWorkerThread() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?useAsyncClient=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+
+        Exchange exchange = endpoint.createExchange();
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        producer.process(exchange, doneSync -> thread.complete(Thread.currentThread().getName()));
+
+        // the exchange is not continued from the I/O reactor thread of the client
+        String name = thread.get(10, TimeUnit.SECONDS);
+        assertTrue(name.contains("HttpAsyncProducer"), "Should complete on a worker thread: " + name);
+        assertExchange(exchange);
+
+        producer.stop();
+    }
+
+    @Test
+    public void httpGetWhichReturnsHttp501ShouldThrowAnException() throws Exception {
+        Exchange reply = template.request(baseUrl + "/XXX?useAsyncClient=true", exchange -> {
+        });
+
+        Exception e = reply.getException();
+        assertNotNull(e, "Should have thrown an exception");
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, e);
+        assertEquals(501, cause.getStatusCode());
+    }
+
+    @Test
+    public void shouldCreateAsyncProducer() throws Exception {
+        Producer producer = context.getEndpoint(baseUrl + "/get?useAsyncClient=true").createProducer();
+
+        assertIsInstanceOf(HttpAsyncProducer.class, producer);
+    }
+}
@@ -57,6 +57,7 @@ import static org.apache.hc.core5.http.HttpHeaders.CONTENT_ENCODING;
 import static org.apache.hc.core5.http.HttpHeaders.CONTENT_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class HttpCompressionTest extends BaseHttpTest {
 
@@ -110,6 +111,28 @@ public class HttpCompressionTest extends BaseHttpTest {
         assertBody(out.getBody(String.class));
     }
 
+    @Test
+    public void compressedHttpPostAsync() {
+        Exchange exchange = template.request(
+                "http://localhost:" + localServer.getLocalPort() + "/?useAsyncClient=true", exchange1 -> {
+                    exchange1.getIn().setHeader(Exchange.CONTENT_TYPE, "text/plain");
+                    exchange1.getIn().setHeader(Exchange.CONTENT_ENCODING, "gzip");
+                    exchange1.getIn().setBody(getBody());
+                });
+
+        assertNotNull(exchange);
+
+        Message out = exchange.getMessage();
+        assertNotNull(out);
+
+        Map<String, Object> headers = out.getHeaders();
+        assertEquals(HttpStatus.SC_OK, headers.get(Exchange.HTTP_RESPONSE_CODE));
+        // the response is decompressed
+        assertNull(headers.get(CONTENT_ENCODING));
+
+        assertBody(out.getBody(String.class));
+    }
+
     @Override
     protected HttpProcessor getBasicHttpProcessor() {
         List<HttpRequestInterceptor> requestInterceptors = new ArrayList<>();
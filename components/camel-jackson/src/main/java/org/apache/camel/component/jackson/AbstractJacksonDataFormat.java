@@ -16,10 +16,13 @@
  */
 package org.apache.camel.component.jackson;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -33,6 +36,8 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -47,6 +52,7 @@ import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.CastUtils;
+import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +84,9 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private boolean enableJacksonTypeConverter;
     private boolean allowUnmarshallType;
     private boolean contentTypeHeader = true;
+    private boolean lazyLoad;
+    private String arrayPointer;
+    private boolean jsonLines;
     private TimeZone timezone;
     private boolean autoDiscoverObjectMapper;
     private SchemaResolver schemaResolver;
@@ -152,7 +161,12 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (this.schemaResolver != null) {
             schema = this.schemaResolver.resolve(exchange);
         }
-        this.objectMapper.writerWithView(jsonView).with(schema).writeValue(stream, graph);
+        ObjectWriter writer = this.objectMapper.writerWithView(jsonView).with(schema);
+        if (jsonLines) {
+            writeJsonLines(writer, stream, graph);
+        } else {
+            writer.writeValue(stream, graph);
+        }
 
         if (contentTypeHeader) {
             exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, getDefaultContentType());
@@ -177,7 +191,9 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
+        if (lazyLoad || jsonLines || arrayPointer != null) {
+            return unmarshalElements(stream, schema, clazz);
+        } else if (collectionType != null) {
             CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
             return this.objectMapper.readerFor(collType).with(schema).readValue(stream);
         } else {
@@ -185,6 +201,48 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         }
     }
 
+    private Object unmarshalElements(InputStream stream, FormatSchema schema, Class<?> clazz) throws Exception {
+        ObjectReader reader = this.objectMapper.readerFor(clazz).with(schema);
+        JacksonIterator it = jsonLines
+                ? JacksonIterator.forLines(reader, stream)
+                : JacksonIterator.forArray(reader, stream, arrayPointer);
+        if (lazyLoad) {
+            // the elements are read while the iterator is iterated, such as by the splitter in streaming mode
+            return it;
+        }
+        try {
+            List<Object> answer = new ArrayList<>();
+            it.forEachRemaining(answer::add);
+            return answer;
+        } finally {
+            it.close();
+        }
+    }
+
+    private void writeJsonLines(ObjectWriter writer, OutputStream stream, Object graph) throws IOException {
+        Iterator<?> it;
+        if (graph instanceof Iterator) {
+            it = (Iterator<?>) graph;
+        } else if (graph instanceof Iterable) {
+            it = ((Iterable<?>) graph).iterator();
+        } else if (graph instanceof Object[]) {
+            it = Arrays.asList((Object[]) graph).iterator();
+        } else {
+            it = Collections.singleton(graph).iterator();
+        }
+        // each value must be written on a single line
+        ObjectWriter lineWriter = writer.without(SerializationFeature.INDENT_OUTPUT);
+        try {
+            while (it.hasNext()) {
+                stream.write(lineWriter.writeValueAsBytes(it.next()));
+                stream.write('\n');
+            }
+        } finally {
+            IOHelper.closeIterator(it);
+        }
+        stream.flush();
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -397,6 +455,45 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         this.contentTypeHeader = contentTypeHeader;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * If enabled then unmarshalling returns an iterator which deserializes the elements of the JSON array (or the
+     * values of the JSON lines) one at a time, instead of reading the whole document into memory. This is intended to
+     * be used with the splitter in streaming mode.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public String getArrayPointer() {
+        return arrayPointer;
+    }
+
+    /**
+     * A JSON pointer, such as /orders/items, to the array whose elements are unmarshalled, when the array is nested in
+     * the JSON document. When set, the unmarshal type is the type of the elements, and the elements are returned as a
+     * list, or as an iterator if lazy load is enabled.
+     */
+    public void setArrayPointer(String arrayPointer) {
+        this.arrayPointer = arrayPointer;
+    }
+
+    public boolean isJsonLines() {
+        return jsonLines;
+    }
+
+    /**
+     * If enabled then the JSON lines (NDJSON) format is used, where each line holds a JSON value. Unmarshalling returns
+     * the values as a list, or as an iterator if lazy load is enabled. Marshalling writes each element of a collection,
+     * iterator or array on its own line.
+     */
+    public void setJsonLines(boolean jsonLines) {
+        this.jsonLines = jsonLines;
+    }
+
     public TimeZone getTimezone() {
         return timezone;
     }
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An iterator which deserializes the elements of a JSON array, or the values of a JSON lines (NDJSON) input, one at a
+ * time while it is iterated, so only the current element is held in memory.
+ * <p/>
+ * The input stream is closed when the iteration is done, or when the iterator is closed.
+ */
+public final class JacksonIterator implements Iterator<Object>, Closeable {
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final InputStream stream;
+    private final JsonToken endToken;
+    private Object next;
+    private boolean fetched;
+    private boolean done;
+
+    private JacksonIterator(ObjectReader reader, JsonParser parser, InputStream stream, JsonToken endToken) {
+        this.reader = reader;
+        this.parser = parser;
+        this.stream = stream;
+        this.endToken = endToken;
+    }
+
+    /**
+     * Creates an iterator over the elements of the array at the given location of the JSON document.
+     *
+     * @param reader  the reader of the elements
+     * @param stream  the JSON document
+     * @param pointer the JSON pointer of the array, or <tt>null</tt> for the top level array
+     */
+    public static JacksonIterator forArray(ObjectReader reader, InputStream stream, String pointer) throws IOException {
+        JsonParser parser = reader.createParser(stream);
+        try {
+            JsonToken token = parser.nextToken();
+            JsonPointer ptr = pointer != null ? JsonPointer.compile(pointer) : JsonPointer.empty();
+            for (; !ptr.matches(); ptr = ptr.tail()) {
+                token = moveTo(parser, token, ptr);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(parser,
+                        "Expected an array at " + (pointer != null ? pointer : "the top level") + " but found: " + token);
+            }
+        } catch (IOException | RuntimeException e) {
+            IOHelper.close(parser, stream);
+            throw e;
+        }
+        return new JacksonIterator(reader, parser, stream, JsonToken.END_ARRAY);
+    }
+
+    /**
+     * Creates an iterator over the values of a JSON lines (NDJSON) input, where each line holds a JSON value.
+     *
+     * @param reader the reader of the values
+     * @param stream the JSON lines
+     */
+    public static JacksonIterator forLines(ObjectReader reader, InputStream stream) throws IOException {
+        return new JacksonIterator(reader, reader.createParser(stream), stream, null);
+    }
+
+    /**
+     * Moves the parser to the value matched by the head of the pointer, within the current object or array.
+     */
+    private static JsonToken moveTo(JsonParser parser, JsonToken token, JsonPointer pointer) throws IOException {
+        if (token == JsonToken.START_OBJECT) {
+            String name = pointer.getMatchingProperty();
+            for (token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                if (name.equals(parser.getCurrentName())) {
+                    return parser.nextToken();
+                }
+                // skip the value of the other field
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        } else if (token == JsonToken.START_ARRAY && pointer.mayMatchElement()) {
+            int index = pointer.getMatchingIndex();
+            for (token = parser.nextToken(); token != JsonToken.END_ARRAY && token != null; token = parser.nextToken()) {
+                if (index-- == 0) {
+                    return token;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw JsonMappingException.from(parser, "Cannot find " + pointer + " in the JSON document");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!fetched && !done) {
+            fetched = readNext();
+        }
+        return fetched;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        fetched = false;
+        return answer;
+    }
+
+    private boolean readNext() {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token != endToken && token != null) {
+                next = token == JsonToken.VALUE_NULL ? null : reader.readValue(parser);
+                return true;
+            }
+            close();
+            return false;
+        } catch (IOException e) {
+            close();
+            throw new RuntimeCamelException("Error reading the next JSON value", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!done) {
+            done = true;
+            IOHelper.close(parser, stream);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JacksonLazyLoadTest extends CamelTestSupport {
+
+    @Test
+    public void testSplitArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:array");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+
+        template.sendBody("direct:array", "[{\"name\": \"Camel\"}, {\"name\": \"Donkey\"}, {\"name\": \"Horse\"}]");
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals("Donkey", mock.getExchanges().get(1).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testSplitNestedArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:nested");
+        mock.expectedMessageCount(2);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+
+        template.sendBody("direct:nested", "{\"status\": {\"code\": 200, \"items\": [1, 2]}, "
+                                           + "\"result\": {\"items\": [{\"name\": \"Camel\"}, {\"name\": \"Donkey\"}]}}");
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals("Camel", mock.getExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testNestedArrayNotFound() {
+        Exception e = assertThrows(Exception.class,
+                () -> template.sendBody("direct:nested", "{\"status\": {\"code\": 404}}"));
+        assertEquals(JsonMappingException.class, e.getCause().getClass());
+    }
+
+    @Test
+    public void testSplitJsonLines() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:lines");
+        mock.expectedMessageCount(2);
+        mock.allMessages().body().isInstanceOf(Map.class);
+
+        template.sendBody("direct:lines", "{\"name\": \"Camel\"}\n{\"name\": \"Donkey\"}\n");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testMarshalJsonLines() {
+        TestPojo camel = new TestPojo();
+        camel.setName("Camel");
+        TestPojo donkey = new TestPojo();
+        donkey.setName("Donkey");
+
+        String lines = template.requestBody("direct:marshalLines", Arrays.asList(camel, donkey), String.class);
+        assertEquals("{\"name\":\"Camel\"}\n{\"name\":\"Donkey\"}\n", lines);
+
+        List<?> pojos = template.requestBody("direct:unmarshalLines", lines, List.class);
+        assertEquals(2, pojos.size());
+        assertEquals("Donkey", ((TestPojo) pojos.get(1)).getName());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                JacksonDataFormat array = new JacksonDataFormat(TestPojo.class);
+                array.setLazyLoad(true);
+                from("direct:array").unmarshal(array).split(body()).streaming().to("mock:array");
+
+                JacksonDataFormat nested = new JacksonDataFormat(TestPojo.class);
+                nested.setLazyLoad(true);
+                nested.setArrayPointer("/result/items");
+                from("direct:nested").unmarshal(nested).split(body()).streaming().to("mock:nested");
+
+                JacksonDataFormat lines = new JacksonDataFormat();
+                lines.setLazyLoad(true);
+                lines.setJsonLines(true);
+                from("direct:lines").unmarshal(lines).split(body()).streaming().to("mock:lines");
+
+                JacksonDataFormat pojoLines = new JacksonDataFormat(TestPojo.class);
+                pojoLines.setJsonLines(true);
+                from("direct:marshalLines").marshal(pojoLines);
+                from("direct:unmarshalLines").unmarshal(pojoLines);
+            }
+        };
+    }
+}
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -53,12 +54,22 @@ public class JsonPathEngine {
     private static final String JACKSON_JSON_ADAPTER = "org.apache.camel.jsonpath.jackson.JacksonJsonAdapter";
 
     private static final Pattern SIMPLE_PATTERN = Pattern.compile("\\$\\{[^\\}]+\\}", Pattern.MULTILINE);
+
+    /**
+     * Exchange property holding the last parsed JSON document when the document cache is enabled, so the jsonpath
+     * expressions evaluated on the same payload only parse it once.
+     */
+    static final String PARSED_DOCUMENT = "CamelJsonPathParsedDocument";
+    private static final Object DEFAULT_MAPPER = new Object();
+
     private final String expression;
     private final boolean writeAsString;
     private final String headerName;
     private final String propertyName;
     private final Configuration configuration;
     private final boolean hasSimple;
+    private final Object parserKey;
+    private boolean documentCache;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -80,6 +91,8 @@ public class JsonPathEngine {
         }
         // Use custom ObjectMapper if provided (CAMEL-17956)
         ObjectMapper objectMapper = findRegisteredMapper(context);
+        // the documents parsed by the same object mapper are the same, whatever the options of the engine
+        this.parserKey = objectMapper != null ? objectMapper : DEFAULT_MAPPER;
         if (objectMapper != null) {
             builder.jsonProvider(new JacksonJsonProvider(objectMapper));
             builder.mappingProvider(new JacksonMappingProvider(objectMapper));
@@ -104,6 +117,18 @@ public class JsonPathEngine {
         this.hasSimple = simpleInUse;
     }
 
+    public boolean isDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Whether to keep the document parsed from the message body (or header) on the exchange, so the following jsonpath
+     * expressions evaluated on the same payload do not parse it again. The document cache is disabled by default.
+     */
+    public void setDocumentCache(boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     private ObjectMapper findRegisteredMapper(CamelContext context) {
         if (context != null) {
             return context.getRegistry().findSingleByType(ObjectMapper.class);
@@ -197,15 +222,25 @@ public class JsonPathEngine {
             GenericFile<?> genericFile = (GenericFile<?>) json;
             if (genericFile.getCharset() != null) {
                 // special treatment for generic file with charset
-                InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
+                Object document = getParsedDocument(exchange, json);
+                if (document == null) {
+                    try (InputStream inputStream = new FileInputStream((File) genericFile.getFile())) {
+                        document = JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).json();
+                    }
+                    setParsedDocument(exchange, json, document);
+                }
+                return readParsedDocument(document, path);
             }
         }
 
         if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
-            String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
+            Object document = getParsedDocument(exchange, json);
+            if (document == null) {
+                document = JsonPath.using(configuration).parse((String) json).json();
+                setParsedDocument(exchange, json, document);
+            }
+            return readParsedDocument(document, path);
         } else if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
@@ -247,6 +282,11 @@ public class JsonPathEngine {
         Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
+        Object document = getParsedDocument(exchange, json);
+        if (document != null) {
+            return readParsedDocument(document, path);
+        }
+
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
 
         if (json instanceof StreamCache) {
@@ -257,18 +297,81 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                document = JsonPath.using(configuration).parse(is, jsonEncoding).json();
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                document = JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).json();
             }
+            setParsedDocument(exchange, json, document);
+            return readParsedDocument(document, path);
         }
 
         return null;
     }
 
+    /**
+     * Reads from a parsed document which is kept on the exchange. The maps and lists of the result are copied, as they
+     * would otherwise be part of the document read by the following jsonpath expressions.
+     */
+    private Object readParsedDocument(Object document, String path) {
+        Object answer = JsonPath.using(configuration).parse(document).read(path);
+        return copyContainers(answer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyContainers(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copyContainers(entry.getValue()));
+            }
+            return copy;
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyContainers(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the document which has already been parsed from the payload by a jsonpath expression evaluated on the same
+     * exchange, if the payload is still the same object, such as when the message body has not been set in between.
+     */
+    private Object getParsedDocument(Exchange exchange, Object payload) {
+        if (!documentCache) {
+            return null;
+        }
+        Object cached = exchange.getProperty(PARSED_DOCUMENT);
+        if (cached instanceof ParsedDocument) {
+            ParsedDocument parsed = (ParsedDocument) cached;
+            if (parsed.payload != payload) {
+                // the payload has changed, so do not keep the document parsed from the previous payload in memory
+                exchange.removeProperty(PARSED_DOCUMENT);
+            } else if (parsed.parserKey == parserKey) {
+                LOG.trace("JSonPath: reusing the document parsed from: {}", payload);
+                return parsed.document;
+            }
+        }
+        return null;
+    }
+
+    private void setParsedDocument(Exchange exchange, Object payload, Object document) {
+        // only payloads which are not changed in place, as the document is found again by the identity of the payload
+        boolean immutable = payload instanceof String || payload instanceof byte[] || payload instanceof StreamCache
+                || payload instanceof InputStream || payload instanceof GenericFile;
+        if (documentCache && immutable && document != null) {
+            // a new instance as the exchange properties (and so the cached document) are copied to sub exchanges
+            exchange.setProperty(PARSED_DOCUMENT, new ParsedDocument(payload, parserKey, document));
+        }
+    }
+
     private Object readWithAdapter(String path, Exchange exchange) {
         Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
@@ -318,4 +421,17 @@ public class JsonPathEngine {
             initJsonAdapter = true;
         }
     }
+
+    private static final class ParsedDocument {
+
+        private final Object payload;
+        private final Object parserKey;
+        private final Object document;
+
+        private ParsedDocument(Object payload, Object parserKey, Object document) {
+            this.payload = payload;
+            this.parserKey = parserKey;
+            this.document = document;
+        }
+    }
 }
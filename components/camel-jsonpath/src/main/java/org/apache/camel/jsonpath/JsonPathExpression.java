@@ -46,6 +46,7 @@ public class JsonPathExpression extends ExpressionAdapter {
     private String headerName;
     private String propertyName;
     private Option[] options;
+    private boolean documentCache;
 
     public JsonPathExpression(String expression) {
         this.expression = expression;
@@ -164,6 +165,18 @@ public class JsonPathExpression extends ExpressionAdapter {
         this.options = options;
     }
 
+    public boolean isDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Whether to keep the parsed document on the exchange, so the following jsonpath expressions evaluated on the same
+     * message body (or header) reuse it instead of parsing it again.
+     */
+    public void setDocumentCache(boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     @Override
     public Object evaluate(Exchange exchange) {
         try {
@@ -206,6 +219,7 @@ public class JsonPathExpression extends ExpressionAdapter {
         try {
             engine = new JsonPathEngine(
                     exp, writeAsString, suppressExceptions, allowSimple, headerName, propertyName, options, context);
+            engine.setDocumentCache(documentCache);
         } catch (Exception e) {
             throw new ExpressionIllegalSyntaxException(exp, e);
         }
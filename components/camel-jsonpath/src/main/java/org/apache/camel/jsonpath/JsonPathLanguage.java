@@ -39,6 +39,7 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
     private boolean writeAsString;
     private boolean unpackArray;
     private Option[] options;
+    private boolean documentCache;
 
     public boolean isSuppressExceptions() {
         return suppressExceptions;
@@ -88,6 +89,18 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
         this.options = options;
     }
 
+    public boolean isDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Whether the expressions keep the parsed document on the exchange, so the following jsonpath expressions evaluated
+     * on the same message body (or header) reuse it instead of parsing it again. This is disabled by default.
+     */
+    public void setDocumentCache(boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     @Override
     public Predicate createPredicate(String expression) {
         JsonPathExpression answer = (JsonPathExpression) createExpression(expression);
@@ -107,6 +120,7 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
         answer.setUnpackArray(unpackArray);
         answer.setPropertyName(getPropertyName());
         answer.setOptions(options);
+        answer.setDocumentCache(documentCache);
         answer.init(getCamelContext());
         return answer;
     }
@@ -137,6 +151,7 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
             answer.setOptions(list.toArray(new Option[0]));
         }
         answer.setPropertyName(property(String.class, properties, 8, getPropertyName()));
+        answer.setDocumentCache(documentCache);
         answer.init(getCamelContext());
         return answer;
     }
@@ -197,6 +212,10 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
             case "options":
                 setOptions(PropertyConfigurerSupport.property(camelContext, Option[].class, value));
                 return true;
+            case "documentcache":
+            case "documentCache":
+                setDocumentCache(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
+                return true;
             default:
                 return false;
         }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that the parsed document is not kept on the exchange unless the document cache is enabled.
+ */
+public class JsonPathParsedDocumentDisabledTest extends CamelTestSupport {
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("kind").jsonpath("$.kind")
+                        .setHeader("title").jsonpath("$.store.book[0].title")
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testDocumentCacheDisabledByDefault() throws Exception {
+        assertFalse(((JsonPathLanguage) context.resolveLanguage("jsonpath")).isDocumentCache());
+
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedHeaderReceived("kind", "books");
+        result.expectedHeaderReceived("title", "Sword of Honour");
+
+        template.sendBody("direct:start", "{\"kind\": \"books\", \"store\": {\"book\": ["
+                                          + "{\"title\": \"Sword of Honour\", \"price\": 12.99}]}}");
+
+        MockEndpoint.assertIsSatisfied(context);
+        Exchange exchange = result.getReceivedExchanges().get(0);
+        assertNull(exchange.getProperty(JsonPathEngine.PARSED_DOCUMENT));
+    }
+}
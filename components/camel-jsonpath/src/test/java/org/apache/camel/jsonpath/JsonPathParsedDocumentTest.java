@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the jsonpath expressions evaluated on the same message body share the parsed document, which is parsed
+ * again when the body is changed.
+ */
+public class JsonPathParsedDocumentTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        JsonPathLanguage jsonpath = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        jsonpath.setDocumentCache(true);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("kind").jsonpath("$.kind")
+                        .choice()
+                        .when().jsonpath("$.store.book[?(@.price < 10)]")
+                        .to("mock:cheap")
+                        .when().jsonpath("$.store.book[?(@.price < 30)]")
+                        .to("mock:average")
+                        .otherwise()
+                        .to("mock:expensive")
+                        .end()
+                        .setBody().jsonpathWriteAsString("$.store.book[0]")
+                        .setHeader("title").jsonpath("$.title")
+                        .to("mock:result");
+
+                from("direct:change")
+                        .setHeader("store").jsonpath("$.store")
+                        .process(e -> e.getMessage().getHeader("store", Map.class).clear())
+                        .setHeader("title").jsonpath("$.store.book[0].title")
+                        .to("mock:change");
+            }
+        };
+    }
+
+    @Test
+    public void testInputStreamBodyIsParsedOnce() throws Exception {
+        // the stream can only be read once, so the expressions after the first one use the parsed document
+        getMockEndpoint("mock:average").expectedMessageCount(1);
+        getMockEndpoint("mock:cheap").expectedMessageCount(0);
+        getMockEndpoint("mock:expensive").expectedMessageCount(0);
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedHeaderReceived("kind", "books");
+        result.expectedHeaderReceived("title", "Sword of Honour");
+
+        String json = "{\"kind\": \"books\", \"store\": {\"book\": ["
+                      + "{\"title\": \"Sword of Honour\", \"price\": 12.99}, {\"title\": \"Moby Dick\", \"price\": 22.99}]}}";
+        template.sendBody("direct:start", new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testStringBodyChanged() throws Exception {
+        getMockEndpoint("mock:expensive").expectedMessageCount(1);
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedHeaderReceived("kind", "books");
+        // the title is read from the new body rather than from the document parsed from the previous body
+        result.expectedHeaderReceived("title", "The Lord of the Rings");
+
+        template.sendBody("direct:start", "{\"kind\": \"books\", \"store\": {\"book\": ["
+                                          + "{\"title\": \"The Lord of the Rings\", \"price\": 42.99}]}}");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testResultChangedInPlace() throws Exception {
+        MockEndpoint change = getMockEndpoint("mock:change");
+        // the map returned by the first expression is a copy, so clearing it does not change the parsed document
+        change.expectedHeaderReceived("title", "Sword of Honour");
+
+        template.sendBody("direct:change", "{\"store\": {\"book\": [{\"title\": \"Sword of Honour\", \"price\": 12.99}]}}");
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertTrue(change.getReceivedExchanges().get(0).getMessage().getHeader("store", Map.class).isEmpty());
+    }
+}
@@ -33,6 +33,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": target.getConfiguration().setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -241,6 +242,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": return java.lang.String.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -450,6 +452,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return target.getConfiguration().isBatchWithIndividualHeaders();
+        case "batching": return target.getConfiguration().isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -140,6 +140,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
     @UriParam(label = "consumer", defaultValue = "ERROR_HANDLER")
     private PollOnError pollOnError = PollOnError.ERROR_HANDLER;
@@ -831,6 +833,22 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to route all the records from a poll as a single exchange, instead of one exchange per record. The
+     * message body is then a java.util.List of exchanges, one per record, which has the record value as body and the
+     * kafka headers. The size of the batch is bounded by the maxPollRecords and pollTimeoutMs options. The offsets of
+     * the records are committed after the batch has been processed successfully. If the batch failed, and
+     * breakOnFirstError is enabled, then the consumer seeks back to the start of the batch, so the entire batch is
+     * consumed again.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
     public String getBrokers() {
         return brokers;
     }
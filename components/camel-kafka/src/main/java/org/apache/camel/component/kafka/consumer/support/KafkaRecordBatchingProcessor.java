@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes all the records from a poll as a single exchange, where the message body is a list of exchanges (one per
+ * record).
+ */
+public class KafkaRecordBatchingProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordBatchingProcessor.class);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final KafkaConfiguration configuration;
+    private final Processor processor;
+    private final CommitManager commitManager;
+
+    public KafkaRecordBatchingProcessor(KafkaConsumer camelKafkaConsumer, KafkaConfiguration configuration,
+                                        Processor processor, CommitManager commitManager) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.configuration = configuration;
+        this.processor = processor;
+        this.commitManager = commitManager;
+    }
+
+    public ProcessingResult processExchange(
+            Exchange exchange, ConsumerRecords<Object, Object> records, ProcessingResult lastResult,
+            ExceptionHandler exceptionHandler) {
+
+        List<Exchange> exchanges = new ArrayList<>(records.count());
+        for (TopicPartition partition : records.partitions()) {
+            for (ConsumerRecord<Object, Object> record : records.records(partition)) {
+                exchanges.add(createRecordExchange(partition, record));
+            }
+        }
+        exchange.getMessage().setBody(exchanges);
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        boolean failed = exchange.getException() != null;
+        if (failed && processException(exchange, records, exceptionHandler)) {
+            return new ProcessingResult(true, lastResult.getPartitionLastOffset(), true);
+        }
+
+        // the batch is done (or the failure was handled) so record the last offset for each partition
+        long lastOffset = lastResult.getPartitionLastOffset();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = records.records(partition);
+            lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+            commitManager.recordOffset(partition, lastOffset);
+        }
+        return new ProcessingResult(false, lastOffset, failed);
+    }
+
+    private Exchange createRecordExchange(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+        // the record exchanges are referenced from the body of the batch exchange, which can be kept after the batch
+        // is done (such as when aggregated), so they are not pooled (and released) as exchanges from the consumer are
+        Exchange answer = camelKafkaConsumer.getEndpoint().createExchange();
+        answer.getExchangeExtension().setFromRouteId(camelKafkaConsumer.getRouteId());
+        Message message = answer.getMessage();
+
+        KafkaRecordProcessor.setupExchangeMessage(message, record);
+        KafkaRecordProcessor.propagateHeaders(configuration, record, answer);
+
+        if (configuration.isAllowManualCommit()) {
+            // allow Camel users to access the Kafka consumer API to be able to do for example manual commits
+            KafkaManualCommit manual = commitManager.getManualCommit(answer, partition, record);
+            message.setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+        }
+        return answer;
+    }
+
+    private boolean processException(
+            Exchange exchange, ConsumerRecords<Object, Object> records, ExceptionHandler exceptionHandler) {
+
+        // processing failed due to an unhandled exception, what should we do
+        if (configuration.isBreakOnFirstError()) {
+            // we are failing and we should break out
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Error during processing batch of {} records from partitions: {}", records.count(),
+                        records.partitions(), exchange.getException());
+                LOG.warn("Will seek consumer to the start of the batch and start polling again.");
+            }
+
+            // force commit the offset before the batch, so we resume on next poll from the start of the batch
+            for (TopicPartition partition : records.partitions()) {
+                long firstOffset = records.records(partition).get(0).offset();
+                commitManager.forceCommit(partition, firstOffset - 1);
+            }
+
+            return true;
+        } else {
+            // will handle/log the exception and then continue to next
+            exceptionHandler.handleException("Error during processing", exchange, exchange.getException());
+        }
+
+        return false;
+    }
+}
@@ -51,7 +51,7 @@ public class KafkaRecordProcessor {
         this.commitManager = commitManager;
     }
 
-    private void setupExchangeMessage(Message message, ConsumerRecord record) {
+    static void setupExchangeMessage(Message message, ConsumerRecord record) {
         message.setHeader(KafkaConstants.PARTITION, record.partition());
         message.setHeader(KafkaConstants.TOPIC, record.topic());
         message.setHeader(KafkaConstants.OFFSET, record.offset());
@@ -66,11 +66,11 @@ public class KafkaRecordProcessor {
         message.setBody(record.value());
     }
 
-    private boolean shouldBeFiltered(Header header, Exchange exchange, HeaderFilterStrategy headerFilterStrategy) {
+    private static boolean shouldBeFiltered(Header header, Exchange exchange, HeaderFilterStrategy headerFilterStrategy) {
         return !headerFilterStrategy.applyFilterToExternalHeaders(header.key(), header.value(), exchange);
     }
 
-    private void propagateHeaders(ConsumerRecord<Object, Object> record, Exchange exchange) {
+    static void propagateHeaders(KafkaConfiguration configuration, ConsumerRecord<Object, Object> record, Exchange exchange) {
 
         HeaderFilterStrategy headerFilterStrategy = configuration.getHeaderFilterStrategy();
         KafkaHeaderDeserializer headerDeserializer = configuration.getHeaderDeserializer();
@@ -90,7 +90,7 @@ public class KafkaRecordProcessor {
 
         setupExchangeMessage(message, record);
 
-        propagateHeaders(record, exchange);
+        propagateHeaders(configuration, record, exchange);
 
         // if not auto commit then we have additional information on the exchange
         if (!autoCommitEnabled) {
@@ -37,6 +37,7 @@ public class KafkaRecordProcessorFacade {
     private final KafkaConsumer camelKafkaConsumer;
     private final String threadId;
     private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final KafkaRecordBatchingProcessor kafkaRecordBatchingProcessor;
     private final CommitManager commitManager;
     private final KafkaConsumerListener consumerListener;
 
@@ -47,6 +48,7 @@ public class KafkaRecordProcessorFacade {
         this.commitManager = commitManager;
 
         kafkaRecordProcessor = buildKafkaRecordProcessor(commitManager);
+        kafkaRecordBatchingProcessor = buildKafkaRecordBatchingProcessor(commitManager);
         this.consumerListener = consumerListener;
     }
 
@@ -58,6 +60,10 @@ public class KafkaRecordProcessorFacade {
             ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
         logRecords(allRecords);
 
+        if (kafkaRecordBatchingProcessor != null) {
+            return processPolledRecordsAsBatch(allRecords, resultFromPreviousPoll);
+        }
+
         Set<TopicPartition> partitions = allRecords.partitions();
         Iterator<TopicPartition> partitionIterator = partitions.iterator();
 
@@ -96,6 +102,37 @@ public class KafkaRecordProcessorFacade {
         return lastResult;
     }
 
+    private ProcessingResult processPolledRecordsAsBatch(
+            ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
+
+        ProcessingResult lastResult
+                = resultFromPreviousPoll == null ? ProcessingResult.newUnprocessed() : resultFromPreviousPoll;
+
+        if (allRecords.isEmpty() || isStopping()) {
+            return lastResult;
+        }
+
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        lastResult = kafkaRecordBatchingProcessor.processExchange(exchange, allRecords, lastResult,
+                camelKafkaConsumer.getExceptionHandler());
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        if (consumerListener != null) {
+            if (!consumerListener.afterProcess(lastResult)) {
+                allRecords.partitions().forEach(commitManager::commit);
+                return lastResult;
+            }
+        }
+
+        if (!lastResult.isBreakOnErrorHit()) {
+            LOG.debug("Committing offsets on successful execution of batch");
+            // all records processed from the batch so commit them
+            allRecords.partitions().forEach(commitManager::commit);
+        }
+
+        return lastResult;
+    }
+
     private void logRecordsInPartition(List<ConsumerRecord<Object, Object>> partitionRecords, TopicPartition partition) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Records count {} received for partition {}", partitionRecords.size(),
@@ -148,4 +185,15 @@ public class KafkaRecordProcessorFacade {
                 camelKafkaConsumer.getProcessor(),
                 commitManager);
     }
+
+    private KafkaRecordBatchingProcessor buildKafkaRecordBatchingProcessor(CommitManager commitManager) {
+        if (!camelKafkaConsumer.getEndpoint().getConfiguration().isBatching()) {
+            return null;
+        }
+        return new KafkaRecordBatchingProcessor(
+                camelKafkaConsumer,
+                camelKafkaConsumer.getEndpoint().getConfiguration(),
+                camelKafkaConsumer.getProcessor(),
+                commitManager);
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.PooledExchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordBatchingProcessorTest {
+
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    private final KafkaConsumer consumer = mock(KafkaConsumer.class);
+    private CamelContext context;
+    private PooledExchangeFactory exchangeFactory;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+        context.start();
+
+        // use pooled exchanges so the record exchanges would be reused if they were released by the consumer
+        exchangeFactory = new PooledExchangeFactory(consumer);
+        exchangeFactory.setCamelContext(context);
+        exchangeFactory.start();
+        when(consumer.getRouteId()).thenReturn("batch");
+        when(consumer.createExchange(false)).thenAnswer(i -> exchangeFactory.create(consumer.getEndpoint(), false));
+        doAnswer(i -> {
+            PooledExchange exchange = i.getArgument(0);
+            exchange.done();
+            return exchangeFactory.release(exchange);
+        }).when(consumer).releaseExchange(any(), eq(false));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        exchangeFactory.stop();
+        context.stop();
+    }
+
+    @Test
+    public void testRecordExchangesCanBeKeptAfterBatch() throws Exception {
+        KafkaEndpoint endpoint = context.getEndpoint("kafka:test?brokers=localhost:9092&batching=true", KafkaEndpoint.class);
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+
+        when(consumer.getEndpoint()).thenReturn(endpoint);
+
+        List<Exchange> kept = new ArrayList<>();
+        KafkaRecordBatchingProcessor processor = new KafkaRecordBatchingProcessor(
+                consumer, configuration, e -> kept.addAll(e.getMessage().getBody(List.class)), commitManager);
+
+        TopicPartition partition0 = new TopicPartition("test", 0);
+        TopicPartition partition1 = new TopicPartition("test", 1);
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> map = new LinkedHashMap<>();
+        map.put(partition0, List.of(new ConsumerRecord<>("test", 0, 10, "k1", "a"),
+                new ConsumerRecord<>("test", 0, 11, "k2", "b")));
+        map.put(partition1, List.of(new ConsumerRecord<>("test", 1, 20, "k3", "c")));
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(map);
+
+        Exchange exchange = consumer.createExchange(false);
+        ProcessingResult result
+                = processor.processExchange(exchange, records, ProcessingResult.newUnprocessed(), exceptionHandler);
+        consumer.releaseExchange(exchange, false);
+
+        assertFalse(result.isBreakOnErrorHit());
+        verify(commitManager).recordOffset(partition0, 11);
+        verify(commitManager).recordOffset(partition1, 20);
+
+        // process another batch which must not reuse the record exchanges from the first batch
+        Exchange next = consumer.createExchange(false);
+        processor.processExchange(next, new ConsumerRecords<>(
+                Map.of(partition0, List.of(new ConsumerRecord<>("test", 0, 12, "k4", "d")))),
+                result, exceptionHandler);
+        consumer.releaseExchange(next, false);
+
+        assertEquals(4, kept.size());
+        for (int i = 0; i < kept.size(); i++) {
+            for (int j = i + 1; j < kept.size(); j++) {
+                assertNotSame(kept.get(i), kept.get(j));
+            }
+        }
+
+        // the record exchanges of the first batch are still intact after the batch is done
+        List<Object> bodies = new ArrayList<>();
+        for (Exchange recordExchange : kept) {
+            bodies.add(recordExchange.getMessage().getBody());
+        }
+        assertEquals(List.of("a", "b", "c", "d"), bodies);
+        assertEquals("k1", kept.get(0).getMessage().getHeader(KafkaConstants.KEY));
+        assertEquals(20L, kept.get(2).getMessage().getHeader(KafkaConstants.OFFSET));
+    }
+}
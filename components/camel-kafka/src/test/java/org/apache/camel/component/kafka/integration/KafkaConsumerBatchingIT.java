@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.integration.common.KafkaTestUtil;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class KafkaConsumerBatchingIT extends BaseEmbeddedKafkaTestSupport {
+
+    public static final String TOPIC = "test-batching";
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                fromF("kafka:%s?brokers=%s&autoOffsetReset=earliest&autoCommitEnable=false&consumersCount=1"
+                      + "&batching=true&maxPollRecords=10&pollTimeoutMs=1000",
+                        TOPIC, service.getBootstrapServers())
+                        .routeId("foo").to(KafkaTestUtil.MOCK_RESULT).setId("First");
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesIsConsumedAsBatch() throws Exception {
+        MockEndpoint to = contextExtension.getMockEndpoint(KafkaTestUtil.MOCK_RESULT);
+        to.expectedMinimumMessageCount(1);
+
+        for (int k = 1; k <= 5; k++) {
+            String msg = "m" + k;
+            ProducerRecord<String, String> data = new ProducerRecord<>(TOPIC, "1", msg);
+            producer.send(data);
+        }
+        producer.flush();
+
+        to.assertIsSatisfied();
+
+        // all the records may not be in the same poll, so count the records from all the batches
+        Awaitility.await().atMost(30, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(5, countRecords(to)));
+    }
+
+    private static int countRecords(MockEndpoint mock) {
+        int count = 0;
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            List<?> batch = exchange.getMessage().getBody(List.class);
+            assertNotNull(batch);
+            for (Object o : batch) {
+                Exchange record = (Exchange) o;
+                assertEquals(TOPIC, record.getMessage().getHeader(KafkaConstants.TOPIC));
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -25,6 +25,8 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "appName": target.setAppName(property(camelContext, java.lang.String.class, value)); return true;
         case "authsource":
         case "authSource": target.setAuthSource(property(camelContext, java.lang.String.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "collection": target.setCollection(property(camelContext, java.lang.String.class, value)); return true;
@@ -114,6 +116,12 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "username": target.setUsername(property(camelContext, java.lang.String.class, value)); return true;
         case "waitqueuetimeoutms":
         case "waitQueueTimeoutMS": target.setWaitQueueTimeoutMS(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "writebatchlingertime":
+        case "writeBatchLingerTime": target.setWriteBatchLingerTime(property(camelContext, long.class, value)); return true;
+        case "writebatchordered":
+        case "writeBatchOrdered": target.setWriteBatchOrdered(property(camelContext, boolean.class, value)); return true;
+        case "writebatchsize":
+        case "writeBatchSize": target.setWriteBatchSize(property(camelContext, int.class, value)); return true;
         case "writeconcern":
         case "writeConcern": target.setWriteConcern(property(camelContext, java.lang.String.class, value)); return true;
         case "writeresultasheader":
@@ -131,6 +139,8 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "appName": return java.lang.String.class;
         case "authsource":
         case "authSource": return java.lang.String.class;
+        case "batchsize":
+        case "batchSize": return java.lang.Integer.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "collection": return java.lang.String.class;
@@ -220,6 +230,12 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "username": return java.lang.String.class;
         case "waitqueuetimeoutms":
         case "waitQueueTimeoutMS": return java.lang.Integer.class;
+        case "writebatchlingertime":
+        case "writeBatchLingerTime": return long.class;
+        case "writebatchordered":
+        case "writeBatchOrdered": return boolean.class;
+        case "writebatchsize":
+        case "writeBatchSize": return int.class;
         case "writeconcern":
         case "writeConcern": return java.lang.String.class;
         case "writeresultasheader":
@@ -238,6 +254,8 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "appName": return target.getAppName();
         case "authsource":
         case "authSource": return target.getAuthSource();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "collection": return target.getCollection();
@@ -327,6 +345,12 @@ public class MongoDbEndpointConfigurer extends PropertyConfigurerSupport impleme
         case "username": return target.getUsername();
         case "waitqueuetimeoutms":
         case "waitQueueTimeoutMS": return target.getWaitQueueTimeoutMS();
+        case "writebatchlingertime":
+        case "writeBatchLingerTime": return target.getWriteBatchLingerTime();
+        case "writebatchordered":
+        case "writeBatchOrdered": return target.isWriteBatchOrdered();
+        case "writebatchsize":
+        case "writeBatchSize": return target.getWriteBatchSize();
         case "writeconcern":
         case "writeConcern": return target.getWriteConcern();
         case "writeresultasheader":
@@ -21,9 +21,10 @@ public class MongoDbEndpointUriFactory extends org.apache.camel.support.componen
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(55);
+        Set<String> props = new HashSet<>(59);
         props.add("appName");
         props.add("authSource");
+        props.add("batchSize");
         props.add("bridgeErrorHandler");
         props.add("collection");
         props.add("collectionIndex");
@@ -74,6 +75,9 @@ public class MongoDbEndpointUriFactory extends org.apache.camel.support.componen
         props.add("tlsAllowInvalidHostnames");
         props.add("username");
         props.add("waitQueueTimeoutMS");
+        props.add("writeBatchLingerTime");
+        props.add("writeBatchOrdered");
+        props.add("writeBatchSize");
         props.add("writeConcern");
         props.add("writeResultAsHeader");
         props.add("zlibCompressionLevel");
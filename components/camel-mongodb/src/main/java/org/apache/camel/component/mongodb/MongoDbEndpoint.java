@@ -117,6 +117,14 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     private String tailTrackField;
     @UriParam(label = "common")
     private MongoDbOutputType outputType;
+    @UriParam(label = "producer")
+    private Integer batchSize;
+    @UriParam(label = "producer,advanced")
+    private int writeBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private long writeBatchLingerTime = 100;
+    @UriParam(label = "producer,advanced", defaultValue = "true")
+    private boolean writeBatchOrdered = true;
     //Server Selection Configuration
     @UriParam(label = "advanced", defaultValue = "30000")
     private Integer serverSelectionTimeoutMS = 30000;
@@ -205,6 +213,9 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     public Producer createProducer() {
         validateProducerOptions();
         initializeConnection();
+        if (writeBatchSize > 1) {
+            return new MongoDbWriteBatchProducer(this);
+        }
         return new MongoDbProducer(this);
     }
 
@@ -708,6 +719,59 @@ public class MongoDbEndpoint extends DefaultEndpoint {
         this.outputType = outputType;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of documents fetched from the server per batch by the cursor of the findAll and aggregate
+     * operations, unless overridden by the CamelMongoDbBatchSize header. Together with the MongoIterable output type
+     * this allows streaming large results (such as with the streaming mode of the splitter) with a bounded memory
+     * usage.
+     */
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * Combines the inserts of a single document of the exchanges sent concurrently to the producer into bulk writes of
+     * up to this number of documents. A bulk write is executed when it is full, or when the write batch linger time has
+     * elapsed. Each exchange is completed with its own inserted document. The other operations are not combined. Is
+     * disabled by default.
+     */
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    public long getWriteBatchLingerTime() {
+        return writeBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more writes before executing a bulk write which is not full, when the
+     * write batch size is set.
+     */
+    public void setWriteBatchLingerTime(long writeBatchLingerTime) {
+        this.writeBatchLingerTime = writeBatchLingerTime;
+    }
+
+    public boolean isWriteBatchOrdered() {
+        return writeBatchOrdered;
+    }
+
+    /**
+     * Whether the bulk writes combined from the exchanges are ordered, where the writes following a failed write are
+     * not executed, or unordered, where the server may execute the writes in any order and continues after a failed
+     * write.
+     */
+    public void setWriteBatchOrdered(boolean writeBatchOrdered) {
+        this.writeBatchOrdered = writeBatchOrdered;
+    }
+
     public MongoDatabase getMongoDatabase() {
         return mongoDatabase;
     }
@@ -99,6 +99,20 @@ public class MongoDbProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        MongoDbOperation operation = resolveOperation(exchange);
+
+        try {
+            invokeOperation(operation, exchange);
+        } catch (Exception e) {
+            throw MongoDbComponent.wrapInCamelMongoDbException(e);
+        }
+
+    }
+
+    /**
+     * Determines the operation to execute, which is the operation of the endpoint unless overridden by header
+     */
+    protected MongoDbOperation resolveOperation(Exchange exchange) throws CamelMongoDbException {
         MongoDbOperation operation = endpoint.getOperation();
         Object header = exchange.getIn().getHeader(OPERATION_HEADER);
         if (header != null) {
@@ -114,13 +128,7 @@ public class MongoDbProducer extends DefaultProducer {
                 throw new CamelMongoDbException("Operation specified on header is not supported. Value: " + header, e);
             }
         }
-
-        try {
-            invokeOperation(operation, exchange);
-        } catch (Exception e) {
-            throw MongoDbComponent.wrapInCamelMongoDbException(e);
-        }
-
+        return operation;
     }
 
     /**
@@ -186,7 +194,7 @@ public class MongoDbProducer extends DefaultProducer {
         return dynamicCollection;
     }
 
-    private MongoCollection<Document> calculateCollection(Exchange exchange) {
+    protected MongoCollection<Document> calculateCollection(Exchange exchange) {
         // dynamic calculation is an option. In most cases it won't be used and
         // we should not penalise all users with running this
         // resolution logic on every Exchange if they won't be using this
@@ -252,12 +260,19 @@ public class MongoDbProducer extends DefaultProducer {
     private Processor wrap(Function<Exchange, Object> supplier, MongoDbOperation operation) {
         return exchange -> {
             Object result = supplier.apply(exchange);
-            copyHeaders(exchange);
-            moveBodyToOutIfResultIsReturnedAsHeader(exchange, operation);
-            processAndTransferResult(result, exchange, operation);
+            transferResult(exchange, operation, result);
         };
     }
 
+    /**
+     * Sets the result of the operation on the message, either as the body or as a header
+     */
+    protected void transferResult(Exchange exchange, MongoDbOperation operation, Object result) {
+        copyHeaders(exchange);
+        moveBodyToOutIfResultIsReturnedAsHeader(exchange, operation);
+        processAndTransferResult(result, exchange, operation);
+    }
+
     private void copyHeaders(Exchange exchange) {
         MessageHelper.copyHeaders(exchange.getIn(), exchange.getMessage(), false);
     }
@@ -370,7 +385,7 @@ public class MongoDbProducer extends DefaultProducer {
             Bson fieldFilter = exchange.getIn().getHeader(FIELDS_PROJECTION, Bson.class);
 
             // get the batch size and number to skip
-            Integer batchSize = exchange.getIn().getHeader(BATCH_SIZE, Integer.class);
+            Integer batchSize = exchange.getIn().getHeader(BATCH_SIZE, endpoint.getBatchSize(), Integer.class);
             Integer numToSkip = exchange.getIn().getHeader(NUM_TO_SKIP, Integer.class);
             Integer limit = exchange.getIn().getHeader(LIMIT, Integer.class);
             Document sortBy = exchange.getIn().getHeader(SORT_BY, Document.class);
@@ -545,7 +560,8 @@ public class MongoDbProducer extends DefaultProducer {
                 AggregateIterable<Document> aggregationResult = dbCol.aggregate(queryList);
 
                 // get the batch size
-                Integer batchSize = exchange.getIn().getHeader(MongoDbConstants.BATCH_SIZE, Integer.class);
+                Integer batchSize
+                        = exchange.getIn().getHeader(MongoDbConstants.BATCH_SIZE, endpoint.getBatchSize(), Integer.class);
 
                 if (batchSize != null) {
                     aggregationResult.batchSize(batchSize);
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.BatchBuffer;
+import org.apache.camel.support.PluginHelper;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.mongodb.MongoDbConstants.MONGO_ID;
+import static org.apache.camel.component.mongodb.MongoDbConstants.OID;
+
+/**
+ * MongoDb producer which combines the single document inserts of the exchanges sent to it into bulk writes.
+ * <p/>
+ * The inserts of a single document are collected until either the write batch size is reached, which executes the bulk
+ * write in the thread that completed it, or the linger time has elapsed, which executes the bulk write from a
+ * background thread. Each exchange is then completed with its own result, or its own write error. All other operations,
+ * and inserts of a list of documents, are executed right away as by the regular producer.
+ */
+public class MongoDbWriteBatchProducer extends MongoDbProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDbWriteBatchProducer.class);
+
+    private final int writeBatchSize;
+    private final long writeBatchLingerTime;
+    private final boolean writeBatchOrdered;
+    private ScheduledExecutorService scheduler;
+    private BatchBuffer<BatchEntry> batchBuffer;
+
+    public MongoDbWriteBatchProducer(MongoDbEndpoint endpoint) {
+        super(endpoint);
+        this.writeBatchSize = endpoint.getWriteBatchSize();
+        this.writeBatchLingerTime = endpoint.getWriteBatchLingerTime();
+        this.writeBatchOrdered = endpoint.isWriteBatchOrdered();
+    }
+
+    @Override
+    public MongoDbEndpoint getEndpoint() {
+        return (MongoDbEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (scheduler == null) {
+            scheduler = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "MongoDbWriteBatch");
+        }
+        if (batchBuffer == null) {
+            batchBuffer = new BatchBuffer<>(writeBatchSize, writeBatchLingerTime, scheduler, batch -> {
+                executeBatch(batch);
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (batchBuffer != null) {
+            // execute the writes that are waiting so they are not left behind
+            batchBuffer.flush();
+            batchBuffer = null;
+        }
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final BatchEntry entry;
+        try {
+            MongoDbOperation operation = resolveOperation(exchange);
+            InsertOneModel<Document> model = createWriteModel(operation, exchange);
+            if (model == null) {
+                // not a single document insert, so it cannot be part of a bulk write
+                super.process(exchange);
+                callback.done(true);
+                return true;
+            }
+            entry = new BatchEntry(exchange, callback, operation, calculateCollection(exchange), model);
+        } catch (Exception e) {
+            exchange.setException(MongoDbComponent.wrapInCamelMongoDbException(e));
+            callback.done(true);
+            return true;
+        }
+
+        batchBuffer.add(entry);
+        return false;
+    }
+
+    /**
+     * Creates the write model of the exchange, or <tt>null</tt> if the operation cannot be part of a bulk write.
+     * <p/>
+     * Only the inserts of a single document are combined, as a bulk write only reports the number of documents matched,
+     * modified and deleted for all the writes together, while the other operations report them per exchange.
+     */
+    private InsertOneModel<Document> createWriteModel(MongoDbOperation operation, Exchange exchange) {
+        if (operation != MongoDbOperation.insert) {
+            return null;
+        }
+        Object insert = exchange.getIn().getBody();
+        if (insert == null || insert instanceof Collection || insert.getClass().isArray()) {
+            return null;
+        }
+        Document document = exchange.getContext().getTypeConverter().tryConvertTo(Document.class, exchange, insert);
+        if (document == null) {
+            // let the regular producer report the invalid payload
+            return null;
+        }
+        return new InsertOneModel<>(document);
+    }
+
+    private void executeBatch(List<BatchEntry> batch) {
+        LOG.debug("Executing write batch with {} exchanges", batch.size());
+        // the collection can be different per exchange when dynamicity is enabled so group the entries by collection
+        Map<MongoNamespace, List<BatchEntry>> groups = new LinkedHashMap<>();
+        for (BatchEntry entry : batch) {
+            groups.computeIfAbsent(entry.collection.getNamespace(), k -> new ArrayList<>()).add(entry);
+        }
+        for (List<BatchEntry> entries : groups.values()) {
+            executeBatch(entries.get(0).collection, entries);
+        }
+    }
+
+    private void executeBatch(MongoCollection<Document> collection, List<BatchEntry> entries) {
+        List<WriteModel<Document>> models = new ArrayList<>(entries.size());
+        for (BatchEntry entry : entries) {
+            models.add(entry.model);
+        }
+
+        try {
+            collection.bulkWrite(models, new BulkWriteOptions().ordered(writeBatchOrdered));
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                // the writes are not known to be durable, so none of them can be reported as done
+                for (BatchEntry entry : entries) {
+                    entry.failed(MongoDbComponent.wrapInCamelMongoDbException(e));
+                }
+                return;
+            }
+            // the write errors tell which writes of the batch failed
+            Map<Integer, BulkWriteError> errors = new HashMap<>();
+            int firstError = entries.size();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                errors.put(error.getIndex(), error);
+                firstError = Math.min(firstError, error.getIndex());
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                BulkWriteError error = errors.get(i);
+                if (error != null) {
+                    entries.get(i).failed(new CamelMongoDbException(error.getMessage(), e));
+                } else if (writeBatchOrdered && i > firstError) {
+                    // an ordered bulk write stops at the first error
+                    entries.get(i).failed(new CamelMongoDbException(
+                            "Write not executed because a previous write of the ordered batch failed", e));
+                } else {
+                    entries.get(i).done();
+                }
+            }
+            return;
+        } catch (Exception e) {
+            for (BatchEntry entry : entries) {
+                entry.failed(MongoDbComponent.wrapInCamelMongoDbException(e));
+            }
+            return;
+        }
+
+        for (BatchEntry entry : entries) {
+            entry.done();
+        }
+    }
+
+    private final class BatchEntry {
+
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final MongoDbOperation operation;
+        private final MongoCollection<Document> collection;
+        private final InsertOneModel<Document> model;
+
+        private BatchEntry(Exchange exchange, AsyncCallback callback, MongoDbOperation operation,
+                           MongoCollection<Document> collection, InsertOneModel<Document> model) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.operation = operation;
+            this.collection = collection;
+            this.model = model;
+        }
+
+        void done() {
+            try {
+                // the id of the document is set by the driver when it is written
+                Document document = model.getDocument();
+                exchange.getIn().setHeader(OID, document.get(MONGO_ID));
+                transferResult(exchange, operation, document);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(false);
+        }
+
+        void failed(Exception cause) {
+            exchange.setException(cause);
+            callback.done(false);
+        }
+    }
+}
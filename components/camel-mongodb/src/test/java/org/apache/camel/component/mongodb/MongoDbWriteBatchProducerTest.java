@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.apache.camel.component.mongodb.MongoDbConstants.CRITERIA;
+import static org.apache.camel.component.mongodb.MongoDbConstants.OPERATION_HEADER;
+import static org.apache.camel.component.mongodb.MongoDbConstants.RECORDS_AFFECTED;
+import static org.apache.camel.component.mongodb.MongoDbConstants.RECORDS_MATCHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MongoDbWriteBatchProducerTest extends CamelTestSupport {
+
+    private final MongoClient client = mock(MongoClient.class);
+    private final MongoDatabase database = mock(MongoDatabase.class);
+    @SuppressWarnings("unchecked")
+    private final MongoCollection<Document> collection = mock(MongoCollection.class);
+
+    @Override
+    protected void bindToRegistry(Registry registry) {
+        when(client.getDatabase(anyString())).thenReturn(database);
+        when(database.getCollection(anyString(), eq(Document.class))).thenReturn(collection);
+        when(collection.withWriteConcern(any(WriteConcern.class))).thenReturn(collection);
+        when(collection.getNamespace()).thenReturn(new MongoNamespace("test", "test"));
+        registry.bind("myDb", client);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInsertsAreCombined() throws Exception {
+        List<Future<Object>> replies = new ArrayList<>();
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Document document = new Document("_id", i).append("name", "doc" + i);
+            documents.add(document);
+            replies.add(template.asyncRequestBody("direct:write", document));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            // each exchange gets its own document back, as with the regular producer
+            assertSame(documents.get(i), replies.get(i).get());
+        }
+
+        ArgumentCaptor<List<WriteModel<Document>>> models = ArgumentCaptor.forClass(List.class);
+        verify(collection, times(1)).bulkWrite(models.capture(), any());
+        assertEquals(3, models.getValue().size());
+        for (WriteModel<Document> model : models.getValue()) {
+            assertEquals(InsertOneModel.class, model.getClass());
+        }
+    }
+
+    @Test
+    public void testUpdateIsNotCombined() {
+        Bson criteria = new Document("_id", 1);
+        Bson update = new Document("$set", new Document("name", "updated"));
+        when(collection.updateOne(eq(criteria), eq(update), any())).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        Exchange result = template.request("direct:write", exchange -> {
+            exchange.getIn().setHeader(OPERATION_HEADER, "update");
+            exchange.getIn().setHeader(CRITERIA, criteria);
+            exchange.getIn().setBody(update);
+        });
+
+        // the update reports its own counts and result, which a combined bulk write cannot
+        assertEquals(1L, result.getMessage().getHeader(RECORDS_AFFECTED));
+        assertEquals(1L, result.getMessage().getHeader(RECORDS_MATCHED));
+        assertEquals(UpdateResult.acknowledged(1, 1L, null), result.getMessage().getBody());
+        verify(collection, never()).bulkWrite(anyList(), any());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:write")
+                        .to("mongodb:myDb?database=test&collection=test&operation=insert"
+                            + "&writeBatchSize=3&writeBatchLingerTime=60000");
+            }
+        };
+    }
+}
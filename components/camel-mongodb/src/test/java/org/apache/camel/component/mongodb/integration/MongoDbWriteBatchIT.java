@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.mongodb.client.result.UpdateResult;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mongodb.MongoDbConstants;
+import org.apache.camel.test.infra.core.annotations.RouteFixture;
+import org.apache.camel.test.infra.core.api.ConfigurableRoute;
+import org.bson.Document;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MongoDbWriteBatchIT extends AbstractMongoDbITSupport implements ConfigurableRoute {
+
+    @BeforeEach
+    void checkDocuments() {
+        Assumptions.assumeTrue(0 == testCollection.countDocuments(), "The collection should have no documents");
+    }
+
+    @Test
+    public void testInsertWriteBatch() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int myId = i;
+            replies.add(template.asyncSend("direct:insert", e -> e.getIn().setBody(new Document("MyId", myId))));
+        }
+
+        for (int i = 0; i < replies.size(); i++) {
+            Exchange out = replies.get(i).get();
+            assertNull(out.getException());
+            Object oid = out.getMessage().getHeader(MongoDbConstants.OID);
+            assertNotNull(oid);
+            Document inserted = testCollection.find(eq(MongoDbConstants.MONGO_ID, oid)).first();
+            assertNotNull(inserted);
+            assertEquals(i, inserted.getInteger("MyId"));
+        }
+        assertEquals(10, testCollection.countDocuments());
+    }
+
+    @Test
+    public void testUnorderedWriteBatchWithWriteError() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // the fourth document has the same id as the second one
+            final String id = "doc" + (i == 3 ? 1 : i);
+            replies.add(template.asyncSend("direct:insertUnordered",
+                    e -> e.getIn().setBody(new Document(MongoDbConstants.MONGO_ID, id))));
+        }
+
+        // only the exchange of the duplicate which is written last fails
+        int failed = 0;
+        for (Future<Exchange> reply : replies) {
+            if (reply.get().getException() != null) {
+                failed++;
+            }
+        }
+        assertEquals(1, failed);
+        assertEquals(4, testCollection.countDocuments());
+    }
+
+    @Test
+    public void testSaveIsNotCombined() {
+        Exchange out = template.send("direct:save", e -> e.getIn().setBody(new Document("scientist", "Marie Curie")));
+
+        assertNull(out.getException());
+        // the save is executed as usual and returns its own result
+        assertInstanceOf(UpdateResult.class, out.getMessage().getBody());
+        Object oid = out.getMessage().getHeader(MongoDbConstants.OID);
+        assertNotNull(oid);
+        assertEquals("Marie Curie", testCollection.find(eq(MongoDbConstants.MONGO_ID, oid)).first().getString("scientist"));
+    }
+
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:insert")
+                        .to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=insert"
+                            + "&writeBatchSize=5&writeBatchLingerTime=500");
+                from("direct:insertUnordered")
+                        .to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=insert"
+                            + "&writeBatchSize=5&writeBatchLingerTime=500&writeBatchOrdered=false");
+                from("direct:save")
+                        .to("mongodb:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=save"
+                            + "&writeBatchSize=5&writeBatchLingerTime=100");
+            }
+        };
+    }
+
+    @RouteFixture
+    @Override
+    public void createRouteBuilder(CamelContext context) throws Exception {
+        context.addRoutes(createRouteBuilder());
+    }
+}
@@ -17,9 +17,13 @@
 package org.apache.camel.dataformat.parquet.avro;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.avro.AvroRuntimeException;
@@ -29,11 +33,14 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.reflect.ReflectData;
 import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.DefaultUuidGenerator;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.parquet.avro.AvroParquetReader;
@@ -41,6 +48,7 @@ import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.InputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,79 +66,163 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
 
     private Class<?> unmarshalType;
 
+    private boolean lazyLoad;
+
+    private int rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+
+    private volatile Configuration configuration;
+
+    private volatile Schema marshalSchema;
+
+    private volatile boolean marshalSchemaResolved;
+
+    private volatile GenericData unmarshalModel;
+
     public String getDataFormatName() {
         return "parquetAvro";
     }
 
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
         // marshal from the Java object or GenericRecord (graph) to the parquet-avro type
-        Configuration conf = new Configuration();
-
-        FileSystem.get(conf).setWriteChecksum(false);
-
         BufferedOutputStream parquetOutput = new BufferedOutputStream(stream);
         ParquetOutputStream parquetOutputStream = new ParquetOutputStream(
                 DEFAULT_UUID_GENERATOR.generateUuid(),
                 parquetOutput);
 
-        List<?> list = (List<?>) graph;
+        // the records can be given by an iterator, such as from a lazy load data format, and are written as they come
+        Iterator<?> it = toIterator(graph);
+        try {
+            Object first = it.hasNext() ? it.next() : null;
 
-        Schema schema = null;
-        GenericData model = null;
-        if (unmarshalType != null) {
-            try {
-                schema = ReflectData.AllowNull.get().getSchema(unmarshalType); // generate nullable fields
-                model = ReflectData.get();
-            } catch (AvroRuntimeException e) {
-                LOG.warn("Fall back to use GenericRecord instead of POJO for marshalling", e);
+            Schema schema = getMarshalSchema();
+            GenericData model = ReflectData.get();
+            if (schema == null) {
+                if (first == null) {
+                    throw new IllegalArgumentException("Cannot marshal empty records without an unmarshal type");
+                }
+                schema = GenericContainer.class.cast(first).getSchema();
+                model = GenericData.get();
             }
-        }
-        if (schema == null) {
-            schema = GenericContainer.class.cast(list.get(0)).getSchema();
-            model = GenericData.get();
-        }
 
-        try (ParquetWriter<Object> writer = AvroParquetWriter.builder(parquetOutputStream)
-                .withSchema(schema)
-                .withDataModel(model)
-                .withConf(conf)
-                .withCompressionCodec(compressionCodecName)
-                .withWriteMode(OVERWRITE)
-                .build()) {
-            for (Object grapElem : list) {
-                writer.write(grapElem);
+            // the row groups are written to the stream when they are full
+            try (ParquetWriter<Object> writer = AvroParquetWriter.builder(parquetOutputStream)
+                    .withSchema(schema)
+                    .withDataModel(model)
+                    .withConf(getConfiguration())
+                    .withCompressionCodec(compressionCodecName)
+                    .withRowGroupSize(rowGroupSize)
+                    .withWriteMode(OVERWRITE)
+                    .build()) {
+                if (first != null) {
+                    writer.write(first);
+                }
+                while (it.hasNext()) {
+                    writer.write(it.next());
+                }
             }
+        } finally {
+            IOHelper.closeIterator(it);
+        }
+    }
+
+    private static Iterator<?> toIterator(Object graph) {
+        if (graph instanceof Iterator) {
+            return (Iterator<?>) graph;
+        } else if (graph instanceof Iterable) {
+            return ((Iterable<?>) graph).iterator();
+        } else if (graph instanceof Object[]) {
+            return Arrays.asList((Object[]) graph).iterator();
+        } else {
+            return Collections.singleton(graph).iterator();
         }
     }
 
     public Object unmarshal(Exchange exchange, InputStream stream) throws Exception {
         // unmarshal from the input stream of parquet-avro to Java object or GenericRecord (graph)
+        InputFile inputFile;
+        File file = getFile(exchange);
+        if (file != null) {
+            // read only the row groups from the file rather than the whole file into memory
+            inputFile = new ParquetFileInputStream(file);
+        } else {
+            inputFile = new ParquetInputStream(
+                    DEFAULT_UUID_GENERATOR.generateUuid(),
+                    stream.readAllBytes());
+        }
+        // the stream is no longer used, also when the records are returned by an iterator
+        IOHelper.close(stream);
+
+        Class<?> type = unmarshalType != null ? unmarshalType : GenericRecord.class;
+
+        ParquetReader<?> reader = AvroParquetReader.builder(inputFile)
+                .withDataModel(getUnmarshalModel())
+                .disableCompatibility() // always use this (since this is a new project)
+                .withConf(getConfiguration())
+                .build();
+        ParquetIterator it = new ParquetIterator(reader, type);
+        if (lazyLoad) {
+            // add to UoW, so we can close the iterator, so it can release any resources
+            exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    it.close();
+                }
+            });
+            return it;
+        }
+
         List<Object> parquetObjects = new ArrayList<>();
-        Configuration conf = new Configuration();
+        try {
+            it.forEachRemaining(parquetObjects::add);
+        } finally {
+            it.close();
+        }
+        return parquetObjects;
+    }
 
-        ParquetInputStream parquetInputStream = new ParquetInputStream(
-                DEFAULT_UUID_GENERATOR.generateUuid(),
-                stream.readAllBytes());
+    private static File getFile(Exchange exchange) {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        return body instanceof File && ((File) body).isFile() ? (File) body : null;
+    }
 
-        Class<?> type = GenericRecord.class;
-        GenericData model = GenericData.get();
-        if (unmarshalType != null) {
-            type = unmarshalType;
-            model = new ReflectData(unmarshalType.getClassLoader());
+    private Configuration getConfiguration() throws Exception {
+        // creating the hadoop configuration loads its default resources, so it is only done once
+        Configuration answer = configuration;
+        if (answer == null) {
+            answer = new Configuration();
+            FileSystem.get(answer).setWriteChecksum(false);
+            configuration = answer;
         }
+        return answer;
+    }
 
-        try (ParquetReader<?> reader = AvroParquetReader.builder(parquetInputStream)
-                .withDataModel(model)
-                .disableCompatibility() // always use this (since this is a new project)
-                .withConf(conf)
-                .build()) {
-            Object pojo;
-            while ((pojo = type.cast(reader.read())) != null) {
-                parquetObjects.add(pojo);
+    private Schema getMarshalSchema() {
+        if (!marshalSchemaResolved) {
+            Schema schema = null;
+            if (unmarshalType != null) {
+                try {
+                    schema = ReflectData.AllowNull.get().getSchema(unmarshalType); // generate nullable fields
+                } catch (AvroRuntimeException e) {
+                    LOG.warn("Fall back to use GenericRecord instead of POJO for marshalling", e);
+                }
             }
+            marshalSchema = schema;
+            marshalSchemaResolved = true;
         }
+        return marshalSchema;
+    }
 
-        return parquetObjects;
+    private GenericData getUnmarshalModel() {
+        GenericData answer = unmarshalModel;
+        if (answer == null) {
+            // the model caches the classes and schemas of the records, so it is reused across exchanges
+            answer = unmarshalType != null ? new ReflectData(unmarshalType.getClassLoader()) : GenericData.get();
+            unmarshalModel = answer;
+        }
+        return answer;
     }
 
     @Override
@@ -140,7 +232,9 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
 
     @Override
     protected void doStop() throws Exception {
-        // no-op
+        marshalSchema = null;
+        marshalSchemaResolved = false;
+        unmarshalModel = null;
     }
 
     public String getCompressionCodecName() {
@@ -165,6 +259,31 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
      */
     public void setUnmarshalType(Class<?> unmarshalType) {
         this.unmarshalType = unmarshalType;
+        this.marshalSchemaResolved = false;
+        this.unmarshalModel = null;
+    }
+
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * If enabled then unmarshalling returns an iterator which reads the records one row group at a time, instead of
+     * reading all the records into a list. This is intended to be used with the splitter in streaming mode.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public int getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    /**
+     * The size in bytes of the row groups buffered in memory before they are written when marshalling.
+     */
+    public void setRowGroupSize(int rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
     }
 
 }
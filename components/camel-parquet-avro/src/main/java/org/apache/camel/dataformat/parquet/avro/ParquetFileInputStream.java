@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * An {@link InputFile} reading a parquet file on disk, so only the parts of the file read by the parquet reader are
+ * loaded in memory.
+ */
+public class ParquetFileInputStream implements InputFile {
+    private final File file;
+
+    public ParquetFileInputStream(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public long getLength() throws IOException {
+        return file.length();
+    }
+
+    @Override
+    public SeekableInputStream newStream() throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        return new DelegatingSeekableInputStream(Channels.newInputStream(channel)) {
+            @Override
+            public void seek(long newPos) throws IOException {
+                channel.position(newPos);
+            }
+
+            @Override
+            public long getPos() throws IOException {
+                return channel.position();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "ParquetFileInputStream[" + file + "]";
+    }
+}
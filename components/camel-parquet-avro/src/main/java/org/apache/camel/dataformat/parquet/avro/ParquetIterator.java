@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+import org.apache.parquet.hadoop.ParquetReader;
+
+/**
+ * An iterator which reads the records of a parquet file one at a time while it is iterated, so only the current row
+ * group is held in memory.
+ * <p/>
+ * The reader is closed when the iteration is done, or when the iterator is closed.
+ */
+public final class ParquetIterator implements Iterator<Object>, Closeable {
+
+    private final ParquetReader<?> reader;
+    private final Class<?> type;
+    private Object next;
+    private boolean done;
+
+    ParquetIterator(ParquetReader<?> reader, Class<?> type) {
+        this.reader = reader;
+        this.type = type;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = type.cast(reader.read());
+            } catch (IOException e) {
+                close();
+                throw new RuntimeCamelException(e);
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    @Override
+    public void close() {
+        if (!done) {
+            done = true;
+            IOHelper.close(reader);
+        }
+    }
+}
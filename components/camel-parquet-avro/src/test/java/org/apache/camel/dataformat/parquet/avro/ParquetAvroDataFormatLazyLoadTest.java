@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParquetAvroDataFormatLazyLoadTest extends CamelTestSupport {
+
+    private static final int RECORDS = 1000;
+
+    @Test
+    public void testMarshalIteratorAndUnmarshalLazily() throws Exception {
+        List<Pojo> in = new ArrayList<>();
+        IntStream.range(0, RECORDS).forEach(i -> in.add(new Pojo(i, "data" + i)));
+
+        MockEndpoint mock = getMockEndpoint("mock:record");
+        mock.expectedBodiesReceived(in.toArray());
+
+        // the records are written from an iterator, as given by a lazy load data format
+        byte[] parquet = template.requestBody("direct:marshal", in.iterator(), byte[].class);
+        File file = new File("target/lazy/records.parquet");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), parquet);
+
+        template.sendBody("direct:lazy", file);
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testUnmarshalFromFile() throws Exception {
+        List<Pojo> in = List.of(
+                new Pojo(1, "airport"),
+                new Pojo(2, "penguin"),
+                new Pojo(3, "verb"));
+
+        List<?> out = template.requestBody("direct:unmarshal", new File("src/test/resources/example1.parquet"), List.class);
+
+        assertEquals(in.size(), out.size());
+        assertArrayEquals(in.toArray(), out.toArray());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                ParquetAvroDataFormat format = new ParquetAvroDataFormat();
+                format.setUnmarshalType(Pojo.class);
+                // several row groups are written
+                format.setRowGroupSize(4 * 1024);
+
+                ParquetAvroDataFormat lazy = new ParquetAvroDataFormat();
+                lazy.setUnmarshalType(Pojo.class);
+                lazy.setLazyLoad(true);
+
+                from("direct:marshal").marshal(format);
+                from("direct:unmarshal").unmarshal(format);
+
+                from("direct:lazy").unmarshal(lazy)
+                        .split(bodyAs(Iterator.class)).streaming()
+                        .to("mock:record");
+            }
+        };
+    }
+}
@@ -52,11 +52,17 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": target.setMaxMessagesPerPoll(property(camelContext, int.class, value)); return true;
+        case "microbatchlingertime":
+        case "microBatchLingerTime": target.setMicroBatchLingerTime(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "microbatchsize":
+        case "microBatchSize": target.setMicroBatchSize(property(camelContext, int.class, value)); return true;
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "onconsume":
         case "onConsume": target.setOnConsume(property(camelContext, java.lang.String.class, value)); return true;
         case "onconsumebatchcomplete":
         case "onConsumeBatchComplete": target.setOnConsumeBatchComplete(property(camelContext, java.lang.String.class, value)); return true;
+        case "onconsumebatchsize":
+        case "onConsumeBatchSize": target.setOnConsumeBatchSize(property(camelContext, int.class, value)); return true;
         case "onconsumefailed":
         case "onConsumeFailed": target.setOnConsumeFailed(property(camelContext, java.lang.String.class, value)); return true;
         case "outputclass":
@@ -92,6 +98,9 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "separator": target.setSeparator(property(camelContext, char.class, value)); return true;
         case "startscheduler":
         case "startScheduler": target.setStartScheduler(property(camelContext, boolean.class, value)); return true;
+        case "streaming": target.setStreaming(property(camelContext, boolean.class, value)); return true;
+        case "streamingconcurrentconsumers":
+        case "streamingConcurrentConsumers": target.setStreamingConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "templateoptions":
         case "templateOptions": target.setTemplateOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "timeunit":
@@ -148,11 +157,17 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return int.class;
+        case "microbatchlingertime":
+        case "microBatchLingerTime": return long.class;
+        case "microbatchsize":
+        case "microBatchSize": return int.class;
         case "noop": return boolean.class;
         case "onconsume":
         case "onConsume": return java.lang.String.class;
         case "onconsumebatchcomplete":
         case "onConsumeBatchComplete": return java.lang.String.class;
+        case "onconsumebatchsize":
+        case "onConsumeBatchSize": return int.class;
         case "onconsumefailed":
         case "onConsumeFailed": return java.lang.String.class;
         case "outputclass":
@@ -188,6 +203,9 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "separator": return char.class;
         case "startscheduler":
         case "startScheduler": return boolean.class;
+        case "streaming": return boolean.class;
+        case "streamingconcurrentconsumers":
+        case "streamingConcurrentConsumers": return int.class;
         case "templateoptions":
         case "templateOptions": return java.util.Map.class;
         case "timeunit":
@@ -240,11 +258,17 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return target.getMaxMessagesPerPoll();
+        case "microbatchlingertime":
+        case "microBatchLingerTime": return target.getMicroBatchLingerTime();
+        case "microbatchsize":
+        case "microBatchSize": return target.getMicroBatchSize();
         case "noop": return target.isNoop();
         case "onconsume":
         case "onConsume": return target.getOnConsume();
         case "onconsumebatchcomplete":
         case "onConsumeBatchComplete": return target.getOnConsumeBatchComplete();
+        case "onconsumebatchsize":
+        case "onConsumeBatchSize": return target.getOnConsumeBatchSize();
         case "onconsumefailed":
         case "onConsumeFailed": return target.getOnConsumeFailed();
         case "outputclass":
@@ -280,6 +304,9 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "separator": return target.getSeparator();
         case "startscheduler":
         case "startScheduler": return target.isStartScheduler();
+        case "streaming": return target.isStreaming();
+        case "streamingconcurrentconsumers":
+        case "streamingConcurrentConsumers": return target.getStreamingConcurrentConsumers();
         case "templateoptions":
         case "templateOptions": return target.getTemplateOptions();
         case "timeunit":
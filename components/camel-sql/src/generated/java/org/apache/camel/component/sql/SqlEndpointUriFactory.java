@@ -21,7 +21,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(47);
+        Set<String> props = new HashSet<>(52);
         props.add("allowNamedParameters");
         props.add("alwaysPopulateStatement");
         props.add("backoffErrorThreshold");
@@ -39,9 +39,12 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("initialDelay");
         props.add("lazyStartProducer");
         props.add("maxMessagesPerPoll");
+        props.add("microBatchLingerTime");
+        props.add("microBatchSize");
         props.add("noop");
         props.add("onConsume");
         props.add("onConsumeBatchComplete");
+        props.add("onConsumeBatchSize");
         props.add("onConsumeFailed");
         props.add("outputClass");
         props.add("outputHeader");
@@ -62,6 +65,8 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("sendEmptyMessageWhenIdle");
         props.add("separator");
         props.add("startScheduler");
+        props.add("streaming");
+        props.add("streamingConcurrentConsumers");
         props.add("templateOptions");
         props.add("timeUnit");
         props.add("transacted");
@@ -49,6 +49,18 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private boolean transacted;
     @UriParam(label = "producer", description = "Enables or disables batch mode")
     private boolean batch;
+    @UriParam(label = "producer,advanced",
+              description = "Enables micro batching in the producer, which combines the parameters of several exchanges into a single"
+                            + " JDBC batch (PreparedStatement.executeBatch) to reduce the number of database round-trips."
+                            + " This option sets the maximum number of exchanges in a batch. A batch is executed when it is full,"
+                            + " or when the microBatchLingerTime has elapsed since the first exchange was added."
+                            + " Each exchange is completed with its own update count, or its own error if its statement failed."
+                            + " Micro batching is disabled when the value is 0 or less.")
+    private int microBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100", javaType = "java.time.Duration",
+              description = "The maximum time in millis to wait for more exchanges to fill a micro batch before executing it."
+                            + " Is only in use when microBatchSize is enabled.")
+    private long microBatchLingerTime = 100;
     @UriParam(label = "consumer", description = "Sets the maximum number of messages to poll")
     private int maxMessagesPerPoll;
     @UriParam(label = "consumer,advanced",
@@ -78,6 +90,22 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private int expectedUpdateCount = -1;
     @UriParam(label = "consumer", description = "Sets whether to break batch if onConsume failed.")
     private boolean breakBatchOnConsumeFail;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether the consumer should stream the rows of the result set, by reading the rows one by one from a JDBC"
+                            + " cursor and routing each row as soon as it has been read, instead of loading all the rows of the poll into"
+                            + " memory first. The number of rows fetched from the database per round-trip can be tuned with the"
+                            + " template.fetchSize option. Streaming can only be used with outputType=SelectList and useIterator=true,"
+                            + " and cannot be used together with transacted, onConsume, onConsumeFailed or onConsumeBatchComplete.")
+    private boolean streaming;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The number of concurrent threads that process the rows when streaming is enabled. The number of rows"
+                            + " that are read from the cursor but not yet processed is bounded by this value.")
+    private int streamingConcurrentConsumers = 1;
+    @UriParam(label = "consumer,advanced",
+              description = "If set greater than one, then the onConsume and onConsumeFailed queries of the processed rows are collected"
+                            + " and executed together as JDBC batches (PreparedStatement.executeBatch) of this size, instead of being"
+                            + " executed one row at a time.")
+    private int onConsumeBatchSize;
     @UriParam(defaultValue = "true", description = "Whether to allow using named parameters in the queries.")
     private boolean allowNamedParameters = true;
     @UriParam(label = "advanced",
@@ -167,6 +195,33 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.batch = batch;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * Enables micro batching in the producer, which combines the parameters of several exchanges into a single JDBC
+     * batch (PreparedStatement.executeBatch) to reduce the number of database round-trips. This option sets the maximum
+     * number of exchanges in a batch. A batch is executed when it is full, or when the microBatchLingerTime has elapsed
+     * since the first exchange was added. Each exchange is completed with its own update count, or its own error if its
+     * statement failed. Micro batching is disabled when the value is 0 or less.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchLingerTime() {
+        return microBatchLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to fill a micro batch before executing it. Is only in use
+     * when microBatchSize is enabled.
+     */
+    public void setMicroBatchLingerTime(long microBatchLingerTime) {
+        this.microBatchLingerTime = microBatchLingerTime;
+    }
+
     public int getMaxMessagesPerPoll() {
         return maxMessagesPerPoll;
     }
@@ -414,6 +469,46 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether the consumer should stream the rows of the result set, by reading the rows one by one from a JDBC cursor
+     * and routing each row as soon as it has been read, instead of loading all the rows of the poll into memory first.
+     * The number of rows fetched from the database per round-trip can be tuned with the template.fetchSize option.
+     * Streaming can only be used with outputType=SelectList and useIterator=true, and cannot be used together with
+     * transacted, onConsume, onConsumeFailed or onConsumeBatchComplete.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getStreamingConcurrentConsumers() {
+        return streamingConcurrentConsumers;
+    }
+
+    /**
+     * The number of concurrent threads that process the rows when streaming is enabled. The number of rows that are
+     * read from the cursor but not yet processed is bounded by this value.
+     */
+    public void setStreamingConcurrentConsumers(int streamingConcurrentConsumers) {
+        this.streamingConcurrentConsumers = streamingConcurrentConsumers;
+    }
+
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * If set greater than one, then the onConsume and onConsumeFailed queries of the processed rows are collected and
+     * executed together as JDBC batches (PreparedStatement.executeBatch) of this size, instead of being executed one
+     * row at a time.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
     public String getPlaceholder() {
         return placeholder;
     }
@@ -461,6 +556,19 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.rowMapperFactory = rowMapperFactory;
     }
 
+    /**
+     * Creates the row mapper to use for mapping a single row of the result set, which is either a bean row mapper when
+     * outputClass is set, or a column row mapper.
+     */
+    public RowMapper<?> createRowMapper() {
+        if (outputClass != null) {
+            Class<?> outputClazz = getCamelContext().getClassResolver().resolveClass(outputClass);
+            return rowMapperFactory.newBeanRowMapper(outputClazz);
+        } else {
+            return rowMapperFactory.newColumnRowMapper();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public List<?> queryForList(ResultSet rs, boolean allowMapToClass) throws SQLException {
         if (allowMapToClass && outputClass != null) {
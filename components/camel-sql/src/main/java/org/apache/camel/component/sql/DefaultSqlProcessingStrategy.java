@@ -18,7 +18,11 @@ package org.apache.camel.component.sql;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
@@ -70,6 +74,53 @@ public class DefaultSqlProcessingStrategy implements SqlProcessingStrategy {
         });
     }
 
+    @Override
+    public int[] commitBatch(
+            final DefaultSqlEndpoint endpoint, final List<Exchange> exchanges, final List<Object> data,
+            final JdbcTemplate jdbcTemplate, final String query)
+            throws Exception {
+
+        // the prepared query can be different per exchange (such as IN queries) so group the rows by query
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < exchanges.size(); i++) {
+            String preparedQuery
+                    = sqlPrepareStatementStrategy.prepareQuery(query, endpoint.isAllowNamedParameters(), exchanges.get(i));
+            groups.computeIfAbsent(preparedQuery, k -> new ArrayList<>()).add(i);
+        }
+
+        final int[] answer = new int[exchanges.size()];
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            final String preparedQuery = group.getKey();
+            final List<Integer> indexes = group.getValue();
+            jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<Void>() {
+                public Void doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                    int expected = ps.getParameterMetaData().getParameterCount();
+
+                    List<Integer> added = new ArrayList<>(indexes.size());
+                    for (int index : indexes) {
+                        Iterator<?> iterator = sqlPrepareStatementStrategy.createPopulateIterator(query, preparedQuery,
+                                expected, exchanges.get(index), data.get(index));
+                        if (iterator != null) {
+                            sqlPrepareStatementStrategy.populateStatement(ps, iterator, expected);
+                            ps.addBatch();
+                            added.add(index);
+                        }
+                    }
+
+                    if (!added.isEmpty()) {
+                        LOG.trace("Execute batch of {} queries {}", added.size(), query);
+                        int[] updateCounts = ps.executeBatch();
+                        for (int i = 0; i < added.size(); i++) {
+                            answer[added.get(i)] = updateCounts[i];
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+        return answer;
+    }
+
     @Override
     public int commitBatchComplete(final DefaultSqlEndpoint endpoint, final JdbcTemplate jdbcTemplate, final String query)
             throws Exception {
@@ -19,10 +19,19 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -39,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -65,10 +75,17 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean breakBatchOnConsumeFail;
     private int parametersCount;
     private boolean alwaysPopulateStatement;
+    private boolean streaming;
+    private int streamingConcurrentConsumers = 1;
+    private int onConsumeBatchSize;
+    private ExecutorService streamingExecutorService;
+    private final Lock onConsumeLock = new ReentrantLock();
+    private List<DataHolder> pendingOnConsume = new ArrayList<>();
 
     private static final class DataHolder {
         private Exchange exchange;
         private Object data;
+        private String sql;
 
         private DataHolder() {
         }
@@ -121,6 +138,21 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
         }
+
+        if (streaming && streamingConcurrentConsumers > 1 && streamingExecutorService == null) {
+            streamingExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "SqlConsumerStreaming", streamingConcurrentConsumers);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (streamingExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(streamingExecutorService);
+            streamingExecutorService = null;
+        }
     }
 
     @Override
@@ -150,6 +182,17 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
 
                 LOG.debug("Executing query: {}", preparedQuery);
                 ResultSet rs = ps.executeQuery();
+                if (streaming) {
+                    // route the rows while they are read from the cursor
+                    try {
+                        return processStream(rs);
+                    } catch (Exception e) {
+                        throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                    } finally {
+                        closeResultSet(rs);
+                    }
+                }
+
                 SqlOutputType outputType = getEndpoint().getOutputType();
                 boolean closeEager = true;
                 try {
@@ -249,56 +292,216 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                     total);
         }
 
-        for (int index = 0; index < total && isBatchAllowed(); index++) {
-            // only loop if we are started (allowed to run)
-            DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
-            Exchange exchange = holder.exchange;
-            Object data = holder.data;
+        try {
+            for (int index = 0; index < total && isBatchAllowed(); index++) {
+                // only loop if we are started (allowed to run)
+                DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
+                Exchange exchange = holder.exchange;
+                Object data = holder.data;
+
+                // add current index and total as properties
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+                // update pending number of exchanges
+                pendingExchanges = total - index - 1;
+
+                processExchange(exchange, data);
+            }
+
+            completeBatch();
+        } catch (Exception e) {
+            discardOnConsumeBatch();
+            throw e;
+        }
+
+        return total;
+    }
 
-            // add current index and total as properties
+    /**
+     * Processes the rows of the result set while they are read from the cursor, so only the rows being processed are
+     * kept in memory.
+     * <p/>
+     * The rows are routed while the connection and the cursor are held, which is why streaming cannot be used together
+     * with transacted or the onConsume queries. The total number of rows is not known, so the batch size is not set.
+     *
+     * @param  rs        the result set
+     * @return           the number of rows that was processed
+     * @throws Exception is thrown if processing failed and the poll should break out
+     */
+    protected int processStream(ResultSet rs) throws Exception {
+        final RowMapper<?> rowMapper = getEndpoint().createRowMapper();
+        final ExecutorService executor = streamingExecutorService;
+        final Semaphore inflight = executor != null ? new Semaphore(streamingConcurrentConsumers) : null;
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        int index = 0;
+        // read one row ahead so we know when the last row is processed
+        boolean hasNext = rs.next();
+        while (hasNext && failure.get() == null && isBatchAllowed()) {
+            final Object data = rowMapper.mapRow(rs, index);
+            hasNext = rs.next();
+
+            final Exchange exchange = createExchange(data);
             exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
-            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
-            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, !hasNext);
+            index++;
 
-            // update pending number of exchanges
-            pendingExchanges = total - index - 1;
+            // the number of rows is not known upfront, so only tell whether there are more rows
+            pendingExchanges = hasNext ? 1 : 0;
 
-            // process the current exchange
-            try {
-                getProcessor().process(exchange);
-            } catch (Exception e) {
-                exchange.setException(e);
+            if (executor == null) {
+                processExchange(exchange, data);
+                continue;
             }
 
-            if (getEndpoint().isTransacted() && exchange.isFailed()) {
-                // break out as we are transacted and should rollback
-                Exception cause = exchange.getException();
-                // must release exchange
+            // the semaphore bounds the number of rows being processed concurrently
+            inflight.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        processExchange(exchange, data);
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inflight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inflight.release();
                 releaseExchange(exchange, false);
-                if (cause != null) {
-                    throw cause;
+                throw e;
+            }
+        }
+
+        if (executor != null) {
+            // wait for the rows in progress to complete
+            inflight.acquire(streamingConcurrentConsumers);
+            inflight.release(streamingConcurrentConsumers);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return index;
+    }
+
+    private void processExchange(Exchange exchange, Object data) throws Exception {
+        // process the current exchange
+        try {
+            getProcessor().process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        if (getEndpoint().isTransacted() && exchange.isFailed()) {
+            // break out as we are transacted and should rollback
+            Exception cause = exchange.getException();
+            // must release exchange
+            releaseExchange(exchange, false);
+            if (cause != null) {
+                throw cause;
+            } else {
+                throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
+            }
+        }
+
+        // pick the on consume to use
+        String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+        if (data != null && sql != null && isOnConsumeBatch()) {
+            // the exchange is released when the batch is executed
+            addToOnConsumeBatch(exchange, data, sql);
+            return;
+        }
+
+        try {
+            // we can only run on consume if there was data
+            if (data != null && sql != null) {
+                int updateCount;
+                if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                    SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                    updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
+                            parameterSource, sql);
                 } else {
-                    throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
+                    updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
                 }
+                validateUpdateCount(updateCount, sql);
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
             }
+        } finally {
+            releaseExchange(exchange, false);
+        }
+    }
+
+    private void validateUpdateCount(int updateCount, String sql) throws SQLException {
+        if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+            String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                         + " executing query: " + sql;
+            throw new SQLException(msg);
+        }
+    }
+
+    private boolean isOnConsumeBatch() {
+        // the named parameter processing strategy has no batch support
+        return onConsumeBatchSize > 1 && namedJdbcTemplate == null;
+    }
+
+    private void addToOnConsumeBatch(Exchange exchange, Object data, String sql) throws Exception {
+        DataHolder holder = new DataHolder();
+        holder.exchange = exchange;
+        holder.data = data;
+        holder.sql = sql;
+
+        List<DataHolder> batch = null;
+        onConsumeLock.lock();
+        try {
+            pendingOnConsume.add(holder);
+            if (pendingOnConsume.size() >= onConsumeBatchSize) {
+                batch = pendingOnConsume;
+                pendingOnConsume = new ArrayList<>(onConsumeBatchSize);
+            }
+        } finally {
+            onConsumeLock.unlock();
+        }
 
-            // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+        if (batch != null) {
+            executeOnConsumeBatch(batch);
+        }
+    }
+
+    private void executeOnConsumeBatch(List<DataHolder> batch) throws Exception {
+        // the batch can contain both onConsume and onConsumeFailed queries
+        Map<String, List<DataHolder>> groups = new LinkedHashMap<>();
+        for (DataHolder holder : batch) {
+            groups.computeIfAbsent(holder.sql, k -> new ArrayList<>()).add(holder);
+        }
+
+        for (Map.Entry<String, List<DataHolder>> group : groups.entrySet()) {
+            String sql = group.getKey();
+            List<Exchange> exchanges = new ArrayList<>(group.getValue().size());
+            List<Object> data = new ArrayList<>(group.getValue().size());
+            for (DataHolder holder : group.getValue()) {
+                exchanges.add(holder.exchange);
+                data.add(holder.data);
+            }
             try {
-                // we can only run on consume if there was data
-                if (data != null && sql != null) {
-                    int updateCount;
-                    if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
-                        SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
-                        updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
-                                parameterSource, sql);
-                    } else {
-                        updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
-                    }
-                    if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
-                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
-                                     + " executing query: " + sql;
-                        throw new SQLException(msg);
+                LOG.debug("Executing batch of {} onConsume/onConsumeFailed queries", exchanges.size());
+                int[] updateCounts = sqlProcessingStrategy.commitBatch(getEndpoint(), exchanges, data, jdbcTemplate, sql);
+                for (int updateCount : updateCounts) {
+                    try {
+                        validateUpdateCount(updateCount, sql);
+                    } catch (SQLException e) {
+                        if (breakBatchOnConsumeFail) {
+                            throw e;
+                        } else {
+                            handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -308,9 +511,40 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                     handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
                 }
             } finally {
-                releaseExchange(exchange, false);
+                for (Exchange exchange : exchanges) {
+                    releaseExchange(exchange, false);
+                }
             }
         }
+    }
+
+    private void discardOnConsumeBatch() {
+        List<DataHolder> batch;
+        onConsumeLock.lock();
+        try {
+            batch = pendingOnConsume;
+            pendingOnConsume = new ArrayList<>();
+        } finally {
+            onConsumeLock.unlock();
+        }
+        for (DataHolder holder : batch) {
+            releaseExchange(holder.exchange, false);
+        }
+    }
+
+    private void completeBatch() throws Exception {
+        // execute the remainder of the onConsume queries before the batch is complete
+        List<DataHolder> batch;
+        onConsumeLock.lock();
+        try {
+            batch = pendingOnConsume;
+            pendingOnConsume = new ArrayList<>();
+        } finally {
+            onConsumeLock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            executeOnConsumeBatch(batch);
+        }
 
         try {
             if (onConsumeBatchComplete != null) {
@@ -332,8 +566,6 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                 handleException("Error executing onConsumeBatchComplete query " + onConsumeBatchComplete, e);
             }
         }
-
-        return total;
     }
 
     public String getOnConsume() {
@@ -412,6 +644,39 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to stream the rows of the result set to the route while they are read from the cursor.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getStreamingConcurrentConsumers() {
+        return streamingConcurrentConsumers;
+    }
+
+    /**
+     * Sets the number of concurrent threads that process the rows when streaming.
+     */
+    public void setStreamingConcurrentConsumers(int streamingConcurrentConsumers) {
+        this.streamingConcurrentConsumers = streamingConcurrentConsumers;
+    }
+
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * Sets the number of onConsume/onConsumeFailed queries to execute together as a JDBC batch.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
     @Override
     public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
         super.setMaxMessagesPerPoll(maxMessagesPerPoll);
@@ -50,6 +50,19 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
         SqlProcessingStrategy proStrategy
                 = getProcessingStrategy() != null ? getProcessingStrategy() : new DefaultSqlProcessingStrategy(prepareStrategy);
+        if (isStreaming() && (getOutputType() != SqlOutputType.SelectList || !isUseIterator())) {
+            throw new IllegalArgumentException(
+                    "The streaming option can only be used with outputType=SelectList and useIterator=true");
+        }
+        if (isStreaming() && isTransacted()) {
+            throw new IllegalArgumentException("The streaming option cannot be used together with transacted");
+        }
+        if (isStreaming()
+                && (getOnConsume() != null || getOnConsumeFailed() != null || getOnConsumeBatchComplete() != null)) {
+            // the rows are routed while the connection and cursor are held, so these queries would need another connection
+            throw new IllegalArgumentException(
+                    "The streaming option cannot be used together with onConsume, onConsumeFailed or onConsumeBatchComplete");
+        }
         SqlConsumer consumer = new SqlConsumer(this, processor, getJdbcTemplate(), query, prepareStrategy, proStrategy);
         consumer.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         consumer.setOnConsume(getOnConsume());
@@ -61,6 +74,9 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
         consumer.setParametersCount(getParametersCount());
         consumer.setAlwaysPopulateStatement(isAlwaysPopulateStatement());
+        consumer.setStreaming(isStreaming());
+        consumer.setStreamingConcurrentConsumers(getStreamingConcurrentConsumers());
+        consumer.setOnConsumeBatchSize(getOnConsumeBatchSize());
         configureConsumer(consumer);
         return consumer;
     }
@@ -69,9 +85,20 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public Producer createProducer() throws Exception {
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null
                 ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
-        SqlProducer result = new SqlProducer(
-                this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
-                isAlwaysPopulateStatement(), isUseMessageBodyForSql());
+        SqlProducer result;
+        if (getMicroBatchSize() > 0) {
+            if (isBatch() || isUseMessageBodyForSql()) {
+                throw new IllegalArgumentException(
+                        "The microBatchSize option cannot be used together with batch or useMessageBodyForSql");
+            }
+            result = new SqlMicroBatchProducer(
+                    this, query, getJdbcTemplate(), prepareStrategy, isAlwaysPopulateStatement(), getMicroBatchSize(),
+                    getMicroBatchLingerTime());
+        } else {
+            result = new SqlProducer(
+                    this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
+                    isAlwaysPopulateStatement(), isUseMessageBodyForSql());
+        }
         result.setParametersCount(getParametersCount());
         return result;
     }
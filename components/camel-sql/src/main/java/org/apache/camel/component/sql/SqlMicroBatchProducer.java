@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.BatchBuffer;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+/**
+ * SQL producer which combines the parameters of the exchanges sent to it into JDBC batches.
+ * <p/>
+ * The exchanges are collected until either the micro batch size is reached, which executes the batch in the thread that
+ * completed it, or the linger time has elapsed, which executes the batch from a background thread. Each exchange is
+ * then completed with its own update count (or its own error) in the {@link SqlConstants#SQL_UPDATE_COUNT} header.
+ * <p/>
+ * As the batch is executed outside the transaction of the exchanges, transacted exchanges are rejected. SELECT queries
+ * are not supported as a batch has no result sets.
+ */
+public class SqlMicroBatchProducer extends SqlProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlMicroBatchProducer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final boolean alwaysPopulateStatement;
+    private final int microBatchSize;
+    private final long microBatchLingerTime;
+    private ScheduledExecutorService scheduler;
+    private BatchBuffer<BatchEntry> batchBuffer;
+
+    public SqlMicroBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
+                                 SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                                 boolean alwaysPopulateStatement, int microBatchSize, long microBatchLingerTime) {
+        super(endpoint, query, jdbcTemplate, sqlPrepareStatementStrategy, false, alwaysPopulateStatement, false);
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.alwaysPopulateStatement = alwaysPopulateStatement;
+        this.microBatchSize = microBatchSize;
+        this.microBatchLingerTime = microBatchLingerTime;
+    }
+
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    public long getMicroBatchLingerTime() {
+        return microBatchLingerTime;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        String sql = getResolvedQuery();
+        if (sql != null && sql.trim().toLowerCase(Locale.ENGLISH).startsWith("select")) {
+            throw new IllegalArgumentException("The microBatchSize option cannot be used with a SELECT query: " + sql);
+        }
+        if (scheduler == null) {
+            scheduler = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "SqlMicroBatch");
+        }
+        if (batchBuffer == null) {
+            batchBuffer = new BatchBuffer<>(microBatchSize, microBatchLingerTime, scheduler, batch -> {
+                executeBatch(batch);
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (batchBuffer != null) {
+            // execute the exchanges that are waiting so they are not left behind
+            batchBuffer.flush();
+            batchBuffer = null;
+        }
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final String preparedQuery;
+        try {
+            if (exchange.isTransacted()) {
+                // the batch is executed by another thread, and with the exchanges of other transactions
+                throw new IllegalStateException(
+                        "The microBatchSize option cannot be used with transacted exchanges: " + exchange);
+            }
+            if (exchange.getIn().getHeader(SqlConstants.SQL_QUERY) != null
+                    || exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, boolean.class)) {
+                // a query from the header, or retrieving generated keys, cannot be part of a batch
+                super.process(exchange);
+                callback.done(true);
+                return true;
+            }
+            preparedQuery = sqlPrepareStatementStrategy.prepareQuery(getResolvedQuery(),
+                    getEndpoint().isAllowNamedParameters(), exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        batchBuffer.add(new BatchEntry(exchange, callback, preparedQuery));
+        return false;
+    }
+
+    private void executeBatch(List<BatchEntry> batch) {
+        LOG.debug("Executing micro batch with {} exchanges", batch.size());
+        String first = batch.get(0).preparedQuery;
+        boolean same = true;
+        for (BatchEntry entry : batch) {
+            if (!first.equals(entry.preparedQuery)) {
+                same = false;
+                break;
+            }
+        }
+        if (same) {
+            executeBatch(first, batch);
+        } else {
+            // the prepared query can be different per exchange (such as IN queries) so group the entries by query
+            Map<String, List<BatchEntry>> groups = new LinkedHashMap<>();
+            for (BatchEntry entry : batch) {
+                groups.computeIfAbsent(entry.preparedQuery, k -> new ArrayList<>()).add(entry);
+            }
+            groups.forEach(this::executeBatch);
+        }
+    }
+
+    private void executeBatch(String preparedQuery, List<BatchEntry> entries) {
+        final String sql = getResolvedQuery();
+        final List<BatchEntry> added = new ArrayList<>(entries.size());
+        int[] updateCounts;
+        try {
+            LOG.trace("jdbcTemplate.execute: {}", preparedQuery);
+            updateCounts = jdbcTemplate.execute(preparedQuery, (PreparedStatementCallback<int[]>) ps -> {
+                int expected;
+                if (getParametersCount() > 0) {
+                    expected = getParametersCount();
+                } else {
+                    expected = ps.getParameterMetaData() != null ? ps.getParameterMetaData().getParameterCount() : 0;
+                }
+                for (BatchEntry entry : entries) {
+                    try {
+                        // only populate if really needed
+                        if (alwaysPopulateStatement || expected > 0) {
+                            Exchange exchange = entry.exchange;
+                            Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected,
+                                    exchange, exchange.getIn().getBody());
+                            sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                        }
+                        ps.addBatch();
+                        added.add(entry);
+                    } catch (Exception e) {
+                        // only this exchange failed, so continue with the others
+                        ps.clearParameters();
+                        entry.failed(e);
+                    }
+                }
+                return added.isEmpty() ? new int[0] : ps.executeBatch();
+            });
+        } catch (Exception e) {
+            // the update counts of a failed batch can tell which statements were executed
+            BatchUpdateException bue = ObjectHelper.getException(BatchUpdateException.class, e);
+            int[] counts = bue != null ? bue.getUpdateCounts() : null;
+            for (int i = 0; i < added.size(); i++) {
+                if (counts != null && i < counts.length && counts[i] != Statement.EXECUTE_FAILED) {
+                    added.get(i).done(counts[i]);
+                } else {
+                    added.get(i).failed(e);
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < added.size(); i++) {
+            added.get(i).done(updateCounts[i]);
+        }
+    }
+
+    private static final class BatchEntry {
+
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final String preparedQuery;
+
+        private BatchEntry(Exchange exchange, AsyncCallback callback, String preparedQuery) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.preparedQuery = preparedQuery;
+        }
+
+        void done(int updateCount) {
+            exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCount);
+            callback.done(false);
+        }
+
+        void failed(Exception cause) {
+            exchange.setException(cause);
+            callback.done(false);
+        }
+    }
+}
@@ -287,6 +287,14 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    protected String getResolvedQuery() {
+        return resolvedQuery;
+    }
+
+    public int getParametersCount() {
+        return parametersCount;
+    }
+
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
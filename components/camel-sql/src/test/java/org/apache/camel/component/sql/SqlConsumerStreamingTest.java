@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlConsumerStreamingTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        context.getRouteController().startRoute("streaming");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        assertEquals("Camel", exchanges.get(0).getIn().getBody(Map.class).get("PROJECT"));
+        assertEquals("AMQ", exchanges.get(1).getIn().getBody(Map.class).get("PROJECT"));
+        assertEquals("Linux", exchanges.get(2).getIn().getBody(Map.class).get("PROJECT"));
+
+        // the total is not known when streaming
+        assertEquals(0, exchanges.get(0).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(false, exchanges.get(0).getProperty(Exchange.BATCH_COMPLETE));
+        assertNull(exchanges.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(2, exchanges.get(2).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(true, exchanges.get(2).getProperty(Exchange.BATCH_COMPLETE));
+        assertNull(exchanges.get(2).getProperty(Exchange.BATCH_SIZE));
+    }
+
+    @Test
+    public void testStreamingConcurrentConsumers() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:concurrent");
+        mock.expectedBodiesReceivedInAnyOrder("Camel", "AMQ", "Linux");
+
+        context.getRouteController().startRoute("concurrent");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testStreamingWithOnConsumeNotAllowed() throws Exception {
+        Endpoint endpoint = context.getEndpoint(
+                "sql:select * from projects?streaming=true&onConsume=delete from projects where id = :#id");
+
+        assertThrows(IllegalArgumentException.class, () -> endpoint.createConsumer(exchange -> {
+        }));
+    }
+
+    @Test
+    public void testStreamingWithTransactedNotAllowed() throws Exception {
+        Endpoint endpoint = context.getEndpoint("sql:select * from projects?streaming=true&transacted=true");
+
+        assertThrows(IllegalArgumentException.class, () -> endpoint.createConsumer(exchange -> {
+        }));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:select * from projects order by id?initialDelay=0&repeatCount=1&streaming=true&template.fetchSize=2")
+                        .routeId("streaming").autoStartup(false)
+                        .to("mock:result");
+
+                from("sql:select * from projects order by id?initialDelay=0&repeatCount=1&streaming=true"
+                     + "&streamingConcurrentConsumers=3")
+                        .routeId("concurrent").autoStartup(false)
+                        .setBody(simple("${body[project]}"))
+                        .to("mock:concurrent");
+            }
+        };
+    }
+}
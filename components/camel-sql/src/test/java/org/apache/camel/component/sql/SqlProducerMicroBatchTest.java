@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+
+    @Test
+    public void testMicroBatch() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(sendProject(10 + i));
+        }
+
+        for (Future<Exchange> reply : replies) {
+            Exchange out = reply.get();
+            assertNull(out.getException());
+            assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        assertEquals(13, countProjects());
+    }
+
+    @Test
+    public void testMicroBatchLingerTime() throws Exception {
+        // the batch is not full so it is executed when the linger time has elapsed
+        Exchange out = sendProject(10).get();
+
+        assertNull(out.getException());
+        assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(4, countProjects());
+    }
+
+    @Test
+    public void testMicroBatchWithFailure() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        replies.add(sendProject(10));
+        replies.add(sendProject(11));
+        // duplicate primary key
+        replies.add(sendProject(1));
+        replies.add(sendProject(12));
+        replies.add(sendProject(13));
+
+        for (int i = 0; i < replies.size(); i++) {
+            Exchange out = replies.get(i).get();
+            if (i == 2) {
+                assertNotNull(out.getException());
+                assertNull(out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            } else {
+                assertNull(out.getException());
+                assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        }
+        assertEquals(7, countProjects());
+    }
+
+    @Test
+    public void testMicroBatchProducer() throws Exception {
+        SqlEndpoint endpoint = context.getEndpoint(
+                "sql:insert into projects values (:#id, :#project, :#license)?microBatchSize=5", SqlEndpoint.class);
+
+        SqlMicroBatchProducer producer = assertIsInstanceOf(SqlMicroBatchProducer.class, endpoint.createProducer());
+        assertEquals(5, producer.getMicroBatchSize());
+        assertEquals(100, producer.getMicroBatchLingerTime());
+    }
+
+    @Test
+    public void testMicroBatchTransacted() throws Exception {
+        Exchange out = template.request("direct:start", exchange -> {
+            exchange.getExchangeExtension().setTransacted(true);
+            exchange.getIn().setBody(Map.of("id", 10, "project", "Project 10", "license", "ASF"));
+        });
+
+        assertIsInstanceOf(IllegalStateException.class, out.getException());
+        assertEquals(3, countProjects());
+    }
+
+    @Test
+    public void testMicroBatchSelect() throws Exception {
+        SqlEndpoint endpoint = context.getEndpoint("sql:select * from projects?microBatchSize=5", SqlEndpoint.class);
+        Producer producer = endpoint.createProducer();
+
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    private Future<Exchange> sendProject(int id) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("id", id);
+        body.put("project", "Project " + id);
+        body.put("license", "ASF");
+        return template.asyncSend("direct:start", exchange -> exchange.getIn().setBody(body));
+    }
+
+    private int countProjects() {
+        return new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class);
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:start")
+                        .to("sql:insert into projects values (:#id, :#project, :#license)?microBatchSize=5&microBatchLingerTime=500");
+            }
+        };
+    }
+}
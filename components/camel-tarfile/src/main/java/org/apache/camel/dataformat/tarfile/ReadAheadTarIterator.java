@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.tarfile;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which reads the next entries of a TarArchiveInputStream in the background while the current entry is
+ * processed.
+ * <p/>
+ * A tar stream can only be read sequentially, so the entries are read one after the other by the executor, each into a
+ * stream cache which is spooled to disk according to the stream caching strategy of the context. The stream cache of an
+ * entry is deleted when the exchange of the entry completes, such as a sub-exchange of the splitter, rather than when
+ * the exchange of the tar file completes. At most {@code readAhead} entries are read ahead of the message returned, and
+ * as the body of each message does not depend on the tar stream, the messages can be processed in parallel.
+ */
+public class ReadAheadTarIterator implements Iterator<Message>, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadAheadTarIterator.class);
+    /**
+     * The default maximum decompressed size (in bytes) of an entry, which corresponds to 1G.
+     */
+    private static final long DEFAULT_MAXIMUM_DECOMPRESSED_SIZE = 1073741824;
+
+    private final Exchange exchange;
+    private final Executor executor;
+    private final int readAhead;
+    private final TarArchiveInputStream tarInputStream;
+    private final Deque<CompletableFuture<Message>> pending = new ArrayDeque<>();
+    private boolean allowEmptyDirectory;
+    private long maxDecompressedSize = DEFAULT_MAXIMUM_DECOMPRESSED_SIZE;
+    private volatile boolean closed;
+    private boolean first = true;
+
+    public ReadAheadTarIterator(Exchange exchange, InputStream inputStream, Executor executor, int readAhead) {
+        this.exchange = exchange;
+        this.executor = executor;
+        this.readAhead = Math.max(1, readAhead);
+        if (inputStream instanceof TarArchiveInputStream) {
+            tarInputStream = (TarArchiveInputStream) inputStream;
+        } else {
+            tarInputStream = new TarArchiveInputStream(new BufferedInputStream(inputStream));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        fill();
+        if (join(pending.peek()) == null) {
+            IOHelper.close(this);
+            if (first) {
+                throw new IllegalStateException("Unable to untar the file, it may be corrupted.");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        first = false;
+        Message answer = join(pending.poll());
+        // keep reading the next entries while this one is processed
+        fill();
+        return answer;
+    }
+
+    private void fill() {
+        while (pending.size() < readAhead) {
+            CompletableFuture<Message> last = pending.peekLast();
+            if (last != null && last.isDone() && join(last) == null) {
+                // the end of the tar stream has been reached
+                return;
+            }
+            // the cache is not bound to the exchange of the tar file, but released with the exchange of the entry
+            CachedOutputStream cos = new CachedOutputStream(exchange, false);
+            EntryMessage answer = new EntryMessage(exchange.getContext(), cos);
+            answer.getHeaders().putAll(exchange.getIn().getHeaders());
+            if (last == null) {
+                pending.add(CompletableFuture.supplyAsync(() -> readEntry(answer, cos), executor));
+            } else {
+                // the entries are read one after the other, as the tar stream is sequential
+                pending.add(last.thenApplyAsync(previous -> previous != null ? readEntry(answer, cos) : null, executor));
+            }
+        }
+    }
+
+    private Message readEntry(Message answer, CachedOutputStream cos) {
+        try {
+            TarArchiveEntry current = getNextEntry();
+            if (current == null) {
+                LOGGER.trace("Reached the end of tarInputStream");
+                IOHelper.close(cos);
+                return null;
+            }
+            LOGGER.debug("Reading tarEntry {}", current.getName());
+            answer.setHeader(TarIterator.TARFILE_ENTRY_NAME_HEADER, current.getName());
+            answer.setHeader(Exchange.FILE_NAME, current.getName());
+            IOHelper.copy(tarInputStream, cos, IOHelper.DEFAULT_BUFFER_SIZE, false, maxDecompressedSize);
+            answer.setBody(cos.newStreamCache());
+            return answer;
+        } catch (IOException e) {
+            IOHelper.close(cos);
+            throw new RuntimeCamelException(e);
+        } catch (RuntimeException e) {
+            IOHelper.close(cos);
+            throw e;
+        }
+    }
+
+    private TarArchiveEntry getNextEntry() throws IOException {
+        TarArchiveEntry entry;
+
+        while ((entry = tarInputStream.getNextTarEntry()) != null) {
+            if (!entry.isDirectory() || allowEmptyDirectory) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    private Message join(CompletableFuture<Message> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            IOHelper.close(this);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeCamelException(cause);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            // the entry still being read fails once the stream is closed, and the entries already read are discarded
+            // along with their stream cache
+            pending.forEach(future -> future.thenAccept(message -> {
+                if (message != null) {
+                    ((EntryMessage) message).release();
+                }
+            }));
+            pending.clear();
+            IOHelper.close(tarInputStream);
+        }
+    }
+
+    /**
+     * The message of an entry, which releases the stream cache of the entry when the exchange it is set on completes.
+     */
+    private static final class EntryMessage extends DefaultMessage {
+        private final CachedOutputStream cos;
+        private final AtomicBoolean bound = new AtomicBoolean();
+
+        private EntryMessage(CamelContext camelContext, CachedOutputStream cos) {
+            super(camelContext);
+            this.cos = cos;
+        }
+
+        @Override
+        public void setExchange(Exchange exchange) {
+            super.setExchange(exchange);
+            if (exchange != null && bound.compareAndSet(false, true)) {
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        release();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "OnCompletion[ReadAheadTarIterator]";
+                    }
+                });
+            }
+        }
+
+        private void release() {
+            // closing the cache deletes its temporary file, as the cache is not closed on completion
+            IOHelper.close(cos);
+        }
+    }
+
+    public boolean isAllowEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+
+    public long getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * The maximum size (in bytes) of a decompressed entry, or <tt>-1</tt> to not limit the size. Defaults to 1G.
+     */
+    public void setMaxDecompressedSize(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+}
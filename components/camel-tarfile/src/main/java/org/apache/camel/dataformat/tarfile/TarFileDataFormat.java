@@ -23,7 +23,10 @@ import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -31,6 +34,7 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -44,7 +48,7 @@ import static org.apache.camel.Exchange.FILE_NAME;
  * Tar file data format. Based on ZipFileDataFormat from camel-zipfile component
  */
 @Dataformat("tarFile")
-public class TarFileDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class TarFileDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
     /**
      * The default maximum decompressed size (in bytes), which corresponds to 1G.
      */
@@ -53,6 +57,10 @@ public class TarFileDataFormat extends ServiceSupport implements DataFormat, Dat
     private boolean allowEmptyDirectory;
     private boolean preservePathElements;
     private long maxDecompressedSize = DEFAULT_MAXIMUM_DECOMPRESSED_SIZE;
+    private int readAhead;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private CamelContext camelContext;
 
     @Override
     public String getDataFormatName() {
@@ -99,7 +107,13 @@ public class TarFileDataFormat extends ServiceSupport implements DataFormat, Dat
 
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream stream) throws Exception {
-        if (usingIterator) {
+        if (usingIterator && readAhead > 0) {
+            ObjectHelper.notNull(executorService, "executorService", this);
+            ReadAheadTarIterator tarIterator = new ReadAheadTarIterator(exchange, stream, executorService, readAhead);
+            tarIterator.setAllowEmptyDirectory(allowEmptyDirectory);
+            tarIterator.setMaxDecompressedSize(maxDecompressedSize);
+            return tarIterator;
+        } else if (usingIterator) {
             TarIterator tarIterator = new TarIterator(exchange, stream);
             tarIterator.setAllowEmptyDirectory(allowEmptyDirectory);
             return tarIterator;
@@ -188,13 +202,55 @@ public class TarFileDataFormat extends ServiceSupport implements DataFormat, Dat
         this.maxDecompressedSize = maxDecompressedSize;
     }
 
+    public int getReadAhead() {
+        return readAhead;
+    }
+
+    /**
+     * The number of entries read ahead in the background while an entry is processed, when using the iterator. Zero,
+     * the default, reads the entries from the tar stream as they are processed.
+     */
+    public void setReadAhead(int readAhead) {
+        this.readAhead = readAhead;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service used to read the entries ahead. If not set then a thread pool is created from the default
+     * thread pool profile of the Camel context when the data format is started, and shut down when it is stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     protected void doStart() throws Exception {
-        // noop
+        if (usingIterator && readAhead > 0 && executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "TarFileDataFormat");
+            shutdownExecutorService = true;
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
     }
 }
@@ -17,16 +17,29 @@
 package org.apache.camel.dataformat.tarfile;
 
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
+import org.apache.camel.support.LifecycleStrategySupport;
 
 /**
  * TarSplitter the expression builder which can be used after the splitter Based on the ZipSplitter from camel-zipfile
  * component
  */
 public class TarSplitter implements Expression {
+    /**
+     * The default maximum decompressed size (in bytes) of an entry, which corresponds to 1G.
+     */
+    private static final long DEFAULT_MAXIMUM_DECOMPRESSED_SIZE = 1073741824;
+
+    private int readAhead;
+    private long maxDecompressedSize = DEFAULT_MAXIMUM_DECOMPRESSED_SIZE;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private boolean lifecycleRegistered;
 
     public TarSplitter() {
     }
@@ -34,12 +47,79 @@ public class TarSplitter implements Expression {
     public Object evaluate(Exchange exchange) {
         Message inputMessage = exchange.getIn();
         InputStream inputStream = inputMessage.getBody(InputStream.class);
+        if (readAhead > 0) {
+            ReadAheadTarIterator tarIterator
+                    = new ReadAheadTarIterator(exchange, inputStream, getOrCreateExecutorService(exchange), readAhead);
+            tarIterator.setMaxDecompressedSize(maxDecompressedSize);
+            return tarIterator;
+        }
         return new TarIterator(exchange, inputStream);
     }
 
+    private synchronized ExecutorService getOrCreateExecutorService(Exchange exchange) {
+        if (executorService == null) {
+            CamelContext context = exchange.getContext();
+            executorService = context.getExecutorServiceManager().newDefaultThreadPool(this, "TarSplitter");
+            shutdownExecutorService = true;
+            if (!lifecycleRegistered) {
+                // the thread pool is created by this splitter, so it is shut down when the context stops
+                context.addLifecycleStrategy(LifecycleStrategySupport.adapt(
+                        LifecycleStrategySupport.onCamelContextStopped(this::shutdownExecutorService)));
+                lifecycleRegistered = true;
+            }
+        }
+        return executorService;
+    }
+
+    private synchronized void shutdownExecutorService(CamelContext context) {
+        if (shutdownExecutorService && executorService != null) {
+            context.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
     @Override
     public <T> T evaluate(Exchange exchange, Class<T> type) {
         Object result = evaluate(exchange);
         return exchange.getContext().getTypeConverter().convertTo(type, exchange, result);
     }
+
+    public int getReadAhead() {
+        return readAhead;
+    }
+
+    /**
+     * The number of entries read ahead in the background while an entry is processed. Each entry read ahead is stored
+     * in a stream cache, so the entries can be processed in parallel. Zero, the default, reads the entries from the tar
+     * stream as they are processed.
+     */
+    public void setReadAhead(int readAhead) {
+        this.readAhead = readAhead;
+    }
+
+    public long getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * The maximum size (in bytes) of an entry read ahead. Defaults to 1G.
+     */
+    public void setMaxDecompressedSize(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service used to read the entries ahead. If not set then a thread pool is created from the default
+     * thread pool profile of the Camel context on first use, which is shut down when the context stops. An executor
+     * service which is set is not shut down by the splitter.
+     */
+    public synchronized void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        this.shutdownExecutorService = false;
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.tarfile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarSplitterReadAheadTest extends CamelTestSupport {
+
+    private static final int ENTRIES = 50;
+    private static final File SPOOL_DIRECTORY = new File("target/tarReadAheadSpool");
+
+    private final TarSplitter spoolSplitter = new TarSplitter();
+    private final AtomicInteger maxSpooledFiles = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory(SPOOL_DIRECTORY);
+        super.setUp();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(SPOOL_DIRECTORY);
+        context.getStreamCachingStrategy().setSpoolThreshold(1000);
+        return context;
+    }
+
+    @Test
+    public void testReadAheadSplitter() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:splitter");
+        mock.expectedBodiesReceivedInAnyOrder(expectedBodies());
+        mock.allMessages().body().isInstanceOf(StreamCache.class);
+
+        template.sendBody("direct:splitter", createTar());
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testReadAheadDataFormatKeepsOrder() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:dataFormat");
+        mock.expectedBodiesReceived(expectedBodies());
+        mock.message(0).header(TarIterator.TARFILE_ENTRY_NAME_HEADER).isEqualTo("entry0.txt");
+
+        template.sendBody("direct:dataFormat", createTar());
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testReadAheadMaxDecompressedSize() throws Exception {
+        // the entries from the eleventh are larger than the maximum size, and the splitter already fails before routing
+        // the tenth entry, as it checks whether there is a next entry
+        MockEndpoint mock = getMockEndpoint("mock:maxSize");
+        mock.expectedMessageCount(9);
+
+        byte[] tar = createTar();
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:maxSize", tar));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testReadAheadSplitterDeletesEntryCaches() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:spool");
+        mock.expectedMessageCount(ENTRIES);
+
+        template.sendBody("direct:spool", createTar());
+
+        MockEndpoint.assertIsSatisfied(context);
+        // the cache of an entry is deleted when its sub-exchange completes, so at most the entries read ahead, the entry
+        // being processed and the previous entry are spooled at the same time
+        assertTrue(maxSpooledFiles.get() > 0);
+        assertTrue(maxSpooledFiles.get() <= 4, "Spooled files: " + maxSpooledFiles.get());
+        assertEquals(0, spooledFiles());
+    }
+
+    @Test
+    public void testSplitterThreadPoolShutdownOnStop() throws Exception {
+        template.sendBody("direct:spool", createTar());
+        assertNotNull(spoolSplitter.getExecutorService());
+
+        context.stop();
+
+        assertNull(spoolSplitter.getExecutorService());
+    }
+
+    private static int spooledFiles() {
+        String[] files = SPOOL_DIRECTORY.list();
+        return files != null ? files.length : 0;
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                TarSplitter splitter = new TarSplitter();
+                splitter.setReadAhead(4);
+
+                from("direct:splitter")
+                        .split(splitter).streaming().parallelProcessing()
+                        .to("mock:splitter")
+                        .end();
+
+                TarFileDataFormat dataFormat = new TarFileDataFormat();
+                dataFormat.setUsingIterator(true);
+                dataFormat.setReadAhead(2);
+
+                from("direct:dataFormat")
+                        .unmarshal(dataFormat)
+                        .split(bodyAs(Iterator.class)).streaming()
+                        .convertBodyTo(String.class)
+                        .to("mock:dataFormat")
+                        .end();
+
+                TarFileDataFormat maxSize = new TarFileDataFormat();
+                maxSize.setUsingIterator(true);
+                maxSize.setReadAhead(2);
+                maxSize.setMaxDecompressedSize(1000);
+
+                spoolSplitter.setReadAhead(2);
+
+                from("direct:spool")
+                        .split(spoolSplitter).streaming()
+                        .process(e -> maxSpooledFiles.accumulateAndGet(spooledFiles(), Math::max))
+                        .to("mock:spool")
+                        .end();
+
+                from("direct:maxSize")
+                        .unmarshal(maxSize)
+                        .split(bodyAs(Iterator.class)).streaming()
+                        .to("mock:maxSize")
+                        .end();
+            }
+        };
+    }
+
+    private static Object[] expectedBodies() {
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            bodies.add(body(i));
+        }
+        return bodies.toArray();
+    }
+
+    private static String body(int i) {
+        return "entry " + i + " " + "x".repeat(i * 100);
+    }
+
+    private static byte[] createTar() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tos = new TarArchiveOutputStream(baos)) {
+            tos.putArchiveEntry(new TarArchiveEntry("directory/"));
+            tos.closeArchiveEntry();
+            for (int i = 0; i < ENTRIES; i++) {
+                byte[] data = body(i).getBytes(StandardCharsets.UTF_8);
+                TarArchiveEntry entry = new TarArchiveEntry("entry" + i + ".txt");
+                entry.setSize(data.length);
+                tos.putArchiveEntry(entry);
+                tos.write(data);
+                tos.closeArchiveEntry();
+            }
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.NamespaceAware;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.MessageHelper;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * Evaluates a set of simple xpath location paths on the message body in a single pass over a StAX stream, without
+ * building a DOM.
+ * <p/>
+ * The result is a {@link Map} with the string value of the first node matched by each path, keyed by the name of the
+ * path. Paths which match no node are not included in the map. The parsing stops as soon as every path has been
+ * matched, so the fields found at the beginning of a large document can be routed on without reading the rest of it.
+ * <p/>
+ * Only forward-only paths are supported: absolute paths made of element name steps separated by <tt>/</tt> (child) or
+ * <tt>//</tt> (descendant), such as <tt>/order/customer/name</tt> or <tt>//item</tt>, optionally ending with an
+ * attribute step such as <tt>/order/@id</tt>. A step may use <tt>*</tt> to match any element, and a prefix which is
+ * bound by {@link #namespace(String, String)}. Predicates, functions and the other axes are not supported, and the
+ * {@link XPathBuilder} should be used for those.
+ * <p/>
+ * This implementation is thread safe once configured.
+ */
+public class StreamingXPathEvaluator implements Expression, NamespaceAware {
+
+    private final Map<String, String> namespaces = new ConcurrentHashMap<>();
+    private final Map<String, String> paths = new LinkedHashMap<>();
+    private volatile List<LocationPath> locationPaths;
+
+    /**
+     * Adds a location path to evaluate.
+     *
+     * @param  name  the key of the value of the path in the result
+     * @param  xpath the location path, such as <tt>/order/@id</tt>
+     * @return       the current builder
+     */
+    public StreamingXPathEvaluator path(String name, String xpath) {
+        synchronized (paths) {
+            paths.put(name, xpath);
+            locationPaths = null;
+        }
+        return this;
+    }
+
+    /**
+     * Registers the namespace prefix and URI used by the location paths.
+     *
+     * @param  prefix the namespace prefix
+     * @param  uri    the namespace URI
+     * @return        the current builder
+     */
+    public StreamingXPathEvaluator namespace(String prefix, String uri) {
+        namespaces.put(prefix, uri);
+        synchronized (paths) {
+            locationPaths = null;
+        }
+        return this;
+    }
+
+    @Override
+    public void setNamespaces(Map<String, String> namespaces) {
+        this.namespaces.clear();
+        this.namespaces.putAll(namespaces);
+        synchronized (paths) {
+            locationPaths = null;
+        }
+    }
+
+    @Override
+    public Map<String, String> getNamespaces() {
+        return namespaces;
+    }
+
+    public Map<String, String> getPaths() {
+        synchronized (paths) {
+            return new LinkedHashMap<>(paths);
+        }
+    }
+
+    @Override
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        Object answer = evaluate(exchange);
+        return ExchangeHelper.convertToType(exchange, type, answer);
+    }
+
+    /**
+     * Evaluates the location paths on the message body.
+     *
+     * @param  exchange the exchange
+     * @return          the string values keyed by the names of the paths which matched a node
+     */
+    public Map<String, String> evaluate(Exchange exchange) {
+        List<LocationPath> list = getLocationPaths();
+        Map<String, String> answer = new LinkedHashMap<>();
+        if (list.isEmpty() || exchange.getIn().getBody() == null) {
+            return answer;
+        }
+
+        InputStream is = null;
+        XMLStreamReader reader = null;
+        try {
+            is = exchange.getIn().getMandatoryBody(InputStream.class);
+            reader = exchange.getContext().getTypeConverter().mandatoryConvertTo(XMLStreamReader.class, exchange, is);
+            evaluate(reader, list, answer);
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+            IOHelper.close(is);
+            // call the reset if the in message body is StreamCache
+            MessageHelper.resetStreamCache(exchange.getIn());
+        }
+        return answer;
+    }
+
+    private static void evaluate(XMLStreamReader reader, List<LocationPath> list, Map<String, String> answer)
+            throws XMLStreamException {
+        List<QName> elements = new ArrayList<>();
+        // the element paths which are collecting the text of the element they matched
+        List<Capture> captures = new ArrayList<>();
+        int remaining = list.size();
+
+        while (remaining > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elements.add(reader.getName());
+                for (LocationPath path : list) {
+                    if (answer.containsKey(path.name) || isCapturing(captures, path) || !path.matches(elements)) {
+                        continue;
+                    }
+                    if (path.attribute != null) {
+                        String value = getAttributeValue(reader, path.attribute);
+                        if (value != null) {
+                            answer.put(path.name, value);
+                            remaining--;
+                        }
+                    } else {
+                        captures.add(new Capture(path, elements.size()));
+                    }
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                for (Capture capture : captures) {
+                    capture.text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                for (int i = captures.size() - 1; i >= 0; i--) {
+                    Capture capture = captures.get(i);
+                    if (capture.depth == elements.size()) {
+                        captures.remove(i);
+                        answer.put(capture.path.name, capture.text.toString());
+                        remaining--;
+                    }
+                }
+                elements.remove(elements.size() - 1);
+            }
+        }
+    }
+
+    private static boolean isCapturing(List<Capture> captures, LocationPath path) {
+        for (Capture capture : captures) {
+            if (capture.path == path) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getAttributeValue(XMLStreamReader reader, QName attribute) {
+        // match the namespace of the attribute exactly, as an unprefixed attribute is in no namespace
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (attribute.getLocalPart().equals(reader.getAttributeLocalName(i))
+                    && attribute.getNamespaceURI().equals(nullToEmpty(reader.getAttributeNamespace(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private List<LocationPath> getLocationPaths() {
+        List<LocationPath> answer = locationPaths;
+        if (answer == null) {
+            synchronized (paths) {
+                answer = new ArrayList<>(paths.size());
+                for (Map.Entry<String, String> entry : paths.entrySet()) {
+                    answer.add(LocationPath.parse(entry.getKey(), entry.getValue(), namespaces));
+                }
+                locationPaths = answer;
+            }
+        }
+        return answer;
+    }
+
+    private static String nullToEmpty(String uri) {
+        return uri == null ? XMLConstants.NULL_NS_URI : uri;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingXPath[" + getPaths() + "]";
+    }
+
+    private static final class Capture {
+
+        private final LocationPath path;
+        private final int depth;
+        private final StringBuilder text = new StringBuilder();
+
+        private Capture(LocationPath path, int depth) {
+            this.path = path;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * A location path made of element steps, and an optional attribute step.
+     */
+    private static final class LocationPath {
+
+        private static final String ANY = "*";
+
+        private final String name;
+        private final QName[] steps;
+        private final boolean[] descendant;
+        private final QName attribute;
+
+        private LocationPath(String name, QName[] steps, boolean[] descendant, QName attribute) {
+            this.name = name;
+            this.steps = steps;
+            this.descendant = descendant;
+            this.attribute = attribute;
+        }
+
+        static LocationPath parse(String name, String xpath, Map<String, String> namespaces) {
+            String text = xpath.trim();
+            if (!text.startsWith("/") || text.endsWith("/")) {
+                throw new IllegalArgumentException("Unsupported streaming xpath: " + xpath + ", must be an absolute path");
+            }
+            List<QName> steps = new ArrayList<>();
+            List<Boolean> descendant = new ArrayList<>();
+            QName attribute = null;
+            int pos = 0;
+            while (pos < text.length()) {
+                if (attribute != null) {
+                    throw new IllegalArgumentException(
+                            "Unsupported streaming xpath: " + xpath + ", the attribute step must be the last step");
+                }
+                boolean isDescendant = text.startsWith("//", pos);
+                pos += isDescendant ? 2 : 1;
+                int end = text.indexOf('/', pos);
+                if (end == -1) {
+                    end = text.length();
+                }
+                String step = text.substring(pos, end).trim();
+                pos = end;
+                if (step.startsWith("@") && !isDescendant) {
+                    attribute = toQName(xpath, step.substring(1), namespaces, false);
+                } else {
+                    steps.add(toQName(xpath, step, namespaces, true));
+                    descendant.add(isDescendant);
+                }
+            }
+            if (steps.isEmpty()) {
+                throw new IllegalArgumentException("Unsupported streaming xpath: " + xpath + ", must select an element");
+            }
+            boolean[] flags = new boolean[descendant.size()];
+            for (int i = 0; i < flags.length; i++) {
+                flags[i] = descendant.get(i);
+            }
+            return new LocationPath(name, steps.toArray(new QName[0]), flags, attribute);
+        }
+
+        private static QName toQName(String xpath, String step, Map<String, String> namespaces, boolean element) {
+            if (step.isEmpty() || step.indexOf('[') != -1 || step.indexOf('(') != -1 || step.indexOf("::") != -1
+                    || step.startsWith("@") || step.startsWith(".")) {
+                throw new IllegalArgumentException("Unsupported streaming xpath: " + xpath + ", invalid step: " + step);
+            }
+            if (element && ANY.equals(step)) {
+                return new QName(ANY);
+            }
+            int idx = step.indexOf(':');
+            if (idx == -1) {
+                // an unprefixed name matches the nodes in no namespace, as in xpath 1.0
+                return new QName(XMLConstants.NULL_NS_URI, step);
+            }
+            String prefix = step.substring(0, idx);
+            String uri = namespaces.get(prefix);
+            if (uri == null) {
+                throw new IllegalArgumentException(
+                        "Unsupported streaming xpath: " + xpath + ", the namespace prefix is not bound: " + prefix);
+            }
+            return new QName(uri, step.substring(idx + 1), prefix);
+        }
+
+        /**
+         * Whether the path selects the last element of the given elements.
+         */
+        boolean matches(List<QName> elements) {
+            return matches(elements, elements.size() - 1, steps.length - 1);
+        }
+
+        private boolean matches(List<QName> elements, int element, int step) {
+            if (!matches(steps[step], elements.get(element))) {
+                return false;
+            }
+            if (step == 0) {
+                // the first step matches the root element, or any element when the path starts with //
+                return descendant[0] || element == 0;
+            }
+            if (!descendant[step]) {
+                return element > 0 && matches(elements, element - 1, step - 1);
+            }
+            // the previous step may match any ancestor of the element
+            for (int i = element - 1; i >= step - 1; i--) {
+                if (matches(elements, i, step - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matches(QName step, QName element) {
+            if (ANY.equals(step.getLocalPart())) {
+                return true;
+            }
+            return step.getLocalPart().equals(element.getLocalPart())
+                    && step.getNamespaceURI().equals(nullToEmpty(element.getNamespaceURI()));
+        }
+    }
+}
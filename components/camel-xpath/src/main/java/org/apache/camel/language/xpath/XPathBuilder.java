@@ -55,6 +55,7 @@ import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.Predicate;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.StreamCache;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.spi.Language;
@@ -95,6 +96,7 @@ public class XPathBuilder extends ServiceSupport
     private static final String SAXON_OBJECT_MODEL_URI = "http://saxon.sf.net/jaxp/xpath/om";
     private static final String SAXON_FACTORY_CLASS_NAME = "net.sf.saxon.xpath.XPathFactoryImpl";
     private static final String OBTAIN_ALL_NS_XPATH = "//*/namespace::*";
+    private static final String PARSED_DOCUMENT = "CamelXPathParsedDocument";
 
     private static volatile XPathFactory defaultXPathFactory;
 
@@ -107,6 +109,7 @@ public class XPathBuilder extends ServiceSupport
     private final Map<String, String> namespaces = new ConcurrentHashMap<>();
     private boolean preCompile = true;
     private boolean threadSafety;
+    private boolean documentCache;
     private volatile XPathFactory xpathFactory;
     private volatile Class<?> documentType = Document.class;
     // For some reason the default expression of "a/b" on a document such as
@@ -509,6 +512,25 @@ public class XPathBuilder extends ServiceSupport
         return this;
     }
 
+    /**
+     * Whether to reuse the document parsed from the payload by the next xpath expressions evaluated on the same
+     * exchange, as long as the payload is the same instance. This avoids parsing the same message body again for each
+     * xpath predicate and expression of a route.
+     * <p/>
+     * The document is kept as an exchange property, and only for payloads which are not changed in place, such as
+     * String, byte[], stream caches, input streams and files. The document is dropped when the payload is changed. Do
+     * not turn this option on if the nodes returned by the expression are modified, as they are shared with the next
+     * expressions.
+     * <p/>
+     * The document cache is disabled by default
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder documentCache(boolean documentCache) {
+        setDocumentCache(documentCache);
+        return this;
+    }
+
     /**
      * Whether to enable pre-compiling the xpath expression during initialization phase. pre-compile is enabled by
      * default.
@@ -587,6 +609,14 @@ public class XPathBuilder extends ServiceSupport
         this.threadSafety = threadSafety;
     }
 
+    public boolean isDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
     public boolean isPreCompile() {
         return preCompile;
     }
@@ -1021,61 +1051,42 @@ public class XPathBuilder extends ServiceSupport
         // files or other resources
         InputStream is = null;
         try {
-            Object document;
+            Object payload;
+            boolean inputStreamNeeded;
 
             // Check if we need to apply the XPath expression to a header
             if (ObjectHelper.isNotEmpty(getHeaderName())) {
-                // only convert to input stream if really needed
-                if (isInputStreamNeeded(exchange, headerName)) {
-                    is = exchange.getIn().getHeader(headerName, InputStream.class);
-                    document = getDocument(exchange, is);
-                } else {
-                    Object headerObject = exchange.getIn().getHeader(getHeaderName());
-                    document = getDocument(exchange, headerObject);
-                }
+                payload = exchange.getIn().getHeader(getHeaderName());
+                inputStreamNeeded = isInputStreamNeeded(exchange, headerName);
             } else if (ObjectHelper.isNotEmpty(getPropertyName())) {
-                // only convert to input stream if really needed
-                if (isInputStreamNeededForProperty(exchange, propertyName)) {
-                    is = exchange.getProperty(propertyName, InputStream.class);
-                    document = getDocument(exchange, is);
-                } else {
-                    Object headerObject = exchange.getProperty(propertyName);
-                    document = getDocument(exchange, headerObject);
-                }
+                payload = exchange.getProperty(propertyName);
+                inputStreamNeeded = isInputStreamNeededForProperty(exchange, propertyName);
             } else {
+                payload = exchange.getIn().getBody();
+                inputStreamNeeded = isInputStreamNeeded(exchange);
+            }
+
+            // reuse the document if another xpath has already parsed the same payload
+            Object document = getParsedDocument(exchange, payload);
+            boolean shared = document != null;
+            if (document == null) {
                 // only convert to input stream if really needed
-                if (isInputStreamNeeded(exchange)) {
-                    is = exchange.getIn().getBody(InputStream.class);
+                if (inputStreamNeeded) {
+                    is = exchange.getContext().getTypeConverter().convertTo(InputStream.class, exchange, payload);
                     document = getDocument(exchange, is);
                 } else {
-                    Object body = exchange.getIn().getBody();
-                    document = getDocument(exchange, body);
+                    document = getDocument(exchange, payload);
                 }
+                shared = setParsedDocument(exchange, payload, document);
             }
 
-            if (resultQName != null) {
-                if (document == null) {
-                    document = new XMLConverterHelper().createDocument();
-                }
-                if (document instanceof InputSource) {
-                    InputSource inputSource = (InputSource) document;
-                    answer = xpathExpression.evaluate(inputSource, resultQName);
-                } else if (document instanceof DOMSource) {
-                    DOMSource source = (DOMSource) document;
-                    answer = xpathExpression.evaluate(source.getNode(), resultQName);
-                } else {
-                    answer = xpathExpression.evaluate(document, resultQName);
+            if (shared) {
+                // the DOM implementation may expand the nodes lazily, so the reads of a shared document must not overlap
+                synchronized (document) {
+                    answer = doEvaluate(xpathExpression, document, resultQName);
                 }
             } else {
-                if (document instanceof InputSource) {
-                    InputSource inputSource = (InputSource) document;
-                    answer = xpathExpression.evaluate(inputSource);
-                } else if (document instanceof DOMSource) {
-                    DOMSource source = (DOMSource) document;
-                    answer = xpathExpression.evaluate(source.getNode());
-                } else {
-                    answer = xpathExpression.evaluate(document);
-                }
+                answer = doEvaluate(xpathExpression, document, resultQName);
             }
         } catch (ParserConfigurationException e) {
             String message = getText();
@@ -1123,6 +1134,71 @@ public class XPathBuilder extends ServiceSupport
         return answer;
     }
 
+    private static Object doEvaluate(XPathExpression xpathExpression, Object document, QName resultQName)
+            throws ParserConfigurationException, XPathExpressionException {
+        if (resultQName != null) {
+            if (document == null) {
+                document = new XMLConverterHelper().createDocument();
+            }
+            if (document instanceof InputSource) {
+                InputSource inputSource = (InputSource) document;
+                return xpathExpression.evaluate(inputSource, resultQName);
+            } else if (document instanceof DOMSource) {
+                DOMSource source = (DOMSource) document;
+                return xpathExpression.evaluate(source.getNode(), resultQName);
+            } else {
+                return xpathExpression.evaluate(document, resultQName);
+            }
+        } else {
+            if (document instanceof InputSource) {
+                InputSource inputSource = (InputSource) document;
+                return xpathExpression.evaluate(inputSource);
+            } else if (document instanceof DOMSource) {
+                DOMSource source = (DOMSource) document;
+                return xpathExpression.evaluate(source.getNode());
+            } else {
+                return xpathExpression.evaluate(document);
+            }
+        }
+    }
+
+    /**
+     * Gets the document which was parsed from the given payload by a previous evaluation on the same exchange.
+     */
+    private Object getParsedDocument(Exchange exchange, Object payload) {
+        if (!documentCache || payload == null) {
+            return null;
+        }
+        Object cached = exchange.getProperty(PARSED_DOCUMENT);
+        if (cached instanceof ParsedDocument) {
+            ParsedDocument parsed = (ParsedDocument) cached;
+            if (parsed.payload != payload) {
+                // the payload has changed, so do not keep the document parsed from the previous payload in memory
+                exchange.removeProperty(PARSED_DOCUMENT);
+            } else if (parsed.documentType == documentType) {
+                LOG.trace("Reusing the document parsed from: {}", payload);
+                return parsed.document;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keeps the document parsed from the given payload, so the next evaluations on the same exchange can reuse it.
+     *
+     * @return <tt>true</tt> if the document is kept
+     */
+    private boolean setParsedDocument(Exchange exchange, Object payload, Object document) {
+        // only payloads which are not changed in place, as the document is found again by the identity of the payload
+        boolean immutable = payload instanceof String || payload instanceof byte[] || payload instanceof StreamCache
+                || payload instanceof InputStream || payload instanceof WrappedFile;
+        if (documentCache && immutable && document instanceof Document) {
+            exchange.setProperty(PARSED_DOCUMENT, new ParsedDocument(payload, documentType, document));
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Creates a new xpath expression as there we no available in the pool.
      * <p/>
@@ -1455,4 +1531,19 @@ public class XPathBuilder extends ServiceSupport
         return factory;
     }
 
+    /**
+     * A document parsed from the payload of an exchange.
+     */
+    private static final class ParsedDocument {
+
+        private final Object payload;
+        private final Class<?> documentType;
+        private final Object document;
+
+        private ParsedDocument(Object payload, Class<?> documentType, Object document) {
+            this.payload = payload;
+            this.documentType = documentType;
+            this.document = document;
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.io.IOException;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.stream.CachedOutputStream;
+
+/**
+ * Processes the XSLT result as a {@link org.apache.camel.StreamCache}, which is spooled to disk when it exceeds the
+ * threshold of the stream caching strategy, so large results are not held in memory.
+ */
+public class StreamCacheResultHandler implements ResultHandler {
+
+    private final CachedOutputStream buffer;
+    private final StreamResult result;
+
+    public StreamCacheResultHandler(Exchange exchange) {
+        // the spooled file is deleted when the exchange is done
+        this.buffer = new CachedOutputStream(exchange);
+        this.result = new StreamResult(buffer);
+    }
+
+    @Override
+    public Result getResult() {
+        return result;
+    }
+
+    @Override
+    public void setBody(Message in) {
+        try {
+            buffer.close();
+            in.setBody(buffer.newStreamCache());
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error creating the stream cache of the XSLT result", e);
+        }
+    }
+}
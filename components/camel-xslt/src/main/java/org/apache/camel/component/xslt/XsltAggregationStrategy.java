@@ -163,6 +163,8 @@ public class XsltAggregationStrategy extends ServiceSupport implements Aggregati
             xslt.outputDOM();
         } else if ("file".equalsIgnoreCase(output)) {
             xslt.outputFile();
+        } else if ("stream".equalsIgnoreCase(output)) {
+            xslt.outputStream();
         } else {
             throw new IllegalArgumentException("Unknown output type: " + output);
         }
@@ -100,6 +100,7 @@ public class XsltBuilder implements Processor {
         }
 
         Transformer transformer = getTransformer();
+        boolean reusable = false;
         configureTransformer(transformer, exchange);
 
         ResultHandler resultHandler = resultHandlerFactory.createResult(exchange);
@@ -123,8 +124,12 @@ public class XsltBuilder implements Processor {
             transformer.transform(source, result);
             LOG.trace("Transform complete with result {}", result);
             resultHandler.setBody(out);
+            reusable = true;
         } finally {
-            releaseTransformer(transformer);
+            // a transformer which failed may be left in an inconsistent state, so only reuse the transformers which succeeded
+            if (reusable) {
+                releaseTransformer(transformer);
+            }
             // IOHelper can handle if is is null
             IOHelper.close(is);
         }
@@ -205,6 +210,15 @@ public class XsltBuilder implements Processor {
         return this;
     }
 
+    /**
+     * Sets the output as being a stream cache, which is spooled to disk when it exceeds the threshold of the stream
+     * caching strategy
+     */
+    public XsltBuilder outputStream() {
+        setResultHandlerFactory(new StreamCacheResultHandlerFactory());
+        return this;
+    }
+
     /**
      * Sets the output as being a File where the filename must be provided in the {@link Exchange#XSLT_FILE_NAME}
      * header.
@@ -428,19 +442,27 @@ public class XsltBuilder implements Processor {
     }
 
     private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
-            transformer.reset();
-            boolean result = transformers.offer(transformer);
-            if (!result) {
-                LOG.error("failed to offer() a transform");
+        BlockingQueue<Transformer> cache = transformers;
+        if (cache != null) {
+            try {
+                // restores the original configuration, and clears the parameters referring to the exchange
+                transformer.reset();
+            } catch (UnsupportedOperationException e) {
+                LOG.debug("Cannot reset transformer {} so it is not cached for reuse", transformer);
+                return;
+            }
+            if (!cache.offer(transformer)) {
+                // more transformers were created than can be cached, due to concurrent transformations
+                LOG.trace("Transformer cache is full so transformer {} is discarded", transformer);
             }
         }
     }
 
     private Transformer getTransformer() throws Exception {
         Transformer t = null;
-        if (transformers != null) {
-            t = transformers.poll();
+        BlockingQueue<Transformer> cache = transformers;
+        if (cache != null) {
+            t = cache.poll();
         }
         if (t == null) {
             t = createTransformer();
@@ -207,10 +207,12 @@ public class XsltEndpoint extends ProcessorEndpoint {
     }
 
     /**
-     * Option to specify which output type to use. Possible values are: string, bytes, DOM, file. The first three
-     * options are all in memory based, where as file is streamed directly to a java.io.File. For file you must specify
-     * the filename in the IN header with the key XsltConstants.XSLT_FILE_NAME which is also CamelXsltFileName. Also any
-     * paths leading to the filename must be created beforehand, otherwise an exception is thrown at runtime.
+     * Option to specify which output type to use. Possible values are: string, bytes, DOM, file, stream. The first
+     * three options are all in memory based, where as file is streamed directly to a java.io.File. For file you must
+     * specify the filename in the IN header with the key XsltConstants.XSLT_FILE_NAME which is also CamelXsltFileName.
+     * Also any paths leading to the filename must be created beforehand, otherwise an exception is thrown at runtime.
+     * The stream option writes the result to a stream cache, which is spooled to disk when it exceeds the threshold of
+     * the stream caching strategy.
      */
     public void setOutput(XsltOutput output) {
         this.output = output;
@@ -442,6 +444,8 @@ public class XsltEndpoint extends ProcessorEndpoint {
             xslt.outputDOM();
         } else if ("file".equalsIgnoreCase(output)) {
             xslt.outputFile();
+        } else if ("stream".equalsIgnoreCase(output)) {
+            xslt.outputStream();
         } else {
             throw new IllegalArgumentException("Unknown output type: " + output);
         }
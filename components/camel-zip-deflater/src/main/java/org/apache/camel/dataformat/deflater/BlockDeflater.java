@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+import org.apache.camel.RuntimeCamelException;
+
+/**
+ * Compresses a stream into a raw deflate stream by blocks compressed in parallel, as pigz does.
+ * <p/>
+ * Each block is compressed by its own {@link Deflater}, using the last 32 KB of the previous block as dictionary, and
+ * ends with a sync flush so the compressed blocks can be concatenated. The result is a single deflate stream, which any
+ * inflater can read, and which compresses almost as well as a stream compressed by a single deflater. The checksum of
+ * the input is computed while the blocks are read.
+ */
+final class BlockDeflater {
+
+    /**
+     * The size of the deflate window, which is the most a block can refer to in the previous block.
+     */
+    static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private final DeflaterPool pool;
+    private final int level;
+    private final Executor executor;
+    private final int blockSize;
+    private final int maxBlocks;
+
+    BlockDeflater(DeflaterPool pool, int level, Executor executor, int blockSize, int maxBlocks) {
+        this.pool = pool;
+        this.level = level;
+        this.executor = executor;
+        this.blockSize = Math.max(DICTIONARY_SIZE, blockSize);
+        this.maxBlocks = Math.max(1, maxBlocks);
+    }
+
+    /**
+     * Compresses the input to the output, keeping at most {@code maxBlocks} blocks in memory.
+     *
+     * @return the number of bytes read from the input
+     */
+    long deflate(InputStream in, Checksum checksum, OutputStream out) throws IOException {
+        Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+        long total = 0;
+        byte[] dictionary = null;
+        byte[] block = in.readNBytes(blockSize);
+        try {
+            boolean last;
+            do {
+                // read the next block first, to know whether this block is the last one which finishes the stream
+                byte[] next = block.length < blockSize ? new byte[0] : in.readNBytes(blockSize);
+                last = next.length == 0;
+                checksum.update(block, 0, block.length);
+                total += block.length;
+
+                byte[] input = block;
+                byte[] previous = dictionary;
+                boolean finish = last;
+                pending.add(CompletableFuture.supplyAsync(() -> compress(input, previous, finish), executor));
+                if (!last) {
+                    dictionary = Arrays.copyOfRange(block, block.length - DICTIONARY_SIZE, block.length);
+                }
+                while (pending.size() >= maxBlocks) {
+                    out.write(join(pending.poll()));
+                }
+                block = next;
+            } while (!last);
+
+            while (!pending.isEmpty()) {
+                out.write(join(pending.poll()));
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+        return total;
+    }
+
+    private byte[] compress(byte[] block, byte[] dictionary, boolean finish) {
+        Deflater deflater = pool.acquire(level);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(block);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(block.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            if (finish) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    bos.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                // the sync flush aligns the block on a byte boundary, so the next block can be appended
+                int count;
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    bos.write(buffer, 0, count);
+                } while (count == buffer.length);
+            }
+            return bos.toByteArray();
+        } finally {
+            pool.release(deflater);
+        }
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeCamelException(cause);
+        }
+    }
+}
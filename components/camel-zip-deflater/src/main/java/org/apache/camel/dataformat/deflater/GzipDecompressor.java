@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.apache.camel.RuntimeCamelException;
+
+/**
+ * Decompresses a gzip stream made of one or more members, using pooled {@link Inflater}.
+ * <p/>
+ * A deflate stream can only be inflated sequentially, but the members of a gzip stream are independent. When an
+ * executor is given, the members whose compressed size is known from their header, such as the blocks written by bgzip,
+ * are inflated in parallel, while the other members are inflated as they are read.
+ */
+final class GzipDecompressor {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final InflaterPool pool;
+    private final Executor executor;
+    private final int maxMembers;
+    private final byte[] buffer = new byte[8192];
+    private InputStream in;
+    private int pos;
+    private int limit;
+
+    GzipDecompressor(InflaterPool pool, Executor executor, int maxMembers) {
+        this.pool = pool;
+        this.executor = executor;
+        this.maxMembers = Math.max(1, maxMembers);
+    }
+
+    void decompress(InputStream in, OutputStream out) throws IOException {
+        this.in = in;
+        Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+        try {
+            if (readUByte() != 0x1f || readUByte() != 0x8b) {
+                throw new ZipException("Not in GZIP format");
+            }
+            do {
+                int memberSize = readHeader();
+                if (executor != null && memberSize > 0) {
+                    byte[] member = readBytes(memberSize);
+                    pending.add(CompletableFuture.supplyAsync(() -> inflate(member), executor));
+                    while (pending.size() >= maxMembers) {
+                        out.write(join(pending.poll()));
+                    }
+                } else {
+                    // keep the order of the members
+                    while (!pending.isEmpty()) {
+                        out.write(join(pending.poll()));
+                    }
+                    inflate(out);
+                }
+            } while (nextMember());
+
+            while (!pending.isEmpty()) {
+                out.write(join(pending.poll()));
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+            this.in = null;
+        }
+    }
+
+    /**
+     * Reads the header of a member, after its magic bytes.
+     *
+     * @return the size of the deflate data and trailer of the member, when given by a BC extra field, or -1
+     */
+    private int readHeader() throws IOException {
+        if (readUByte() != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUByte();
+        // modification time, extra flags and operating system
+        readBytes(6);
+        int memberSize = -1;
+        if ((flags & FEXTRA) == FEXTRA) {
+            int length = readUShort();
+            byte[] extra = readBytes(length);
+            for (int i = 0; i + 4 <= length;) {
+                int size = (extra[i + 2] & 0xff) | (extra[i + 3] & 0xff) << 8;
+                if (extra[i] == 'B' && extra[i + 1] == 'C' && size == 2 && i + 6 <= length) {
+                    int blockSize = ((extra[i + 4] & 0xff) | (extra[i + 5] & 0xff) << 8) + 1;
+                    // the block size includes the header of 12 bytes, the extra field and the member trailer
+                    memberSize = blockSize - 12 - length;
+                }
+                i += 4 + size;
+            }
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipString();
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipString();
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            readBytes(2);
+        }
+        return memberSize >= 8 && (flags & (FNAME | FCOMMENT | FHCRC)) == 0 ? memberSize : -1;
+    }
+
+    /**
+     * Whether another member follows. Trailing bytes which are not a gzip member are ignored, as gunzip does.
+     */
+    private boolean nextMember() throws IOException {
+        int b = readUByteOrEof();
+        if (b == -1) {
+            return false;
+        }
+        return b == 0x1f && readUByteOrEof() == 0x8b;
+    }
+
+    private void inflate(OutputStream out) throws IOException {
+        Inflater inflater = pool.acquire();
+        CRC32 crc = new CRC32();
+        try {
+            byte[] output = new byte[8192];
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (pos == limit && !fill()) {
+                        throw new EOFException("Unexpected end of ZLIB input stream");
+                    }
+                    inflater.setInput(buffer, pos, limit - pos);
+                    pos = limit;
+                }
+                int count = inflater.inflate(output);
+                if (count > 0) {
+                    out.write(output, 0, count);
+                    crc.update(output, 0, count);
+                } else if (inflater.needsDictionary()) {
+                    throw new ZipException("Invalid gzip stream");
+                }
+            }
+            // give back the bytes read after the end of the deflate stream
+            pos = limit - inflater.getRemaining();
+            checkTrailer(readBytes(8), 0, crc, inflater.getBytesWritten());
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid ZLIB data format");
+        } finally {
+            pool.release(inflater);
+        }
+    }
+
+    private byte[] inflate(byte[] member) {
+        Inflater inflater = pool.acquire();
+        CRC32 crc = new CRC32();
+        try {
+            int length = member.length - 8;
+            inflater.setInput(member, 0, length);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(length * 3);
+            byte[] output = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(output);
+                if (count > 0) {
+                    bos.write(output, 0, count);
+                    crc.update(output, 0, count);
+                } else if (inflater.needsInput() || inflater.needsDictionary()) {
+                    throw new EOFException("Unexpected end of ZLIB input stream");
+                }
+            }
+            checkTrailer(member, length, crc, inflater.getBytesWritten());
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        } catch (DataFormatException e) {
+            throw new RuntimeCamelException(new ZipException(e.getMessage()));
+        } finally {
+            pool.release(inflater);
+        }
+    }
+
+    private static void checkTrailer(byte[] trailer, int offset, CRC32 crc, long size) throws ZipException {
+        if (readUInt(trailer, offset) != crc.getValue()) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+        if (readUInt(trailer, offset + 4) != (size & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private static long readUInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xffL) | (bytes[offset + 1] & 0xffL) << 8 | (bytes[offset + 2] & 0xffL) << 16
+               | (bytes[offset + 3] & 0xffL) << 24;
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeCamelException && cause.getCause() instanceof IOException) {
+                throw (IOException) cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeCamelException(cause);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        pos = 0;
+        limit = Math.max(0, in.read(buffer));
+        return limit > 0;
+    }
+
+    private int readUByteOrEof() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++] & 0xff;
+    }
+
+    private int readUByte() throws IOException {
+        int b = readUByteOrEof();
+        if (b == -1) {
+            throw new EOFException("Unexpected end of GZIP input stream");
+        }
+        return b;
+    }
+
+    private int readUShort() throws IOException {
+        return readUByte() | readUByte() << 8;
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] answer = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (pos == limit && !fill()) {
+                throw new EOFException("Unexpected end of GZIP input stream");
+            }
+            int count = Math.min(length - offset, limit - pos);
+            System.arraycopy(buffer, pos, answer, offset, count);
+            pos += count;
+            offset += count;
+        }
+        return answer;
+    }
+
+    private void skipString() throws IOException {
+        while (readUByte() != 0) {
+            // skip up to the terminating zero
+        }
+    }
+}
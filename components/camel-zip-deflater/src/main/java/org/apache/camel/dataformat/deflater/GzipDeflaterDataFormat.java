@@ -16,9 +16,17 @@
  */
 package org.apache.camel.dataformat.deflater;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -26,55 +34,165 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * GZip {@link org.apache.camel.spi.DataFormat} for reading/writing data using gzip.
  */
 @Dataformat("gzipDeflater")
-public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
+
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private final DeflaterPool deflaterPool = new DeflaterPool(true);
+    private final InflaterPool inflaterPool = new InflaterPool(true);
+    private boolean parallelProcessing;
+    private int parallelBlockSize = 128 * 1024;
+    private int parallelMaxBlocks = Runtime.getRuntime().availableProcessors() * 2;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private CamelContext camelContext;
 
     @Override
     public String getDataFormatName() {
         return "gzipDeflater";
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether to compress the data by blocks in parallel, and to inflate the members of a multi-member gzip stream in
+     * parallel when their size is known from their header.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getParallelBlockSize() {
+        return parallelBlockSize;
+    }
+
+    /**
+     * The size of the blocks compressed in parallel, 128 KB by default.
+     */
+    public void setParallelBlockSize(int parallelBlockSize) {
+        this.parallelBlockSize = parallelBlockSize;
+    }
+
+    public int getParallelMaxBlocks() {
+        return parallelMaxBlocks;
+    }
+
+    /**
+     * The maximum number of blocks compressed or inflated ahead of the block written, when parallel processing is
+     * enabled. Defaults to twice the number of processors.
+     */
+    public void setParallelMaxBlocks(int parallelMaxBlocks) {
+        this.parallelMaxBlocks = parallelMaxBlocks;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service used to compress and decompress the blocks in parallel. If not set then a thread pool is
+     * created from the default thread pool profile of the Camel context when the data format is started, and shut down
+     * when it is stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        GzipCompressorOutputStream zipOutput = new GzipCompressorOutputStream(stream);
         try {
-            IOHelper.copy(is, zipOutput);
+            stream.write(HEADER);
+            CRC32 crc = new CRC32();
+            long size;
+            if (parallelProcessing) {
+                size = new BlockDeflater(
+                        deflaterPool, Deflater.DEFAULT_COMPRESSION, getExecutor(), parallelBlockSize, parallelMaxBlocks)
+                        .deflate(is, crc, stream);
+            } else {
+                size = deflate(new CheckedInputStream(is, crc), stream);
+            }
+            writeInt(stream, crc.getValue());
+            writeInt(stream, size);
         } finally {
             // must close all input streams
-            IOHelper.close(is, zipOutput);
+            IOHelper.close(is, stream);
         }
     }
 
+    private long deflate(InputStream is, OutputStream stream) throws IOException {
+        Deflater deflater = deflaterPool.acquire(Deflater.DEFAULT_COMPRESSION);
+        try {
+            DeflaterOutputStream zipOutput = new DeflaterOutputStream(stream, deflater, IOHelper.DEFAULT_BUFFER_SIZE);
+            IOHelper.copy(is, zipOutput);
+            // only finish as the trailer is written after the compressed data
+            zipOutput.finish();
+            return deflater.getBytesRead();
+        } finally {
+            deflaterPool.release(deflater);
+        }
+    }
+
+    private static void writeInt(OutputStream stream, long value) throws IOException {
+        stream.write((int) value & 0xff);
+        stream.write((int) (value >> 8) & 0xff);
+        stream.write((int) (value >> 16) & 0xff);
+        stream.write((int) (value >> 24) & 0xff);
+    }
+
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
-        GzipCompressorInputStream unzipInput = null;
-
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
         try {
-            unzipInput = new GzipCompressorInputStream(inputStream);
-            IOHelper.copy(unzipInput, osb);
+            new GzipDecompressor(inflaterPool, parallelProcessing ? getExecutor() : null, parallelMaxBlocks)
+                    .decompress(inputStream, osb);
             return osb.build();
         } finally {
             // must close all input streams
-            IOHelper.close(osb, unzipInput, inputStream);
+            IOHelper.close(osb, inputStream);
         }
     }
 
+    private ExecutorService getExecutor() {
+        return ObjectHelper.notNull(executorService, "executorService", this);
+    }
+
     @Override
     protected void doStart() throws Exception {
-        // noop
+        if (parallelProcessing && executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "GzipDeflaterDataFormat");
+            shutdownExecutorService = true;
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+        deflaterPool.clear();
+        inflaterPool.clear();
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
     }
 }
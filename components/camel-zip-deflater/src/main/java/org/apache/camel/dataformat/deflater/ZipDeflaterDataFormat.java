@@ -16,12 +16,18 @@
  */
 package org.apache.camel.dataformat.deflater;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Adler32;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -29,14 +35,24 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * Deflate (zip) compression data format (does not support zip files, instead use zipfile dataformat).
  */
 @Dataformat("zipDeflater")
-public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
 
+    private final DeflaterPool deflaterPool = new DeflaterPool(false);
+    private final DeflaterPool blockDeflaterPool = new DeflaterPool(true);
+    private final InflaterPool inflaterPool = new InflaterPool(false);
     private int compressionLevel;
+    private boolean parallelProcessing;
+    private int parallelBlockSize = 128 * 1024;
+    private int parallelMaxBlocks = Runtime.getRuntime().availableProcessors() * 2;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private CamelContext camelContext;
 
     public ZipDeflaterDataFormat() {
         this.compressionLevel = Deflater.DEFAULT_COMPRESSION;
@@ -59,12 +75,68 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
         this.compressionLevel = compressionLevel;
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether to compress the data by blocks in parallel. The blocks are written as a single zlib stream.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getParallelBlockSize() {
+        return parallelBlockSize;
+    }
+
+    /**
+     * The size of the blocks compressed in parallel, 128 KB by default.
+     */
+    public void setParallelBlockSize(int parallelBlockSize) {
+        this.parallelBlockSize = parallelBlockSize;
+    }
+
+    public int getParallelMaxBlocks() {
+        return parallelMaxBlocks;
+    }
+
+    /**
+     * The maximum number of blocks compressed ahead of the block written, when parallel processing is enabled. Defaults
+     * to twice the number of processors.
+     */
+    public void setParallelMaxBlocks(int parallelMaxBlocks) {
+        this.parallelMaxBlocks = parallelMaxBlocks;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service used to compress the blocks in parallel. If not set then a thread pool is created from the
+     * default thread pool profile of the Camel context when the data format is started, and shut down when it is
+     * stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         // ask for a mandatory type conversion to avoid a possible NPE beforehand as we do copy from the InputStream
         final InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        final Deflater deflater = new Deflater(compressionLevel);
+        if (parallelProcessing) {
+            try {
+                marshalBlocks(is, stream);
+            } finally {
+                IOHelper.close(is, stream);
+            }
+            return;
+        }
+
+        final Deflater deflater = deflaterPool.acquire(compressionLevel);
         final DeflaterOutputStream zipOutput = new DeflaterOutputStream(stream, deflater);
         try {
             IOHelper.copy(is, zipOutput);
@@ -72,18 +144,38 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
             IOHelper.close(is, zipOutput);
 
             /*
-            * As we create the Deflater our self and do not use the stream default
-            * (see {@link java.util.zip.DeflaterOutputStream#usesDefaultDeflater})
-            * we need to close the Deflater to not risk a OutOfMemoryException
-            * in native code parts (see {@link java.util.zip.Deflater#end})
+            * The Deflater is not the stream default (see {@link java.util.zip.DeflaterOutputStream#usesDefaultDeflater}),
+            * so closing the stream does not end it. It is returned to the pool instead, which ends it when the pool
+            * is full, to not hold its native memory (see {@link java.util.zip.Deflater#end})
             */
-            deflater.end();
+            deflaterPool.release(deflater);
         }
     }
 
+    private void marshalBlocks(InputStream is, OutputStream stream) throws IOException {
+        // the zlib header, with the compression level and its check bits
+        int level = compressionLevel == Deflater.DEFAULT_COMPRESSION ? 6 : compressionLevel;
+        int flags = (level < 2 ? 0 : level < 6 ? 1 : level == 6 ? 2 : 3) << 6;
+        flags += 31 - (0x7800 + flags) % 31;
+        stream.write(0x78);
+        stream.write(flags);
+
+        Adler32 adler = new Adler32();
+        ObjectHelper.notNull(executorService, "executorService", this);
+        new BlockDeflater(blockDeflaterPool, compressionLevel, executorService, parallelBlockSize, parallelMaxBlocks)
+                .deflate(is, adler, stream);
+
+        long value = adler.getValue();
+        stream.write((int) (value >> 24) & 0xff);
+        stream.write((int) (value >> 16) & 0xff);
+        stream.write((int) (value >> 8) & 0xff);
+        stream.write((int) value & 0xff);
+    }
+
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
-        InflaterInputStream inflaterInputStream = new InflaterInputStream(inputStream);
+        Inflater inflater = inflaterPool.acquire();
+        InflaterInputStream inflaterInputStream = new InflaterInputStream(inputStream, inflater);
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
 
         try {
@@ -92,16 +184,38 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
         } finally {
             // must close input streams
             IOHelper.close(osb, inflaterInputStream, inputStream);
+            inflaterPool.release(inflater);
         }
     }
 
     @Override
     protected void doStart() throws Exception {
-        // noop
+        if (parallelProcessing && executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "ZipDeflaterDataFormat");
+            shutdownExecutorService = true;
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+        deflaterPool.clear();
+        blockDeflaterPool.clear();
+        inflaterPool.clear();
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
     }
 }
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the gzip and zip deflater data formats compressing by blocks in parallel.
+ */
+public class DeflaterParallelProcessingTest extends CamelTestSupport {
+
+    private final GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+    private final ZipDeflaterDataFormat zip = new ZipDeflaterDataFormat(Deflater.BEST_SPEED);
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                gzip.setParallelProcessing(true);
+                gzip.setParallelBlockSize(64 * 1024);
+                gzip.setParallelMaxBlocks(3);
+
+                zip.setParallelProcessing(true);
+                zip.setParallelBlockSize(64 * 1024);
+
+                from("direct:gzip").marshal(gzip);
+                from("direct:gunzip").unmarshal(gzip);
+                from("direct:zip").marshal(zip);
+                from("direct:unzip").unmarshal().zipDeflater();
+            }
+        };
+    }
+
+    @Test
+    public void testThreadPoolsShutdownWhenStopped() throws Exception {
+        ExecutorService gzipExecutor = gzip.getExecutorService();
+        ExecutorService zipExecutor = zip.getExecutorService();
+        assertNotNull(gzipExecutor);
+        assertNotNull(zipExecutor);
+
+        context.stop();
+
+        assertTrue(gzipExecutor.isShutdown());
+        assertTrue(zipExecutor.isShutdown());
+        assertNull(gzip.getExecutorService());
+        assertNull(zip.getExecutorService());
+    }
+
+    @Test
+    public void testGzipBlocksReadByGzipInputStream() throws Exception {
+        byte[] data = createData(1024 * 1024 + 123);
+
+        byte[] compressed = template.requestBody("direct:gzip", data, byte[].class);
+
+        assertArrayEquals(data, new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+        assertArrayEquals(data, template.requestBody("direct:gunzip", compressed, byte[].class));
+    }
+
+    @Test
+    public void testGzipEmpty() throws Exception {
+        byte[] compressed = template.requestBody("direct:gzip", new byte[0], byte[].class);
+
+        assertArrayEquals(new byte[0], new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+    }
+
+    @Test
+    public void testZipDeflaterBlocks() throws Exception {
+        byte[] data = createData(512 * 1024);
+
+        byte[] compressed = template.requestBody("direct:zip", data, byte[].class);
+
+        assertArrayEquals(data, new InflaterInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+        assertArrayEquals(data, template.requestBody("direct:unzip", compressed, byte[].class));
+    }
+
+    @Test
+    public void testGunzipMultipleMembers() throws Exception {
+        byte[] data = createData(300 * 1024);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (int offset = 0; offset < data.length; offset += 100 * 1024) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bos) {
+                @Override
+                public void close() throws IOException {
+                    // only finish the member, to concatenate the next one
+                    finish();
+                }
+            }) {
+                gzip.write(data, offset, Math.min(100 * 1024, data.length - offset));
+            }
+        }
+
+        assertArrayEquals(data, template.requestBody("direct:gunzip", bos.toByteArray(), byte[].class));
+    }
+
+    @Test
+    public void testGunzipBlocksInParallel() throws Exception {
+        byte[] data = createData(500 * 1024);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (int offset = 0; offset < data.length; offset += 60 * 1024) {
+            writeBlock(bos, data, offset, Math.min(60 * 1024, data.length - offset));
+        }
+
+        assertArrayEquals(data, template.requestBody("direct:gunzip", bos.toByteArray(), byte[].class));
+    }
+
+    /**
+     * Writes a gzip member with the BC extra field giving its size, as bgzip does.
+     */
+    private static void writeBlock(ByteArrayOutputStream bos, byte[] data, int offset, int length) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data, offset, length);
+        deflater.finish();
+        byte[] buffer = new byte[length + 1024];
+        int size = deflater.deflate(buffer);
+        deflater.end();
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+
+        int blockSize = 18 + size + 8;
+        bos.writeBytes(new byte[] {
+                0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff, 6, 0, 'B', 'C', 2, 0,
+                (byte) (blockSize - 1), (byte) ((blockSize - 1) >> 8) });
+        bos.write(buffer, 0, size);
+        writeInt(bos, crc.getValue());
+        writeInt(bos, length);
+    }
+
+    private static void writeInt(ByteArrayOutputStream bos, long value) {
+        bos.write((int) value);
+        bos.write((int) (value >> 8));
+        bos.write((int) (value >> 16));
+        bos.write((int) (value >> 24));
+    }
+
+    private static byte[] createData(int size) {
+        // compressible data which refers to the previous blocks
+        Random random = new Random(42);
+        byte[] words = "camel route exchange message endpoint processor ".getBytes();
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt(10) == 0 ? (byte) random.nextInt(256) : words[i % words.length];
+        }
+        return data;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which goes through the entries of a zip file on disk using its central directory, and decompresses the
+ * next entries in parallel while the current entry is processed.
+ * <p/>
+ * Each entry is decompressed into a stream cache, which is spooled to disk according to the stream caching strategy of
+ * the context, so the body of each message is a stream which can be read independently of the other entries. The stream
+ * cache of an entry is deleted when the exchange of the entry completes, such as a sub-exchange of the splitter, rather
+ * than when the exchange of the zip file completes. The messages are returned in the order of the central directory,
+ * and at most {@code maxEntries} entries are decompressed ahead of the message returned.
+ */
+public class ParallelZipIterator implements Iterator<Message>, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelZipIterator.class);
+    /**
+     * The default maximum decompressed size (in bytes) of an entry, which corresponds to 1G.
+     */
+    private static final long DEFAULT_MAXIMUM_DECOMPRESSED_SIZE = 1073741824;
+
+    private final Exchange exchange;
+    private final Executor executor;
+    private final int maxEntries;
+    private final Deque<CompletableFuture<Message>> pending = new ArrayDeque<>();
+    private final ZipFile zipFile;
+    private boolean allowEmptyDirectory;
+    private long maxDecompressedSize = DEFAULT_MAXIMUM_DECOMPRESSED_SIZE;
+    private volatile boolean closed;
+    private Enumeration<? extends ZipEntry> entries;
+    private boolean first = true;
+
+    public ParallelZipIterator(Exchange exchange, File file, Executor executor, int maxEntries) {
+        this.exchange = exchange;
+        this.executor = executor;
+        this.maxEntries = Math.max(1, maxEntries);
+        try {
+            this.zipFile = new ZipFile(file);
+        } catch (ZipException e) {
+            throw new IllegalStateException("Unable to unzip the file, it may be corrupted.", e);
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+        this.entries = zipFile.entries();
+    }
+
+    /**
+     * Returns the file of the message body when the zip file is on disk and can be read using its central directory, or
+     * <tt>null</tt> if the body must be read as a stream.
+     */
+    public static File getZipFile(Exchange exchange) {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof Path) {
+            body = ((Path) body).toFile();
+        }
+        if (body instanceof File && ((File) body).isFile()) {
+            return (File) body;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        fill();
+        if (pending.isEmpty()) {
+            if (first) {
+                throw new IllegalStateException("Unable to unzip the file, it may be corrupted.");
+            }
+            IOHelper.close(this);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        first = false;
+        CompletableFuture<Message> future = pending.poll();
+        // keep decompressing the next entries while this one is processed
+        fill();
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            IOHelper.close(this);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeCamelException(cause);
+        }
+    }
+
+    private void fill() {
+        while (pending.size() < maxEntries) {
+            ZipEntry entry = getNextEntry();
+            if (entry == null) {
+                return;
+            }
+            LOGGER.debug("read zipEntry {}", entry.getName());
+            // the cache is not bound to the exchange of the zip file, but released with the exchange of the entry
+            CachedOutputStream cos = new CachedOutputStream(exchange, false);
+            EntryMessage answer = new EntryMessage(exchange.getContext(), cos);
+            answer.getHeaders().putAll(exchange.getIn().getHeaders());
+            answer.setHeader("zipFileName", entry.getName());
+            answer.setHeader(Exchange.FILE_NAME, entry.getName());
+            pending.add(CompletableFuture.supplyAsync(() -> decompress(entry, cos, answer), executor));
+        }
+    }
+
+    private ZipEntry getNextEntry() {
+        while (entries != null && entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() || allowEmptyDirectory) {
+                return entry;
+            }
+        }
+        entries = null;
+        return null;
+    }
+
+    private Message decompress(ZipEntry entry, CachedOutputStream cos, Message answer) {
+        try (InputStream is = zipFile.getInputStream(entry)) {
+            IOHelper.copy(is, cos, IOHelper.DEFAULT_BUFFER_SIZE, false, maxDecompressedSize);
+            answer.setBody(cos.newStreamCache());
+        } catch (IOException e) {
+            IOHelper.close(cos);
+            throw new RuntimeCamelException(e);
+        } catch (RuntimeException e) {
+            IOHelper.close(cos);
+            throw e;
+        }
+        return answer;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            entries = null;
+            // the entries still being decompressed fail once the file is closed, and the entries already decompressed
+            // are discarded along with their stream cache
+            pending.forEach(future -> future.thenAccept(message -> ((EntryMessage) message).release()));
+            pending.clear();
+            IOHelper.close(zipFile);
+        }
+    }
+
+    /**
+     * The message of an entry, which releases the stream cache of the entry when the exchange it is set on completes.
+     */
+    private static final class EntryMessage extends DefaultMessage {
+        private final CachedOutputStream cos;
+        private final AtomicBoolean bound = new AtomicBoolean();
+
+        private EntryMessage(CamelContext camelContext, CachedOutputStream cos) {
+            super(camelContext);
+            this.cos = cos;
+        }
+
+        @Override
+        public void setExchange(Exchange exchange) {
+            super.setExchange(exchange);
+            if (exchange != null && bound.compareAndSet(false, true)) {
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        release();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "OnCompletion[ParallelZipIterator]";
+                    }
+                });
+            }
+        }
+
+        private void release() {
+            // closing the cache deletes its temporary file, as the cache is not closed on completion
+            IOHelper.close(cos);
+        }
+    }
+
+    public boolean isAllowEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+
+    public long getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * The maximum size (in bytes) of a decompressed entry, or <tt>-1</tt> to not limit the size. Defaults to 1G.
+     */
+    public void setMaxDecompressedSize(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+}
@@ -16,16 +16,20 @@
  */
 package org.apache.camel.dataformat.zipfile;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
@@ -33,6 +37,7 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 
 import static org.apache.camel.Exchange.FILE_NAME;
@@ -41,7 +46,7 @@ import static org.apache.camel.Exchange.FILE_NAME;
  * Zip file data format. See {@link org.apache.camel.model.dataformat.ZipDataFormat} for "deflate" compression.
  */
 @Dataformat("zipFile")
-public class ZipFileDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
+public class ZipFileDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
     /**
      * The default maximum decompressed size (in bytes), which corresponds to 1G.
      */
@@ -50,6 +55,11 @@ public class ZipFileDataFormat extends ServiceSupport implements DataFormat, Dat
     private boolean allowEmptyDirectory;
     private boolean preservePathElements;
     private long maxDecompressedSize = DEFAULT_MAXIMUM_DECOMPRESSED_SIZE;
+    private boolean parallelProcessing;
+    private int parallelMaxEntries = Runtime.getRuntime().availableProcessors() * 2;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private CamelContext camelContext;
 
     @Override
     public String getDataFormatName() {
@@ -95,6 +105,19 @@ public class ZipFileDataFormat extends ServiceSupport implements DataFormat, Dat
 
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
+        if (usingIterator && parallelProcessing) {
+            File file = ParallelZipIterator.getZipFile(exchange);
+            if (file != null) {
+                // the entries are read from the file, using its central directory
+                IOHelper.close(inputStream);
+                ObjectHelper.notNull(executorService, "executorService", this);
+                ParallelZipIterator zipIterator
+                        = new ParallelZipIterator(exchange, file, executorService, parallelMaxEntries);
+                zipIterator.setAllowEmptyDirectory(allowEmptyDirectory);
+                zipIterator.setMaxDecompressedSize(maxDecompressedSize);
+                return zipIterator;
+            }
+        }
         if (usingIterator) {
             ZipIterator zipIterator = new ZipIterator(exchange, inputStream);
             zipIterator.setAllowEmptyDirectory(allowEmptyDirectory);
@@ -177,13 +200,68 @@ public class ZipFileDataFormat extends ServiceSupport implements DataFormat, Dat
         this.maxDecompressedSize = maxDecompressedSize;
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether the iterator decompresses the entries in parallel when the zip file is on disk, using its central
+     * directory. Only used together with {@link #setUsingIterator(boolean)}.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getParallelMaxEntries() {
+        return parallelMaxEntries;
+    }
+
+    /**
+     * The maximum number of entries decompressed ahead of the entry being processed, when parallel processing is
+     * enabled. Defaults to twice the number of processors.
+     */
+    public void setParallelMaxEntries(int parallelMaxEntries) {
+        this.parallelMaxEntries = parallelMaxEntries;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service used to decompress the entries in parallel. If not set then a thread pool is created from
+     * the default thread pool profile of the Camel context when the data format is started, and shut down when it is
+     * stopped.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     protected void doStart() throws Exception {
-        // noop
+        if (usingIterator && parallelProcessing && executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "ZipFileDataFormat");
+            shutdownExecutorService = true;
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
     }
 }
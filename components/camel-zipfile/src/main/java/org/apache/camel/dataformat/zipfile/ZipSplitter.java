@@ -16,30 +16,127 @@
  */
 package org.apache.camel.dataformat.zipfile;
 
+import java.io.File;
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
+import org.apache.camel.support.LifecycleStrategySupport;
 
 /**
  * ZipSplitter the expression builder which can be used after the splitter Based on the thread
  * <a href= "http://camel.465427.n5.nabble.com/zip-file-best-practices-td5713437.html" >zip file best practices</a>
  */
 public class ZipSplitter implements Expression {
+    /**
+     * The default maximum decompressed size (in bytes) of an entry, which corresponds to 1G.
+     */
+    private static final long DEFAULT_MAXIMUM_DECOMPRESSED_SIZE = 1073741824;
+
+    private boolean parallelProcessing;
+    private int parallelMaxEntries = Runtime.getRuntime().availableProcessors() * 2;
+    private long maxDecompressedSize = DEFAULT_MAXIMUM_DECOMPRESSED_SIZE;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private boolean lifecycleRegistered;
 
     public ZipSplitter() {
     }
 
     public Object evaluate(Exchange exchange) {
+        if (parallelProcessing) {
+            File file = ParallelZipIterator.getZipFile(exchange);
+            if (file != null) {
+                ParallelZipIterator zipIterator
+                        = new ParallelZipIterator(exchange, file, getOrCreateExecutorService(exchange), parallelMaxEntries);
+                zipIterator.setMaxDecompressedSize(maxDecompressedSize);
+                return zipIterator;
+            }
+        }
         Message inputMessage = exchange.getIn();
         InputStream inputStream = inputMessage.getBody(InputStream.class);
         return new ZipIterator(exchange, inputStream);
     }
 
+    private synchronized ExecutorService getOrCreateExecutorService(Exchange exchange) {
+        if (executorService == null) {
+            CamelContext context = exchange.getContext();
+            executorService = context.getExecutorServiceManager().newDefaultThreadPool(this, "ZipSplitter");
+            shutdownExecutorService = true;
+            if (!lifecycleRegistered) {
+                // the thread pool is created by this splitter, so it is shut down when the context stops
+                context.addLifecycleStrategy(LifecycleStrategySupport.adapt(
+                        LifecycleStrategySupport.onCamelContextStopped(this::shutdownExecutorService)));
+                lifecycleRegistered = true;
+            }
+        }
+        return executorService;
+    }
+
+    private synchronized void shutdownExecutorService(CamelContext context) {
+        if (shutdownExecutorService && executorService != null) {
+            context.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
     @Override
     public <T> T evaluate(Exchange exchange, Class<T> type) {
         Object result = evaluate(exchange);
         return exchange.getContext().getTypeConverter().convertTo(type, exchange, result);
     }
+
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether to decompress the entries in parallel when the zip file is on disk, using its central directory. Each
+     * entry is decompressed into a stream cache, and the entries are returned in order. A zip file which is not on disk
+     * is read as a stream.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getParallelMaxEntries() {
+        return parallelMaxEntries;
+    }
+
+    /**
+     * The maximum number of entries decompressed ahead of the entry being processed, when parallel processing is
+     * enabled. Defaults to twice the number of processors.
+     */
+    public void setParallelMaxEntries(int parallelMaxEntries) {
+        this.parallelMaxEntries = parallelMaxEntries;
+    }
+
+    public long getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * The maximum size (in bytes) of an entry decompressed in parallel. Defaults to 1G.
+     */
+    public void setMaxDecompressedSize(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The executor service used to decompress the entries in parallel. If not set then a thread pool is created from
+     * the default thread pool profile of the Camel context on first use, which is shut down when the context stops. An
+     * executor service which is set is not shut down by the splitter.
+     */
+    public synchronized void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        this.shutdownExecutorService = false;
+    }
 }
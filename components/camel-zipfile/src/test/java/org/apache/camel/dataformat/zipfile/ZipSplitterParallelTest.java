@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipSplitterParallelTest extends CamelTestSupport {
+
+    private static final int ENTRIES = 50;
+    private static final File SPOOL_DIRECTORY = new File("target/zipParallelSpool/cache");
+
+    private final ZipSplitter spoolSplitter = new ZipSplitter();
+    private final AtomicInteger maxSpooledFiles = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/zipParallelSplitter");
+        deleteDirectory("target/zipParallelDataFormat");
+        deleteDirectory("target/zipParallelMaxSize");
+        deleteDirectory("target/zipParallelSpool");
+        super.setUp();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(SPOOL_DIRECTORY);
+        context.getStreamCachingStrategy().setSpoolThreshold(1000);
+        return context;
+    }
+
+    @Test
+    public void testParallelSplitter() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:splitter");
+        mock.expectedBodiesReceivedInAnyOrder(expectedBodies());
+        mock.allMessages().body().isInstanceOf(StreamCache.class);
+
+        createZipFile("target/zipParallelSplitter");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testParallelDataFormatKeepsOrder() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:dataFormat");
+        mock.expectedBodiesReceived(expectedBodies());
+        mock.message(0).header("zipFileName").isEqualTo("entry0.txt");
+
+        createZipFile("target/zipParallelDataFormat");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testParallelMaxDecompressedSize() throws Exception {
+        // the entries from the eleventh are larger than the maximum size
+        MockEndpoint mock = getMockEndpoint("mock:maxSize");
+        mock.expectedMessageCount(10);
+
+        createZipFile("target/zipParallelMaxSize");
+        File file = new File("target/zipParallelMaxSize/data.zip");
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:maxSize", file));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testParallelSplitterDeletesEntryCaches() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:spool");
+        mock.expectedMessageCount(ENTRIES);
+
+        createZipFile("target/zipParallelSpool");
+        template.sendBody("direct:spool", new File("target/zipParallelSpool/data.zip"));
+
+        MockEndpoint.assertIsSatisfied(context);
+        // the cache of an entry is deleted when its sub-exchange completes, so at most the entries decompressed ahead,
+        // the entry being processed and the previous entry are spooled at the same time
+        assertTrue(maxSpooledFiles.get() > 0);
+        assertTrue(maxSpooledFiles.get() <= 4, "Spooled files: " + maxSpooledFiles.get());
+        assertEquals(0, spooledFiles());
+    }
+
+    @Test
+    public void testSplitterThreadPoolShutdownOnStop() throws Exception {
+        createZipFile("target/zipParallelSpool");
+        template.sendBody("direct:spool", new File("target/zipParallelSpool/data.zip"));
+        assertNotNull(spoolSplitter.getExecutorService());
+
+        context.stop();
+
+        assertNull(spoolSplitter.getExecutorService());
+    }
+
+    private static int spooledFiles() {
+        String[] files = SPOOL_DIRECTORY.list();
+        return files != null ? files.length : 0;
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                ZipSplitter splitter = new ZipSplitter();
+                splitter.setParallelProcessing(true);
+                splitter.setParallelMaxEntries(4);
+
+                from("file://target/zipParallelSplitter?delay=10&delete=true")
+                        .split(splitter).streaming().parallelProcessing()
+                        .to("mock:splitter")
+                        .end();
+
+                ZipFileDataFormat dataFormat = new ZipFileDataFormat();
+                dataFormat.setUsingIterator(true);
+                dataFormat.setParallelProcessing(true);
+
+                from("file://target/zipParallelDataFormat?delay=10&delete=true")
+                        .unmarshal(dataFormat)
+                        .split(bodyAs(Iterator.class)).streaming()
+                        .convertBodyTo(String.class)
+                        .to("mock:dataFormat")
+                        .end();
+
+                ZipFileDataFormat maxSize = new ZipFileDataFormat();
+                maxSize.setUsingIterator(true);
+                maxSize.setParallelProcessing(true);
+                maxSize.setParallelMaxEntries(2);
+                maxSize.setMaxDecompressedSize(1000);
+
+                spoolSplitter.setParallelProcessing(true);
+                spoolSplitter.setParallelMaxEntries(2);
+
+                from("direct:spool")
+                        .split(spoolSplitter).streaming()
+                        .process(e -> maxSpooledFiles.accumulateAndGet(spooledFiles(), Math::max))
+                        .to("mock:spool")
+                        .end();
+
+                from("direct:maxSize")
+                        .unmarshal(maxSize)
+                        .split(bodyAs(Iterator.class)).streaming()
+                        .to("mock:maxSize")
+                        .end();
+            }
+        };
+    }
+
+    private static Object[] expectedBodies() {
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            bodies.add(body(i));
+        }
+        return bodies.toArray();
+    }
+
+    private static String body(int i) {
+        return "entry " + i + " " + "x".repeat(i * 100);
+    }
+
+    private static void createZipFile(String folder) throws IOException {
+        File dir = new File(folder);
+        dir.mkdirs();
+        // write the file under another name, so it is not picked up before it is complete
+        File tmp = new File(dir.getParentFile(), dir.getName() + ".zip.tmp");
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(tmp))) {
+            zos.putNextEntry(new ZipEntry("directory/"));
+            for (int i = 0; i < ENTRIES; i++) {
+                zos.putNextEntry(new ZipEntry("entry" + i + ".txt"));
+                zos.write(body(i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        tmp.renameTo(new File(dir, "data.zip"));
+    }
+}
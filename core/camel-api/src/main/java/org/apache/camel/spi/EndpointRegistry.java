@@ -56,6 +56,34 @@ public interface EndpointRegistry<K> extends Map<K, Endpoint>, StaticService {
      */
     int getMaximumCacheSize();
 
+    /**
+     * Number of endpoints evicted from the dynamic registry
+     */
+    default long getEvicted() {
+        return 0;
+    }
+
+    /**
+     * Number of endpoint lookups where the normalized uri was found in the cache (no normalization needed)
+     */
+    default long getNormalizedUriCacheHits() {
+        return 0;
+    }
+
+    /**
+     * Number of endpoint lookups where the uri had to be normalized
+     */
+    default long getNormalizedUriCacheMisses() {
+        return 0;
+    }
+
+    /**
+     * Number of raw uris currently cached with their normalized uri
+     */
+    default int normalizedUriSize() {
+        return 0;
+    }
+
     /**
      * Purges the cache (removes endpoints from the dynamic cache)
      */
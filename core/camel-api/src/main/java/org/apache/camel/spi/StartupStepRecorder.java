@@ -103,9 +103,32 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step as a child of the given step, which may have been begun on another thread, such as when routes
+     * are warmed up in parallel.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step.
+     *
+     * @param parent      the parent step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
     void endStep(StartupStep step);
 
+    /**
+     * Releases the steps begun by the current thread, which must be called by pooled threads (such as when routes are
+     * warmed up in parallel) when they are done, as the recorder otherwise keeps the steps of the thread.
+     */
+    default void releaseSteps() {
+        // noop
+    }
+
 }
@@ -784,8 +784,15 @@ public abstract class AbstractCamelContext extends BaseService
 
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
+        NormalizedUri key = null;
         if (!normalized) {
-            uri = EndpointHelper.normalizeEndpointUri(uri);
+            if (endpoints instanceof DefaultEndpointRegistry) {
+                // fast path which caches the normalized uri per raw uri
+                key = ((DefaultEndpointRegistry) endpoints).getNormalizedUri(uri);
+                uri = key.getUri();
+            } else {
+                uri = EndpointHelper.normalizeEndpointUri(uri);
+            }
         }
 
         LOG.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
@@ -793,8 +800,10 @@ public abstract class AbstractCamelContext extends BaseService
         String scheme;
         Endpoint answer = null;
         if (!prototype) {
-            // use optimized method to get the endpoint uri
-            NormalizedUri key = NormalizedUri.newNormalizedUri(uri, true);
+            if (key == null) {
+                // use optimized method to get the endpoint uri
+                key = NormalizedUri.newNormalizedUri(uri, true);
+            }
             // only lookup and reuse existing endpoints if not prototype scoped
             answer = endpoints.get(key);
         }
@@ -28,6 +28,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.StaticService;
@@ -47,13 +48,14 @@ public class AbstractDynamicRegistry<K, V> extends AbstractMap<K, V> implements
     protected final int maxCacheSize;
     protected final Map<K, V> dynamicMap;
     protected final Map<K, V> staticMap;
+    protected final LongAdder evicted = new LongAdder();
 
     public AbstractDynamicRegistry(CamelContext context, int maxCacheSize) {
         this.context = context;
         this.routeController = context.getRouteController();
         this.maxCacheSize = maxCacheSize;
-        // do not stop on eviction, as the endpoint or transformer may still be in use
-        this.dynamicMap = LRUCacheFactory.newLRUCache(this.maxCacheSize, this.maxCacheSize, false);
+        // do not stop on eviction, as the endpoint or transformer may still be in use (only count the eviction)
+        this.dynamicMap = LRUCacheFactory.newLRUCache(this.maxCacheSize, v -> evicted.increment());
         // static map to hold endpoint or transformer we do not want to be evicted
         this.staticMap = new ConcurrentHashMap<>();
     }
@@ -63,6 +65,7 @@ public class AbstractDynamicRegistry<K, V> extends AbstractMap<K, V> implements
         if (dynamicMap instanceof LRUCache) {
             ((LRUCache<K, V>) dynamicMap).resetStatistics();
         }
+        evicted.reset();
     }
 
     @Override
@@ -168,6 +171,13 @@ public class AbstractDynamicRegistry<K, V> extends AbstractMap<K, V> implements
         return maxCacheSize;
     }
 
+    /**
+     * Number of entries evicted from the dynamic cache
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
     public void purge() {
         // only purge the dynamic part
         dynamicMap.clear();
@@ -37,5 +37,6 @@ public class BootstrapConfigurerResolver extends DefaultConfigurerResolver imple
             ((BootstrapCloseable) factoryFinder).close();
         }
         factoryFinder = null;
+        configurers.clear();
     }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.Map;
+
 import org.apache.camel.spi.BootstrapCloseable;
 import org.apache.camel.spi.ClassResolver;
 
@@ -28,6 +30,10 @@ public class BootstrapFactoryFinder extends DefaultFactoryFinder implements Boot
         super(classResolver, resourcePath);
     }
 
+    public BootstrapFactoryFinder(ClassResolver classResolver, String resourcePath, Map<String, String> snapshot) {
+        super(classResolver, resourcePath, snapshot);
+    }
+
     @Override
     public void close() {
         clear();
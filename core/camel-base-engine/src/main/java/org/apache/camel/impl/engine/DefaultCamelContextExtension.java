@@ -39,6 +39,7 @@ import org.apache.camel.Service;
 import org.apache.camel.spi.BootstrapCloseable;
 import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.DebuggerFactory;
+import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EndpointUriFactory;
 import org.apache.camel.spi.EventNotifier;
@@ -145,6 +146,11 @@ class DefaultCamelContextExtension implements ExtendedCamelContext {
     public NormalizedEndpointUri normalizeUri(String uri) {
         try {
             uri = EndpointHelper.resolveEndpointUriPropertyPlaceholders(camelContext, uri);
+            EndpointRegistry<NormalizedUri> registry = camelContext.getEndpointRegistry();
+            if (registry instanceof DefaultEndpointRegistry) {
+                // use cached normalized uri (such as when toD computes the same uris over and over again)
+                return ((DefaultEndpointRegistry) registry).getNormalizedUri(uri);
+            }
             return NormalizedUri.newNormalizedUri(uri, false);
         } catch (ResolveEndpointFailedException e) {
             throw e;
@@ -17,6 +17,8 @@
 package org.apache.camel.impl.engine;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ExtendedCamelContext;
@@ -62,6 +64,8 @@ public class DefaultConfigurerResolver implements ConfigurerResolver {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultConfigurerResolver.class);
 
     protected FactoryFinder factoryFinder;
+    // generated configurers are stateless so we can cache and reuse them, instead of creating a new instance per lookup
+    protected final Map<String, PropertyConfigurer> configurers = new ConcurrentHashMap<>();
 
     public DefaultConfigurerResolver() {
     }
@@ -87,6 +91,18 @@ public class DefaultConfigurerResolver implements ConfigurerResolver {
             name = name.substring(0, name.length() - 11);
         }
 
+        configurer = configurers.get(name);
+        if (configurer != null) {
+            return configurer;
+        }
+        configurer = doResolvePropertyConfigurer(name, context);
+        if (configurer != null) {
+            configurers.put(name, configurer);
+        }
+        return configurer;
+    }
+
+    protected PropertyConfigurer doResolvePropertyConfigurer(String name, CamelContext context) {
         // not in registry then use configurer factory
         Class<?> type;
         try {
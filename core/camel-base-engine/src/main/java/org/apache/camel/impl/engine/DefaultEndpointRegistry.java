@@ -17,11 +17,13 @@
 package org.apache.camel.impl.engine;
 
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.NormalizedUri;
 
 /**
@@ -30,6 +32,13 @@ import org.apache.camel.support.NormalizedUri;
 public class DefaultEndpointRegistry extends AbstractDynamicRegistry<NormalizedUri, Endpoint>
         implements EndpointRegistry<NormalizedUri> {
 
+    private static final int NORMALIZED_URI_CACHE_SIZE = 1000;
+
+    // fast path cache from raw uri to the normalized uri key, so hits do not need to normalize the uri again
+    private final Map<String, NormalizedUri> normalizedUriCache = LRUCacheFactory.newLRUCache(NORMALIZED_URI_CACHE_SIZE);
+    private final LongAdder normalizedUriHits = new LongAdder();
+    private final LongAdder normalizedUriMisses = new LongAdder();
+
     public DefaultEndpointRegistry(CamelContext context) {
         super(context, CamelContextHelper.getMaximumEndpointCacheSize(context));
     }
@@ -44,6 +53,61 @@ public class DefaultEndpointRegistry extends AbstractDynamicRegistry<NormalizedU
         }
     }
 
+    /**
+     * Gets the key to use for looking up the endpoint with the given uri in this registry.
+     * <p/>
+     * The normalized key is cached per raw uri, so repeated lookups (such as from toD) of the same uri reuse the same
+     * {@link NormalizedUri} instance and do not have to normalize the uri again.
+     *
+     * @param  uri the uri (placeholders must be resolved)
+     * @return     the normalized uri key
+     */
+    public NormalizedUri getNormalizedUri(String uri) {
+        NormalizedUri answer = normalizedUriCache.get(uri);
+        if (answer != null) {
+            normalizedUriHits.increment();
+            return answer;
+        }
+        normalizedUriMisses.increment();
+        answer = NormalizedUri.newNormalizedUri(uri, false);
+        NormalizedUri existing = normalizedUriCache.putIfAbsent(uri, answer);
+        return existing != null ? existing : answer;
+    }
+
+    @Override
+    public long getNormalizedUriCacheHits() {
+        return normalizedUriHits.sum();
+    }
+
+    @Override
+    public long getNormalizedUriCacheMisses() {
+        return normalizedUriMisses.sum();
+    }
+
+    @Override
+    public int normalizedUriSize() {
+        return normalizedUriCache.size();
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        normalizedUriHits.reset();
+        normalizedUriMisses.reset();
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        normalizedUriCache.clear();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        normalizedUriCache.clear();
+    }
+
     @Override
     public boolean isStatic(String key) {
         return isStatic(NormalizedUri.newNormalizedUri(key, false));
@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,15 +37,28 @@ import org.apache.camel.util.IOHelper;
  */
 public class DefaultFactoryFinder implements FactoryFinder {
 
+    /**
+     * Location of the optional snapshot of the factory classes which can be generated at build time by the
+     * camel-maven-plugin (prepare-snapshot goal). The snapshot maps the resource path of each factory to its class
+     * name, which allows to resolve the factories without looking up the factory files on the classpath.
+     */
+    public static final String SNAPSHOT_RESOURCE = "META-INF/services/org/apache/camel/factory-finder-snapshot.properties";
+
     protected ConcurrentMap<String, Class<?>> classMap = new ConcurrentHashMap<>();
     protected ConcurrentMap<String, Boolean> classesNotFound = new ConcurrentHashMap<>();
     protected ConcurrentMap<String, Exception> classesNotFoundExceptions = new ConcurrentHashMap<>();
     protected ClassResolver classResolver;
     private final String path;
+    private final Map<String, String> snapshot;
 
     public DefaultFactoryFinder(ClassResolver classResolver, String resourcePath) {
+        this(classResolver, resourcePath, null);
+    }
+
+    public DefaultFactoryFinder(ClassResolver classResolver, String resourcePath, Map<String, String> snapshot) {
         this.classResolver = classResolver;
         this.path = resourcePath;
+        this.snapshot = snapshot;
     }
 
     @Override
@@ -122,6 +136,14 @@ public class DefaultFactoryFinder implements FactoryFinder {
     private Properties doFindFactoryProperties(String key) throws IOException {
         String uri = path + key;
 
+        // use the snapshot if present, to avoid looking up the factory file on the classpath
+        String className = snapshot != null ? snapshot.get(uri) : null;
+        if (className != null) {
+            Properties properties = new Properties();
+            properties.setProperty("class", className);
+            return properties;
+        }
+
         InputStream in = classResolver.loadResourceAsStream(uri);
         if (in == null) {
             return null;
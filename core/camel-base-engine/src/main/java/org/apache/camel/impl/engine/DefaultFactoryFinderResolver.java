@@ -16,22 +16,78 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default factory finder.
  */
 public class DefaultFactoryFinderResolver implements FactoryFinderResolver {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultFactoryFinderResolver.class);
+
+    private volatile Map<String, String> snapshot;
+
     @Override
     public FactoryFinder resolveFactoryFinder(ClassResolver classResolver, String resourcePath) {
-        return new DefaultFactoryFinder(classResolver, resourcePath);
+        return new DefaultFactoryFinder(classResolver, resourcePath, getSnapshot(classResolver));
     }
 
     @Override
     public FactoryFinder resolveBootstrapFactoryFinder(ClassResolver classResolver, String resourcePath) {
-        return new BootstrapFactoryFinder(classResolver, resourcePath);
+        return new BootstrapFactoryFinder(classResolver, resourcePath, getSnapshot(classResolver));
+    }
+
+    /**
+     * Gets the snapshot of factory classes (generated at build time) which is loaded once on first use.
+     *
+     * @return the snapshot, or <tt>null</tt> if there is no snapshot on the classpath
+     */
+    protected Map<String, String> getSnapshot(ClassResolver classResolver) {
+        Map<String, String> answer = snapshot;
+        if (answer == null) {
+            synchronized (this) {
+                answer = snapshot;
+                if (answer == null) {
+                    answer = loadSnapshot(classResolver);
+                    snapshot = answer;
+                }
+            }
+        }
+        return answer.isEmpty() ? null : answer;
+    }
+
+    private static Map<String, String> loadSnapshot(ClassResolver classResolver) {
+        InputStream is = classResolver.loadResourceAsStream(DefaultFactoryFinder.SNAPSHOT_RESOURCE);
+        if (is == null) {
+            return Collections.emptyMap();
+        }
+        try {
+            Properties prop = new Properties();
+            prop.load(IOHelper.buffered(is));
+            Map<String, String> answer = new HashMap<>(prop.size());
+            for (String name : prop.stringPropertyNames()) {
+                answer.put(name, prop.getProperty(name));
+            }
+            LOG.debug("Loaded {} factories from snapshot: {}", answer.size(), DefaultFactoryFinder.SNAPSHOT_RESOURCE);
+            return answer;
+        } catch (IOException e) {
+            LOG.warn("Error loading factory snapshot: {} due to: {}. This exception is ignored.",
+                    DefaultFactoryFinder.SNAPSHOT_RESOURCE, e.getMessage(), e);
+            return Collections.emptyMap();
+        } finally {
+            IOHelper.close(is);
+        }
     }
 }
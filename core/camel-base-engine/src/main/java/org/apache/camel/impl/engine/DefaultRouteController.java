@@ -42,6 +42,8 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     private CamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private boolean parallelStartup;
+    private int parallelStartupPoolSize;
 
     public DefaultRouteController() {
         this(null);
@@ -75,6 +77,31 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    public boolean isParallelStartup() {
+        return parallelStartup;
+    }
+
+    /**
+     * Whether to warm up the routes in parallel when starting. The route services such as the producers and endpoints
+     * are then started concurrently, which can speed up startup when there are many routes that connect to remote
+     * systems. Routes with an explicit startup order are warmed up first and in that order, and the route consumers are
+     * still started in the order of the routes.
+     */
+    public void setParallelStartup(boolean parallelStartup) {
+        this.parallelStartup = parallelStartup;
+    }
+
+    public int getParallelStartupPoolSize() {
+        return parallelStartupPoolSize;
+    }
+
+    /**
+     * The number of threads to use for warming up routes in parallel. Is by default the number of available processors.
+     */
+    public void setParallelStartupPoolSize(int parallelStartupPoolSize) {
+        this.parallelStartupPoolSize = parallelStartupPoolSize;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
@@ -23,6 +23,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -286,6 +289,13 @@ class InternalRouteStartupManager {
     void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
         // now prepare the routes by starting its services before we start the
         // input
+        DefaultRouteController controller = abstractCamelContext.getRouteController() instanceof DefaultRouteController
+                ? (DefaultRouteController) abstractCamelContext.getRouteController() : null;
+        if (controller != null && controller.isParallelStartup() && inputs.size() > 1) {
+            doWarmUpRoutesParallel(inputs, autoStartup, controller.getParallelStartupPoolSize());
+            return;
+        }
+
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
@@ -295,20 +305,114 @@ class InternalRouteStartupManager {
             // routes as all routes
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
-                    "Warump Route");
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-                abstractCamelContext.getStartupStepRecorder().endStep(step);
+            doWarmUpRoute(entry.getValue().getRouteService(), autoStartup);
+        }
+    }
+
+    /**
+     * Warms up the routes concurrently. Routes which have an explicit startup order may depend on each other, so they
+     * are warmed up first in their startup order, and then the remaining routes are warmed up concurrently on a bounded
+     * thread pool.
+     */
+    void doWarmUpRoutesParallel(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup, int poolSize)
+            throws FailedToStartRouteException {
+        List<RouteService> independent = new ArrayList<>();
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            RouteService routeService = order.getRouteService();
+            if (routeService.getRoute().getStartupOrder() != null) {
+                doWarmUpRoute(routeService, autoStartup);
+            } else {
+                independent.add(routeService);
             }
         }
+
+        int size = Math.min(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(), independent.size());
+        if (size <= 1) {
+            for (RouteService routeService : independent) {
+                doWarmUpRoute(routeService, autoStartup);
+            }
+            return;
+        }
+
+        LOG.debug("Warming up {} routes in parallel using {} threads", independent.size(), size);
+        // the steps of the routes are recorded on the worker threads, as children of this step
+        StartupStep parent = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, null,
+                "Warmup Routes in parallel");
+        ExecutorService executor = abstractCamelContext.getExecutorServiceManager()
+                .newFixedThreadPool(this, "RouteWarmUp", size);
+        // the routes are set up on the worker threads, so flag them the same way as the calling thread,
+        // so endpoints and producers created while warming up go into the static caches
+        boolean startingRoutes = abstractCamelContext.isStartingRoutes();
+        boolean setupRoutes = abstractCamelContext.getCamelContextExtension().isSetupRoutes();
+        try {
+            List<Future<?>> futures = new ArrayList<>(independent.size());
+            for (RouteService routeService : independent) {
+                futures.add(executor.submit(() -> {
+                    if (startingRoutes) {
+                        abstractCamelContext.setStartingRoutes(true);
+                    }
+                    if (setupRoutes) {
+                        abstractCamelContext.getCamelContextExtension().setupRoutes(false);
+                    }
+                    try {
+                        doWarmUpRoute(parent, routeService, autoStartup);
+                    } finally {
+                        abstractCamelContext.setStartingRoutes(false);
+                        abstractCamelContext.getCamelContextExtension().setupRoutes(true);
+                        abstractCamelContext.getStartupStepRecorder().releaseSteps();
+                    }
+                    return null;
+                }));
+            }
+            // wait for all routes, and fail with the first route (in startup order) that failed
+            FailedToStartRouteException failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        Throwable cause = e.getCause();
+                        failure = cause instanceof FailedToStartRouteException
+                                ? (FailedToStartRouteException) cause
+                                : new FailedToStartRouteException(
+                                        independent.get(i).getId(), independent.get(i).getRoute().getDescription(), cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new FailedToStartRouteException(
+                            independent.get(i).getId(), "Interrupted while warming up route", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            abstractCamelContext.getExecutorServiceManager().shutdownNow(executor);
+            abstractCamelContext.getStartupStepRecorder().endStep(parent);
+        }
+    }
+
+    private void doWarmUpRoute(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        doWarmUpRoute(null, routeService, autoStartup);
+    }
+
+    private void doWarmUpRoute(StartupStep parent, RouteService routeService, boolean autoStartup)
+            throws FailedToStartRouteException {
+        StartupStep step = parent != null
+                ? abstractCamelContext.getStartupStepRecorder().beginStep(parent, Route.class, routeService.getId(),
+                        "Warump Route")
+                : abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
+                        "Warump Route");
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
+        }
     }
 
     void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
@@ -60,6 +60,11 @@ class ProvisionalEndpointRegistry extends HashMap<NormalizedUri, Endpoint> imple
         return 0;
     }
 
+    @Override
+    public int normalizedUriSize() {
+        return 0;
+    }
+
     @Override
     public void purge() {
         // noop
@@ -50,6 +50,8 @@ public class EndpointDevConsole extends AbstractDevConsole {
         sb.append(
                 String.format("    Endpoints: %s (static: %s dynamic: %s)\n", reg.size(), reg.staticSize(), reg.dynamicSize()));
         sb.append(String.format("    Maximum Cache Size: %s\n", reg.getMaximumCacheSize()));
+        sb.append(String.format("    Normalized Uris: %s (hits: %s misses: %s)\n", reg.normalizedUriSize(),
+                reg.getNormalizedUriCacheHits(), reg.getNormalizedUriCacheMisses()));
         Collection<Endpoint> col = reg.getReadOnlyValues();
         if (!col.isEmpty()) {
             for (Endpoint e : col) {
@@ -82,6 +84,9 @@ public class EndpointDevConsole extends AbstractDevConsole {
         root.put("staticSize", reg.staticSize());
         root.put("dynamicSize", reg.dynamicSize());
         root.put("maximumCacheSize", reg.getMaximumCacheSize());
+        root.put("normalizedUriSize", reg.normalizedUriSize());
+        root.put("normalizedUriCacheHits", reg.getNormalizedUriCacheHits());
+        root.put("normalizedUriCacheMisses", reg.getNormalizedUriCacheMisses());
 
         final List<JsonObject> list = new ArrayList<>();
         root.put("endpoints", list);
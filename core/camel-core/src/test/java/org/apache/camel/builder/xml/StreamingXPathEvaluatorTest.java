@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.language.xpath.StreamingXPathEvaluator;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingXPathEvaluatorTest extends ContextTestSupport {
+
+    private static final String ORDER = "<o:order xmlns:o='http://camel.apache.org/order' id='123'>"
+                                        + "<o:customer type='premium'><o:name>Claus</o:name></o:customer>"
+                                        + "<o:lines><o:line><item>Camel <b>in</b> Action</item></o:line>"
+                                        + "<o:line><item>ActiveMQ in Action</item></o:line></o:lines>"
+                                        + "</o:order>";
+
+    @Test
+    public void testEvaluatePaths() {
+        StreamingXPathEvaluator evaluator = new StreamingXPathEvaluator()
+                .namespace("o", "http://camel.apache.org/order")
+                .path("id", "/o:order/@id")
+                .path("type", "/o:order/o:customer/@type")
+                .path("name", "/o:order/*/o:name")
+                .path("item", "//item")
+                .path("unknown", "/o:order/o:unknown");
+
+        Map<String, String> fields = evaluator.evaluate(createExchange(ORDER));
+
+        assertEquals("123", fields.get("id"));
+        assertEquals("premium", fields.get("type"));
+        assertEquals("Claus", fields.get("name"));
+        // the first matched element, with the text of its descendants
+        assertEquals("Camel in Action", fields.get("item"));
+        assertFalse(fields.containsKey("unknown"));
+    }
+
+    @Test
+    public void testNoNamespace() {
+        StreamingXPathEvaluator evaluator = new StreamingXPathEvaluator().path("name", "/order/customer/name");
+
+        // the unprefixed name only matches the elements in no namespace
+        assertFalse(evaluator.evaluate(createExchange(ORDER)).containsKey("name"));
+        assertEquals("Willem", evaluator.evaluate(createExchange("<order><customer><name>Willem</name></customer></order>"))
+                .get("name"));
+    }
+
+    @Test
+    public void testUnsupportedPath() {
+        StreamingXPathEvaluator evaluator = new StreamingXPathEvaluator().path("name", "/order/customer[1]/name");
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(createExchange(ORDER)));
+    }
+
+    @Test
+    public void testRouteOnStreamedFields() throws Exception {
+        MockEndpoint premium = getMockEndpoint("mock:premium");
+        premium.expectedMessageCount(1);
+        premium.expectedHeaderReceived("orderId", "123");
+
+        template.sendBody("direct:start", new ByteArrayInputStream(ORDER.getBytes(StandardCharsets.UTF_8)));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private Exchange createExchange(String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        return exchange;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                StreamingXPathEvaluator fields = new StreamingXPathEvaluator()
+                        .namespace("o", "http://camel.apache.org/order")
+                        .path("id", "/o:order/@id")
+                        .path("type", "/o:order/o:customer/@type");
+
+                from("direct:start")
+                        .setProperty("fields", fields)
+                        .setHeader("orderId").simple("${exchangeProperty.fields[id]}")
+                        .choice()
+                        .when().simple("${exchangeProperty.fields[type]} == 'premium'")
+                        .to("mock:premium")
+                        .otherwise()
+                        .to("mock:other");
+            }
+        };
+    }
+}
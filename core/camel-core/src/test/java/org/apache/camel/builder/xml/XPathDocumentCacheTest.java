@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that the xpath expressions with the document cache turned on share the document parsed from the same message
+ * body, which is parsed again when the body is changed.
+ */
+public class XPathDocumentCacheTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // turn off stream caching as the input stream body can then only be read once
+        context.setStreamCaching(false);
+        return context;
+    }
+
+    @Test
+    public void testInputStreamBodyIsParsedOnce() throws Exception {
+        getMockEndpoint("mock:premium").expectedMessageCount(1);
+        getMockEndpoint("mock:standard").expectedMessageCount(0);
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedHeaderReceived("orderId", "123");
+        result.expectedHeaderReceived("name", "Claus");
+
+        String xml = "<order id='123' type='premium'><customer><name>Claus</name></customer></order>";
+        template.sendBody("direct:start", new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStringBodyChanged() throws Exception {
+        getMockEndpoint("mock:standard").expectedMessageCount(1);
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedHeaderReceived("orderId", "456");
+        // the name is read from the new body rather than from the document parsed from the previous body
+        result.expectedHeaderReceived("name", "Jonathan");
+
+        template.sendBody("direct:start", "<order id='456' type='standard'><customer><name>Willem</name></customer></order>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDocumentCacheDisabledByDefault() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:default");
+        mock.expectedHeaderReceived("orderId", "789");
+
+        template.sendBody("direct:default", "<order id='789'/>");
+
+        assertMockEndpointsSatisfied();
+        assertNull(mock.getReceivedExchanges().get(0).getProperty("CamelXPathParsedDocument"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("direct:start")
+                        .setHeader("orderId", XPathBuilder.xpath("/order/@id", String.class).documentCache(true))
+                        .choice()
+                        .when(XPathBuilder.xpath("/order/@type = 'premium'").documentCache(true))
+                        .to("mock:premium")
+                        .when(XPathBuilder.xpath("/order/@type = 'standard'").documentCache(true))
+                        .to("mock:standard")
+                        .setBody().constant("<order id='456'><customer><name>Jonathan</name></customer></order>")
+                        .end()
+                        .setHeader("name", XPathBuilder.xpath("/order/customer/name", String.class).documentCache(true))
+                        .to("mock:result");
+
+                from("direct:default")
+                        .setHeader("orderId").xpath("/order/@id", String.class)
+                        .to("mock:default");
+            }
+        };
+    }
+}
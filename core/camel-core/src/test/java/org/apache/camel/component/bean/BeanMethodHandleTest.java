@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanMethodHandleTest extends ContextTestSupport {
+
+    @Test
+    public void testMethodHandleInvocation() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World 123");
+
+        template.sendBodyAndHeader("direct:start", "World", "id", 123);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMethodHandleInvocationExchangeAndMessage() throws Exception {
+        getMockEndpoint("mock:exchange").expectedBodiesReceived("Bye Camel");
+
+        template.sendBody("direct:exchange", "Camel");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMethodHandleInvocationTypeConversion() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello 456 789");
+
+        // body and header are converted to the expected types before invocation
+        template.sendBodyAndHeader("direct:start", 456, "id", "789");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMethodHandleInvocationException() throws Exception {
+        Exchange out = template.send("direct:fail", e -> e.getMessage().setBody("Kaboom"));
+        assertTrue(out.isFailed());
+        assertEquals("Forced Kaboom", out.getException().getMessage());
+        assertSame(IllegalArgumentException.class, out.getException().getClass());
+    }
+
+    @Test
+    public void testMethodInfoUsesMethodHandle() throws Exception {
+        BeanInfo info = new BeanInfo(context, MyHandleBean.class);
+        for (MethodInfo mi : info.getMethods()) {
+            assertTrue(mi.isMethodHandleInvocation(), "Should use method handle: " + mi);
+        }
+
+        // not enabled by default
+        MethodInfo mi = new BeanInfo(
+                context, MyHandleBean.class.getMethod("hello", String.class, int.class),
+                DefaultParameterMappingStrategy.INSTANCE, new BeanComponent()).getMethods().get(0);
+        assertFalse(mi.isMethodHandleInvocation());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getComponent("bean", BeanComponent.class).setUseMethodHandle(true);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyHandleBean.class, "hello").to("mock:result");
+                from("direct:exchange").bean(MyHandleBean.class, "bye").to("mock:exchange");
+                from("direct:fail").bean(MyHandleBean.class, "fail");
+            }
+        };
+    }
+
+    public static class MyHandleBean {
+
+        public String hello(String body, @Header("id") int id) {
+            return "Hello " + body + " " + id;
+        }
+
+        public static String bye(Exchange exchange, Message message) {
+            assertSame(exchange.getMessage(), message);
+            return "Bye " + message.getBody(String.class);
+        }
+
+        public void fail(String body) {
+            throw new IllegalArgumentException("Forced " + body);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FileRecursiveDirectoryScanTest extends ContextTestSupport {
+
+    private final Set<String> filtered = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void testDirectoryScanThreads() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                String body = "dir" + i + "/sub" + j;
+                template.sendBodyAndHeader(fileUri("scan/dir" + i + "/sub" + j), body, Exchange.FILE_NAME, "hello.txt");
+                expected.add(body);
+            }
+            // the excluded directories are not scanned
+            template.sendBodyAndHeader(fileUri("scan/dir" + i + "/skip"), "skip", Exchange.FILE_NAME, "hello.txt");
+            // too deep
+            template.sendBodyAndHeader(fileUri("scan/dir" + i + "/sub0/deep"), "deep", Exchange.FILE_NAME, "hello.txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:scan");
+        mock.expectedBodiesReceivedInAnyOrder(expected);
+
+        context.getRouteController().startRoute("scan");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDirectoryListingCache() throws Exception {
+        template.sendBodyAndHeader(fileUri("cache"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("cache/foo"), "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri("cache/foo/bar"), "c", Exchange.FILE_NAME, "c.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:cache");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b", "c");
+
+        context.getRouteController().startRoute("cache");
+
+        mock.assertIsSatisfied();
+
+        // a new file changes the timestamp of its directory, so it is listed again
+        mock.reset();
+        mock.expectedBodiesReceived("d");
+
+        template.sendBodyAndHeader(fileUri("cache/foo/bar"), "d", Exchange.FILE_NAME, "d.txt");
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testDirectoryListingCacheSkipsNotMatchedNames() throws Exception {
+        template.sendBodyAndHeader(fileUri("names"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("names"), "b", Exchange.FILE_NAME, "b.dat");
+        template.sendBodyAndHeader(fileUri("names/foo"), "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader(fileUri("names/foo"), "d", Exchange.FILE_NAME, "d.dat");
+
+        MockEndpoint mock = getMockEndpoint("mock:names");
+        mock.expectedBodiesReceivedInAnyOrder("a", "c");
+
+        context.getRouteController().startRoute("names");
+
+        mock.assertIsSatisfied();
+
+        // let a few polls reuse the cached listings
+        Thread.sleep(200);
+
+        // the files excluded by their name are never handed to the filter
+        assertEquals(Set.of("foo", "a.txt", "c.txt"), filtered);
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("recordingFilter", (GenericFileFilter<Object>) file -> {
+            filtered.add(file.getFileNameOnly());
+            return true;
+        });
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("scan?initialDelay=0&delay=10&recursive=true&maxDepth=3&directoryScanThreads=4"
+                             + "&antExclude=**/skip/**"))
+                        .routeId("scan").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:scan");
+
+                from(fileUri("cache?initialDelay=0&delay=10&recursive=true&noop=true&directoryListingCache=true"))
+                        .routeId("cache").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:cache");
+
+                from(fileUri("names?initialDelay=0&delay=10&recursive=true&noop=true&directoryListingCache=true"
+                             + "&includeExt=txt&filter=#recordingFilter"))
+                        .routeId("names").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:names");
+            }
+        };
+    }
+}
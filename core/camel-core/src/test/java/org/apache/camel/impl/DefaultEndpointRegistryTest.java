@@ -20,6 +20,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.apache.camel.Endpoint;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.builder.RouteBuilder;
@@ -29,6 +30,8 @@ import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.support.NormalizedUri;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DefaultEndpointRegistryTest {
@@ -76,6 +79,47 @@ public class DefaultEndpointRegistryTest {
         assertTrue(reg.isStatic("file:error"));
     }
 
+    @Test
+    public void testNormalizedUriCache() throws Exception {
+        DefaultCamelContext ctx = new DefaultCamelContext();
+        ctx.start();
+        DefaultEndpointRegistry reg = (DefaultEndpointRegistry) ctx.getEndpointRegistry();
+
+        long hits = reg.getNormalizedUriCacheHits();
+        long misses = reg.getNormalizedUriCacheMisses();
+
+        Endpoint e1 = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertEquals(misses + 1, reg.getNormalizedUriCacheMisses());
+
+        // same raw uri should hit the cache
+        Endpoint e2 = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertSame(e1, e2);
+        assertEquals(hits + 1, reg.getNormalizedUriCacheHits());
+        assertSame(reg.getNormalizedUri("log:foo?showAll=true&level=WARN"),
+                reg.getNormalizedUri("log:foo?showAll=true&level=WARN"));
+
+        // parameters in another order is another raw uri, but the same endpoint
+        Endpoint e3 = ctx.getEndpoint("log:foo?level=WARN&showAll=true");
+        assertSame(e1, e3);
+        assertEquals(misses + 2, reg.getNormalizedUriCacheMisses());
+
+        // removing the endpoint must not leave the cached key pointing at a stale endpoint
+        ctx.removeEndpoint(e1);
+        Endpoint e4 = ctx.getEndpoint("log:foo?showAll=true&level=WARN");
+        assertTrue(e4 != e1);
+        assertEquals(0, reg.getEvicted());
+
+        // the cache is bounded
+        for (int i = 0; i < 1500; i++) {
+            reg.getNormalizedUri("log:foo" + i);
+        }
+        assertTrue(reg.normalizedUriSize() <= 1000);
+
+        reg.purge();
+        assertEquals(0, reg.normalizedUriSize());
+        ctx.stop();
+    }
+
     //Testing the issue https://issues.apache.org/jira/browse/CAMEL-19295
     @Test
     public void testConcurrency() throws InterruptedException {
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultRouteController;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteParallelStartupTest extends ContextTestSupport {
+
+    private static final Set<String> WARMUP_THREADS = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().getStartupStepRecorder().setEnabled(true);
+        DefaultRouteController drc = (DefaultRouteController) context.getRouteController();
+        drc.setParallelStartup(true);
+        drc.setParallelStartupPoolSize(4);
+        return context;
+    }
+
+    @Test
+    public void testParallelStartup() throws Exception {
+        assertEquals(6, context.getRoutesSize());
+        assertTrue(context.isStarted());
+
+        // the routes without startup order are warmed up on the worker threads
+        assertTrue(WARMUP_THREADS.stream().anyMatch(n -> n.contains("RouteWarmUp")), "Should warm up in parallel");
+
+        // the consumers are still started in the startup order
+        RouteStartupOrder first = context.getCamelContextExtension().getRouteStartupOrder().get(0);
+        RouteStartupOrder second = context.getCamelContextExtension().getRouteStartupOrder().get(1);
+        assertEquals("first", first.getRoute().getRouteId());
+        assertEquals("second", second.getRoute().getRouteId());
+
+        for (int i = 0; i < 4; i++) {
+            getMockEndpoint("mock:result" + i).expectedBodiesReceived("Hello " + i);
+            template.sendBody("direct:start" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testParallelRestartStaticEndpoints() throws Exception {
+        // restart the routes on the started context, so the endpoints are created again while warming up
+        context.getRouteController().stopAllRoutes();
+        context.removeEndpoints("mock://warmup*");
+        context.getRouteController().startAllRoutes();
+
+        // the endpoints created on the worker threads are static, as they are when the routes are warmed up one by one
+        for (int i = 0; i < 4; i++) {
+            assertTrue(context.getEndpointRegistry().isStatic("mock://warmup" + i), "Should be static: mock://warmup" + i);
+            assertFalse(context.getEndpointRegistry().isDynamic("mock://warmup" + i));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:second").routeId("second").startupOrder(2).to("mock:second");
+                from("direct:first").routeId("first").startupOrder(1).to("mock:first");
+
+                for (int i = 0; i < 4; i++) {
+                    from("direct:start" + i).process(new SlowStartProcessor(getContext(), "mock:warmup" + i))
+                            .to("mock:result" + i);
+                }
+            }
+        };
+    }
+
+    private static class SlowStartProcessor extends ServiceSupport implements Processor {
+
+        private final CamelContext camelContext;
+        private final String uri;
+
+        SlowStartProcessor(CamelContext camelContext, String uri) {
+            this.camelContext = camelContext;
+            this.uri = uri;
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            WARMUP_THREADS.add(Thread.currentThread().getName());
+            camelContext.getEndpoint(uri);
+            Thread.sleep(100);
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+    }
+}
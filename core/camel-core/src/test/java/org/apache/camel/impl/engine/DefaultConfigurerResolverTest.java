@@ -20,6 +20,7 @@ import java.util.stream.Stream;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.PropertyConfigurer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,15 @@ class DefaultConfigurerResolverTest {
                         .as(name).isNull());
     }
 
+    @DisplayName("Test that the configurer created from the factory is cached and reused")
+    @Test
+    void resolvePropertyConfigurerShouldReuseCachedConfigurer() {
+        PropertyConfigurer configurer = resolver.resolvePropertyConfigurer("log-component", ctx);
+        assertThat(configurer).isNotNull();
+        assertThat(resolver.resolvePropertyConfigurer("log-component", ctx)).isSameAs(configurer);
+        assertThat(resolver.resolvePropertyConfigurer("log-component-configurer", ctx)).isSameAs(configurer);
+    }
+
     @DisplayName("Test that the configurer returns null for classes named similarly, but unrelated to CamelContext")
     @Test
     void resolvePropertyConfigurerShouldFallbackToExtendedCamelContextOnlyForCamelComponents3() {
@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Collections;
 
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.Injector;
@@ -77,6 +78,22 @@ public class DefaultFactoryFinderTest {
         verify(classResolver, times(1)).resolveClass(TestImplA.class.getName());
     }
 
+    @Test
+    public void shouldUseSnapshot() throws IOException {
+        final ClassResolver classResolver = mock(ClassResolver.class);
+
+        doReturn(TestImplA.class).when(classResolver).resolveClass(TestImplA.class.getName());
+
+        final DefaultFactoryFinder factoryFinder = new DefaultFactoryFinder(
+                classResolver, TEST_RESOURCE_PATH,
+                Collections.singletonMap("/org/apache/camel/impl/TestImplA", TestImplA.class.getName()));
+
+        assertSame(TestImplA.class, factoryFinder.findClass("TestImplA").orElse(null));
+
+        // the factory file should not be looked up on the classpath
+        verify(classResolver, never()).loadResourceAsStream("/org/apache/camel/impl/TestImplA");
+    }
+
     @Test
     public void shouldComplainIfInstanceTypeIsNotAsExpected() throws ClassNotFoundException, IOException {
         final Injector injector = mock(Injector.class);
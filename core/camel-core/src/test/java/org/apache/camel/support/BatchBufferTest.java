@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchBufferTest {
+
+    private final BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> threads = new LinkedBlockingQueue<>();
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private CompletableFuture<?> flush(List<String> batch) {
+        threads.add(Thread.currentThread().getName());
+        batches.add(batch);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Test
+    public void testFlushWhenFull() throws Exception {
+        BatchBuffer<String> buffer = new BatchBuffer<>(3, 60000, scheduler, this::flush);
+        buffer.add("a");
+        buffer.add("b");
+        assertTrue(batches.isEmpty());
+
+        buffer.add("c");
+        assertEquals(List.of("a", "b", "c"), batches.poll());
+        // the full batch is flushed by the thread adding the last entry
+        assertEquals(Thread.currentThread().getName(), threads.poll());
+
+        buffer.add("d");
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void testFlushWhenWeightReached() throws Exception {
+        BatchBuffer<String> buffer = new BatchBuffer<>(10, 100, 60000, scheduler, this::flush);
+        buffer.add("a", 60);
+        assertTrue(batches.isEmpty());
+
+        buffer.add("b", 40);
+        assertEquals(List.of("a", "b"), batches.poll());
+    }
+
+    @Test
+    public void testFlushWhenLingerTimeElapsed() throws Exception {
+        BatchBuffer<String> buffer = new BatchBuffer<>(10, 100, scheduler, this::flush);
+        buffer.add("a");
+        buffer.add("b");
+
+        assertEquals(List.of("a", "b"), batches.poll(5, TimeUnit.SECONDS));
+        // the batch which was not full is flushed by the scheduler
+        assertNotEquals(Thread.currentThread().getName(), threads.poll());
+        assertNull(batches.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        BatchBuffer<String> buffer = new BatchBuffer<>(10, 60000, scheduler, this::flush);
+        assertTrue(buffer.flush().isDone());
+        assertTrue(batches.isEmpty());
+
+        buffer.add("a");
+        buffer.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("a"), batches.poll());
+    }
+
+    @Test
+    public void testFlushFailure() throws Exception {
+        BatchBuffer<String> buffer = new BatchBuffer<>(10, 60000, scheduler, batch -> {
+            throw new IllegalStateException("Forced");
+        });
+        buffer.add("a");
+
+        assertTrue(buffer.flush().isCompletedExceptionally());
+    }
+}
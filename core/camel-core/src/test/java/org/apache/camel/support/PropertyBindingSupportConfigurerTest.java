@@ -27,6 +27,7 @@ import org.apache.camel.LoggingLevel;
 import org.apache.camel.PropertyBindingException;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.spi.PropertyConfigurer;
 import org.apache.camel.spi.PropertyConfigurerGetter;
 import org.junit.jupiter.api.Test;
 
@@ -276,6 +277,54 @@ public class PropertyBindingSupportConfigurerTest extends ContextTestSupport {
         assertTrue(prop.isEmpty(), "Should bind all properties");
     }
 
+    @Test
+    public void testPropertiesNestedConfigurer() throws Exception {
+        // the configurer for the nested target should be resolved, and not the configurer of the parent be used
+        MyCompanyConfigurer companyConfigurer = new MyCompanyConfigurer();
+        context.getRegistry().bind(Company.class.getName(), companyConfigurer);
+
+        Bar bar = new Bar();
+        bar.work(new Company());
+
+        Map<String, Object> prop = new HashMap<>();
+        prop.put("age", "33");
+        prop.put("work.id", "123");
+        prop.put("work.name", "{{companyName}}");
+
+        myConfigurer.reset();
+        PropertyConfigurer barConfigurer = myConfigurer::configure;
+        PropertyBindingSupport.build().withConfigurer(barConfigurer).withIgnoreCase(true).bind(context, bar, prop);
+        assertEquals(1, myConfigurer.getCounter());
+        assertEquals(2, companyConfigurer.getCounter());
+
+        assertEquals(33, bar.getAge());
+        assertEquals(123, bar.getWork().getId());
+        assertEquals("Acme", bar.getWork().getName());
+
+        assertTrue(prop.isEmpty(), "Should bind all properties");
+    }
+
+    @Test
+    public void testPropertiesNestedMap() throws Exception {
+        Map<String, Object> nested = new HashMap<>();
+        MapHolder holder = new MapHolder();
+        holder.getData().put("foo", nested);
+
+        Map<String, Object> prop = new HashMap<>();
+        prop.put("data[foo].bar", "123");
+        prop.put("data[foo].baz", "{{companyName}}");
+
+        PropertyBindingSupport.build().withConfigurer(new MyMapHolderConfigurer()).bind(context, holder, prop);
+
+        assertEquals(1, holder.getData().size());
+        assertSame(nested, holder.getData().get("foo"));
+        assertEquals(2, nested.size());
+        assertEquals("123", nested.get("bar"));
+        assertEquals("Acme", nested.get("baz"));
+
+        assertTrue(prop.isEmpty(), "Should bind all properties");
+    }
+
     public static class Bar {
         private int age;
         private boolean rider;
@@ -403,4 +452,56 @@ public class PropertyBindingSupportConfigurerTest extends ContextTestSupport {
         }
     }
 
+    private static class MyCompanyConfigurer implements PropertyConfigurer {
+
+        private int counter;
+
+        @Override
+        public boolean configure(CamelContext camelContext, Object target, String name, Object value, boolean ignoreCase) {
+            if (target instanceof Company) {
+                Company company = (Company) target;
+                if ("id".equalsIgnoreCase(name)) {
+                    company.setId(Integer.parseInt(value.toString()));
+                    counter++;
+                    return true;
+                } else if ("name".equalsIgnoreCase(name)) {
+                    company.setName(value.toString());
+                    counter++;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int getCounter() {
+            return counter;
+        }
+    }
+
+    public static class MapHolder {
+        private final Map<String, Object> data = new HashMap<>();
+
+        public Map<String, Object> getData() {
+            return data;
+        }
+    }
+
+    private static class MyMapHolderConfigurer implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+        @Override
+        public boolean configure(CamelContext camelContext, Object target, String name, Object value, boolean ignoreCase) {
+            return false;
+        }
+
+        @Override
+        public Class<?> getOptionType(String name, boolean ignoreCase) {
+            return "data".equals(name) ? Map.class : null;
+        }
+
+        @Override
+        public Object getOptionValue(Object target, String name, boolean ignoreCase) {
+            return "data".equals(name) ? ((MapHolder) target).getData() : null;
+        }
+    }
+
 }
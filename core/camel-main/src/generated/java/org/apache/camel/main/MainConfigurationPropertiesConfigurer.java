@@ -155,6 +155,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerIncludeRoutes": target.setRouteControllerIncludeRoutes(property(camelContext, java.lang.String.class, value)); return true;
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": target.setRouteControllerInitialDelay(property(camelContext, long.class, value)); return true;
+        case "routecontrollerparallelstartup":
+        case "RouteControllerParallelStartup": target.setRouteControllerParallelStartup(property(camelContext, boolean.class, value)); return true;
+        case "routecontrollerparallelstartuppoolsize":
+        case "RouteControllerParallelStartupPoolSize": target.setRouteControllerParallelStartupPoolSize(property(camelContext, int.class, value)); return true;
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": target.setRouteControllerSuperviseEnabled(property(camelContext, boolean.class, value)); return true;
         case "routecontrollerthreadpoolsize":
@@ -402,6 +406,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerIncludeRoutes": return java.lang.String.class;
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": return long.class;
+        case "routecontrollerparallelstartup":
+        case "RouteControllerParallelStartup": return boolean.class;
+        case "routecontrollerparallelstartuppoolsize":
+        case "RouteControllerParallelStartupPoolSize": return int.class;
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": return boolean.class;
         case "routecontrollerthreadpoolsize":
@@ -650,6 +658,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerIncludeRoutes": return target.getRouteControllerIncludeRoutes();
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": return target.getRouteControllerInitialDelay();
+        case "routecontrollerparallelstartup":
+        case "RouteControllerParallelStartup": return target.isRouteControllerParallelStartup();
+        case "routecontrollerparallelstartuppoolsize":
+        case "RouteControllerParallelStartupPoolSize": return target.getRouteControllerParallelStartupPoolSize();
         case "routecontrollersuperviseenabled":
         case "RouteControllerSuperviseEnabled": return target.isRouteControllerSuperviseEnabled();
         case "routecontrollerthreadpoolsize":
@@ -35,6 +35,7 @@ import org.apache.camel.console.DevConsoleRegistry;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.impl.engine.DefaultRouteController;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
@@ -357,6 +358,15 @@ public final class DefaultConfigurationConfigurer {
             }
             src.setUnhealthyOnExhausted(config.isRouteControllerUnhealthyOnExhausted());
         }
+
+        // parallel warm up of routes
+        if (config.isRouteControllerParallelStartup()
+                && camelContext.getRouteController() instanceof DefaultRouteController drc) {
+            drc.setParallelStartup(true);
+            if (config.getRouteControllerParallelStartupPoolSize() > 0) {
+                drc.setParallelStartupPoolSize(config.getRouteControllerParallelStartupPoolSize());
+            }
+        }
     }
 
     /**
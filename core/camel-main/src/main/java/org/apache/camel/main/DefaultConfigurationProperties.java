@@ -144,6 +144,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private long routeControllerBackOffMaxAttempts;
     private double routeControllerBackOffMultiplier;
     private boolean routeControllerUnhealthyOnExhausted;
+    private boolean routeControllerParallelStartup;
+    private int routeControllerParallelStartupPoolSize;
     // startup recorder
     @Metadata(enums = "false,off,java-flight-recorder,jfr,logging")
     private String startupRecorder;
@@ -1561,6 +1563,34 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeControllerUnhealthyOnExhausted = routeControllerUnhealthyOnExhausted;
     }
 
+    public boolean isRouteControllerParallelStartup() {
+        return routeControllerParallelStartup;
+    }
+
+    /**
+     * Whether to warm up the routes in parallel when starting Camel. The route services such as the producers and
+     * endpoints are then started concurrently, which can speed up startup when there are many routes that connect to
+     * remote systems. Routes with an explicit startup order are warmed up first and in that order, and the route
+     * consumers are still started in the order of the routes.
+     *
+     * The default is false.
+     */
+    public void setRouteControllerParallelStartup(boolean routeControllerParallelStartup) {
+        this.routeControllerParallelStartup = routeControllerParallelStartup;
+    }
+
+    public int getRouteControllerParallelStartupPoolSize() {
+        return routeControllerParallelStartupPoolSize;
+    }
+
+    /**
+     * The number of threads used for warming up routes in parallel (if routeControllerParallelStartup is enabled). Is
+     * by default the number of available processors.
+     */
+    public void setRouteControllerParallelStartupPoolSize(int routeControllerParallelStartupPoolSize) {
+        this.routeControllerParallelStartupPoolSize = routeControllerParallelStartupPoolSize;
+    }
+
     public String getStartupRecorder() {
         return startupRecorder;
     }
@@ -2721,6 +2751,28 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to warm up the routes in parallel when starting Camel. The route services such as the producers and
+     * endpoints are then started concurrently, which can speed up startup when there are many routes that connect to
+     * remote systems. Routes with an explicit startup order are warmed up first and in that order, and the route
+     * consumers are still started in the order of the routes.
+     *
+     * The default is false.
+     */
+    public T withRouteControllerParallelStartup(boolean routeControllerParallelStartup) {
+        this.routeControllerParallelStartup = routeControllerParallelStartup;
+        return (T) this;
+    }
+
+    /**
+     * The number of threads used for warming up routes in parallel (if routeControllerParallelStartup is enabled). Is
+     * by default the number of available processors.
+     */
+    public T withRouteControllerParallelStartupPoolSize(int routeControllerParallelStartupPoolSize) {
+        this.routeControllerParallelStartupPoolSize = routeControllerParallelStartupPoolSize;
+        return (T) this;
+    }
+
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
      * off), logging, java-flight-recorder (or jfr).
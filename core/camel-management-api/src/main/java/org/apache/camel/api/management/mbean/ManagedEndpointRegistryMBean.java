@@ -38,6 +38,18 @@ public interface ManagedEndpointRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of endpoints evicted from the dynamic cache")
+    Long getEvicted();
+
+    @ManagedAttribute(description = "Number of endpoint lookups which found the normalized uri in the cache")
+    Long getNormalizedUriCacheHits();
+
+    @ManagedAttribute(description = "Number of endpoint lookups which had to normalize the uri")
+    Long getNormalizedUriCacheMisses();
+
+    @ManagedAttribute(description = "Number of uris cached with their normalized uri")
+    Integer getNormalizedUriSize();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
@@ -409,10 +409,11 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         ServiceHelper.stopService(assembler);
     }
 
-    private void registerMBeanWithServer(Object obj, ObjectName name, boolean forceRegistration)
+    private synchronized void registerMBeanWithServer(Object obj, ObjectName name, boolean forceRegistration)
             throws JMException {
 
         // have we already registered the bean, there can be shared instances in the camel routes
+        // (synchronized as routes can be warmed up in parallel)
         boolean exists = isRegistered(name);
         if (exists) {
             if (forceRegistration) {
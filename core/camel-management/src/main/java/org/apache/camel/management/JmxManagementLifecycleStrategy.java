@@ -19,11 +19,11 @@ package org.apache.camel.management;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import javax.management.JMException;
@@ -125,17 +125,19 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
 
     // the wrapped processors is for performance counters, which are in use for the created routes
     // when a route is removed, we should remove the associated processors from this map
-    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors = new HashMap<>();
+    // routes can be warmed up in parallel, so the tracked services are kept in concurrent collections
+    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors
+            = new ConcurrentHashMap<>();
     private final List<java.util.function.Consumer<JmxManagementLifecycleStrategy>> preServices = new ArrayList<>();
     private final TimerListenerManager loadTimer = new ManagedLoadTimer();
     private final TimerListenerManagerStartupListener loadTimerStartupListener = new TimerListenerManagerStartupListener();
     private volatile CamelContext camelContext;
     private volatile ManagedCamelContext camelContextMBean;
     private volatile boolean initialized;
-    private final Set<String> knowRouteIds = new HashSet<>();
-    private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
-    private final Map<BacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new HashMap<>();
-    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new HashMap<>();
+    private final Set<String> knowRouteIds = ConcurrentHashMap.newKeySet();
+    private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new ConcurrentHashMap<>();
+    private final Map<BacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new ConcurrentHashMap<>();
+    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new ConcurrentHashMap<>();
 
     public JmxManagementLifecycleStrategy() {
     }
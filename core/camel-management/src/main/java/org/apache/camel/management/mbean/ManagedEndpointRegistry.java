@@ -79,6 +79,26 @@ public class ManagedEndpointRegistry extends ManagedService implements ManagedEn
         return endpointRegistry.getMaximumCacheSize();
     }
 
+    @Override
+    public Long getEvicted() {
+        return endpointRegistry.getEvicted();
+    }
+
+    @Override
+    public Long getNormalizedUriCacheHits() {
+        return endpointRegistry.getNormalizedUriCacheHits();
+    }
+
+    @Override
+    public Long getNormalizedUriCacheMisses() {
+        return endpointRegistry.getNormalizedUriCacheMisses();
+    }
+
+    @Override
+    public Integer getNormalizedUriSize() {
+        return endpointRegistry.normalizedUriSize();
+    }
+
     @Override
     public void purge() {
         endpointRegistry.purge();
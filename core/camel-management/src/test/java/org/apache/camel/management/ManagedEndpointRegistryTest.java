@@ -77,6 +77,19 @@ public class ManagedEndpointRegistryTest extends ManagementTestSupport {
         assertTrue(source.startsWith("EndpointRegistry"));
         assertTrue(source.endsWith("capacity: 1000]"));
 
+        Long evicted = (Long) mbeanServer.getAttribute(on, "Evicted");
+        assertEquals(0, evicted.longValue());
+
+        // log:foo has been looked up (and normalized) once
+        Long misses = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheMisses");
+        assertTrue(misses > 0);
+        Long hits = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheHits");
+        template.sendBody("log:foo", "Bye World");
+        Long hits2 = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheHits");
+        assertEquals(hits + 1, hits2.longValue());
+        Integer normalized = (Integer) mbeanServer.getAttribute(on, "NormalizedUriSize");
+        assertTrue(normalized > 0);
+
         TabularData data = (TabularData) mbeanServer.invoke(on, "listEndpoints", null, null);
         assertEquals(3, data.size());
 
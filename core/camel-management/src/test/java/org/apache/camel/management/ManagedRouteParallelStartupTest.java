@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultRouteController;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_THREAD_POOL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteParallelStartupTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 20;
+
+    private final List<StartupStep> steps = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        DefaultStartupStepRecorder recorder = new DefaultStartupStepRecorder() {
+            @Override
+            protected void onBeginStep(StartupStep step) {
+                steps.add(step);
+            }
+        };
+        recorder.setEnabled(true);
+        context.getCamelContextExtension().setStartupStepRecorder(recorder);
+        DefaultRouteController drc = (DefaultRouteController) context.getRouteController();
+        drc.setParallelStartup(true);
+        drc.setParallelStartupPoolSize(8);
+        return context;
+    }
+
+    @Test
+    public void testParallelStartupRegistersAllMBeans() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> routes = mbeanServer.queryNames(getCamelObjectName(TYPE_ROUTE, "*"), null);
+        assertEquals(ROUTES, routes.size());
+        for (int i = 0; i < ROUTES; i++) {
+            ObjectName on = getCamelObjectName(TYPE_ROUTE, "route" + i);
+            assertEquals("Started", mbeanServer.getAttribute(on, "State"));
+            ObjectName pool = getCamelObjectName(TYPE_THREAD_POOL, "threads" + i + "(threads)");
+            assertTrue(mbeanServer.isRegistered(pool), "Thread pool of route" + i + " should be registered");
+        }
+
+        getMockEndpoint("mock:shared").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:start" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testParallelStartupRecordsRouteStepsAsChildren() {
+        StartupStep parent = steps.stream().filter(s -> "Warmup Routes in parallel".equals(s.getDescription()))
+                .findFirst().orElse(null);
+        assertNotNull(parent);
+
+        List<StartupStep> routeSteps = steps.stream().filter(s -> "Warump Route".equals(s.getDescription())).toList();
+        assertEquals(ROUTES, routeSteps.size());
+        for (StartupStep step : routeSteps) {
+            assertEquals(parent.getId(), step.getParentId());
+            assertEquals(parent.getLevel() + 1, step.getLevel());
+        }
+        // the steps of the route services are children of the route steps on the worker threads
+        assertTrue(steps.stream().anyMatch(s -> s.getLevel() > parent.getLevel() + 1
+                && routeSteps.stream().anyMatch(r -> r.getId() == s.getParentId())));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:start" + i).routeId("route" + i)
+                            .threads(1).id("threads" + i)
+                            .to("log:shared?level=OFF")
+                            .to("mock:shared");
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers entries, such as the writes of the exchanges sent to a producer, and hands them over together as one batch to
+ * a flush function.
+ * <p/>
+ * The entries are flushed when either the maximum number of entries (or their maximum total weight, such as their size
+ * in bytes) is reached, from the thread that added the last entry, or when the linger time has elapsed since the first
+ * entry of the batch was added, from the given scheduler. The flush function is responsible for completing the entries
+ * of the batch, also when the batch fails.
+ *
+ * @param <E> the type of the entries
+ */
+public class BatchBuffer<E> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchBuffer.class);
+
+    private final int maxSize;
+    private final long maxWeight;
+    private final long lingerTime;
+    private final ScheduledExecutorService scheduler;
+    private final Function<List<E>, ? extends CompletionStage<?>> flusher;
+    private final Lock lock = new ReentrantLock();
+    private List<E> pending;
+    private long pendingWeight;
+    private ScheduledFuture<?> lingerTask;
+
+    /**
+     * Creates a buffer which is flushed when the maximum number of entries is reached, or the linger time has elapsed.
+     *
+     * @param maxSize    the maximum number of entries of a batch
+     * @param lingerTime the time in millis to wait for more entries, after the first entry of a batch was added
+     * @param scheduler  the scheduler for flushing the entries when the linger time has elapsed
+     * @param flusher    the function executing a batch, which returns when the batch is complete
+     */
+    public BatchBuffer(int maxSize, long lingerTime, ScheduledExecutorService scheduler,
+                       Function<List<E>, ? extends CompletionStage<?>> flusher) {
+        this(maxSize, 0, lingerTime, scheduler, flusher);
+    }
+
+    /**
+     * Creates a buffer which is flushed when the maximum number or weight of entries is reached, or the linger time has
+     * elapsed.
+     *
+     * @param maxSize    the maximum number of entries of a batch
+     * @param maxWeight  the maximum total weight of the entries of a batch, or 0 for no maximum
+     * @param lingerTime the time in millis to wait for more entries, after the first entry of a batch was added
+     * @param scheduler  the scheduler for flushing the entries when the linger time has elapsed
+     * @param flusher    the function executing a batch, which returns when the batch is complete
+     */
+    public BatchBuffer(int maxSize, long maxWeight, long lingerTime, ScheduledExecutorService scheduler,
+                       Function<List<E>, ? extends CompletionStage<?>> flusher) {
+        ObjectHelper.notNull(scheduler, "scheduler");
+        ObjectHelper.notNull(flusher, "flusher");
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.lingerTime = lingerTime;
+        this.scheduler = scheduler;
+        this.flusher = flusher;
+    }
+
+    /**
+     * Adds an entry to the next batch, which is flushed from the current thread if the entry completes the batch.
+     */
+    public void add(E entry) {
+        add(entry, 0);
+    }
+
+    /**
+     * Adds an entry to the next batch, which is flushed from the current thread if the entry completes the batch.
+     *
+     * @param entry  the entry
+     * @param weight the weight of the entry, such as its size in bytes
+     */
+    public void add(E entry, long weight) {
+        List<E> batch = null;
+        lock.lock();
+        try {
+            if (pending == null) {
+                pending = new ArrayList<>(Math.min(maxSize, 1024));
+                if (maxSize > 1) {
+                    final List<E> lingering = pending;
+                    lingerTask = scheduler.schedule(() -> flushLingering(lingering), lingerTime, TimeUnit.MILLISECONDS);
+                }
+            }
+            pending.add(entry);
+            pendingWeight += weight;
+            if (pending.size() >= maxSize || maxWeight > 0 && pendingWeight >= maxWeight) {
+                batch = takePending();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (batch != null) {
+            // the batch is full so flush it from the current thread
+            doFlush(batch);
+        }
+    }
+
+    /**
+     * Flushes the entries which are buffered, such as when the producer is stopping.
+     *
+     * @return a future which is complete when the batch is complete
+     */
+    public CompletableFuture<?> flush() {
+        List<E> batch;
+        lock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        return batch != null ? doFlush(batch) : CompletableFuture.completedFuture(null);
+    }
+
+    private List<E> takePending() {
+        List<E> answer = pending;
+        pending = null;
+        pendingWeight = 0;
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return answer;
+    }
+
+    private void flushLingering(List<E> lingering) {
+        List<E> batch = null;
+        lock.lock();
+        try {
+            // only flush if the batch has not already been flushed because it was full
+            if (pending == lingering) {
+                batch = takePending();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            doFlush(batch);
+        }
+    }
+
+    private CompletableFuture<?> doFlush(List<E> batch) {
+        LOG.debug("Flushing batch with {} entries", batch.size());
+        try {
+            return flusher.apply(batch).toCompletableFuture();
+        } catch (Exception e) {
+            LOG.warn("Error flushing batch with {} entries. This exception is ignored.", batch.size(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -402,6 +402,10 @@ public final class PropertyBindingSupport {
                             configurer = MapConfigurer.INSTANCE;
                         }
                     }
+                } else if (configurer != MapConfigurer.INSTANCE) {
+                    // the configurer is for the previous target, so we need to find the configurer for the nested
+                    // target (if any) so nested options can be bound without reflection
+                    configurer = null;
                 }
                 // prepare for next iterator
                 newTarget = prop;
@@ -73,7 +73,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // steps can be recorded from multiple threads (such as when warming up routes in parallel)
+    // so each thread keeps its own stack of current steps
+    private final ThreadLocal<Deque<StartupStep>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -82,10 +84,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -151,35 +149,55 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
-            if (maxDepth != -1 && level >= maxDepth) {
-                return DISABLED_STEP;
-            }
-            int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
-            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
-            return step;
+            Deque<StartupStep> steps = currentSteps.get();
+            return doBeginStep(steps, steps.peekFirst(), type, name, description);
+        } else {
+            return DISABLED_STEP;
+        }
+    }
+
+    @Override
+    public StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled && parent != DISABLED_STEP) {
+            // the parent step may be on the stack of another thread
+            return doBeginStep(currentSteps.get(), parent, type, name, description);
         } else {
             return DISABLED_STEP;
         }
     }
 
+    private StartupStep doBeginStep(
+            Deque<StartupStep> steps, StartupStep parent, Class<?> type, String name, String description) {
+        int level = parent != null ? parent.getLevel() + 1 : 0;
+        if (maxDepth != -1 && level >= maxDepth) {
+            return DISABLED_STEP;
+        }
+        int id = stepCounter.incrementAndGet();
+        int pid = parent != null ? parent.getId() : 0;
+        StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
+        onBeginStep(step);
+        steps.offerFirst(step);
+        return step;
+    }
+
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            currentSteps.get().remove(step);
             step.endStep();
             onEndStep(step);
         }
     }
 
+    @Override
+    public void releaseSteps() {
+        currentSteps.remove();
+    }
+
     public StartupStep createStartupStep(String type, String name, String description, int id, int parentId, int level) {
         return new DefaultStartupStep(type, name, description, id, parentId, level, System.currentTimeMillis());
     }
@@ -120,6 +120,25 @@ public interface BeanComponentBuilderFactory {
             doSetProperty("autowiredEnabled", autowiredEnabled);
             return this;
         }
+        /**
+         * Whether to invoke the bean methods using method handles instead of
+         * Java reflection. The method handle is created once per introspected
+         * method and cached together with the bean information, which reduces
+         * the overhead of invoking the bean. If a method handle cannot be
+         * created for a given method, then reflection is used as fallback.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param useMethodHandle the value to set
+         * @return the dsl builder
+         */
+        default BeanComponentBuilder useMethodHandle(boolean useMethodHandle) {
+            doSetProperty("useMethodHandle", useMethodHandle);
+            return this;
+        }
     }
 
     class BeanComponentBuilderImpl
@@ -140,6 +159,7 @@ public interface BeanComponentBuilderFactory {
             case "lazyStartProducer": ((BeanComponent) component).setLazyStartProducer((boolean) value); return true;
             case "scope": ((BeanComponent) component).setScope((org.apache.camel.BeanScope) value); return true;
             case "autowiredEnabled": ((BeanComponent) component).setAutowiredEnabled((boolean) value); return true;
+            case "useMethodHandle": ((BeanComponent) component).setUseMethodHandle((boolean) value); return true;
             default: return false;
             }
         }
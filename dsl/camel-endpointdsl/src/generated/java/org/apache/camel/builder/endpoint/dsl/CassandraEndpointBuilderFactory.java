@@ -1215,6 +1215,45 @@ public interface CassandraEndpointBuilderFactory {
             doSetProperty("username", username);
             return this;
         }
+        /**
+         * Whether the producer executes the statements asynchronously, so the
+         * thread routing the exchange is not blocked while waiting for the
+         * result, and continues routing the exchange when the result is
+         * received.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param asyncExecution the value to set
+         * @return the dsl builder
+         */
+        default CassandraEndpointProducerBuilder asyncExecution(
+                boolean asyncExecution) {
+            doSetProperty("asyncExecution", asyncExecution);
+            return this;
+        }
+        /**
+         * Whether the producer executes the statements asynchronously, so the
+         * thread routing the exchange is not blocked while waiting for the
+         * result, and continues routing the exchange when the result is
+         * received.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param asyncExecution the value to set
+         * @return the dsl builder
+         */
+        default CassandraEndpointProducerBuilder asyncExecution(
+                String asyncExecution) {
+            doSetProperty("asyncExecution", asyncExecution);
+            return this;
+        }
     }
 
     /**
@@ -1275,6 +1314,125 @@ public interface CassandraEndpointBuilderFactory {
             doSetProperty("lazyStartProducer", lazyStartProducer);
             return this;
         }
+        /**
+         * The maximum number of statements, from the CQL of the CamelCqlQuery
+         * header, which are kept prepared by the producer so they are not
+         * prepared again for every message. Setting the size to 0 disables the
+         * cache.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param preparedStatementCacheSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedCassandraEndpointProducerBuilder preparedStatementCacheSize(
+                int preparedStatementCacheSize) {
+            doSetProperty("preparedStatementCacheSize", preparedStatementCacheSize);
+            return this;
+        }
+        /**
+         * The maximum number of statements, from the CQL of the CamelCqlQuery
+         * header, which are kept prepared by the producer so they are not
+         * prepared again for every message. Setting the size to 0 disables the
+         * cache.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param preparedStatementCacheSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedCassandraEndpointProducerBuilder preparedStatementCacheSize(
+                String preparedStatementCacheSize) {
+            doSetProperty("preparedStatementCacheSize", preparedStatementCacheSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more statements before
+         * executing a batch which is not full, when the unlogged batch size is
+         * set.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param unloggedBatchLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedCassandraEndpointProducerBuilder unloggedBatchLingerTime(
+                long unloggedBatchLingerTime) {
+            doSetProperty("unloggedBatchLingerTime", unloggedBatchLingerTime);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more statements before
+         * executing a batch which is not full, when the unlogged batch size is
+         * set.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt;
+         * type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param unloggedBatchLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedCassandraEndpointProducerBuilder unloggedBatchLingerTime(
+                String unloggedBatchLingerTime) {
+            doSetProperty("unloggedBatchLingerTime", unloggedBatchLingerTime);
+            return this;
+        }
+        /**
+         * Combines the prepared write statements of the exchanges sent
+         * concurrently to the producer into unlogged batches of up to this
+         * number of statements, where the statements writing to the same
+         * partition are executed in one round trip. The statements are executed
+         * when the batch is full, or when the unlogged batch linger time has
+         * elapsed. Enables the asynchronous execution of the statements. Is
+         * disabled by default.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param unloggedBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedCassandraEndpointProducerBuilder unloggedBatchSize(
+                int unloggedBatchSize) {
+            doSetProperty("unloggedBatchSize", unloggedBatchSize);
+            return this;
+        }
+        /**
+         * Combines the prepared write statements of the exchanges sent
+         * concurrently to the producer into unlogged batches of up to this
+         * number of statements, where the statements writing to the same
+         * partition are executed in one round trip. The statements are executed
+         * when the batch is full, or when the unlogged batch linger time has
+         * elapsed. Enables the asynchronous execution of the statements. Is
+         * disabled by default.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param unloggedBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedCassandraEndpointProducerBuilder unloggedBatchSize(
+                String unloggedBatchSize) {
+            doSetProperty("unloggedBatchSize", unloggedBatchSize);
+            return this;
+        }
     }
 
     /**
@@ -493,6 +493,119 @@ public interface ElasticsearchEndpointBuilderFactory {
             doSetProperty("lazyStartProducer", lazyStartProducer);
             return this;
         }
+        /**
+         * The time in ms to wait for more operations before sending the
+         * operations that are buffered, when auto bulk is enabled.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: advanced
+         * 
+         * @param autoBulkLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder autoBulkLingerTime(
+                long autoBulkLingerTime) {
+            doSetProperty("autoBulkLingerTime", autoBulkLingerTime);
+            return this;
+        }
+        /**
+         * The time in ms to wait for more operations before sending the
+         * operations that are buffered, when auto bulk is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt;
+         * type.
+         * 
+         * Default: 100
+         * Group: advanced
+         * 
+         * @param autoBulkLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder autoBulkLingerTime(
+                String autoBulkLingerTime) {
+            doSetProperty("autoBulkLingerTime", autoBulkLingerTime);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of the documents to combine into one bulk
+         * request, when auto bulk is enabled.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 5242880
+         * Group: advanced
+         * 
+         * @param autoBulkMaxBytes the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder autoBulkMaxBytes(
+                long autoBulkMaxBytes) {
+            doSetProperty("autoBulkMaxBytes", autoBulkMaxBytes);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of the documents to combine into one bulk
+         * request, when auto bulk is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt;
+         * type.
+         * 
+         * Default: 5242880
+         * Group: advanced
+         * 
+         * @param autoBulkMaxBytes the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder autoBulkMaxBytes(
+                String autoBulkMaxBytes) {
+            doSetProperty("autoBulkMaxBytes", autoBulkMaxBytes);
+            return this;
+        }
+        /**
+         * The maximum number of Index, Update and Delete operations to combine
+         * into one bulk request. When set to a value greater than 1, the
+         * operations of the exchanges sent to the endpoint are buffered and sent
+         * together as a bulk request, and each exchange is completed with the
+         * result of its own operation. The operations are sent when either this
+         * number of operations, or the auto bulk max bytes, is reached, or when
+         * the auto bulk linger time has elapsed.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: advanced
+         * 
+         * @param autoBulkSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder autoBulkSize(
+                int autoBulkSize) {
+            doSetProperty("autoBulkSize", autoBulkSize);
+            return this;
+        }
+        /**
+         * The maximum number of Index, Update and Delete operations to combine
+         * into one bulk request. When set to a value greater than 1, the
+         * operations of the exchanges sent to the endpoint are buffered and sent
+         * together as a bulk request, and each exchange is completed with the
+         * result of its own operation. The operations are sent when either this
+         * number of operations, or the auto bulk max bytes, is reached, or when
+         * the auto bulk linger time has elapsed.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: advanced
+         * 
+         * @param autoBulkSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedElasticsearchEndpointBuilder autoBulkSize(
+                String autoBulkSize) {
+            doSetProperty("autoBulkSize", autoBulkSize);
+            return this;
+        }
         /**
          * The class to use when deserializing the documents.
          * 
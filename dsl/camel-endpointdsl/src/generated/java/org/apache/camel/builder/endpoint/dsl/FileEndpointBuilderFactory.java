@@ -2055,6 +2055,53 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Whether to cache the listing of each polled directory, and reuse it on
+         * the next poll if the last modified timestamp of the directory has not
+         * changed. This avoids listing directories again where no files were
+         * added, removed or renamed since the previous poll. The entries of a
+         * cached directory that cannot be matched by their name (such as with
+         * the include and exclude options) are skipped, and the other files are
+         * still evaluated on each poll. Only enable this if the file system
+         * updates the last modified timestamp of directories reliably.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param directoryListingCache the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryListingCache(
+                boolean directoryListingCache) {
+            doSetProperty("directoryListingCache", directoryListingCache);
+            return this;
+        }
+        /**
+         * Whether to cache the listing of each polled directory, and reuse it on
+         * the next poll if the last modified timestamp of the directory has not
+         * changed. This avoids listing directories again where no files were
+         * added, removed or renamed since the previous poll. The entries of a
+         * cached directory that cannot be matched by their name (such as with
+         * the include and exclude options) are skipped, and the other files are
+         * still evaluated on each poll. Only enable this if the file system
+         * updates the last modified timestamp of directories reliably.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param directoryListingCache the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryListingCache(
+                String directoryListingCache) {
+            doSetProperty("directoryListingCache", directoryListingCache);
+            return this;
+        }
         /**
          * Similar to the startingDirectoryMustExist option but this applies
          * during polling (after starting the consumer).
@@ -2090,6 +2137,49 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("directoryMustExist", directoryMustExist);
             return this;
         }
+        /**
+         * The number of threads used to list the sub directories concurrently
+         * when recursive is enabled. While the files of a directory are
+         * evaluated, its sub directories are listed in the background, which
+         * speeds up polling large directory trees on file systems with a high
+         * latency per file operation, such as network shares. The files are
+         * still evaluated one by one and in the same order. Is disabled when the
+         * value is 1 or less.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param directoryScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryScanThreads(
+                int directoryScanThreads) {
+            doSetProperty("directoryScanThreads", directoryScanThreads);
+            return this;
+        }
+        /**
+         * The number of threads used to list the sub directories concurrently
+         * when recursive is enabled. While the files of a directory are
+         * evaluated, its sub directories are listed in the background, which
+         * speeds up polling large directory trees on file systems with a high
+         * latency per file operation, such as network shares. The files are
+         * still evaluated one by one and in the same order. Is disabled when the
+         * value is 1 or less.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param directoryScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryScanThreads(
+                String directoryScanThreads) {
+            doSetProperty("directoryScanThreads", directoryScanThreads);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -1152,6 +1152,53 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("skipResponseHeaders", skipResponseHeaders);
             return this;
         }
+        /**
+         * Whether the producer should use the non-blocking HttpClient 5 async
+         * client. When enabled the calling thread is not blocked while waiting
+         * for the response, and the exchange is continued from the I/O reactor
+         * thread once the response has been received. The response body is
+         * streamed into the stream cache as it arrives, and the connection pool
+         * and TLS settings of the component are reused. Notice that a custom
+         * httpClient, httpClientConfigurer or clientConnectionManager only
+         * applies to the blocking client.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(
+                boolean useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should use the non-blocking HttpClient 5 async
+         * client. When enabled the calling thread is not blocked while waiting
+         * for the response, and the exchange is continued from the I/O reactor
+         * thread once the response has been received. The response body is
+         * streamed into the stream cache as it arrives, and the connection pool
+         * and TLS settings of the component are reused. Notice that a custom
+         * httpClient, httpClientConfigurer or clientConnectionManager only
+         * applies to the blocking client.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(
+                String useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
         /**
          * To set a custom HTTP User-Agent request header.
          * 
@@ -368,6 +368,53 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to route all the records from a poll as a single exchange,
+         * instead of one exchange per record. The message body is then a
+         * java.util.List of exchanges, one per record, which has the record
+         * value as body and the kafka headers. The size of the batch is bounded
+         * by the maxPollRecords and pollTimeoutMs options. The offsets of the
+         * records are committed after the batch has been processed successfully.
+         * If the batch failed, and breakOnFirstError is enabled, then the
+         * consumer seeks back to the start of the batch, so the entire batch is
+         * consumed again.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to route all the records from a poll as a single exchange,
+         * instead of one exchange per record. The message body is then a
+         * java.util.List of exchanges, one per record, which has the record
+         * value as body and the kafka headers. The size of the batch is bounded
+         * by the maxPollRecords and pollTimeoutMs options. The offsets of the
+         * records are committed after the batch has been processed successfully.
+         * If the batch failed, and breakOnFirstError is enabled, then the
+         * consumer seeks back to the start of the batch, so the entire batch is
+         * consumed again.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -1796,6 +1796,43 @@ public interface MongoDbEndpointBuilderFactory {
             doSetProperty("outputType", outputType);
             return this;
         }
+        /**
+         * Sets the number of documents fetched from the server per batch by the
+         * cursor of the findAll and aggregate operations, unless overridden by
+         * the CamelMongoDbBatchSize header. Together with the MongoIterable
+         * output type this allows streaming large results (such as with the
+         * streaming mode of the splitter) with a bounded memory usage.
+         * 
+         * The option is a: &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default MongoDbEndpointProducerBuilder batchSize(Integer batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * Sets the number of documents fetched from the server per batch by the
+         * cursor of the findAll and aggregate operations, unless overridden by
+         * the CamelMongoDbBatchSize header. Together with the MongoIterable
+         * output type this allows streaming large results (such as with the
+         * streaming mode of the splitter) with a bounded memory usage.
+         * 
+         * The option will be converted to a
+         * &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: producer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default MongoDbEndpointProducerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * The database name associated with the user's credentials.
          * 
@@ -1898,6 +1935,121 @@ public interface MongoDbEndpointBuilderFactory {
             doSetProperty("lazyStartProducer", lazyStartProducer);
             return this;
         }
+        /**
+         * The maximum time in millis to wait for more writes before executing a
+         * bulk write which is not full, when the write batch size is set.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param writeBatchLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder writeBatchLingerTime(
+                long writeBatchLingerTime) {
+            doSetProperty("writeBatchLingerTime", writeBatchLingerTime);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more writes before executing a
+         * bulk write which is not full, when the write batch size is set.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt;
+         * type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param writeBatchLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder writeBatchLingerTime(
+                String writeBatchLingerTime) {
+            doSetProperty("writeBatchLingerTime", writeBatchLingerTime);
+            return this;
+        }
+        /**
+         * Whether the bulk writes combined from the exchanges are ordered, where
+         * the writes following a failed write are not executed, or unordered,
+         * where the server may execute the writes in any order and continues
+         * after a failed write.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: true
+         * Group: producer (advanced)
+         * 
+         * @param writeBatchOrdered the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder writeBatchOrdered(
+                boolean writeBatchOrdered) {
+            doSetProperty("writeBatchOrdered", writeBatchOrdered);
+            return this;
+        }
+        /**
+         * Whether the bulk writes combined from the exchanges are ordered, where
+         * the writes following a failed write are not executed, or unordered,
+         * where the server may execute the writes in any order and continues
+         * after a failed write.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: true
+         * Group: producer (advanced)
+         * 
+         * @param writeBatchOrdered the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder writeBatchOrdered(
+                String writeBatchOrdered) {
+            doSetProperty("writeBatchOrdered", writeBatchOrdered);
+            return this;
+        }
+        /**
+         * Combines the inserts of a single document of the exchanges sent
+         * concurrently to the producer into bulk writes of up to this number of
+         * documents. A bulk write is executed when it is full, or when the write
+         * batch linger time has elapsed. Each exchange is completed with its own
+         * inserted document. The other operations are not combined. Is disabled
+         * by default.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param writeBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder writeBatchSize(
+                int writeBatchSize) {
+            doSetProperty("writeBatchSize", writeBatchSize);
+            return this;
+        }
+        /**
+         * Combines the inserts of a single document of the exchanges sent
+         * concurrently to the producer into bulk writes of up to this number of
+         * documents. A bulk write is executed when it is full, or when the write
+         * batch linger time has elapsed. Each exchange is completed with its own
+         * inserted document. The other operations are not combined. Is disabled
+         * by default.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param writeBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMongoDbEndpointProducerBuilder writeBatchSize(
+                String writeBatchSize) {
+            doSetProperty("writeBatchSize", writeBatchSize);
+            return this;
+        }
         /**
          * Sets the logical name of the application. The application name may be
          * used by the client to identify the application to the server, for use
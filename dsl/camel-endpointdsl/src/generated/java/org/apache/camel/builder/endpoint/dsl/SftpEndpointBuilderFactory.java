@@ -2658,6 +2658,47 @@ public interface SftpEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * The number of sessions (connections to the server) the consumer uses
+         * to retrieve and process the files of a poll concurrently. The files
+         * are listed using the first session, and then distributed over all the
+         * sessions, where each session retrieves and routes one file at a time.
+         * The files are then always processed synchronously.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentSessions the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSftpEndpointConsumerBuilder concurrentSessions(
+                int concurrentSessions) {
+            doSetProperty("concurrentSessions", concurrentSessions);
+            return this;
+        }
+        /**
+         * The number of sessions (connections to the server) the consumer uses
+         * to retrieve and process the files of a poll concurrently. The files
+         * are listed using the first session, and then distributed over all the
+         * sessions, where each session retrieves and routes one file at a time.
+         * The files are then always processed synchronously.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentSessions the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSftpEndpointConsumerBuilder concurrentSessions(
+                String concurrentSessions) {
+            doSetProperty("concurrentSessions", concurrentSessions);
+            return this;
+        }
         /**
          * Whether the FTP consumer should download the file. If this option is
          * set to false, then the message body will be null, but the consumer
@@ -1118,6 +1118,43 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * If set greater than one, then the onConsume and onConsumeFailed
+         * queries of the processed rows are collected and executed together as
+         * JDBC batches (PreparedStatement.executeBatch) of this size, instead of
+         * being executed one row at a time.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param onConsumeBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder onConsumeBatchSize(
+                int onConsumeBatchSize) {
+            doSetProperty("onConsumeBatchSize", onConsumeBatchSize);
+            return this;
+        }
+        /**
+         * If set greater than one, then the onConsume and onConsumeFailed
+         * queries of the processed rows are collected and executed together as
+         * JDBC batches (PreparedStatement.executeBatch) of this size, instead of
+         * being executed one row at a time.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param onConsumeBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder onConsumeBatchSize(
+                String onConsumeBatchSize) {
+            doSetProperty("onConsumeBatchSize", onConsumeBatchSize);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -1192,6 +1229,89 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("processingStrategy", processingStrategy);
             return this;
         }
+        /**
+         * Whether the consumer should stream the rows of the result set, by
+         * reading the rows one by one from a JDBC cursor and routing each row as
+         * soon as it has been read, instead of loading all the rows of the poll
+         * into memory first. The number of rows fetched from the database per
+         * round-trip can be tuned with the template.fetchSize option. Streaming
+         * can only be used with outputType=SelectList and useIterator=true, and
+         * cannot be used together with transacted, onConsume, onConsumeFailed
+         * or onConsumeBatchComplete.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param streaming the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder streaming(
+                boolean streaming) {
+            doSetProperty("streaming", streaming);
+            return this;
+        }
+        /**
+         * Whether the consumer should stream the rows of the result set, by
+         * reading the rows one by one from a JDBC cursor and routing each row as
+         * soon as it has been read, instead of loading all the rows of the poll
+         * into memory first. The number of rows fetched from the database per
+         * round-trip can be tuned with the template.fetchSize option. Streaming
+         * can only be used with outputType=SelectList and useIterator=true, and
+         * cannot be used together with transacted, onConsume, onConsumeFailed
+         * or onConsumeBatchComplete.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param streaming the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder streaming(String streaming) {
+            doSetProperty("streaming", streaming);
+            return this;
+        }
+        /**
+         * The number of concurrent threads that process the rows when streaming
+         * is enabled. The number of rows that are read from the cursor but not
+         * yet processed is bounded by this value.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param streamingConcurrentConsumers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder streamingConcurrentConsumers(
+                int streamingConcurrentConsumers) {
+            doSetProperty("streamingConcurrentConsumers", streamingConcurrentConsumers);
+            return this;
+        }
+        /**
+         * The number of concurrent threads that process the rows when streaming
+         * is enabled. The number of rows that are read from the cursor but not
+         * yet processed is bounded by this value.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param streamingConcurrentConsumers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder streamingConcurrentConsumers(
+                String streamingConcurrentConsumers) {
+            doSetProperty("streamingConcurrentConsumers", streamingConcurrentConsumers);
+            return this;
+        }
         /**
          * If enabled then the populateStatement method from
          * org.apache.camel.component.sql.SqlPrepareStatementStrategy is always
@@ -1798,6 +1918,90 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("lazyStartProducer", lazyStartProducer);
             return this;
         }
+        /**
+         * The maximum time in millis to wait for more exchanges to fill a micro
+         * batch before executing it. Is only in use when microBatchSize is
+         * enabled.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchLingerTime(
+                long microBatchLingerTime) {
+            doSetProperty("microBatchLingerTime", microBatchLingerTime);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to fill a micro
+         * batch before executing it. Is only in use when microBatchSize is
+         * enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt;
+         * type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchLingerTime(
+                String microBatchLingerTime) {
+            doSetProperty("microBatchLingerTime", microBatchLingerTime);
+            return this;
+        }
+        /**
+         * Enables micro batching in the producer, which combines the parameters
+         * of several exchanges into a single JDBC batch
+         * (PreparedStatement.executeBatch) to reduce the number of database
+         * round-trips. This option sets the maximum number of exchanges in a
+         * batch. A batch is executed when it is full, or when the
+         * microBatchLingerTime has elapsed since the first exchange was added.
+         * Each exchange is completed with its own update count, or its own error
+         * if its statement failed. Micro batching is disabled when the value is
+         * 0 or less.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                int microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * Enables micro batching in the producer, which combines the parameters
+         * of several exchanges into a single JDBC batch
+         * (PreparedStatement.executeBatch) to reduce the number of database
+         * round-trips. This option sets the maximum number of exchanges in a
+         * batch. A batch is executed when it is full, or when the
+         * microBatchLingerTime has elapsed since the first exchange was added.
+         * Each exchange is completed with its own update count, or its own error
+         * if its statement failed. Micro batching is disabled when the value is
+         * 0 or less.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                String microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
         /**
          * If enabled then the populateStatement method from
          * org.apache.camel.component.sql.SqlPrepareStatementStrategy is always
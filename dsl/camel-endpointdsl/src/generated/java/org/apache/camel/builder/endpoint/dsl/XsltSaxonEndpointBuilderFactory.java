@@ -189,12 +189,14 @@ public interface XsltSaxonEndpointBuilderFactory {
         }
         /**
          * Option to specify which output type to use. Possible values are:
-         * string, bytes, DOM, file. The first three options are all in memory
-         * based, where as file is streamed directly to a java.io.File. For file
-         * you must specify the filename in the IN header with the key
-         * XsltConstants.XSLT_FILE_NAME which is also CamelXsltFileName. Also
-         * any paths leading to the filename must be created beforehand,
-         * otherwise an exception is thrown at runtime.
+         * string, bytes, DOM, file, stream. The first three options are all in
+         * memory based, where as file is streamed directly to a java.io.File.
+         * For file you must specify the filename in the IN header with the key
+         * XsltConstants.XSLT_FILE_NAME which is also CamelXsltFileName. Also any
+         * paths leading to the filename must be created beforehand, otherwise an
+         * exception is thrown at runtime. The stream option writes the result to
+         * a stream cache, which is spooled to disk when it exceeds the threshold
+         * of the stream caching strategy.
          * 
          * The option is a:
          * &lt;code&gt;org.apache.camel.component.xslt.XsltOutput&lt;/code&gt;
@@ -213,12 +215,14 @@ public interface XsltSaxonEndpointBuilderFactory {
         }
         /**
          * Option to specify which output type to use. Possible values are:
-         * string, bytes, DOM, file. The first three options are all in memory
-         * based, where as file is streamed directly to a java.io.File. For file
-         * you must specify the filename in the IN header with the key
-         * XsltConstants.XSLT_FILE_NAME which is also CamelXsltFileName. Also
-         * any paths leading to the filename must be created beforehand,
-         * otherwise an exception is thrown at runtime.
+         * string, bytes, DOM, file, stream. The first three options are all in
+         * memory based, where as file is streamed directly to a java.io.File.
+         * For file you must specify the filename in the IN header with the key
+         * XsltConstants.XSLT_FILE_NAME which is also CamelXsltFileName. Also any
+         * paths leading to the filename must be created beforehand, otherwise an
+         * exception is thrown at runtime. The stream option writes the result to
+         * a stream cache, which is spooled to disk when it exceeds the threshold
+         * of the stream caching strategy.
          * 
          * The option will be converted to a
          * &lt;code&gt;org.apache.camel.component.xslt.XsltOutput&lt;/code&gt;
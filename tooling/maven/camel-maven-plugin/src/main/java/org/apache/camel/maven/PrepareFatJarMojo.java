@@ -20,28 +20,14 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 
-import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
-import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
-import org.apache.maven.artifact.resolver.filter.ExcludesArtifactFilter;
-import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
-import org.apache.maven.artifact.versioning.VersionRange;
-import org.apache.maven.model.Dependency;
-import org.apache.maven.model.Exclusion;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -65,7 +51,7 @@ public class PrepareFatJarMojo extends AbstractMojo {
     private static final String META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER
             = "META-INF/services/org/apache/camel/UberTypeConverterLoader";
 
-    private DynamicClassLoader projectClassLoader;
+    private ProjectClasspathHelper classpathHelper;
 
     @Parameter(property = "project", required = true, readonly = true)
     private MavenProject project;
@@ -95,19 +81,12 @@ public class PrepareFatJarMojo extends AbstractMojo {
 
         File file = new File(classesDirectory, META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER);
         try {
-            writeFile(file, data);
+            ProjectClasspathHelper.writeFile(file, data);
         } catch (IOException e) {
             throw new MojoFailureException("Error updating " + file, e);
         }
     }
 
-    private void writeFile(File file, String data) throws IOException {
-        Path path = file.toPath();
-        Files.createDirectories(path.getParent());
-        Files.write(path, data.getBytes(StandardCharsets.UTF_8), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
-    }
-
     /**
      * Finds the type converter loader classes from the classpath looking for text files on the classpath at the
      * {@link #META_INF_SERVICES_TYPE_CONVERTER_LOADER} location.
@@ -146,126 +125,10 @@ public class PrepareFatJarMojo extends AbstractMojo {
     }
 
     protected final DynamicClassLoader getProjectClassLoader() throws MojoExecutionException {
-        if (projectClassLoader == null) {
-            List<URL> urls = new ArrayList<>();
-            // need to include project compile dependencies (code similar to camel-maven-plugin)
-            addRelevantProjectDependenciesToClasspath(urls, false);
-            projectClassLoader = DynamicClassLoader.createDynamicClassLoaderFromUrls(urls);
-        }
-        return projectClassLoader;
-    }
-
-    /**
-     * Add any relevant project dependencies to the classpath. Takes includeProjectDependencies into consideration.
-     *
-     * @param path classpath of {@link URL} objects
-     */
-    private void addRelevantProjectDependenciesToClasspath(List<URL> path, boolean testClasspathOnly)
-            throws MojoExecutionException {
-        try {
-            getLog().debug("Project Dependencies will be included.");
-
-            if (testClasspathOnly) {
-                URL testClasses = new File(project.getBuild().getTestOutputDirectory()).toURI().toURL();
-
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug("Adding to classpath : " + testClasses);
-                }
-                path.add(testClasses);
-            } else {
-                URL mainClasses = new File(project.getBuild().getOutputDirectory()).toURI().toURL();
-
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug("Adding to classpath : " + mainClasses);
-                }
-                path.add(mainClasses);
-            }
-
-            Set<Artifact> dependencies = project.getArtifacts();
-
-            // system scope dependencies are not returned by maven 2.0. See
-            // MEXEC-17
-            dependencies.addAll(getAllNonTestScopedDependencies());
-
-            for (Artifact classPathElement : dependencies) {
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug("Adding project dependency artifact: " + classPathElement.getArtifactId()
-                                   + " to classpath");
-                }
-                File file = classPathElement.getFile();
-                if (file != null) {
-                    path.add(file.toURI().toURL());
-                }
-            }
-
-        } catch (MalformedURLException e) {
-            throw new MojoExecutionException("Error during setting up classpath", e);
-        }
-    }
-
-    private Collection<Artifact> getAllNonTestScopedDependencies() throws MojoExecutionException {
-        List<Artifact> answer = new ArrayList<>();
-
-        for (Artifact artifact : getAllDependencies()) {
-
-            // do not add test artifacts
-            if (!artifact.getScope().equals(Artifact.SCOPE_TEST)) {
-                answer.add(artifact);
-            }
+        if (classpathHelper == null) {
+            classpathHelper = new ProjectClasspathHelper(project, artifactFactory, getLog());
         }
-        return answer;
-    }
-
-    // generic method to retrieve all the transitive dependencies
-    private Collection<Artifact> getAllDependencies() throws MojoExecutionException {
-        List<Artifact> artifacts = new ArrayList<>();
-
-        for (Iterator<?> dependencies = project.getDependencies().iterator(); dependencies.hasNext();) {
-            Dependency dependency = (Dependency) dependencies.next();
-
-            String groupId = dependency.getGroupId();
-            String artifactId = dependency.getArtifactId();
-
-            VersionRange versionRange;
-            try {
-                versionRange = VersionRange.createFromVersionSpec(dependency.getVersion());
-            } catch (InvalidVersionSpecificationException e) {
-                throw new MojoExecutionException("unable to parse version", e);
-            }
-
-            String type = dependency.getType();
-            if (type == null) {
-                type = "jar";
-            }
-            String classifier = dependency.getClassifier();
-            boolean optional = dependency.isOptional();
-            String scope = dependency.getScope();
-            if (scope == null) {
-                scope = Artifact.SCOPE_COMPILE;
-            }
-
-            if (this.artifactFactory != null) {
-                Artifact art = this.artifactFactory.createDependencyArtifact(groupId, artifactId, versionRange,
-                        type, classifier, scope, null, optional);
-
-                if (scope.equalsIgnoreCase(Artifact.SCOPE_SYSTEM)) {
-                    art.setFile(new File(dependency.getSystemPath()));
-                }
-
-                List<String> exclusions = new ArrayList<>();
-                for (Exclusion exclusion : dependency.getExclusions()) {
-                    exclusions.add(exclusion.getGroupId() + ":" + exclusion.getArtifactId());
-                }
-
-                ArtifactFilter newFilter = new ExcludesArtifactFilter(exclusions);
-
-                art.setDependencyFilter(newFilter);
-
-                artifacts.add(art);
-            }
-        }
-
-        return artifacts;
+        return classpathHelper.getProjectClassLoader();
     }
 
 }
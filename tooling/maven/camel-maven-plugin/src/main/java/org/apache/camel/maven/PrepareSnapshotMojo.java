@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.factory.ArtifactFactory;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Prepares a snapshot of the factories (components, languages, data formats, and other Camel factories) which Camel
+ * would otherwise look up on the classpath when starting, and stores the snapshot as a single file in the project
+ * classes, which Camel loads on startup.
+ */
+@Mojo(name = "prepare-snapshot", threadSafe = true, requiresDependencyResolution = ResolutionScope.COMPILE,
+      defaultPhase = LifecyclePhase.PREPARE_PACKAGE)
+public class PrepareSnapshotMojo extends AbstractMojo {
+
+    private static final String GENERATED_MSG = "Generated by camel build tools - do NOT edit this file!";
+    private static final String NL = "\n";
+
+    private static final String META_INF_SERVICES = "META-INF/services/org/apache/camel/";
+
+    // must be the same as org.apache.camel.impl.engine.DefaultFactoryFinder#SNAPSHOT_RESOURCE
+    private static final String META_INF_SERVICES_SNAPSHOT
+            = "META-INF/services/org/apache/camel/factory-finder-snapshot.properties";
+
+    @Parameter(property = "project", required = true, readonly = true)
+    private MavenProject project;
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File classesDirectory;
+    @Component
+    private ArtifactFactory artifactFactory;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        ProjectClasspathHelper helper = new ProjectClasspathHelper(project, artifactFactory, getLog());
+        Map<String, String> factories = findFactoryClasses(helper.getProjectClassLoader().getURLs());
+        if (factories.isEmpty()) {
+            return;
+        }
+
+        getLog().info("Found " + factories.size() + " Camel factories from project classpath");
+
+        String data = createSnapshot(factories);
+
+        File file = new File(classesDirectory, META_INF_SERVICES_SNAPSHOT);
+        try {
+            ProjectClasspathHelper.writeFile(file, data);
+        } catch (IOException e) {
+            throw new MojoFailureException("Error updating " + file, e);
+        }
+    }
+
+    /**
+     * Creates the content of the snapshot file, as a properties file with the factory file as key and the factory class
+     * as value.
+     */
+    static String createSnapshot(Map<String, String> factories) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ");
+        sb.append(GENERATED_MSG);
+        sb.append(NL);
+        for (Map.Entry<String, String> entry : factories.entrySet()) {
+            sb.append(entry.getKey()).append("=").append(entry.getValue()).append(NL);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Finds the factory classes from the given classpath, by looking for factory files (having a class property) in the
+     * {@link #META_INF_SERVICES} location. The first factory found (in classpath order) wins, which is the same as when
+     * Camel looks up the factories at runtime.
+     */
+    Map<String, String> findFactoryClasses(URL... urls) {
+        Map<String, String> answer = new TreeMap<>();
+
+        for (URL url : urls) {
+            try {
+                File file = new File(url.toURI());
+                if (file.isDirectory()) {
+                    findFactoryClassesInDirectory(file.toPath(), answer);
+                } else if (file.isFile()) {
+                    findFactoryClassesInJar(file, answer);
+                }
+            } catch (Exception e) {
+                getLog().warn("Error finding factories in " + url + " due to " + e.getMessage());
+            }
+        }
+
+        return answer;
+    }
+
+    private void findFactoryClassesInDirectory(Path root, Map<String, String> answer) throws IOException {
+        Path dir = root.resolve(META_INF_SERVICES);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.filter(Files::isRegularFile).sorted().forEach(f -> {
+                String name = root.relativize(f).toString().replace(File.separatorChar, '/');
+                try (InputStream is = Files.newInputStream(f)) {
+                    addFactoryClass(name, is, answer);
+                } catch (IOException e) {
+                    getLog().warn("Error reading factory " + f + " due to " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void findFactoryClassesInJar(File file, Map<String, String> answer) throws IOException {
+        try (JarFile jar = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(META_INF_SERVICES)) {
+                    try (InputStream is = jar.getInputStream(entry)) {
+                        addFactoryClass(entry.getName(), is, answer);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addFactoryClass(String name, InputStream is, Map<String, String> answer) throws IOException {
+        if (META_INF_SERVICES_SNAPSHOT.equals(name) || answer.containsKey(name)) {
+            return;
+        }
+        Properties prop = new Properties();
+        prop.load(is);
+        String className = prop.getProperty("class");
+        if (className != null) {
+            if (getLog().isDebugEnabled()) {
+                getLog().debug("Adding factory " + name + " with class " + className);
+            }
+            answer.put(name, className.trim());
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class PrepareSnapshotMojoTest {
+
+    private static final String SERVICES = "META-INF/services/org/apache/camel/";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testFindFactoryClasses() throws Exception {
+        Path classes = dir.resolve("classes");
+        writeFactory(classes, "component/foo", "class=org.example.FooComponent");
+        writeFactory(classes, "language/bar", "# comment\nclass=org.example.BarLanguage\n");
+        // not a factory as it has no class
+        writeFactory(classes, "other/baz", "name=baz");
+        // an existing snapshot must not be included in the new snapshot
+        writeFactory(classes, "factory-finder-snapshot.properties", "class=org.example.Snapshot");
+
+        File jar = dir.resolve("factories.jar").toFile();
+        try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+            // the project classes are first on the classpath so they win
+            writeJarEntry(jos, SERVICES + "component/foo", "class=org.example.OtherFooComponent");
+            writeJarEntry(jos, SERVICES + "dataformat/qux", "class=org.example.QuxDataFormat");
+        }
+
+        Map<String, String> factories = new PrepareSnapshotMojo().findFactoryClasses(
+                classes.toUri().toURL(), jar.toURI().toURL(), new URL("file:" + dir.resolve("missing.jar")));
+
+        assertEquals(3, factories.size());
+        assertEquals("org.example.FooComponent", factories.get(SERVICES + "component/foo"));
+        assertEquals("org.example.BarLanguage", factories.get(SERVICES + "language/bar"));
+        assertEquals("org.example.QuxDataFormat", factories.get(SERVICES + "dataformat/qux"));
+        assertFalse(factories.containsKey(SERVICES + "factory-finder-snapshot.properties"));
+
+        String data = PrepareSnapshotMojo.createSnapshot(factories);
+        assertEquals("# Generated by camel build tools - do NOT edit this file!\n"
+                     + SERVICES + "component/foo=org.example.FooComponent\n"
+                     + SERVICES + "dataformat/qux=org.example.QuxDataFormat\n"
+                     + SERVICES + "language/bar=org.example.BarLanguage\n",
+                data);
+    }
+
+    private static void writeFactory(Path root, String name, String content) throws IOException {
+        Path file = root.resolve(SERVICES + name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeJarEntry(JarOutputStream jos, String name, String content) throws IOException {
+        jos.putNextEntry(new JarEntry(name));
+        jos.write(content.getBytes(StandardCharsets.UTF_8));
+        jos.closeEntry();
+    }
+}